@@ -0,0 +1,38 @@
+package com.lol.backend.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 인터페이스 스텁 생성기.
+ * Mockito는 호출 기록 비용이 커서 측정값을 왜곡하므로 JDK 프록시로 필요한 메서드만 응답한다.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * @param type     스텁할 인터페이스
+     * @param handlers 메서드 이름 → 응답 함수 (인자 배열을 받음)
+     * @return 등록되지 않은 메서드 호출 시 UnsupportedOperationException을 던지는 스텁
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return handler.apply(args);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.lol.backend.modules.game.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultEngine 순위/동점/보상 계산 비용.
+ * 2~6명(실제 방 크기)과 합성 대규모 N을 함께 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GameResultBenchmark {
+
+    @Param({"2", "4", "6", "1000"})
+    private int playerCount;
+
+    private int[] acCounts;
+    private int[] lastSubmitMs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        acCounts = new int[playerCount];
+        lastSubmitMs = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            acCounts[i] = random.nextInt(4);
+            lastSubmitMs[i] = acCounts[i] > 0 ? random.nextInt(600_000) : ResultEngine.NO_SUBMISSION_MS;
+        }
+    }
+
+    @Benchmark
+    public ResultEngine.PlayerOutcome[] ranked() {
+        return ResultEngine.compute(true, acCounts, lastSubmitMs);
+    }
+
+    @Benchmark
+    public ResultEngine.PlayerOutcome[] normal() {
+        return ResultEngine.compute(false, acCounts, lastSubmitMs);
+    }
+}
@@ -0,0 +1,99 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.bench.Stubs;
+import com.lol.backend.modules.room.dto.PagedRoomListResponse;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.state.dto.RoomPlayerStateDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.store.RoomStateStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomService.getRooms 의 필터/정렬/페이지네이션 파이프라인 비용.
+ * Redis 대신 메모리에 적재한 방 목록(기본 10k)을 사용하므로 네트워크 왕복은 포함하지 않는다.
+ * 이름 필터가 있는 경우는 RoomNameIndex 후보 조회 경로를 탄다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoomListingBenchmark {
+
+    private static final String[] GAME_TYPES = {"NORMAL", "RANKED"};
+    private static final String[] LANGUAGES = {"JAVA", "PYTHON", "CPP"};
+
+    @Param({"10000"})
+    private int roomCount;
+
+    private RoomService roomService;
+    private UUID currentUserId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant base = Instant.now();
+        currentUserId = UUID.randomUUID();
+
+        List<RoomStateDto> rooms = new ArrayList<>(roomCount);
+        Map<UUID, List<RoomPlayerStateDto>> playersByRoom = new HashMap<>();
+        for (int i = 0; i < roomCount; i++) {
+            UUID roomId = UUID.randomUUID();
+            Instant updatedAt = base.minusMillis(random.nextInt(3_600_000));
+            rooms.add(new RoomStateDto(roomId, "room-" + i,
+                    GAME_TYPES[random.nextInt(GAME_TYPES.length)],
+                    LANGUAGES[random.nextInt(LANGUAGES.length)],
+                    6, UUID.randomUUID(), null, updatedAt, updatedAt));
+
+            int playerCount = 1 + random.nextInt(6);
+            List<RoomPlayerStateDto> players = new ArrayList<>(playerCount);
+            for (int p = 0; p < playerCount; p++) {
+                players.add(new RoomPlayerStateDto(UUID.randomUUID(), roomId, UUID.randomUUID(),
+                        "READY", updatedAt, null, null));
+            }
+            playersByRoom.put(roomId, players);
+        }
+
+        Map<UUID, RoomStateDto> roomsById = new HashMap<>();
+        rooms.forEach(room -> roomsById.put(room.id(), room));
+
+        RoomStateStore roomStateStore = Stubs.of(RoomStateStore.class, Map.of(
+                "getAllActiveRooms", args -> rooms,
+                "getRooms", args -> ((Collection<?>) args[0]).stream()
+                        .map(roomsById::get)
+                        .filter(Objects::nonNull)
+                        .toList(),
+                "getPlayers", args -> playersByRoom.getOrDefault((UUID) args[0], List.of()),
+                "isKicked", args -> false,
+                "getListVersion", args -> 1L
+        ));
+
+        RoomNameIndex roomNameIndex = new RoomNameIndex(roomStateStore);
+        roomNameIndex.syncVersion();
+
+        roomService = new RoomService(null, null, null, null, null, roomStateStore, null, null, null, null,
+                roomNameIndex, null);
+    }
+
+    @Benchmark
+    public PagedRoomListResponse firstPageNoFilter() {
+        return roomService.getRooms(currentUserId, null, null, null, null, 20);
+    }
+
+    @Benchmark
+    public PagedRoomListResponse firstPageFiltered() {
+        return roomService.getRooms(currentUserId, "room-1", Language.JAVA, null, null, 20);
+    }
+}
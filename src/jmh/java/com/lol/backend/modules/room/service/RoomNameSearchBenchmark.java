@@ -0,0 +1,84 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.bench.Stubs;
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.store.RoomStateStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 이름 부분 문자열 검색: 기존 전체 스캔(contains) vs n-gram 역색인 후보 조회.
+ * 한글 단어 조합으로 만든 방 이름(기본 50k)에 언어/게임 타입 필터를 함께 건다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoomNameSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "초보", "고수", "자바", "파이썬", "알고리즘", "한판", "같이", "연습", "랭크", "빠른",
+            "아무나", "환영", "즐겜", "빡겜", "그래프", "동적계획법", "정렬", "탐색", "문자열", "구현"
+    };
+    private static final String[] GAME_TYPES = {"NORMAL", "RANKED"};
+    private static final String[] LANGUAGES = {"JAVA", "PYTHON", "CPP", "JAVASCRIPT"};
+
+    @Param({"50000"})
+    private int roomCount;
+
+    @Param({"알고리즘", "빡겜 연습", "초"})
+    private String query;
+
+    private List<RoomStateDto> rooms;
+    private RoomNameIndex roomNameIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + random.nextInt(1000);
+            rooms.add(new RoomStateDto(UUID.randomUUID(), name,
+                    GAME_TYPES[random.nextInt(GAME_TYPES.length)],
+                    LANGUAGES[random.nextInt(LANGUAGES.length)],
+                    6, UUID.randomUUID(), null, now, now));
+        }
+
+        RoomStateStore roomStateStore = Stubs.of(RoomStateStore.class, Map.of(
+                "getAllActiveRooms", args -> rooms,
+                "getListVersion", args -> 1L
+        ));
+        roomNameIndex = new RoomNameIndex(roomStateStore);
+        roomNameIndex.syncVersion();
+    }
+
+    @Benchmark
+    public List<UUID> scan() {
+        String language = Language.JAVA.name();
+        String gameType = GameType.NORMAL.name();
+        return rooms.stream()
+                .filter(room -> room.roomName().contains(query))
+                .filter(room -> room.language().equals(language))
+                .filter(room -> room.gameType().equals(gameType))
+                .map(RoomStateDto::id)
+                .toList();
+    }
+
+    @Benchmark
+    public List<UUID> index() {
+        return roomNameIndex.search(query, Language.JAVA, GameType.NORMAL);
+    }
+}
@@ -0,0 +1,56 @@
+package com.lol.backend.realtime.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventEnvelope 생성(eventId UUID + serverTime 문자열) 및 STOMP 페이로드 직렬화 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventEnvelopeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> stageChangedData;
+    private Instant serverTime;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        serverTime = Instant.now();
+        stageChangedData = Map.of(
+                "gameId", UUID.randomUUID().toString(),
+                "roomId", UUID.randomUUID().toString(),
+                "gameType", "RANKED",
+                "stage", "PICK",
+                "stageStartedAt", serverTime.toString(),
+                "stageDeadlineAt", serverTime.plusSeconds(10).toString(),
+                "remainingMs", 10_000L
+        );
+    }
+
+    @Benchmark
+    public EventEnvelope<Map<String, Object>> create() {
+        return EventEnvelope.of(EventType.GAME_STAGE_CHANGED, stageChangedData);
+    }
+
+    @Benchmark
+    public EventEnvelope<Map<String, Object>> createWithServerTime() {
+        return EventEnvelope.of(EventType.GAME_STAGE_CHANGED, stageChangedData, serverTime);
+    }
+
+    @Benchmark
+    public byte[] createAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(EventEnvelope.of(EventType.GAME_STAGE_CHANGED, stageChangedData, serverTime));
+    }
+}
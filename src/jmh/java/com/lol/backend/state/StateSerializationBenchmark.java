@@ -0,0 +1,134 @@
+package com.lol.backend.state;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.config.JacksonConfig;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.RoomPlayerStateDto;
+import com.lol.backend.state.impl.GameStateHashes;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 상태 DTO의 Jackson 직렬화/역직렬화 왕복 비용.
+ * Store 구현체와 동일한 ObjectMapper 설정(JacksonConfig)을 사용한다.
+ * 게임/게임 플레이어는 속성별 Hash 레이아웃(GameStateHashes)의 변환 비용도 함께 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StateSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GameStateDto game;
+    private GamePlayerStateDto gamePlayer;
+    private RoomPlayerStateDto roomPlayer;
+    private String gameJson;
+    private String gamePlayerJson;
+    private String roomPlayerJson;
+    private Map<Object, Object> gameHash;
+    private Map<Object, Object> gamePlayerHash;
+    private List<Object> gameStageValues;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new JacksonConfig().objectMapper();
+        Instant now = Instant.now();
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        game = new GameStateDto(gameId, UUID.randomUUID(), "RANKED", "PLAY",
+                now, now.plusSeconds(600), now, null, UUID.randomUUID(), now);
+        gamePlayer = new GamePlayerStateDto(UUID.randomUUID(), gameId, userId, "CONNECTED",
+                1200, null, null, null, null, null, null, 3000, null, 12.5, null, now, null, null);
+        roomPlayer = new RoomPlayerStateDto(UUID.randomUUID(), UUID.randomUUID(), userId, "READY", now, null, null);
+
+        gameJson = objectMapper.writeValueAsString(game);
+        gamePlayerJson = objectMapper.writeValueAsString(gamePlayer);
+        roomPlayerJson = objectMapper.writeValueAsString(roomPlayer);
+
+        gameHash = toHash(GameStateHashes.GAME_FIELDS, GameStateHashes.gameValues(game));
+        gamePlayerHash = toHash(GameStateHashes.PLAYER_FIELDS, GameStateHashes.playerValues(gamePlayer));
+        gameStageValues = new ArrayList<>();
+        for (String field : GameStateHashes.STAGE_FIELDS) {
+            gameStageValues.add(gameHash.get(field));
+        }
+    }
+
+    private static Map<Object, Object> toHash(List<String> fields, List<String> values) {
+        // Redis는 빈 문자열(null 속성) 필드를 두지 않는다
+        Map<Object, Object> hash = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                hash.put(fields.get(i), values.get(i));
+            }
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public String serializeGame() throws Exception {
+        return objectMapper.writeValueAsString(game);
+    }
+
+    @Benchmark
+    public GameStateDto deserializeGame() throws Exception {
+        return objectMapper.readValue(gameJson, GameStateDto.class);
+    }
+
+    @Benchmark
+    public String serializeGamePlayer() throws Exception {
+        return objectMapper.writeValueAsString(gamePlayer);
+    }
+
+    @Benchmark
+    public GamePlayerStateDto deserializeGamePlayer() throws Exception {
+        return objectMapper.readValue(gamePlayerJson, GamePlayerStateDto.class);
+    }
+
+    @Benchmark
+    public String serializeRoomPlayer() throws Exception {
+        return objectMapper.writeValueAsString(roomPlayer);
+    }
+
+    @Benchmark
+    public RoomPlayerStateDto deserializeRoomPlayer() throws Exception {
+        return objectMapper.readValue(roomPlayerJson, RoomPlayerStateDto.class);
+    }
+
+    @Benchmark
+    public List<String> writeGameHash() {
+        return GameStateHashes.gameValues(game);
+    }
+
+    @Benchmark
+    public GameStateDto readGameHash() {
+        return GameStateHashes.toGame(gameHash);
+    }
+
+    @Benchmark
+    public GameStageStateDto readGameStageHmget() {
+        return GameStateHashes.toStage(game.id(), gameStageValues);
+    }
+
+    @Benchmark
+    public List<String> writeGamePlayerHash() {
+        return GameStateHashes.playerValues(gamePlayer);
+    }
+
+    @Benchmark
+    public GamePlayerStateDto readGamePlayerHash() {
+        return GameStateHashes.toPlayer(gamePlayerHash);
+    }
+}
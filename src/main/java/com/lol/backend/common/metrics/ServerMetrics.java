@@ -0,0 +1,151 @@
+package com.lol.backend.common.metrics;
+
+import com.lol.backend.realtime.dto.EventType;
+import com.lol.backend.state.StateKeyFamily;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간/상태 경로 Micrometer 지표 모음.
+ * /actuator/prometheus 로 노출된다.
+ *
+ * 지표:
+ * - game.scheduler.tick (Timer), game.scheduler.overrun (Counter): stage 스케줄러 1회 실행 시간과 주기 초과 횟수
+ * - game.stage.transition.lag (Timer, tag=stage): stageDeadlineAt 대비 실제 전이 지연
+ * - realtime.events.published (Counter, tag=type/delivery): EventType별 발행 수
+ * - state.snapshot.flush (Timer, tag=kind): Redis → DB 스냅샷 반영 시간
+ * - state.keys, state.memory.bytes (Gauge, tag=family): 키 계열별 키 수와 추정 메모리 (janitor SCAN 1회차마다 갱신)
+ * - state.janitor.reclaimed, state.janitor.ttl.aligned (Counter, tag=family): 고아 키 삭제 수, TTL 보정 수
+ * - game.active, realtime.sessions.active (Gauge): 활성 게임 수, STOMP 세션 수
+ */
+@Component
+public class ServerMetrics {
+
+    /** GameStageScheduler 실행 주기 (fixedRate) */
+    public static final Duration SCHEDULER_PERIOD = Duration.ofSeconds(1);
+
+    private final MeterRegistry registry;
+    private final Timer schedulerTick;
+    private final Counter schedulerOverrun;
+    private final AtomicLong activeGames = new AtomicLong();
+    private final Set<String> activeSessionIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> transitionLagTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> eventCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> flushTimers = new ConcurrentHashMap<>();
+    private final Map<StateKeyFamily, AtomicLong> familyKeys = new EnumMap<>(StateKeyFamily.class);
+    private final Map<StateKeyFamily, AtomicLong> familyMemoryBytes = new EnumMap<>(StateKeyFamily.class);
+    private final Map<String, Counter> janitorCounters = new ConcurrentHashMap<>();
+
+    public ServerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.schedulerTick = Timer.builder("game.scheduler.tick")
+                .description("GameStageScheduler 1회 실행 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.schedulerOverrun = Counter.builder("game.scheduler.overrun")
+                .description("실행 시간이 스케줄 주기를 초과한 횟수")
+                .register(registry);
+        Gauge.builder("game.active", activeGames, AtomicLong::get)
+                .description("Redis 기준 활성 게임 수 (스케줄러 tick마다 갱신)")
+                .register(registry);
+        Gauge.builder("realtime.sessions.active", activeSessionIds, Set::size)
+                .description("연결된 STOMP 세션 수")
+                .register(registry);
+        for (StateKeyFamily family : StateKeyFamily.values()) {
+            AtomicLong keys = new AtomicLong();
+            AtomicLong memoryBytes = new AtomicLong();
+            familyKeys.put(family, keys);
+            familyMemoryBytes.put(family, memoryBytes);
+            Gauge.builder("state.keys", keys, AtomicLong::get)
+                    .description("키 계열별 Redis 키 수 (janitor SCAN 1회차 기준)")
+                    .tag("family", family.name())
+                    .register(registry);
+            Gauge.builder("state.memory.bytes", memoryBytes, AtomicLong::get)
+                    .description("키 계열별 Redis 메모리 추정치 (MEMORY USAGE 표본 평균 x 키 수)")
+                    .baseUnit("bytes")
+                    .tag("family", family.name())
+                    .register(registry);
+        }
+    }
+
+    public void recordSchedulerTick(long elapsedNanos, int activeGameCount) {
+        schedulerTick.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos > SCHEDULER_PERIOD.toNanos()) {
+            schedulerOverrun.increment();
+        }
+        activeGames.set(activeGameCount);
+    }
+
+    public void recordStageTransitionLag(String stage, Duration lag) {
+        transitionLagTimers.computeIfAbsent(stage, s -> Timer.builder("game.stage.transition.lag")
+                        .description("stageDeadlineAt 대비 stage 전이 지연")
+                        .tag("stage", s)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    public void recordEventPublished(EventType type, String delivery) {
+        eventCounters.computeIfAbsent(type.name() + ":" + delivery, key -> Counter.builder("realtime.events.published")
+                        .description("EventType별 STOMP 이벤트 발행 수")
+                        .tag("type", type.name())
+                        .tag("delivery", delivery)
+                        .register(registry))
+                .increment();
+    }
+
+    public void recordSnapshotFlush(String kind, long elapsedNanos) {
+        flushTimers.computeIfAbsent(kind, k -> Timer.builder("state.snapshot.flush")
+                        .description("Redis 상태를 DB 스냅샷으로 반영하는 시간")
+                        .tag("kind", k)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordKeyspace(StateKeyFamily family, long keys, long memoryBytes) {
+        familyKeys.get(family).set(keys);
+        familyMemoryBytes.get(family).set(memoryBytes);
+    }
+
+    public void recordJanitorReclaimed(StateKeyFamily family, long count) {
+        janitorCounter("state.janitor.reclaimed", "본 키 없이 남아 janitor가 삭제한 하위 키 수", family).increment(count);
+    }
+
+    public void recordJanitorTtlAligned(StateKeyFamily family, long count) {
+        janitorCounter("state.janitor.ttl.aligned", "TTL이 없어 janitor가 정책 TTL을 건 하위 키 수", family).increment(count);
+    }
+
+    private Counter janitorCounter(String name, String description, StateKeyFamily family) {
+        return janitorCounters.computeIfAbsent(name + ":" + family.name(), key -> Counter.builder(name)
+                .description(description)
+                .tag("family", family.name())
+                .register(registry));
+    }
+
+    public void sessionConnected(String sessionId) {
+        if (sessionId != null) {
+            activeSessionIds.add(sessionId);
+        }
+    }
+
+    /**
+     * SessionDisconnectEvent는 세션당 여러 번 발생할 수 있으므로 세션 ID 기준으로 집계한다.
+     */
+    public void sessionDisconnected(String sessionId) {
+        if (sessionId != null) {
+            activeSessionIds.remove(sessionId);
+        }
+    }
+}
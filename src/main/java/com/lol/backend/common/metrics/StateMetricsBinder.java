@@ -0,0 +1,49 @@
+package com.lol.backend.common.metrics;
+
+import com.lol.backend.state.store.RoomStateStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 상태 기반 게이지.
+ * - rooms.active: 활성 방 수 (방 인덱스 전체 MGET 비용이 있으므로 스크레이프 간 최소 간격을 두고 캐시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StateMetricsBinder implements MeterBinder {
+
+    private static final Duration MIN_SAMPLE_INTERVAL = Duration.ofSeconds(10);
+
+    private final RoomStateStore roomStateStore;
+
+    private volatile long lastSampledAt;
+    private volatile double lastActiveRooms;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rooms.active", this, StateMetricsBinder::sampleActiveRooms)
+                .description("Redis 기준 활성 방 수")
+                .register(registry);
+    }
+
+    private synchronized double sampleActiveRooms() {
+        long now = System.currentTimeMillis();
+        if (now - lastSampledAt < MIN_SAMPLE_INTERVAL.toMillis()) {
+            return lastActiveRooms;
+        }
+        try {
+            lastActiveRooms = roomStateStore.getAllActiveRooms().size();
+        } catch (Exception e) {
+            log.warn("Failed to sample active rooms", e);
+        }
+        lastSampledAt = now;
+        return lastActiveRooms;
+    }
+}
@@ -0,0 +1,70 @@
+package com.lol.backend.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * state.store 패키지 인터페이스를 구현한 Store 빈을 감싸 메서드별 Redis 호출 지연을 기록한다.
+ * 지표: state.store.call (Timer, tag=store/method). count로 Store 호출 수도 확인할 수 있다.
+ *
+ * Store는 모두 인터페이스로 주입되므로 JDK 동적 프록시로 충분하다.
+ */
+@Component
+public class StateStoreMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String STORE_PACKAGE = "com.lol.backend.state.store";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public StateStoreMetricsPostProcessor(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        boolean isStore = Arrays.stream(targetClass.getInterfaces())
+                .anyMatch(i -> STORE_PACKAGE.equals(i.getPackageName()));
+        if (!isStore) {
+            return bean;
+        }
+
+        String storeName = targetClass.getSimpleName();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setInterfaces(targetClass.getInterfaces());
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer(storeName, method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+
+    private Timer timer(String storeName, Method method) {
+        return timers.computeIfAbsent(method, m -> Timer.builder("state.store.call")
+                .description("Store 메서드별 Redis 호출 지연")
+                .tag("store", storeName)
+                .tag("method", m.getName())
+                .register(registryProvider.getObject()));
+    }
+}
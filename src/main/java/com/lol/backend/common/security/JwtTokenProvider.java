@@ -1,5 +1,7 @@
 package com.lol.backend.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -8,11 +10,21 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티.
  * 실제 구현에서는 application.yml에서 secret과 expiration을 설정한다.
+ *
+ * 검증은 verifyAndGetUserId() 한 번으로 서명 검증과 userId 추출을 함께 수행한다.
+ * - JwtParser는 불변/스레드 안전하므로 1회 생성 후 재사용한다
+ * - 최근 검증된 토큰은 토큰 해시(SHA-256) 기준으로 Caffeine 캐시에 둔다
+ *   (크기 상한 도달 시 최근 사용 빈도가 낮은 항목부터 제거, 항목 만료는 ttl-ms와 토큰 exp 중 이른 쪽)
  */
 @Slf4j
 @Component
@@ -20,12 +32,27 @@ public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
+    private final JwtParser jwtParser;
+
+    // 캐시 비활성화(max-size <= 0) 시 null
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret:default-secret-key-for-development-only-minimum-256-bits-required}") String secret,
-            @Value("${jwt.expiration:3600000}") long validityInMilliseconds) {
+            @Value("${jwt.expiration:3600000}") long validityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.ttl-ms:60000}") long verifiedCacheTtlMillis) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.validityInMilliseconds = validityInMilliseconds;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheMaxSize > 0 && verifiedCacheTtlMillis > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheMaxSize)
+                        .expireAfterWrite(Duration.ofMillis(verifiedCacheTtlMillis))
+                        .build()
+                : null;
     }
 
     /**
@@ -44,31 +71,74 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 userId 추출.
+     * JWT 토큰을 한 번만 검증하고 userId를 반환한다.
+     * 캐시에 유효한 검증 결과가 있으면 서명 검증을 생략한다.
+     *
+     * @param token JWT 문자열
+     * @return 유효하면 userId, 아니면 empty
      */
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Optional<String> verifyAndGetUserId(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
 
-        return claims.getSubject();
-    }
+        long now = System.currentTimeMillis();
+        String cacheKey = verifiedTokens != null ? hash(token) : null;
+        if (cacheKey != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return Optional.of(cached.userId());
+                }
+                // ttl-ms보다 먼저 토큰 exp가 지난 항목
+                verifiedTokens.invalidate(cacheKey);
+            }
+        }
 
-    /**
-     * JWT 토큰 검증.
-     */
-    public boolean validateToken(String token) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
             log.debug("Invalid JWT token: {}", ex.getMessage());
-            return false;
+            return Optional.empty();
+        }
+
+        String userId = claims.getSubject();
+        if (userId == null) {
+            return Optional.empty();
         }
+        cacheVerified(cacheKey, userId, claims.getExpiration(), now);
+        return Optional.of(userId);
+    }
+
+    private void cacheVerified(String cacheKey, String userId, Date expiration, long now) {
+        if (cacheKey == null) {
+            return;
+        }
+        long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        if (expiresAt <= now) {
+            return;
+        }
+        verifiedTokens.put(cacheKey, new VerifiedToken(userId, expiresAt));
+    }
+
+    long cachedTokenCount() {
+        if (verifiedTokens == null) {
+            return 0;
+        }
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(String userId, long expiresAt) {
     }
 }
@@ -0,0 +1,68 @@
+package com.lol.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Actuator 엔드포인트 보안 설정.
+ *
+ * API 체인(SecurityConfig)보다 먼저 /actuator/** 요청만 처리한다.
+ * - health, info는 로드밸런서/오케스트레이터 확인용으로 인증 없이 허용
+ * - 그 외(prometheus 등)는 management.auth 계정의 HTTP Basic 인증 필요
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ActuatorSecurityConfig {
+
+    static final String ROLE = "ACTUATOR";
+
+    private final ActuatorSecurityProperties properties;
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll()
+                        .anyRequest().hasRole(ROLE)
+                )
+                .httpBasic(Customizer.withDefaults())
+                // API 체인의 JWT 사용자와 섞이지 않도록 이 체인에서만 쓰는 계정 저장소를 둔다
+                .userDetailsService(actuatorUsers());
+
+        return http.build();
+    }
+
+    private InMemoryUserDetailsManager actuatorUsers() {
+        List<UserDetails> users = new ArrayList<>(1);
+        if (properties.hasCredentials()) {
+            users.add(User.withUsername(properties.username())
+                    .password(PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(properties.password()))
+                    .roles(ROLE)
+                    .build());
+        }
+        return new InMemoryUserDetailsManager(users);
+    }
+}
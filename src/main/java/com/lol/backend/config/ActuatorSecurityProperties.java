@@ -0,0 +1,26 @@
+package com.lol.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Actuator 엔드포인트 접근 계정.
+ * application.yml의 management.auth 바인딩.
+ *
+ * @param username health/info 외 엔드포인트(prometheus 등)의 HTTP Basic 사용자 이름
+ * @param password HTTP Basic 비밀번호 (비어 있으면 계정을 만들지 않아 해당 엔드포인트는 모두 401)
+ */
+@ConfigurationProperties(prefix = "management.auth")
+public record ActuatorSecurityProperties(
+        String username,
+        String password
+) {
+    public ActuatorSecurityProperties {
+        if (username == null || username.isBlank()) {
+            username = "actuator";
+        }
+    }
+
+    public boolean hasCredentials() {
+        return password != null && !password.isBlank();
+    }
+}
@@ -1,14 +1,44 @@
 package com.lol.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * 스케줄링 설정.
  * - @Scheduled 애너테이션을 활성화한다.
  * - EffectExpirationScheduler에서 1초마다 만료된 효과를 체크한다.
+ * - @Scheduled 작업 전용 스케줄러 풀을 등록한다. 등록하지 않으면 WebSocket 브로커의 TaskScheduler 빈 때문에
+ *   Boot 기본 스케줄러(spring.task.scheduling.*)가 빠지고, 무거운 sweep/flush 작업이 다른 작업의 주기를 밀어낸다.
  */
 @Configuration
 @EnableScheduling
-public class SchedulingConfig {
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final int poolSize;
+
+    public SchedulingConfig(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * @Scheduled 전용 스케줄러. 컨테이너가 초기화/종료를 관리한다.
+     * 다른 TaskScheduler 주입 지점에 끼어들지 않도록 autowire 후보에서 뺀다.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler scheduledTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduledTaskScheduler());
+    }
 }
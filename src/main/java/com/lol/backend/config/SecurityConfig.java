@@ -43,7 +43,7 @@ public class SecurityConfig {
                         // 그 외 /api/v1/** 는 인증 필요
                         .requestMatchers("/api/v1/**").authenticated()
 
-                        // 나머지는 허용 (health check 등)
+                        // 나머지는 허용 (/actuator/** 는 ActuatorSecurityConfig 체인에서 처리)
                         .anyRequest().permitAll()
                 )
 
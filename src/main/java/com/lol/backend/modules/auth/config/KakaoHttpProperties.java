@@ -0,0 +1,60 @@
+package com.lol.backend.modules.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 카카오 OAuth HTTP 클라이언트 설정.
+ * application.yml의 kakao.http 바인딩.
+ *
+ * @param authBaseUrl        토큰 발급 서버 주소 (부하 테스트 시 로컬 스텁으로 교체)
+ * @param apiBaseUrl         사용자 정보 API 서버 주소
+ * @param connectTimeoutMs   TCP 연결 타임아웃
+ * @param readTimeoutMs      응답 대기 타임아웃
+ * @param maxConcurrentCalls 카카오 동시 호출 상한 (bulkhead)
+ * @param acquireTimeoutMs   bulkhead 슬롯 대기 시간 (초과 시 RATE_LIMITED)
+ * @param maxAttempts        재시도 포함 최대 시도 횟수
+ * @param backoffBaseMs      재시도 백오프 기준 시간 (지수 증가 + full jitter)
+ * @param backoffMaxMs       재시도 백오프 상한
+ */
+@ConfigurationProperties(prefix = "kakao.http")
+public record KakaoHttpProperties(
+        String authBaseUrl,
+        String apiBaseUrl,
+        long connectTimeoutMs,
+        long readTimeoutMs,
+        int maxConcurrentCalls,
+        long acquireTimeoutMs,
+        int maxAttempts,
+        long backoffBaseMs,
+        long backoffMaxMs
+) {
+    public KakaoHttpProperties {
+        if (authBaseUrl == null || authBaseUrl.isBlank()) {
+            authBaseUrl = "https://kauth.kakao.com";
+        }
+        if (apiBaseUrl == null || apiBaseUrl.isBlank()) {
+            apiBaseUrl = "https://kapi.kakao.com";
+        }
+        if (connectTimeoutMs <= 0) {
+            connectTimeoutMs = 1000;
+        }
+        if (readTimeoutMs <= 0) {
+            readTimeoutMs = 3000;
+        }
+        if (maxConcurrentCalls <= 0) {
+            maxConcurrentCalls = 50;
+        }
+        if (acquireTimeoutMs <= 0) {
+            acquireTimeoutMs = 500;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (backoffBaseMs <= 0) {
+            backoffBaseMs = 100;
+        }
+        if (backoffMaxMs <= 0) {
+            backoffMaxMs = 1000;
+        }
+    }
+}
@@ -2,16 +2,37 @@ package com.lol.backend.modules.auth.service;
 
 import com.lol.backend.common.exception.BusinessException;
 import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.auth.config.KakaoHttpProperties;
 import com.lol.backend.modules.auth.dto.KakaoTokenResponse;
 import com.lol.backend.modules.auth.dto.KakaoUserInfoResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 카카오 OAuth API 클라이언트.
+ *
+ * - JDK HttpClient 1개를 재사용하여 keep-alive 커넥션 풀을 공유한다
+ * - 연결/응답 타임아웃으로 요청 스레드가 무기한 점유되지 않도록 한다
+ * - Semaphore bulkhead로 카카오 동시 호출 수를 제한한다 (대기 초과 시 RATE_LIMITED)
+ * - 재시도는 지수 백오프 + full jitter. 인가 코드는 1회용이므로 토큰 발급은 연결 실패(요청 미전송)만 재시도한다
+ */
 @Slf4j
 @Component
 public class KakaoApiClient {
@@ -19,16 +40,30 @@ public class KakaoApiClient {
     private final String clientId;
     private final String clientSecret;
     private final String redirectUri;
+    private final KakaoHttpProperties properties;
     private final RestClient restClient;
+    private final Semaphore bulkhead;
 
     public KakaoApiClient(
             @Value("${kakao.client-id}") String clientId,
             @Value("${kakao.client-secret}") String clientSecret,
-            @Value("${kakao.redirect-uri}") String redirectUri) {
+            @Value("${kakao.redirect-uri}") String redirectUri,
+            KakaoHttpProperties properties) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.redirectUri = redirectUri;
-        this.restClient = RestClient.create();
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.connectTimeoutMs()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(properties.readTimeoutMs()));
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
     }
 
     public String getAccessToken(String authorizationCode) {
@@ -40,12 +75,12 @@ public class KakaoApiClient {
             params.add("code", authorizationCode);
             params.add("client_secret", clientSecret);
 
-            KakaoTokenResponse response = restClient.post()
-                    .uri("https://kauth.kakao.com/oauth/token")
+            KakaoTokenResponse response = call("token", false, () -> restClient.post()
+                    .uri(properties.authBaseUrl() + "/oauth/token")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .body(params)
                     .retrieve()
-                    .body(KakaoTokenResponse.class);
+                    .body(KakaoTokenResponse.class));
 
             if (response == null || response.accessToken() == null) {
                 throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카카오 토큰 발급 실패");
@@ -62,11 +97,11 @@ public class KakaoApiClient {
 
     public String getUserKakaoId(String kakaoAccessToken) {
         try {
-            KakaoUserInfoResponse response = restClient.get()
-                    .uri("https://kapi.kakao.com/v2/user/me")
+            KakaoUserInfoResponse response = call("user-me", true, () -> restClient.get()
+                    .uri(properties.apiBaseUrl() + "/v2/user/me")
                     .header("Authorization", "Bearer " + kakaoAccessToken)
                     .retrieve()
-                    .body(KakaoUserInfoResponse.class);
+                    .body(KakaoUserInfoResponse.class));
 
             if (response == null || response.id() == null) {
                 throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카카오 사용자 정보 조회 실패");
@@ -80,4 +115,73 @@ public class KakaoApiClient {
             throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카카오 사용자 정보 조회 중 오류가 발생했습니다");
         }
     }
+
+    /**
+     * bulkhead 슬롯을 확보한 뒤 재시도 정책에 따라 호출한다.
+     * 슬롯은 백오프 대기 중에도 유지하여 재시도가 동시 호출 상한을 넘지 않도록 한다.
+     */
+    private <T> T call(String operation, boolean idempotent, Supplier<T> request) {
+        acquire(operation);
+        try {
+            int attempt = 1;
+            while (true) {
+                try {
+                    return request.get();
+                } catch (RuntimeException e) {
+                    if (attempt >= properties.maxAttempts() || !isRetryable(e, idempotent)) {
+                        throw e;
+                    }
+                    long delay = backoffDelay(attempt);
+                    log.warn("카카오 호출 재시도: operation={}, attempt={}, delayMs={}, cause={}",
+                            operation, attempt, delay, e.getMessage());
+                    sleep(delay);
+                    attempt++;
+                }
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquire(String operation) {
+        try {
+            if (!bulkhead.tryAcquire(properties.acquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("카카오 호출 bulkhead 포화: operation={}, maxConcurrentCalls={}",
+                        operation, properties.maxConcurrentCalls());
+                throw new BusinessException(ErrorCode.RATE_LIMITED, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카카오 인증 처리 중 오류가 발생했습니다");
+        }
+    }
+
+    /**
+     * 연결 실패는 요청이 전송되지 않았으므로 항상 재시도한다.
+     * 응답 타임아웃과 5xx는 멱등 요청에 한해 재시도한다.
+     */
+    private boolean isRetryable(RuntimeException e, boolean idempotent) {
+        if (e instanceof ResourceAccessException) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+            return idempotent;
+        }
+        return idempotent && e instanceof HttpServerErrorException;
+    }
+
+    private long backoffDelay(int attempt) {
+        long cap = Math.min(properties.backoffMaxMs(), properties.backoffBaseMs() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카카오 인증 처리 중 오류가 발생했습니다");
+        }
+    }
 }
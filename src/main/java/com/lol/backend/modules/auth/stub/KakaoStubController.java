@@ -0,0 +1,75 @@
+package com.lol.backend.modules.auth.stub;
+
+import com.lol.backend.modules.auth.dto.KakaoTokenResponse;
+import com.lol.backend.modules.auth.dto.KakaoUserInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트용 카카오 OAuth 스텁.
+ * kakao-stub 프로파일에서만 활성화되며, kakao.http.*-base-url을 이 경로로 지정해 사용한다.
+ *
+ * - 인가 코드 "{kakaoId}" 또는 임의 문자열을 받아 "stub-{code}" 액세스 토큰을 발급한다
+ * - 숫자 코드는 그대로 카카오 ID가 되고, 그 외에는 코드 해시로 결정적인 ID를 만든다
+ * - kakao.stub.latency-ms로 업스트림 지연을 흉내낸다
+ */
+@Slf4j
+@Profile("kakao-stub")
+@RestController
+@RequestMapping("/kakao-stub")
+public class KakaoStubController {
+
+    private static final String TOKEN_PREFIX = "stub-";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final long latencyMs;
+
+    public KakaoStubController(@Value("${kakao.stub.latency-ms:0}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @PostMapping("/oauth/token")
+    public KakaoTokenResponse token(@RequestParam("code") String code) {
+        simulateLatency();
+        return new KakaoTokenResponse(TOKEN_PREFIX + code, "bearer", null, 21599, null);
+    }
+
+    @GetMapping("/v2/user/me")
+    public ResponseEntity<KakaoUserInfoResponse> me(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        simulateLatency();
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX + TOKEN_PREFIX)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String code = authorization.substring((BEARER_PREFIX + TOKEN_PREFIX).length());
+        return ResponseEntity.ok(new KakaoUserInfoResponse(toKakaoId(code)));
+    }
+
+    private static long toKakaoId(String code) {
+        try {
+            return Long.parseLong(code);
+        } catch (NumberFormatException e) {
+            return Integer.toUnsignedLong(code.hashCode());
+        }
+    }
+
+    private void simulateLatency() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
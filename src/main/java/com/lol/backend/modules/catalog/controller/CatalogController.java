@@ -6,11 +6,19 @@ import com.lol.backend.modules.catalog.dto.ListOfAlgorithmsResponse;
 import com.lol.backend.modules.catalog.dto.ListOfItemsResponse;
 import com.lol.backend.modules.catalog.dto.ListOfSpellsResponse;
 import com.lol.backend.modules.catalog.service.CatalogService;
+import com.lol.backend.modules.catalog.service.CatalogSnapshot.Versioned;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+/**
+ * 카탈로그 조회 API.
+ * 응답 본문(data) 기준 ETag를 내려주며, If-None-Match가 일치하면 304를 반환한다.
+ */
 @RestController
 @RequestMapping("/api/v1/catalog")
 @RequiredArgsConstructor
@@ -19,20 +27,26 @@ public class CatalogController {
     private final CatalogService catalogService;
 
     @GetMapping("/algorithms")
-    public ApiResponse<ListOfAlgorithmsResponse> getAlgorithms() {
-        ListOfAlgorithmsResponse response = catalogService.getAlgorithms();
-        return ApiResponse.success(response, RequestContextHolder.getRequestId());
+    public ResponseEntity<ApiResponse<ListOfAlgorithmsResponse>> getAlgorithms(WebRequest request) {
+        return respond(catalogService.getAlgorithms(), request);
     }
 
     @GetMapping("/items")
-    public ApiResponse<ListOfItemsResponse> getItems() {
-        ListOfItemsResponse response = catalogService.getItems();
-        return ApiResponse.success(response, RequestContextHolder.getRequestId());
+    public ResponseEntity<ApiResponse<ListOfItemsResponse>> getItems(WebRequest request) {
+        return respond(catalogService.getItems(), request);
     }
 
     @GetMapping("/spells")
-    public ApiResponse<ListOfSpellsResponse> getSpells() {
-        ListOfSpellsResponse response = catalogService.getSpells();
-        return ApiResponse.success(response, RequestContextHolder.getRequestId());
+    public ResponseEntity<ApiResponse<ListOfSpellsResponse>> getSpells(WebRequest request) {
+        return respond(catalogService.getSpells(), request);
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> respond(Versioned<T> versioned, WebRequest request) {
+        if (request.checkNotModified(versioned.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versioned.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(versioned.etag())
+                .body(ApiResponse.success(versioned.body(), RequestContextHolder.getRequestId()));
     }
 }
@@ -1,47 +1,29 @@
 package com.lol.backend.modules.catalog.service;
 
 import com.lol.backend.modules.catalog.dto.*;
-import com.lol.backend.modules.catalog.repo.AlgorithmRepository;
-import com.lol.backend.modules.catalog.repo.ItemRepository;
-import com.lol.backend.modules.catalog.repo.SpellRepository;
+import com.lol.backend.modules.catalog.service.CatalogSnapshot.Versioned;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
 
+/**
+ * 카탈로그 조회 서비스.
+ * DB를 직접 조회하지 않고 인메모리 스냅샷(CatalogSnapshotHolder)의 미리 만들어진 응답을 반환한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class CatalogService {
 
-    private final AlgorithmRepository algorithmRepository;
-    private final ItemRepository itemRepository;
-    private final SpellRepository spellRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
 
-    @Transactional(readOnly = true)
-    public ListOfAlgorithmsResponse getAlgorithms() {
-        List<AlgorithmSummaryResponse> items = algorithmRepository.findByIsActiveTrue()
-                .stream()
-                .map(AlgorithmSummaryResponse::from)
-                .toList();
-        return new ListOfAlgorithmsResponse(items);
+    public Versioned<ListOfAlgorithmsResponse> getAlgorithms() {
+        return catalogSnapshotHolder.current().algorithms();
     }
 
-    @Transactional(readOnly = true)
-    public ListOfItemsResponse getItems() {
-        List<ItemSummaryResponse> items = itemRepository.findByIsActiveTrue()
-                .stream()
-                .map(ItemSummaryResponse::from)
-                .toList();
-        return new ListOfItemsResponse(items);
+    public Versioned<ListOfItemsResponse> getItems() {
+        return catalogSnapshotHolder.current().items();
     }
 
-    @Transactional(readOnly = true)
-    public ListOfSpellsResponse getSpells() {
-        List<SpellSummaryResponse> items = spellRepository.findByIsActiveTrue()
-                .stream()
-                .map(SpellSummaryResponse::from)
-                .toList();
-        return new ListOfSpellsResponse(items);
+    public Versioned<ListOfSpellsResponse> getSpells() {
+        return catalogSnapshotHolder.current().spells();
     }
 }
@@ -0,0 +1,128 @@
+package com.lol.backend.modules.catalog.service;
+
+import com.lol.backend.modules.catalog.dto.*;
+import com.lol.backend.modules.catalog.entity.Algorithm;
+import com.lol.backend.modules.catalog.entity.Item;
+import com.lol.backend.modules.catalog.entity.Spell;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카탈로그(알고리즘/아이템/스펠) 불변 스냅샷.
+ *
+ * - 비활성 항목까지 포함한 ID/이름 인덱스 (서비스 검증용)
+ * - 활성 항목만 담은 GET 응답을 미리 만들어 둔다 (매 요청 매핑 비용 제거)
+ * - 응답별 ETag는 응답 본문(data) 기준으로 계산되므로 노드 간에도 동일하다
+ *
+ * 보관하는 엔티티는 트랜잭션 밖에서 분리(detached)된 상태이며 setter가 없어 사실상 불변이다.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+
+    private final Map<UUID, Algorithm> algorithmsById;
+    private final Map<UUID, Item> itemsById;
+    private final Map<UUID, Spell> spellsById;
+    private final Map<String, Algorithm> algorithmsByName;
+    private final Map<String, Item> itemsByName;
+    private final Map<String, Spell> spellsByName;
+
+    private final Versioned<ListOfAlgorithmsResponse> algorithms;
+    private final Versioned<ListOfItemsResponse> items;
+    private final Versioned<ListOfSpellsResponse> spells;
+
+    CatalogSnapshot(long version,
+                    List<Algorithm> algorithms,
+                    List<Item> items,
+                    List<Spell> spells,
+                    Function<Object, String> etagFunction) {
+        this.version = version;
+        this.loadedAt = Instant.now();
+
+        this.algorithmsById = index(algorithms, Algorithm::getId);
+        this.itemsById = index(items, Item::getId);
+        this.spellsById = index(spells, Spell::getId);
+        this.algorithmsByName = index(algorithms, Algorithm::getName);
+        this.itemsByName = index(items, Item::getName);
+        this.spellsByName = index(spells, Spell::getName);
+
+        ListOfAlgorithmsResponse algorithmsResponse = new ListOfAlgorithmsResponse(algorithms.stream()
+                .filter(Algorithm::isActive)
+                .map(AlgorithmSummaryResponse::from)
+                .toList());
+        ListOfItemsResponse itemsResponse = new ListOfItemsResponse(items.stream()
+                .filter(Item::isActive)
+                .map(ItemSummaryResponse::from)
+                .toList());
+        ListOfSpellsResponse spellsResponse = new ListOfSpellsResponse(spells.stream()
+                .filter(Spell::isActive)
+                .map(SpellSummaryResponse::from)
+                .toList());
+
+        this.algorithms = new Versioned<>(algorithmsResponse, etagFunction.apply(algorithmsResponse));
+        this.items = new Versioned<>(itemsResponse, etagFunction.apply(itemsResponse));
+        this.spells = new Versioned<>(spellsResponse, etagFunction.apply(spellsResponse));
+    }
+
+    private static <K, V> Map<K, V> index(Collection<V> values, Function<V, K> keyFn) {
+        return values.stream().collect(Collectors.toUnmodifiableMap(keyFn, Function.identity()));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<Algorithm> findAlgorithm(UUID algorithmId) {
+        return Optional.ofNullable(algorithmsById.get(algorithmId));
+    }
+
+    public Optional<Item> findItem(UUID itemId) {
+        return Optional.ofNullable(itemsById.get(itemId));
+    }
+
+    public Optional<Spell> findSpell(UUID spellId) {
+        return Optional.ofNullable(spellsById.get(spellId));
+    }
+
+    public Optional<Algorithm> findAlgorithmByName(String name) {
+        return Optional.ofNullable(algorithmsByName.get(name));
+    }
+
+    public Optional<Item> findItemByName(String name) {
+        return Optional.ofNullable(itemsByName.get(name));
+    }
+
+    public Optional<Spell> findSpellByName(String name) {
+        return Optional.ofNullable(spellsByName.get(name));
+    }
+
+    public Versioned<ListOfAlgorithmsResponse> algorithms() {
+        return algorithms;
+    }
+
+    public Versioned<ListOfItemsResponse> items() {
+        return items;
+    }
+
+    public Versioned<ListOfSpellsResponse> spells() {
+        return spells;
+    }
+
+    /**
+     * ETag가 부여된 응답 본문.
+     */
+    public record Versioned<T>(T body, String etag) {
+    }
+}
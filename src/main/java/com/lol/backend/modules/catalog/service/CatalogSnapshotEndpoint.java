@@ -0,0 +1,49 @@
+package com.lol.backend.modules.catalog.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 카탈로그 스냅샷 운영 엔드포인트 (/actuator/catalog).
+ *
+ * 카탈로그는 마이그레이션/DB 직접 수정으로만 바뀌므로, 수정 후 운영자가 POST로 refresh를 호출한다.
+ * - GET: 이 노드의 스냅샷 버전과 항목 수
+ * - POST: 즉시 재로드하고 전역 버전을 올려 다른 노드도 다음 동기화 주기에 재로드하게 한다
+ *
+ * ActuatorSecurityConfig에 따라 management.auth 계정이 있어야 호출할 수 있다.
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class CatalogSnapshotEndpoint {
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @ReadOperation
+    public SnapshotInfo info() {
+        return SnapshotInfo.of(catalogSnapshotHolder.current());
+    }
+
+    @WriteOperation
+    public SnapshotInfo refresh() {
+        return SnapshotInfo.of(catalogSnapshotHolder.refresh());
+    }
+
+    public record SnapshotInfo(long version, Instant loadedAt, int algorithms, int items, int spells) {
+
+        static SnapshotInfo of(CatalogSnapshot snapshot) {
+            return new SnapshotInfo(
+                    snapshot.version(),
+                    snapshot.loadedAt(),
+                    snapshot.algorithms().body().items().size(),
+                    snapshot.items().body().items().size(),
+                    snapshot.spells().body().items().size()
+            );
+        }
+    }
+}
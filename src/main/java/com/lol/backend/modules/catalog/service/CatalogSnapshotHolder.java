@@ -0,0 +1,113 @@
+package com.lol.backend.modules.catalog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.catalog.repo.AlgorithmRepository;
+import com.lol.backend.modules.catalog.repo.ItemRepository;
+import com.lol.backend.modules.catalog.repo.SpellRepository;
+import com.lol.backend.state.store.CatalogVersionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카탈로그 불변 스냅샷 보관소.
+ *
+ * - 최초 접근(또는 CatalogSnapshotInitializer) 시 DB에서 1회 로드
+ * - refresh(): 즉시 재로드 후 Redis 카탈로그 버전을 올려 다른 노드에도 전파 (CatalogSnapshotEndpoint에서 호출)
+ * - 주기적으로 Redis 버전을 확인하여 로컬 스냅샷보다 새로우면 재로드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotHolder {
+
+    private final AlgorithmRepository algorithmRepository;
+    private final ItemRepository itemRepository;
+    private final SpellRepository spellRepository;
+    private final CatalogVersionStore catalogVersionStore;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷을 반환한다. 아직 로드되지 않았다면 로드한다.
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = load(catalogVersionStore.getVersion());
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 카탈로그 변경 후 호출한다.
+     * 로컬 스냅샷을 재로드하고 전역 버전을 올려 다른 노드가 다음 동기화 주기에 재로드하도록 한다.
+     */
+    public synchronized CatalogSnapshot refresh() {
+        long version = catalogVersionStore.bumpVersion();
+        return load(version);
+    }
+
+    /**
+     * 전역 카탈로그 버전이 바뀌었으면 재로드한다.
+     */
+    @Scheduled(fixedDelayString = "${game.catalog.version-check-interval-ms:10000}")
+    public void syncVersion() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        long version = catalogVersionStore.getVersion();
+        if (version != current.version()) {
+            synchronized (this) {
+                if (snapshot.get().version() != version) {
+                    log.info("Catalog version changed: {} -> {}", snapshot.get().version(), version);
+                    load(version);
+                }
+            }
+        }
+    }
+
+    private CatalogSnapshot load(long version) {
+        CatalogSnapshot loaded = new CatalogSnapshot(
+                version,
+                algorithmRepository.findAll(),
+                itemRepository.findAll(),
+                spellRepository.findAll(),
+                this::etag
+        );
+        snapshot.set(loaded);
+        log.info("Catalog snapshot loaded: version={}, algorithms={}, items={}, spells={}",
+                version,
+                loaded.algorithms().body().items().size(),
+                loaded.items().body().items().size(),
+                loaded.spells().body().items().size());
+        return loaded;
+    }
+
+    private String etag(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "카탈로그 ETag 계산 실패");
+        }
+    }
+}
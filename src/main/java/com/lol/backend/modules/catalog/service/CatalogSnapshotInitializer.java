@@ -0,0 +1,27 @@
+package com.lol.backend.modules.catalog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 카탈로그 스냅샷을 미리 로드한다.
+ * 첫 게임 요청이 DB 로드 비용을 부담하지 않도록 하기 위함.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class CatalogSnapshotInitializer implements ApplicationRunner {
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Loading catalog snapshot...");
+        catalogSnapshotHolder.current();
+    }
+}
@@ -0,0 +1,184 @@
+package com.lol.backend.modules.game.command;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.config.GameCommandProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 게임별 직렬 커맨드 실행기 (single-writer).
+ *
+ * gameId를 해시하여 고정된 stripe(단일 스레드 + bounded 대기열)에 배정한다.
+ * 같은 게임의 밴/픽/구매/아이템/스펠/stage 전이는 항상 같은 스레드에서 도착 순서대로 실행되므로
+ * "stage 전이 중 도착한 픽" 같은 교차 실행이 생기지 않는다.
+ *
+ * - 비활성화(기본값) 시 호출 스레드에서 바로 실행한다
+ * - 대기열이 가득 차면 RATE_LIMITED로 거절한다 (back-pressure)
+ * - 이미 해당 stripe 스레드 안에서 호출되면 재진입으로 보고 바로 실행한다 (교착 방지)
+ * - 여러 게임에 한꺼번에 커맨드를 보내는 쪽(스케줄러)은 submit으로 기다리지 않고 넣은 뒤 한 번에 기다린다
+ */
+@Slf4j
+@Component
+public class GameCommandExecutor implements DisposableBean {
+
+    private final boolean enabled;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor[] stripes;
+
+    public GameCommandExecutor(GameCommandProperties properties) {
+        this.enabled = properties.enabled();
+        this.timeoutMs = properties.timeoutMs();
+        if (!enabled) {
+            this.stripes = new ThreadPoolExecutor[0];
+            return;
+        }
+        this.stripes = new ThreadPoolExecutor[properties.stripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            String threadName = "game-cmd-" + i;
+            stripes[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(properties.queueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy()
+            );
+        }
+        log.info("Game command executor enabled: stripes={}, queueCapacity={}, timeoutMs={}",
+                stripes.length, properties.queueCapacity(), timeoutMs);
+    }
+
+    /**
+     * 직렬화 없이 호출 스레드에서 바로 실행하는 실행기 (테스트/비활성화용).
+     */
+    public static GameCommandExecutor direct() {
+        return new GameCommandExecutor(new GameCommandProperties(false, 1, 1, 1));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 호출자가 커맨드 결과를 기다리는 최대 시간(ms).
+     */
+    public long timeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * 게임 커맨드를 해당 게임의 stripe에서 실행하고 결과를 기다린다.
+     *
+     * @param gameId  게임 ID (stripe 배정 키)
+     * @param command 실행할 커맨드
+     * @return 커맨드 결과
+     */
+    public <T> T execute(UUID gameId, Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+
+        ThreadPoolExecutor stripe = stripeFor(gameId);
+        String stripeName = "game-cmd-" + stripeIndex(gameId);
+        if (Thread.currentThread().getName().equals(stripeName)) {
+            return command.get();
+        }
+
+        Future<T> future;
+        try {
+            future = stripe.submit(command::get);
+        } catch (RejectedExecutionException e) {
+            log.warn("Game command rejected (queue full): gameId={}, stripe={}", gameId, stripeName);
+            throw new BusinessException(ErrorCode.RATE_LIMITED, "게임 요청이 많아 처리할 수 없습니다");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        } catch (TimeoutException e) {
+            // 이미 대기열에 들어간 커맨드는 순서대로 실행된다. 호출자에게만 타임아웃을 알린다.
+            log.warn("Game command timed out: gameId={}, stripe={}, timeoutMs={}", gameId, stripeName, timeoutMs);
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "게임 요청 처리 시간이 초과되었습니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * 게임 커맨드를 해당 게임의 stripe 대기열에 넣고 결과를 기다리지 않고 돌려준다.
+     * 비활성화 또는 재진입이면 호출 스레드에서 바로 실행한 결과를 돌려준다.
+     * 커맨드 예외와 대기열 초과(RATE_LIMITED)는 예외로 완료된 future로 전달한다.
+     *
+     * @param gameId  게임 ID (stripe 배정 키)
+     * @param command 실행할 커맨드
+     * @return 커맨드 결과 future (stripe 스레드에서 완료된다)
+     */
+    public <T> CompletableFuture<T> submit(UUID gameId, Supplier<T> command) {
+        if (!enabled || Thread.currentThread().getName().equals("game-cmd-" + stripeIndex(gameId))) {
+            try {
+                return CompletableFuture.completedFuture(command.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(command, stripeFor(gameId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Game command rejected (queue full): gameId={}, stripe=game-cmd-{}", gameId, stripeIndex(gameId));
+            return CompletableFuture.failedFuture(
+                    new BusinessException(ErrorCode.RATE_LIMITED, "게임 요청이 많아 처리할 수 없습니다"));
+        }
+    }
+
+    /**
+     * 결과가 없는 게임 커맨드를 실행한다.
+     */
+    public void execute(UUID gameId, Runnable command) {
+        execute(gameId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private ThreadPoolExecutor stripeFor(UUID gameId) {
+        return stripes[stripeIndex(gameId)];
+    }
+
+    private int stripeIndex(UUID gameId) {
+        long bits = gameId.getMostSignificantBits() ^ gameId.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return Math.floorMod(hash, stripes.length);
+    }
+
+    @Override
+    public void destroy() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.lol.backend.modules.game.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게임별 직렬 커맨드 실행기 설정.
+ * application.yml의 game.command-executor 바인딩.
+ *
+ * @param enabled       true면 같은 게임의 인게임 커맨드를 단일 스레드에서 순서대로 실행한다
+ * @param stripes       실행 스레드(stripe) 수. 0 이하면 CPU 코어 수
+ * @param queueCapacity stripe별 대기열 최대 길이 (초과 시 RATE_LIMITED)
+ * @param timeoutMs     요청 스레드가 커맨드 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "game.command-executor")
+public record GameCommandProperties(
+        boolean enabled,
+        int stripes,
+        int queueCapacity,
+        long timeoutMs
+) {
+    public GameCommandProperties {
+        if (stripes <= 0) {
+            stripes = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 1024;
+        }
+        if (timeoutMs <= 0) {
+            timeoutMs = 5000;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.lol.backend.modules.game.config;
+
+import com.lol.backend.modules.game.judge.Judge;
+import com.lol.backend.modules.game.judge.LocalJudge;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채점기 설정.
+ * 외부 채점기(Judge 빈)가 등록되지 않았을 때만 LocalJudge를 기본 채점기로 등록한다.
+ * (@Bean 메서드의 조건은 컴포넌트 스캔된 빈이 모두 등록된 뒤 평가된다)
+ */
+@Configuration
+public class JudgeConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(Judge.class)
+    public Judge localJudge() {
+        return new LocalJudge();
+    }
+}
@@ -0,0 +1,55 @@
+package com.lol.backend.modules.game.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 채점 대기열 설정.
+ * application.yml의 game.judge 바인딩.
+ *
+ * @param workers            동시 채점 워커 수
+ * @param batchSize          1회 선점(SKIP LOCKED) 최대 건수
+ * @param pollIntervalMs     대기열 폴링 주기 (제출 커밋 직후에는 즉시 깨운다)
+ * @param claimTimeoutMs     JUDGING 상태로 이 시간을 넘긴 제출은 PENDING으로 되돌린다
+ * @param maxAttempts        채점 실패 시 최대 시도 횟수 (소진 시 FAILED로 확정)
+ * @param maxQueueDepth      전체 미판정 제출 상한 (초과 시 RATE_LIMITED)
+ * @param maxPendingPerUser  사용자별 동시 미판정 제출 상한 (초과 시 RATE_LIMITED)
+ * @param settleTimeoutMs    PLAY 종료 후 미판정 제출의 판정을 기다리는 최대 시간 (초과 시 판정된 제출만으로 정산)
+ */
+@ConfigurationProperties(prefix = "game.judge")
+public record JudgeProperties(
+        int workers,
+        int batchSize,
+        long pollIntervalMs,
+        long claimTimeoutMs,
+        int maxAttempts,
+        int maxQueueDepth,
+        int maxPendingPerUser,
+        long settleTimeoutMs
+) {
+    public JudgeProperties {
+        if (workers <= 0) {
+            workers = 4;
+        }
+        if (batchSize <= 0) {
+            batchSize = workers;
+        }
+        if (pollIntervalMs <= 0) {
+            pollIntervalMs = 500;
+        }
+        if (claimTimeoutMs <= 0) {
+            claimTimeoutMs = 60000;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (maxQueueDepth <= 0) {
+            maxQueueDepth = 1000;
+        }
+        if (maxPendingPerUser <= 0) {
+            maxPendingPerUser = 2;
+        }
+        if (settleTimeoutMs <= 0) {
+            settleTimeoutMs = 10000;
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.lol.backend.modules.game.controller;
 import com.lol.backend.common.dto.ApiResponse;
 import com.lol.backend.common.util.RequestContextHolder;
 import com.lol.backend.modules.game.dto.*;
+import com.lol.backend.modules.game.service.GameBootstrapService;
+import com.lol.backend.modules.game.service.GameBootstrapService.Bootstrap;
 import com.lol.backend.modules.game.service.GameService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -21,6 +25,26 @@ import java.util.UUID;
 public class GameController {
 
     private final GameService gameService;
+    private final GameBootstrapService gameBootstrapService;
+
+    /**
+     * GET /games/active/bootstrap
+     * 재접속 부트스트랩 (진행 중인 게임의 stage/플레이어/코인/인벤토리/밴픽/활성 효과/카탈로그 ETag).
+     * 진행 중인 게임이 없으면 data는 null이다. If-None-Match가 일치하면 304를 반환한다.
+     */
+    @GetMapping("/active/bootstrap")
+    public ResponseEntity<ApiResponse<GameBootstrapResponse>> getBootstrap(WebRequest request) {
+        Bootstrap bootstrap = gameBootstrapService.bootstrap().orElse(null);
+        if (bootstrap == null) {
+            return ResponseEntity.ok(ApiResponse.success(null, RequestContextHolder.getRequestId()));
+        }
+        if (request.checkNotModified(bootstrap.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(bootstrap.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(bootstrap.etag())
+                .body(ApiResponse.success(bootstrap.body(), RequestContextHolder.getRequestId()));
+    }
 
     /**
      * GET /games/{gameId}/state
@@ -36,14 +60,15 @@ public class GameController {
 
     /**
      * POST /games/{gameId}/submissions
-     * 코드 제출 (PLAY stage)
+     * 코드 제출 (PLAY stage). 채점은 비동기이므로 202 Accepted로 접수 결과만 반환한다.
      */
     @PostMapping("/{gameId}/submissions")
-    public ResponseEntity<ApiResponse<GameStateResponse>> submitCode(
+    public ResponseEntity<ApiResponse<SubmissionAcceptedResponse>> submitCode(
             @PathVariable UUID gameId,
             @RequestBody @Valid SubmissionRequest request) {
 
-        GameStateResponse result = gameService.submitCode(gameId, request);
-        return ResponseEntity.ok(ApiResponse.success(result, RequestContextHolder.getRequestId()));
+        SubmissionAcceptedResponse result = gameService.submitCode(gameId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(result, RequestContextHolder.getRequestId()));
     }
 }
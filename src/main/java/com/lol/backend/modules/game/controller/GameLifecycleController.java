@@ -3,6 +3,7 @@ package com.lol.backend.modules.game.controller;
 import com.lol.backend.common.dto.ApiResponse;
 import com.lol.backend.common.util.RequestContextHolder;
 import com.lol.backend.common.util.SecurityUtil;
+import com.lol.backend.modules.game.command.GameCommandExecutor;
 import com.lol.backend.modules.game.dto.GameStateResponse;
 import com.lol.backend.modules.game.dto.BanPickRequest;
 import com.lol.backend.modules.game.dto.ShopItemRequest;
@@ -27,6 +28,7 @@ public class GameLifecycleController {
 
     private final GameBanPickService gameBanPickService;
     private final GameShopService gameShopService;
+    private final GameCommandExecutor gameCommandExecutor;
 
     @PostMapping("/{gameId}/ban")
     public ApiResponse<GameStateResponse> submitBan(
@@ -35,7 +37,8 @@ public class GameLifecycleController {
     ) {
         UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
         UUID gameUuid = UUID.fromString(gameId);
-        GameStateResponse response = gameBanPickService.submitBan(gameUuid, userId, request);
+        GameStateResponse response = gameCommandExecutor.execute(gameUuid,
+                () -> gameBanPickService.submitBan(gameUuid, userId, request));
         return ApiResponse.success(response, RequestContextHolder.getRequestId());
     }
 
@@ -46,7 +49,8 @@ public class GameLifecycleController {
     ) {
         UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
         UUID gameUuid = UUID.fromString(gameId);
-        GameStateResponse response = gameBanPickService.submitPick(gameUuid, userId, request);
+        GameStateResponse response = gameCommandExecutor.execute(gameUuid,
+                () -> gameBanPickService.submitPick(gameUuid, userId, request));
         return ApiResponse.success(response, RequestContextHolder.getRequestId());
     }
 
@@ -57,7 +61,8 @@ public class GameLifecycleController {
     ) {
         UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
         UUID gameUuid = UUID.fromString(gameId);
-        GameStateResponse response = gameShopService.purchaseItem(gameUuid, userId, request);
+        GameStateResponse response = gameCommandExecutor.execute(gameUuid,
+                () -> gameShopService.purchaseItem(gameUuid, userId, request));
         return ApiResponse.success(response, RequestContextHolder.getRequestId());
     }
 
@@ -68,7 +73,8 @@ public class GameLifecycleController {
     ) {
         UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
         UUID gameUuid = UUID.fromString(gameId);
-        GameStateResponse response = gameShopService.purchaseSpell(gameUuid, userId, request);
+        GameStateResponse response = gameCommandExecutor.execute(gameUuid,
+                () -> gameShopService.purchaseSpell(gameUuid, userId, request));
         return ApiResponse.success(response, RequestContextHolder.getRequestId());
     }
 }
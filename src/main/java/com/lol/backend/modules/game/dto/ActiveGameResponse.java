@@ -47,7 +47,7 @@ public record ActiveGameResponse(
         );
     }
 
-    private static String resolvePageRoute(GameStage stage) {
+    public static String resolvePageRoute(GameStage stage) {
         return switch (stage) {
             case LOBBY -> "WAITING_ROOM";
             case BAN, PICK, SHOP -> "BAN_PICK_SHOP";
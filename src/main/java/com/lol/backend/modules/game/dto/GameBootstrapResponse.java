@@ -0,0 +1,68 @@
+package com.lol.backend.modules.game.dto;
+
+import com.lol.backend.modules.game.entity.GameStage;
+import com.lol.backend.modules.game.entity.GameType;
+
+import java.util.List;
+
+/**
+ * 재접속 부트스트랩 응답 DTO.
+ * active-game → game state → catalog 순차 호출을 한 번으로 대체한다.
+ *
+ * 남은 시간은 응답 시각에 따라 달라지므로 포함하지 않는다.
+ * 클라이언트는 stageDeadlineAt과 TIME_SYNC 오프셋으로 계산한다 (ETag 안정성).
+ *
+ * @param stateVersion 게임 이벤트 로그 시퀀스. 이후 SUBSCRIBE since 헤더로 사용한다.
+ * @param catalog      카탈로그 응답별 ETag. 캐시된 카탈로그와 다를 때만 다시 조회한다.
+ */
+public record GameBootstrapResponse(
+        String gameId,
+        String roomId,
+        GameType gameType,
+        GameStage stage,
+        String pageRoute,
+        String stageDeadlineAt,
+        long stateVersion,
+        List<GamePlayerResponse> players,
+        int coin,
+        InventoryResponse inventory,
+        List<BanPick> bans,
+        List<BanPick> picks,
+        List<ActiveEffect> activeEffects,
+        CatalogVersions catalog
+) {
+
+    /**
+     * 밴/픽 항목.
+     */
+    public record BanPick(
+            String userId,
+            String algorithmId
+    ) {
+    }
+
+    /**
+     * 활성 효과 항목.
+     *
+     * @param refId effectType이 ITEM이면 itemId, SPELL이면 spellId
+     */
+    public record ActiveEffect(
+            String effectId,
+            String effectType,
+            String targetUserId,
+            String refId,
+            String startedAt,
+            String expiresAt
+    ) {
+    }
+
+    /**
+     * 카탈로그 ETag 묶음 (GET /catalog/* 응답의 ETag와 동일).
+     */
+    public record CatalogVersions(
+            String algorithms,
+            String items,
+            String spells
+    ) {
+    }
+}
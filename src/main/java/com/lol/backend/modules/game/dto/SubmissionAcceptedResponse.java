@@ -0,0 +1,23 @@
+package com.lol.backend.modules.game.dto;
+
+import com.lol.backend.modules.game.entity.Submission;
+
+/**
+ * 코드 제출 접수 응답 DTO.
+ * 채점은 비동기로 진행되며, 판정은 /user/queue/submissions의 SUBMISSION_JUDGED 이벤트로 전달된다.
+ */
+public record SubmissionAcceptedResponse(
+        String submissionId,
+        String gameId,
+        String judgeStatus,
+        int submittedElapsedMs
+) {
+    public static SubmissionAcceptedResponse from(Submission submission) {
+        return new SubmissionAcceptedResponse(
+                submission.getId().toString(),
+                submission.getGameId().toString(),
+                submission.getJudgeStatus().name(),
+                submission.getSubmittedElapsedMs()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.lol.backend.modules.game.dto;
+
+import java.util.UUID;
+
+/**
+ * 결과 계산용 사용자별 제출 집계 프로젝션.
+ * source_code를 읽지 않고 GROUP BY user_id 결과만 받는다.
+ *
+ * @param userId       사용자 ID
+ * @param acCount      AC 제출 수
+ * @param lastSubmitMs 마지막 AC 제출 경과 시간 (게임 시작 기준, ms)
+ */
+public record SubmissionStatRow(
+        UUID userId,
+        long acCount,
+        int lastSubmitMs
+) {
+}
@@ -5,10 +5,20 @@ package com.lol.backend.modules.game.entity;
  * DATA_MODEL.md 5.0 공통 Enum 기준.
  */
 public enum JudgeStatus {
+    PENDING, // 채점 대기
+    JUDGING, // 채점 중 (워커 선점)
     AC,  // Accepted
     WA,  // Wrong Answer
     TLE, // Time Limit Exceeded
     MLE, // Memory Limit Exceeded
     CE,  // Compilation Error
-    RE   // Runtime Error
+    RE,  // Runtime Error
+    FAILED; // 채점 실패 (시도 횟수 소진)
+
+    /**
+     * 최종 판정 여부 (PENDING/JUDGING이 아닌 상태).
+     */
+    public boolean isFinal() {
+        return this != PENDING && this != JUDGING;
+    }
 }
@@ -13,6 +13,7 @@ import java.util.UUID;
  * SUBMISSION 엔티티.
  * DATA_MODEL.md 5.12 기준.
  * storage: persistent (코드 제출 기록 보관)
+ * 소스 본문은 submission_source에 해시 기준으로 분리 저장되며, 메타데이터 조회 시 로딩되지 않는다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,8 +35,12 @@ public class Submission {
     @Column(nullable = false, length = 20)
     private Language language;
 
-    @Column(name = "source_code", nullable = false, columnDefinition = "TEXT")
-    private String sourceCode;
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_hash", insertable = false, updatable = false)
+    private SubmissionSource source;
 
     @Column(name = "submitted_at", nullable = false, updatable = false)
     private Instant submittedAt;
@@ -59,13 +64,19 @@ public class Submission {
     @Column(name = "score_value")
     private Integer scoreValue;
 
-    public Submission(UUID gameId, UUID userId, Language language, String sourceCode,
+    @Column(name = "judge_claimed_at")
+    private Instant judgeClaimedAt;
+
+    @Column(name = "judge_attempts", nullable = false)
+    private int judgeAttempts = 0;
+
+    public Submission(UUID gameId, UUID userId, Language language, String sourceHash,
                       int submittedElapsedMs, int execTimeMs, int memoryKb,
                       JudgeStatus judgeStatus, String judgeDetailJson, Integer scoreValue) {
         this.gameId = gameId;
         this.userId = userId;
         this.language = language;
-        this.sourceCode = sourceCode;
+        this.sourceHash = sourceHash;
         this.submittedElapsedMs = submittedElapsedMs;
         this.execTimeMs = execTimeMs;
         this.memoryKb = memoryKb;
@@ -74,6 +85,27 @@ public class Submission {
         this.scoreValue = scoreValue;
     }
 
+    /**
+     * 채점 결과를 반영한다.
+     */
+    public void applyVerdict(JudgeStatus judgeStatus, int execTimeMs, int memoryKb,
+                             String judgeDetailJson, Integer scoreValue) {
+        this.judgeStatus = judgeStatus;
+        this.execTimeMs = execTimeMs;
+        this.memoryKb = memoryKb;
+        this.judgeDetailJson = judgeDetailJson;
+        this.scoreValue = scoreValue;
+        this.judgeClaimedAt = null;
+    }
+
+    /**
+     * 채점 선점을 해제하고 대기열로 되돌린다 (재시도).
+     */
+    public void requeue() {
+        this.judgeStatus = JudgeStatus.PENDING;
+        this.judgeClaimedAt = null;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.submittedAt = Instant.now();
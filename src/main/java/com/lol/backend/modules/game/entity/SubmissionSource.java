@@ -0,0 +1,39 @@
+package com.lol.backend.modules.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * SUBMISSION_SOURCE 엔티티.
+ * 제출 소스 본문을 SHA-256 해시 기준으로 한 번만 보관한다 (content-addressed).
+ * 저장/복원은 SubmissionSourceService를 통해서만 수행한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "submission_source")
+public class SubmissionSource {
+
+    public static final String ENCODING_NONE = "NONE";
+    public static final String ENCODING_DEFLATE = "DEFLATE";
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 10)
+    private String encoding;
+
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(nullable = false)
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -108,6 +108,43 @@ public interface GameEventPublisher {
      */
     void gameFinished(UUID gameId, UUID roomId, String finishedAt, java.util.List<GameFinishedResultData> results);
 
+    /**
+     * SUBMISSION_JUDGED: /user/queue/submissions
+     * 비동기 채점 완료 시 제출자에게만 전송한다.
+     *
+     * @param gameId 게임 ID
+     * @param userId 제출자 ID
+     * @param submissionId 제출 ID
+     * @param judgeStatus 판정 (AC, WA, TLE, MLE, CE, RE)
+     * @param execTimeMs 실행 시간(ms)
+     * @param memoryKb 메모리 사용량(KB)
+     * @param submittedElapsedMs 게임 시작부터 제출까지 경과 시간(ms)
+     */
+    void submissionJudged(UUID gameId, UUID userId, UUID submissionId, String judgeStatus,
+                          int execTimeMs, int memoryKb, int submittedElapsedMs);
+
+    /**
+     * SCOREBOARD_UPDATED: /topic/games/{gameId}
+     * PLAY 중 AC 판정으로 순위표가 바뀌면 게임 단위로 모아서(coalesce) 호출한다.
+     *
+     * @param gameId 게임 ID
+     * @param standings 순위 순서의 순위표 (동점은 같은 rank)
+     */
+    void scoreboardUpdated(UUID gameId, java.util.List<ScoreboardRowData> standings);
+
+    /**
+     * 순위표 개별 플레이어 데이터.
+     *
+     * @param lastSubmitMs 최종 AC 제출 경과 시간(ms), AC가 없으면 null
+     */
+    record ScoreboardRowData(
+            UUID userId,
+            int rank,
+            int acCount,
+            Integer lastSubmitMs
+    ) {
+    }
+
     /**
      * 게임 결과 개별 플레이어 데이터.
      */
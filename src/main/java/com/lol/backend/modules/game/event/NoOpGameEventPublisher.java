@@ -58,4 +58,16 @@ public class NoOpGameEventPublisher implements GameEventPublisher {
     public void gameFinished(UUID gameId, UUID roomId, String finishedAt, java.util.List<GameEventPublisher.GameFinishedResultData> results) {
         log.debug("[NoOp] gameFinished: gameId={}, resultsCount={}", gameId, results.size());
     }
+
+    @Override
+    public void submissionJudged(UUID gameId, UUID userId, UUID submissionId, String judgeStatus,
+                                 int execTimeMs, int memoryKb, int submittedElapsedMs) {
+        log.debug("[NoOp] submissionJudged: gameId={}, userId={}, submissionId={}, judgeStatus={}",
+                gameId, userId, submissionId, judgeStatus);
+    }
+
+    @Override
+    public void scoreboardUpdated(UUID gameId, java.util.List<GameEventPublisher.ScoreboardRowData> standings) {
+        log.debug("[NoOp] scoreboardUpdated: gameId={}, players={}", gameId, standings.size());
+    }
 }
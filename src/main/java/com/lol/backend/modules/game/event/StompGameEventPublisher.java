@@ -6,6 +6,8 @@ import com.lol.backend.modules.game.event.dto.GamePickSubmittedEventData;
 import com.lol.backend.modules.game.event.dto.GameItemPurchasedEventData;
 import com.lol.backend.modules.game.event.dto.GameSpellPurchasedEventData;
 import com.lol.backend.modules.game.event.dto.GameFinishedEventData;
+import com.lol.backend.modules.game.event.dto.ScoreboardUpdatedEventData;
+import com.lol.backend.modules.game.event.dto.SubmissionJudgedEventData;
 import com.lol.backend.realtime.dto.EventType;
 import com.lol.backend.realtime.support.EventPublisher;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class StompGameEventPublisher implements GameEventPublisher {
 
     private static final String TOPIC_GAME = "/topic/games/%s";
+    private static final String QUEUE_SUBMISSIONS = "/queue/submissions";
 
     private final EventPublisher eventPublisher;
 
@@ -153,6 +156,37 @@ public class StompGameEventPublisher implements GameEventPublisher {
         log.debug("gameFinished: gameId={}, resultsCount={}", gameId, results.size());
     }
 
+    @Override
+    public void submissionJudged(UUID gameId, UUID userId, UUID submissionId, String judgeStatus,
+                                 int execTimeMs, int memoryKb, int submittedElapsedMs) {
+        var data = new SubmissionJudgedEventData(
+                gameId.toString(),
+                submissionId.toString(),
+                judgeStatus,
+                execTimeMs,
+                memoryKb,
+                submittedElapsedMs
+        );
+        eventPublisher.sendToUser(userId.toString(), QUEUE_SUBMISSIONS, EventType.SUBMISSION_JUDGED, data);
+        log.debug("submissionJudged: gameId={}, userId={}, submissionId={}, judgeStatus={}",
+                gameId, userId, submissionId, judgeStatus);
+    }
+
+    @Override
+    public void scoreboardUpdated(UUID gameId, java.util.List<ScoreboardRowData> standings) {
+        var rows = standings.stream()
+                .map(row -> new ScoreboardUpdatedEventData.ScoreboardRow(
+                        row.userId().toString(),
+                        row.rank(),
+                        row.acCount(),
+                        row.lastSubmitMs()
+                ))
+                .toList();
+        var data = new ScoreboardUpdatedEventData(gameId.toString(), rows);
+        eventPublisher.broadcast(gameTopic(gameId), EventType.SCOREBOARD_UPDATED, data);
+        log.debug("scoreboardUpdated: gameId={}, players={}", gameId, standings.size());
+    }
+
     private String gameTopic(UUID gameId) {
         return String.format(TOPIC_GAME, gameId);
     }
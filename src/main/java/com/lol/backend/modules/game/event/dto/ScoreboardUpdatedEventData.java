@@ -0,0 +1,31 @@
+package com.lol.backend.modules.game.event.dto;
+
+import java.util.List;
+
+/**
+ * SCOREBOARD_UPDATED 이벤트 payload.
+ * Topic: /topic/games/{gameId}
+ *
+ * @param gameId 게임 ID
+ * @param standings 순위 순서의 순위표
+ */
+public record ScoreboardUpdatedEventData(
+        String gameId,
+        List<ScoreboardRow> standings
+) {
+    /**
+     * 순위표 개별 플레이어 데이터.
+     *
+     * @param userId 유저 ID
+     * @param rank 현재 순위 (동점은 같은 순위)
+     * @param acCount AC 수
+     * @param lastSubmitMs 최종 AC 제출 경과 시간(ms), AC가 없으면 null
+     */
+    public record ScoreboardRow(
+            String userId,
+            int rank,
+            int acCount,
+            Integer lastSubmitMs
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.lol.backend.modules.game.event.dto;
+
+/**
+ * SUBMISSION_JUDGED 이벤트 payload.
+ * Destination: /user/queue/submissions (제출자 전용)
+ *
+ * @param gameId 게임 ID
+ * @param submissionId 제출 ID
+ * @param judgeStatus 판정 (AC, WA, TLE, MLE, CE, RE)
+ * @param execTimeMs 실행 시간(ms)
+ * @param memoryKb 메모리 사용량(KB)
+ * @param submittedElapsedMs 게임 시작부터 제출까지 경과 시간(ms)
+ */
+public record SubmissionJudgedEventData(
+        String gameId,
+        String submissionId,
+        String judgeStatus,
+        int execTimeMs,
+        int memoryKb,
+        int submittedElapsedMs
+) {
+}
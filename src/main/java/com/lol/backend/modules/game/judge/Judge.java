@@ -0,0 +1,16 @@
+package com.lol.backend.modules.game.judge;
+
+/**
+ * 채점기 인터페이스.
+ * JudgeDispatcher의 워커 스레드에서 호출되며, 구현체는 자체 시간 제한을 지켜야 한다.
+ * 외부 채점 시스템 연동 시 이 인터페이스의 빈을 등록하면 LocalJudge는 비활성화된다.
+ */
+public interface Judge {
+
+    /**
+     * 제출을 채점한다.
+     * @param request 채점 요청 (소스 포함)
+     * @return 판정 결과 (PENDING/JUDGING 불가)
+     */
+    JudgeVerdict judge(JudgeRequest request);
+}
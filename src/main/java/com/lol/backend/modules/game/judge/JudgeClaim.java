@@ -0,0 +1,18 @@
+package com.lol.backend.modules.game.judge;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 워커의 채점 선점.
+ * 판정 반영/실패 기록은 선점 시각이 DB의 judge_claimed_at과 같을 때만 적용된다.
+ * (releaseStale로 재대기열화된 뒤 다른 워커가 다시 선점했다면 이전 선점은 무효)
+ *
+ * @param submissionId 제출 ID
+ * @param claimedAt    선점 시각 (DB 정밀도에 맞춰 마이크로초 단위로 절삭)
+ */
+public record JudgeClaim(
+        UUID submissionId,
+        Instant claimedAt
+) {
+}
@@ -0,0 +1,188 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.modules.game.config.JudgeProperties;
+import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.event.GameEventPublisher;
+import com.lol.backend.modules.game.service.GameScoreboardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채점 대기열 디스패처.
+ *
+ * 단일 디스패치 스레드가 빈 워커 수만큼만 JudgeQueue에서 선점하고, 고정 크기 워커 풀이 채점한다.
+ * 워커가 모두 바쁘면 선점하지 않으므로 제출은 DB(PENDING)에 남아 다른 인스턴스가 가져갈 수 있다.
+ *
+ * - 제출 커밋 직후(wakeUp)와 poll-interval-ms 주기로 디스패치한다
+ * - 워커가 끝날 때마다 다시 디스패치하여 대기열을 연속으로 비운다
+ * - 판정은 GameEventPublisher.submissionJudged로 제출자에게 push하고, 순위표(GameScoreboardService)에 반영한다
+ */
+@Slf4j
+@Component
+public class JudgeDispatcher implements DisposableBean {
+
+    private final JudgeQueue judgeQueue;
+    private final Judge judge;
+    private final GameEventPublisher gameEventPublisher;
+    private final GameScoreboardService gameScoreboardService;
+    private final int workerCount;
+    private final int batchSize;
+
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService dispatchThread;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+
+    public JudgeDispatcher(JudgeProperties properties, JudgeQueue judgeQueue, Judge judge,
+                           GameEventPublisher gameEventPublisher, GameScoreboardService gameScoreboardService) {
+        this.judgeQueue = judgeQueue;
+        this.judge = judge;
+        this.gameEventPublisher = gameEventPublisher;
+        this.gameScoreboardService = gameScoreboardService;
+        this.workerCount = properties.workers();
+        this.batchSize = properties.batchSize();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "judge-worker-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.dispatchThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "judge-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Judge dispatcher started: workers={}, batchSize={}, judge={}",
+                workerCount, batchSize, judge.getClass().getSimpleName());
+    }
+
+    /**
+     * 디스패치를 예약한다. 이미 예약되어 있으면 합쳐진다.
+     */
+    public void wakeUp() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            try {
+                dispatchThread.execute(this::dispatch);
+            } catch (RuntimeException e) {
+                dispatchScheduled.set(false);
+                log.debug("Judge dispatch not scheduled (shutting down)");
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.judge.poll-interval-ms:500}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 오래된 JUDGING 제출을 재대기열화한다 (워커/인스턴스 중단 복구).
+     * 시도 횟수를 소진한 제출은 재대기열화하지 않고 FAILED로 확정해 push한다.
+     */
+    @Scheduled(fixedDelayString = "${game.judge.claim-timeout-ms:60000}")
+    public void releaseStale() {
+        try {
+            List<Submission> failed = judgeQueue.failExhausted();
+            if (!failed.isEmpty()) {
+                log.warn("Stale judge claims exhausted attempts, marked FAILED: count={}", failed.size());
+                failed.forEach(this::publishQuietly);
+            }
+            int released = judgeQueue.releaseStale();
+            if (released > 0) {
+                log.warn("Stale judge claims released: count={}", released);
+                wakeUp();
+            }
+        } catch (Exception e) {
+            log.error("Failed to release stale judge claims", e);
+        }
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        try {
+            while (true) {
+                int free = workerCount - inFlight.get();
+                if (free <= 0) {
+                    return;
+                }
+                int limit = Math.min(free, batchSize);
+                List<JudgeClaim> claimed = judgeQueue.claim(limit);
+                for (JudgeClaim claim : claimed) {
+                    inFlight.incrementAndGet();
+                    workers.execute(() -> run(claim));
+                }
+                if (claimed.size() < limit) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Judge dispatch failed", e);
+        }
+    }
+
+    private void run(JudgeClaim claim) {
+        UUID submissionId = claim.submissionId();
+        try {
+            judgeQueue.loadRequest(claim).ifPresent(request -> {
+                JudgeVerdict verdict = judge.judge(request);
+                judgeQueue.complete(claim, verdict).ifPresent(this::publish);
+                log.debug("Submission judged: submissionId={}, status={}", submissionId, verdict.status());
+            });
+        } catch (Exception e) {
+            log.error("Judge failed: submissionId={}", submissionId, e);
+            try {
+                judgeQueue.fail(claim).ifPresent(this::publish);
+            } catch (Exception failError) {
+                log.error("Failed to record judge failure: submissionId={}", submissionId, failError);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+            wakeUp();
+        }
+    }
+
+    private void publishQuietly(Submission submission) {
+        try {
+            publish(submission);
+        } catch (Exception e) {
+            log.error("Failed to publish judge verdict: submissionId={}", submission.getId(), e);
+        }
+    }
+
+    private void publish(Submission submission) {
+        gameScoreboardService.onJudged(submission);
+        gameEventPublisher.submissionJudged(
+                submission.getGameId(),
+                submission.getUserId(),
+                submission.getId(),
+                submission.getJudgeStatus().name(),
+                submission.getExecTimeMs(),
+                submission.getMemoryKb(),
+                submission.getSubmittedElapsedMs()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        dispatchThread.shutdownNow();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,207 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.config.JudgeProperties;
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.repo.SubmissionRepository;
+import com.lol.backend.modules.game.service.SubmissionSourceService;
+import com.lol.backend.modules.user.repo.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * submission 테이블 기반 영속 채점 대기열.
+ * - 제출은 PENDING으로 저장된다 (GameService.submitCode)
+ * - 워커는 SKIP LOCKED로 선점하여 JUDGING으로 표시한다
+ * - 판정 반영 시 최종 상태로 바뀌며, 중단된 JUDGING은 claimTimeout 이후 PENDING으로 되돌아간다
+ *   (시도 횟수를 소진한 제출은 FAILED로 확정)
+ * - 판정 반영/실패 기록은 행을 잠그고 선점 시각(JudgeClaim)이 일치할 때만 적용한다.
+ *   느린 워커의 선점이 재대기열화된 뒤 늦게 끝나도 판정이 두 번 반영되지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JudgeQueue {
+
+    private static final List<JudgeStatus> UNJUDGED = List.of(JudgeStatus.PENDING, JudgeStatus.JUDGING);
+
+    private final SubmissionRepository submissionRepository;
+    private final UserRepository userRepository;
+    private final SubmissionSourceService submissionSourceService;
+    private final JudgeProperties properties;
+
+    /**
+     * 새 제출이 미판정 제출 상한을 넘지 않는지 검사한다.
+     * 요청 빈도 제한이 아니라 동시 미판정 수(사용자별/전체) 상한이며, 판정이 끝나면 다시 제출할 수 있다.
+     *
+     * 사용자별 상한은 제출 트랜잭션 안에서 사용자 행을 잠근 뒤 세므로,
+     * 같은 사용자의 동시 제출은 앞선 제출이 커밋(또는 롤백)될 때까지 기다렸다가 그 결과를 포함해 센다.
+     * 전체 대기열 상한은 back-pressure 용도라 잠그지 않으며 동시 제출 수만큼 넘을 수 있다.
+     * @param userId 제출자 ID
+     * @throws BusinessException RATE_LIMITED
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkPendingCap(UUID userId) {
+        userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다"));
+        if (submissionRepository.countByUserIdAndJudgeStatusIn(userId, UNJUDGED) >= properties.maxPendingPerUser()) {
+            throw new BusinessException(ErrorCode.RATE_LIMITED, "채점 대기 중인 제출이 있습니다");
+        }
+        if (submissionRepository.countByJudgeStatusIn(UNJUDGED) >= properties.maxQueueDepth()) {
+            log.warn("Judge queue full: maxQueueDepth={}", properties.maxQueueDepth());
+            throw new BusinessException(ErrorCode.RATE_LIMITED, "채점 대기열이 가득 찼습니다");
+        }
+    }
+
+    /**
+     * PENDING 제출을 최대 limit건 선점한다.
+     * @return 선점 목록 (제출 순)
+     */
+    @Transactional
+    public List<JudgeClaim> claim(int limit) {
+        List<UUID> ids = submissionRepository.lockPendingIds(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // TIMESTAMPTZ 정밀도(마이크로초)로 맞춰야 판정 반영 시 DB 값과 비교할 수 있다
+        Instant claimedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        submissionRepository.markJudging(ids, JudgeStatus.JUDGING, claimedAt);
+        return ids.stream()
+                .map(id -> new JudgeClaim(id, claimedAt))
+                .toList();
+    }
+
+    /**
+     * 채점 요청을 구성한다 (소스 본문 복원 포함).
+     * @return 채점 요청 (선점이 풀렸거나 이미 판정된 제출이면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<JudgeRequest> loadRequest(JudgeClaim claim) {
+        return submissionRepository.findById(claim.submissionId())
+                .filter(submission -> isClaimedBy(submission, claim))
+                .map(submission -> new JudgeRequest(
+                        submission.getId(),
+                        submission.getGameId(),
+                        submission.getUserId(),
+                        submission.getLanguage(),
+                        submissionSourceService.load(submission.getSourceHash())
+                                .orElseThrow(() -> new IllegalStateException(
+                                        "Submission source missing: hash=" + submission.getSourceHash()))
+                ));
+    }
+
+    /**
+     * 판정을 반영한다.
+     * @return 반영된 제출 (선점을 잃었으면 empty)
+     */
+    @Transactional
+    public Optional<Submission> complete(JudgeClaim claim, JudgeVerdict verdict) {
+        Optional<Submission> submissionOpt = lockClaimed(claim);
+        submissionOpt.ifPresent(submission -> submission.applyVerdict(
+                verdict.status(),
+                verdict.execTimeMs(),
+                verdict.memoryKb(),
+                verdict.judgeDetailJson(),
+                verdict.scoreValue()
+        ));
+        return submissionOpt;
+    }
+
+    /**
+     * 채점 실패를 기록한다. 시도 횟수가 남아 있으면 재대기열화하고, 소진했으면 FAILED로 확정한다.
+     * @return FAILED로 확정된 제출 (재대기열화했거나 선점을 잃었으면 empty)
+     */
+    @Transactional
+    public Optional<Submission> fail(JudgeClaim claim) {
+        Submission submission = lockClaimed(claim).orElse(null);
+        if (submission == null) {
+            return Optional.empty();
+        }
+        if (submission.getJudgeAttempts() < properties.maxAttempts()) {
+            submission.requeue();
+            return Optional.empty();
+        }
+        JudgeVerdict verdict = JudgeVerdict.judgeFailed();
+        submission.applyVerdict(verdict.status(), verdict.execTimeMs(), verdict.memoryKb(),
+                verdict.judgeDetailJson(), verdict.scoreValue());
+        return Optional.of(submission);
+    }
+
+    /**
+     * 제출 행을 잠그고, 아직 이 선점 상태(JUDGING + 같은 선점 시각)일 때만 반환한다.
+     */
+    private Optional<Submission> lockClaimed(JudgeClaim claim) {
+        Optional<Submission> submissionOpt = submissionRepository.findByIdForUpdate(claim.submissionId())
+                .filter(submission -> isClaimedBy(submission, claim));
+        if (submissionOpt.isEmpty()) {
+            log.info("Judge claim lost, verdict discarded: submissionId={}, claimedAt={}",
+                    claim.submissionId(), claim.claimedAt());
+        }
+        return submissionOpt;
+    }
+
+    private static boolean isClaimedBy(Submission submission, JudgeClaim claim) {
+        return submission.getJudgeStatus() == JudgeStatus.JUDGING
+                && claim.claimedAt().equals(submission.getJudgeClaimedAt());
+    }
+
+    /**
+     * 게임 정산을 미뤄야 하는지 판단한다.
+     * PLAY 마감 전에 접수된 제출이 아직 PENDING/JUDGING이면 settleTimeout까지 판정을 기다린다.
+     * @param gameId   게임 ID
+     * @param deadline PLAY stage 마감 시각
+     * @param now      현재 시각
+     * @return 미판정 제출이 남아 있고 대기 시간이 남았으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean awaitingJudgement(UUID gameId, Instant deadline, Instant now) {
+        if (!submissionRepository.existsByGameIdAndJudgeStatusIn(gameId, UNJUDGED)) {
+            return false;
+        }
+        if (now.isBefore(deadline.plusMillis(properties.settleTimeoutMs()))) {
+            return true;
+        }
+        log.warn("Settling game with unjudged submissions: gameId={}, settleTimeoutMs={}",
+                gameId, properties.settleTimeoutMs());
+        return false;
+    }
+
+    /**
+     * claimTimeout을 넘긴 JUDGING 제출 중 시도 횟수가 남은 제출을 PENDING으로 되돌린다.
+     * @return 되돌린 건수
+     */
+    @Transactional
+    public int releaseStale() {
+        Instant cutoff = Instant.now().minusMillis(properties.claimTimeoutMs());
+        return submissionRepository.releaseStale(JudgeStatus.PENDING, JudgeStatus.JUDGING, cutoff,
+                properties.maxAttempts());
+    }
+
+    /**
+     * claimTimeout을 넘긴 JUDGING 제출 중 시도 횟수를 소진한 제출을 FAILED로 확정한다.
+     * @return FAILED로 확정된 제출 (판정 push 대상)
+     */
+    @Transactional
+    public List<Submission> failExhausted() {
+        Instant cutoff = Instant.now().minusMillis(properties.claimTimeoutMs());
+        List<Submission> exhausted = submissionRepository.findStaleExhaustedForUpdate(
+                JudgeStatus.JUDGING, cutoff, properties.maxAttempts());
+        JudgeVerdict verdict = JudgeVerdict.judgeFailed();
+        for (Submission submission : exhausted) {
+            submission.applyVerdict(verdict.status(), verdict.execTimeMs(), verdict.memoryKb(),
+                    verdict.judgeDetailJson(), verdict.scoreValue());
+        }
+        return exhausted;
+    }
+}
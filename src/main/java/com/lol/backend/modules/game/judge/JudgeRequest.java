@@ -0,0 +1,23 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.modules.user.entity.Language;
+
+import java.util.UUID;
+
+/**
+ * 채점 요청.
+ *
+ * @param submissionId 제출 ID
+ * @param gameId       게임 ID
+ * @param userId       제출자 ID
+ * @param language     언어
+ * @param sourceCode   소스 본문
+ */
+public record JudgeRequest(
+        UUID submissionId,
+        UUID gameId,
+        UUID userId,
+        Language language,
+        String sourceCode
+) {
+}
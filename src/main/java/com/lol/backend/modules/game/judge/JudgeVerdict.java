@@ -0,0 +1,33 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.modules.game.entity.JudgeStatus;
+
+/**
+ * 채점 판정 결과.
+ *
+ * @param status          판정 (AC, WA, TLE, MLE, CE, RE, FAILED)
+ * @param execTimeMs      실행 시간(ms)
+ * @param memoryKb        메모리 사용량(KB)
+ * @param judgeDetailJson 상세 정보 (JSON, null 가능)
+ * @param scoreValue      점수 (null 가능)
+ */
+public record JudgeVerdict(
+        JudgeStatus status,
+        int execTimeMs,
+        int memoryKb,
+        String judgeDetailJson,
+        Integer scoreValue
+) {
+    public JudgeVerdict {
+        if (status == null || !status.isFinal()) {
+            throw new IllegalArgumentException("final judge status required: " + status);
+        }
+    }
+
+    /**
+     * 채점기 오류/선점 만료로 재시도를 모두 소진한 경우의 판정.
+     */
+    public static JudgeVerdict judgeFailed() {
+        return new JudgeVerdict(JudgeStatus.FAILED, 0, 0, "{\"error\":\"JUDGE_FAILED\"}", null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 임시 채점기.
+ * 외부 채점 시스템 연동 전까지 기존 동작(모든 제출 AC)을 유지한다.
+ * 다른 Judge 빈이 없을 때만 JudgeConfig에서 등록된다.
+ */
+@Slf4j
+public class LocalJudge implements Judge {
+
+    @Override
+    public JudgeVerdict judge(JudgeRequest request) {
+        log.debug("[Local] judge: submissionId={}, language={}", request.submissionId(), request.language());
+        return new JudgeVerdict(JudgeStatus.AC, 0, 0, null, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.lol.backend.modules.game.repo;
 
 import com.lol.backend.modules.game.entity.GamePlayer;
+import com.lol.backend.modules.user.dto.MatchHistoryRow;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -27,9 +28,40 @@ public interface GamePlayerRepository extends JpaRepository<GamePlayer, UUID> {
 
     boolean existsByGameIdAndUserId(UUID gameId, UUID userId);
 
-    List<GamePlayer> findByUserIdAndResultIsNotNull(UUID userId);
+    /**
+     * 전적 목록 첫 페이지 (단일 프로젝션 쿼리).
+     * finalPlayers는 게임별 결과 보유 플레이어 수를 상관 서브쿼리(lateral count)로 함께 계산한다.
+     * 정렬 키 (joinedAt, gameId)는 idx_game_player_user_history 인덱스 순서와 일치한다.
+     */
+    @Query("""
+            SELECT new com.lol.backend.modules.user.dto.MatchHistoryRow(
+                gp.gameId, r.roomName, g.gameType, gp.result, gp.joinedAt,
+                (SELECT COUNT(fp) FROM GamePlayer fp WHERE fp.gameId = gp.gameId AND fp.result IS NOT NULL))
+            FROM GamePlayer gp
+            JOIN Game g ON g.id = gp.gameId
+            JOIN Room r ON r.id = g.roomId
+            WHERE gp.userId = :userId AND gp.result IS NOT NULL
+            ORDER BY gp.joinedAt DESC, gp.gameId DESC
+            """)
+    List<MatchHistoryRow> findMatchHistory(@Param("userId") UUID userId, Pageable pageable);
 
-    List<GamePlayer> findByUserIdAndResultIsNotNullOrderByJoinedAtDesc(UUID userId, Pageable pageable);
-
-    List<GamePlayer> findByUserIdAndResultIsNotNullAndJoinedAtBeforeOrderByJoinedAtDesc(UUID userId, Instant before, Pageable pageable);
+    /**
+     * 전적 목록 다음 페이지 (복합 keyset 커서).
+     * joinedAt이 같은 행이 페이지 경계에 걸려도 gameId로 순서를 이어가므로 누락/중복이 없다.
+     */
+    @Query("""
+            SELECT new com.lol.backend.modules.user.dto.MatchHistoryRow(
+                gp.gameId, r.roomName, g.gameType, gp.result, gp.joinedAt,
+                (SELECT COUNT(fp) FROM GamePlayer fp WHERE fp.gameId = gp.gameId AND fp.result IS NOT NULL))
+            FROM GamePlayer gp
+            JOIN Game g ON g.id = gp.gameId
+            JOIN Room r ON r.id = g.roomId
+            WHERE gp.userId = :userId AND gp.result IS NOT NULL
+              AND (gp.joinedAt < :joinedAt OR (gp.joinedAt = :joinedAt AND gp.gameId < :gameId))
+            ORDER BY gp.joinedAt DESC, gp.gameId DESC
+            """)
+    List<MatchHistoryRow> findMatchHistoryAfter(@Param("userId") UUID userId,
+                                                @Param("joinedAt") Instant joinedAt,
+                                                @Param("gameId") UUID gameId,
+                                                Pageable pageable);
 }
@@ -1,18 +1,104 @@
 package com.lol.backend.modules.game.repo;
 
+import com.lol.backend.modules.game.dto.SubmissionStatRow;
 import com.lol.backend.modules.game.entity.JudgeStatus;
 import com.lol.backend.modules.game.entity.Submission;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
     /**
-     * 특정 게임의 AC(정답) 제출만 조회한다.
+     * 특정 게임의 채점 상태별 제출을 사용자 단위로 집계한다.
+     * (game_id, judge_status) 인덱스를 사용하며 엔티티(source_code 포함)를 로딩하지 않는다.
      * @param gameId 게임 ID
      * @param judgeStatus 채점 상태
-     * @return AC 제출 목록
+     * @return 사용자별 (제출 수, 최종 제출 경과 시간)
      */
-    List<Submission> findByGameIdAndJudgeStatus(UUID gameId, JudgeStatus judgeStatus);
+    @Query("""
+            SELECT new com.lol.backend.modules.game.dto.SubmissionStatRow(
+                s.userId, COUNT(s), MAX(s.submittedElapsedMs))
+            FROM Submission s
+            WHERE s.gameId = :gameId AND s.judgeStatus = :judgeStatus
+            GROUP BY s.userId
+            """)
+    List<SubmissionStatRow> aggregateByUser(@Param("gameId") UUID gameId,
+                                            @Param("judgeStatus") JudgeStatus judgeStatus);
+
+    /**
+     * 채점 대기(PENDING) 제출을 제출 순으로 잠근다.
+     * SKIP LOCKED로 다른 워커/인스턴스가 잠근 행은 건너뛴다. 호출 트랜잭션 안에서만 유효하다.
+     * @param limit 최대 선점 수
+     * @return 잠근 제출 ID 목록
+     */
+    @Query(value = """
+            SELECT id FROM submission
+            WHERE judge_status = 'PENDING'
+            ORDER BY submitted_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockPendingIds(@Param("limit") int limit);
+
+    /**
+     * 판정 반영 전에 제출 행을 잠근다 (같은 제출에 대한 판정 반영/실패 기록/재대기열화 직렬화).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Submission s WHERE s.id = :id")
+    Optional<Submission> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * 잠근 제출을 JUDGING으로 표시하고 시도 횟수를 올린다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Submission s
+            SET s.judgeStatus = :judging, s.judgeClaimedAt = :claimedAt, s.judgeAttempts = s.judgeAttempts + 1
+            WHERE s.id IN :ids
+            """)
+    int markJudging(@Param("ids") Collection<UUID> ids,
+                    @Param("judging") JudgeStatus judging,
+                    @Param("claimedAt") Instant claimedAt);
+
+    /**
+     * cutoff 이전에 선점된 채 끝나지 않은 JUDGING 제출 중 시도 횟수가 남은 제출을 PENDING으로 되돌린다
+     * (워커/인스턴스 중단 복구).
+     */
+    @Modifying
+    @Query("""
+            UPDATE Submission s
+            SET s.judgeStatus = :pending, s.judgeClaimedAt = null
+            WHERE s.judgeStatus = :judging AND s.judgeClaimedAt < :cutoff AND s.judgeAttempts < :maxAttempts
+            """)
+    int releaseStale(@Param("pending") JudgeStatus pending,
+                     @Param("judging") JudgeStatus judging,
+                     @Param("cutoff") Instant cutoff,
+                     @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * cutoff 이전에 선점된 채 끝나지 않았고 시도 횟수를 소진한 JUDGING 제출을 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s FROM Submission s
+            WHERE s.judgeStatus = :judging AND s.judgeClaimedAt < :cutoff AND s.judgeAttempts >= :maxAttempts
+            """)
+    List<Submission> findStaleExhaustedForUpdate(@Param("judging") JudgeStatus judging,
+                                                 @Param("cutoff") Instant cutoff,
+                                                 @Param("maxAttempts") int maxAttempts);
+
+    long countByJudgeStatusIn(Collection<JudgeStatus> judgeStatuses);
+
+    boolean existsByGameIdAndJudgeStatusIn(UUID gameId, Collection<JudgeStatus> judgeStatuses);
+
+    long countByUserIdAndJudgeStatusIn(UUID userId, Collection<JudgeStatus> judgeStatuses);
 }
@@ -0,0 +1,25 @@
+package com.lol.backend.modules.game.repo;
+
+import com.lol.backend.modules.game.entity.SubmissionSource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SubmissionSourceRepository extends JpaRepository<SubmissionSource, String> {
+    /**
+     * 해시가 없을 때만 소스 본문을 저장한다.
+     * 동일 본문의 동시 제출도 PK 충돌 없이 한 행으로 수렴한다.
+     * @return 새로 저장된 행 수 (이미 존재하면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO submission_source (hash, encoding, original_length, content, created_at)
+            VALUES (:hash, :encoding, :originalLength, :content, CURRENT_TIMESTAMP)
+            ON CONFLICT (hash) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("encoding") String encoding,
+                       @Param("originalLength") int originalLength,
+                       @Param("content") byte[] content);
+}
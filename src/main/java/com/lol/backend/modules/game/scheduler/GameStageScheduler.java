@@ -1,5 +1,7 @@
 package com.lol.backend.modules.game.scheduler;
 
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.modules.game.command.GameCommandExecutor;
 import com.lol.backend.modules.game.entity.Game;
 import com.lol.backend.modules.game.entity.GamePlayer;
 import com.lol.backend.modules.game.entity.GameStage;
@@ -12,24 +14,36 @@ import com.lol.backend.modules.user.entity.User;
 import com.lol.backend.modules.user.repo.UserRepository;
 import com.lol.backend.state.store.GameStateStore;
 import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.dto.GameStateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 게임 Stage 전이 스케줄러.
  * - 1초마다 활성 게임의 stage deadline을 체크
  * - LOBBY 상태 게임을 첫 stage(BAN/PLAY)로 자동 전이
  * - deadline 도달 시 다음 stage로 자동 전이
- * - PLAY stage deadline 도달 시 게임 종료 (FINISHED)
+ * - PLAY stage deadline 도달 시 게임 종료 (FINISHED), 미판정 제출이 있으면 판정 완료(또는 settleTimeout)까지 대기
  * - Redis write-back 정책에서 DB는 게임 종료 시점의 최종 스냅샷만 반영
+ * - 게임별 처리는 게임 커맨드 stripe에 모두 넣은 뒤 tick 전체를 한 번만(상한 있게) 기다린다
  */
 @Slf4j
 @Component
@@ -42,6 +56,11 @@ public class GameStageScheduler {
     private final UserRepository userRepository;
     private final GameRepository gameRepository;
     private final GamePlayerRepository gamePlayerRepository;
+    private final GameCommandExecutor gameCommandExecutor;
+    private final ServerMetrics serverMetrics;
+
+    // 아직 끝나지 않은 게임별 처리 (다음 tick이 같은 게임을 중복으로 넣지 않도록)
+    private final Map<UUID, CompletableFuture<Boolean>> pendingSteps = new ConcurrentHashMap<>();
 
     /**
      * 1초마다 활성 게임의 stage를 체크하고 자동 전이.
@@ -51,83 +70,141 @@ public class GameStageScheduler {
      */
     @Scheduled(fixedRate = 1000)
     public void checkStageTransitions() {
+        long tickStart = System.nanoTime();
+
         // 1. Redis에서 활성 게임 ID 조회
         List<UUID> activeGameIds = gameStateStore.getAllActiveGameIds();
         if (activeGameIds.isEmpty()) {
+            serverMetrics.recordSchedulerTick(System.nanoTime() - tickStart, 0);
             return;
         }
 
         Instant now = Instant.now();
-        int transitionCount = 0;
+        AtomicInteger transitionCount = new AtomicInteger();
+        List<CompletableFuture<?>> steps = new ArrayList<>(activeGameIds.size());
 
         for (UUID gameId : activeGameIds) {
-            try {
-                // 2. 게임 상태 조회
-                GameStateDto game = gameStateStore.getGame(gameId).orElse(null);
-                if (game == null) {
-                    continue;
+            if (pendingSteps.containsKey(gameId)) {
+                // 이전 tick의 처리가 아직 stripe 대기열에 있다
+                continue;
+            }
+            // 같은 게임의 인게임 커맨드(밴/픽/구매 등)와 직렬로 실행. 결과는 stripe 스레드가 기록한다
+            CompletableFuture<Boolean> step = gameCommandExecutor.submit(gameId, () -> processStage(gameId, now));
+            pendingSteps.put(gameId, step);
+            steps.add(step.whenComplete((transitioned, error) -> {
+                pendingSteps.remove(gameId, step);
+                if (error != null) {
+                    Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                            ? error.getCause() : error;
+                    log.error("Failed to process stage transition for gameId={}", gameId, cause);
+                } else if (Boolean.TRUE.equals(transitioned)) {
+                    transitionCount.incrementAndGet();
                 }
+            }));
+        }
+
+        awaitSteps(steps);
+
+        if (transitionCount.get() > 0) {
+            log.info("Completed {} stage transitions across {} active games",
+                    transitionCount.get(), activeGameIds.size());
+        }
+        serverMetrics.recordSchedulerTick(System.nanoTime() - tickStart, activeGameIds.size());
+    }
+
+    /**
+     * 이번 tick에 넣은 게임별 처리를 한 번에 기다린다.
+     * 시간 안에 끝나지 않은 처리는 stripe에서 계속 실행되고, 끝날 때까지 다음 tick은 그 게임을 건너뛴다.
+     */
+    private void awaitSteps(List<CompletableFuture<?>> steps) {
+        if (steps.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(steps.toArray(CompletableFuture[]::new))
+                    .get(gameCommandExecutor.timeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Stage transitions still running after {}ms: pending={}",
+                    gameCommandExecutor.timeoutMs(), pendingSteps.size());
+        } catch (ExecutionException e) {
+            // 게임별 실패는 각 처리의 완료 콜백에서 기록했다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 단일 게임의 stage 전이를 처리한다.
+     *
+     * @return 전이(또는 종료)가 일어났으면 true
+     */
+    private boolean processStage(UUID gameId, Instant now) {
+        // 2. 게임 stage 조회 (전이 판단에 필요한 필드만 HMGET)
+        GameStageStateDto game = gameStateStore.getGameStage(gameId).orElse(null);
+        if (game == null) {
+            return false;
+        }
+
+        GameStage currentStage = GameStage.valueOf(game.stage());
+        GameType gameType = GameType.valueOf(game.gameType());
+
+        // 3. FINISHED 게임은 스킵
+        if (currentStage == GameStage.FINISHED) {
+            return false;
+        }
+
+        // 4. LOBBY 상태: 즉시 첫 stage로 전이
+        if (currentStage == GameStage.LOBBY) {
+            GameStage firstStage = (gameType == GameType.RANKED) ? GameStage.BAN : GameStage.PLAY;
+            log.info("Transitioning from LOBBY to {}: gameId={}, gameType={}", firstStage, gameId, gameType);
+            gameService.transitionStage(gameId, firstStage);
+
+            // GAME_STAGE_CHANGED 이벤트 발행
+            publishGameStageChangedEvent(gameId);
+            return true;
+        }
 
-                GameStage currentStage = GameStage.valueOf(game.stage());
-                GameType gameType = GameType.valueOf(game.gameType());
+        // 5. deadline 체크 (LOBBY와 FINISHED는 deadline이 없음)
+        if (game.stageDeadlineAt() != null) {
+            boolean deadlineReached = game.stageDeadlineAt().isBefore(now) || game.stageDeadlineAt().equals(now);
 
-                // 3. FINISHED 게임은 스킵
-                if (currentStage == GameStage.FINISHED) {
-                    continue;
+            if (deadlineReached) {
+                serverMetrics.recordStageTransitionLag(currentStage.name(),
+                        Duration.between(game.stageDeadlineAt(), Instant.now()));
+
+                // 6. PLAY stage deadline: 게임 종료
+                if (currentStage == GameStage.PLAY) {
+                    // 마감 전에 접수된 제출의 판정이 끝날 때까지 정산을 미룬다 (다음 tick에 재확인)
+                    if (gameService.isAwaitingJudgement(gameId, game.stageDeadlineAt(), now)) {
+                        log.debug("Waiting for pending judgements before finishing: gameId={}", gameId);
+                        return false;
+                    }
+                    log.info("PLAY stage deadline reached, finishing game: gameId={}", gameId);
+
+                    // 이벤트 발행 (flushGame() 전에 발행해야 Redis 데이터 접근 가능)
+                    // SSOT 계약: FINISHED로의 전이도 GAME_STAGE_CHANGED 이벤트 발행 필요
+                    publishGameStageChangedEventForFinished(gameId);
+                    publishGameFinishedEvent(gameId);
+
+                    // 게임 종료 처리 (결과 계산 + DB 반영 + Redis 삭제)
+                    gameService.finishGame(gameId);
+                    return true;
                 }
 
-                // 4. LOBBY 상태: 즉시 첫 stage로 전이
-                if (currentStage == GameStage.LOBBY) {
-                    GameStage firstStage = (gameType == GameType.RANKED) ? GameStage.BAN : GameStage.PLAY;
-                    log.info("Transitioning from LOBBY to {}: gameId={}, gameType={}", firstStage, gameId, gameType);
-                    gameService.transitionStage(gameId, firstStage);
-                    transitionCount++;
+                // 7. 기타 stage: 다음 stage로 전이
+                GameStage nextStage = getNextStage(currentStage, gameType);
+                if (nextStage != null) {
+                    log.info("Stage deadline reached, transitioning to {}: gameId={}, currentStage={}",
+                            nextStage, gameId, currentStage);
+                    gameService.transitionStage(gameId, nextStage);
 
                     // GAME_STAGE_CHANGED 이벤트 발행
                     publishGameStageChangedEvent(gameId);
-                    continue;
+                    return true;
                 }
-
-                // 5. deadline 체크 (LOBBY와 FINISHED는 deadline이 없음)
-                if (game.stageDeadlineAt() != null) {
-                    boolean deadlineReached = game.stageDeadlineAt().isBefore(now) || game.stageDeadlineAt().equals(now);
-
-                    if (deadlineReached) {
-                        // 6. PLAY stage deadline: 게임 종료
-                        if (currentStage == GameStage.PLAY) {
-                            log.info("PLAY stage deadline reached, finishing game: gameId={}", gameId);
-
-                            // 이벤트 발행 (flushGame() 전에 발행해야 Redis 데이터 접근 가능)
-                            // SSOT 계약: FINISHED로의 전이도 GAME_STAGE_CHANGED 이벤트 발행 필요
-                            publishGameStageChangedEventForFinished(gameId);
-                            publishGameFinishedEvent(gameId);
-
-                            // 게임 종료 처리 (결과 계산 + DB 반영 + Redis 삭제)
-                            gameService.finishGame(gameId);
-                            transitionCount++;
-                        } else {
-                            // 7. 기타 stage: 다음 stage로 전이
-                            GameStage nextStage = getNextStage(currentStage, gameType);
-                            if (nextStage != null) {
-                                log.info("Stage deadline reached, transitioning to {}: gameId={}, currentStage={}",
-                                        nextStage, gameId, currentStage);
-                                gameService.transitionStage(gameId, nextStage);
-                                transitionCount++;
-
-                                // GAME_STAGE_CHANGED 이벤트 발행
-                                publishGameStageChangedEvent(gameId);
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Failed to process stage transition for gameId={}", gameId, e);
             }
         }
-
-        if (transitionCount > 0) {
-            log.info("Completed {} stage transitions across {} active games", transitionCount, activeGameIds.size());
-        }
+        return false;
     }
 
     /**
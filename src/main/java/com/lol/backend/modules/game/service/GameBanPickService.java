@@ -8,7 +8,7 @@ import com.lol.backend.modules.game.dto.GamePlayerResponse;
 import com.lol.backend.modules.game.dto.GameStateResponse;
 import com.lol.backend.modules.game.dto.InventoryResponse;
 import com.lol.backend.modules.game.dto.BanPickRequest;
-import com.lol.backend.modules.catalog.repo.AlgorithmRepository;
+import com.lol.backend.modules.catalog.service.CatalogSnapshotHolder;
 import com.lol.backend.modules.game.event.GameEventPublisher;
 import com.lol.backend.realtime.support.UserInfoProvider;
 import com.lol.backend.state.store.BanPickStateStore;
@@ -32,7 +32,7 @@ public class GameBanPickService {
 
     private final GameStateStore gameStateStore;
     private final UserInfoProvider userInfoProvider;
-    private final AlgorithmRepository algorithmRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
     private final BanPickStateStore banPickStateStore;
     private final GameInventoryService gameInventoryService;
     private final GameEventPublisher gameEventPublisher;
@@ -97,7 +97,7 @@ public class GameBanPickService {
         }
 
         UUID algorithmId = UUID.fromString(request.algorithmId());
-        var algorithm = algorithmRepository.findById(algorithmId)
+        var algorithm = catalogSnapshotHolder.current().findAlgorithm(algorithmId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED));
 
         if (!algorithm.isActive()) {
@@ -131,7 +131,7 @@ public class GameBanPickService {
         }
 
         UUID algorithmId = UUID.fromString(request.algorithmId());
-        var algorithm = algorithmRepository.findById(algorithmId)
+        var algorithm = catalogSnapshotHolder.current().findAlgorithm(algorithmId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED));
 
         if (!algorithm.isActive()) {
@@ -0,0 +1,174 @@
+package com.lol.backend.modules.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.common.util.SecurityUtil;
+import com.lol.backend.config.GameProperties;
+import com.lol.backend.modules.catalog.service.CatalogSnapshot;
+import com.lol.backend.modules.catalog.service.CatalogSnapshotHolder;
+import com.lol.backend.modules.game.dto.ActiveGameResponse;
+import com.lol.backend.modules.game.dto.GameBootstrapResponse;
+import com.lol.backend.modules.game.dto.GameBootstrapResponse.ActiveEffect;
+import com.lol.backend.modules.game.dto.GameBootstrapResponse.BanPick;
+import com.lol.backend.modules.game.dto.GameBootstrapResponse.CatalogVersions;
+import com.lol.backend.modules.game.dto.GamePlayerResponse;
+import com.lol.backend.modules.game.dto.InventoryResponse;
+import com.lol.backend.modules.game.entity.GameStage;
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.state.dto.GameBootstrapStateDto;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.store.GameBootstrapStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재접속 부트스트랩 서비스.
+ *
+ * 조회 비용:
+ * - DB: 사용자 activeGameId 1회 + 참가자 닉네임 bulk 1회
+ * - Redis: 게임/플레이어/밴/픽/활성 효과/이벤트 시퀀스를 파이프라인 1회
+ * - 카탈로그: 메모리 스냅샷의 ETag만 포함 (본문은 클라이언트 캐시 사용)
+ * - 코인/인벤토리: 구매가 가능한 SHOP 이후 stage에서만 SQL로 계산
+ *
+ * ETag는 응답 본문 기준으로 계산하며, 목록은 정렬해 Hash 순서와 무관하게 고정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameBootstrapService {
+
+    private final UserRepository userRepository;
+    private final GameBootstrapStore gameBootstrapStore;
+    private final GameInventoryService gameInventoryService;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final GameProperties gameProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ETag가 부여된 부트스트랩 응답.
+     */
+    public record Bootstrap(GameBootstrapResponse body, String etag) {
+    }
+
+    /**
+     * 현재 사용자의 진행 중인 게임 부트스트랩을 조회한다.
+     * @return 부트스트랩 (진행 중인 게임이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Bootstrap> bootstrap() {
+        UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INTERNAL_ERROR, "사용자 정보를 찾을 수 없습니다"));
+        if (user.getActiveGameId() == null) {
+            return Optional.empty();
+        }
+
+        UUID gameId = user.getActiveGameId();
+        GameBootstrapStateDto state = gameBootstrapStore.read(gameId).orElse(null);
+        if (state == null) {
+            // Redis에 게임이 없으면 active game이 없는 것으로 처리 (getMyActiveGame과 동일)
+            return Optional.empty();
+        }
+        if (state.players().stream().noneMatch(p -> p.userId().equals(userId))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        GameBootstrapResponse body = toResponse(userId, state);
+        return Optional.of(new Bootstrap(body, etag(body)));
+    }
+
+    private GameBootstrapResponse toResponse(UUID userId, GameBootstrapStateDto state) {
+        GameStateDto game = state.game();
+        GameStage stage = GameStage.valueOf(game.stage());
+
+        boolean shopOpened = stage == GameStage.SHOP || stage == GameStage.PLAY || stage == GameStage.FINISHED;
+        int coin = shopOpened
+                ? gameInventoryService.calculateCoin(game.id(), userId)
+                : gameProperties.getShop().getInitialCoin();
+        InventoryResponse inventory = shopOpened
+                ? gameInventoryService.calculateInventory(game.id(), userId)
+                : InventoryResponse.empty();
+
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+
+        return new GameBootstrapResponse(
+                game.id().toString(),
+                game.roomId().toString(),
+                GameType.valueOf(game.gameType()),
+                stage,
+                ActiveGameResponse.resolvePageRoute(stage),
+                game.stageDeadlineAt() != null ? game.stageDeadlineAt().toString() : null,
+                state.eventSeq(),
+                toPlayers(state.players()),
+                coin,
+                inventory,
+                state.bans().stream()
+                        .map(b -> new BanPick(b.userId().toString(), b.algorithmId().toString()))
+                        .sorted(Comparator.comparing(BanPick::userId))
+                        .toList(),
+                state.picks().stream()
+                        .map(p -> new BanPick(p.userId().toString(), p.algorithmId().toString()))
+                        .sorted(Comparator.comparing(BanPick::userId))
+                        .toList(),
+                state.effects().stream()
+                        .map(e -> new ActiveEffect(
+                                e.uniqueId(),
+                                e.effectType(),
+                                e.userId().toString(),
+                                e.itemId().toString(),
+                                e.startedAt().toString(),
+                                e.expiresAt().toString()))
+                        .sorted(Comparator.comparing(ActiveEffect::startedAt).thenComparing(ActiveEffect::effectId))
+                        .toList(),
+                new CatalogVersions(
+                        catalog.algorithms().etag(),
+                        catalog.items().etag(),
+                        catalog.spells().etag())
+        );
+    }
+
+    private List<GamePlayerResponse> toPlayers(List<GamePlayerStateDto> players) {
+        List<UUID> userIds = players.stream().map(GamePlayerStateDto::userId).toList();
+        Map<UUID, User> userMap = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return players.stream()
+                .map(gp -> {
+                    User user = userMap.get(gp.userId());
+                    if (user == null) {
+                        throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+                    }
+                    return new GamePlayerResponse(user.getId().toString(), user.getNickname(), gp.scoreBefore());
+                })
+                .sorted(Comparator.comparing(GamePlayerResponse::userId))
+                .toList();
+    }
+
+    private String etag(GameBootstrapResponse body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "부트스트랩 ETag 계산 실패");
+        }
+    }
+}
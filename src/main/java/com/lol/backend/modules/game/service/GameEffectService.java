@@ -6,9 +6,10 @@ import com.lol.backend.modules.game.dto.InventoryResponse;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
 import com.lol.backend.modules.catalog.entity.*;
-import com.lol.backend.modules.catalog.repo.*;
+import com.lol.backend.modules.catalog.service.CatalogSnapshotHolder;
 import com.lol.backend.modules.game.entity.ItemUsage;
 import com.lol.backend.modules.game.entity.SpellUsage;
+import com.lol.backend.modules.game.repo.GamePlayerRepository;
 import com.lol.backend.modules.game.repo.GameSpellPurchaseRepository;
 import com.lol.backend.modules.game.repo.ItemUsageRepository;
 import com.lol.backend.modules.game.repo.SpellUsageRepository;
@@ -16,12 +17,16 @@ import com.lol.backend.realtime.dto.EventType;
 import com.lol.backend.realtime.support.EventPublisher;
 import com.lol.backend.state.store.EphemeralStateStore;
 import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.ShieldStateStore;
 import com.lol.backend.state.dto.GameStateDto;
 import com.lol.backend.state.dto.ItemEffectActiveDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -29,6 +34,14 @@ import java.util.*;
 
 /**
  * 게임 이펙트(아이템/스펠 사용) 비즈니스 로직을 담당하는 서비스.
+ *
+ * 보호막 카운터(ShieldStateStore) 일관성 규칙:
+ * - 카운터 증감(구매/직접 사용)과 DB 기준 시드는 모두 해당 플레이어의 GamePlayer 행 락 아래에서 수행한다.
+ *   시드는 락 획득 후 커밋된 구매/사용만 읽으므로, 변경이 DB 시드와 카운터 증감 중 한쪽에만 반영된다
+ * - 트랜잭션 안에서 반영한 카운터 변화는 롤백 시 되돌린다 (반영된 경우에만)
+ *
+ * INVENTORY_SYNC는 집계 쿼리 대신 인벤토리 프로젝션(직전 인벤토리 + 적용한 증감)으로 만든다.
+ * 프로젝션도 같은 GamePlayer 행 락 아래에서 증감/시드하므로, 아이템/스펠 사용은 인벤토리가 바뀌는 플레이어의 행 락을 먼저 잡는다.
  */
 @Slf4j
 @Service
@@ -37,17 +50,18 @@ public class GameEffectService {
 
     // 스펠 이름 상수
     private static final String SPELL_CLEANSE = "정화";
-    private static final String SPELL_SHIELD = "보호막";
+    static final String SPELL_SHIELD = "보호막";
 
     private final GameStateStore gameStateStore;
-    private final ItemRepository itemRepository;
-    private final SpellRepository spellRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
     private final ItemUsageRepository itemUsageRepository;
     private final SpellUsageRepository spellUsageRepository;
     private final GameSpellPurchaseRepository gameSpellPurchaseRepository;
+    private final GamePlayerRepository gamePlayerRepository;
     private final GameInventoryService gameInventoryService;
     private final EventPublisher eventPublisher;
     private final EphemeralStateStore ephemeralStateStore;
+    private final ShieldStateStore shieldStateStore;
 
     /**
      * 아이템 사용 처리.
@@ -79,9 +93,12 @@ public class GameEffectService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED, "대상 사용자가 게임 참가자가 아닙니다."));
 
         // 5. Item 조회
-        Item item = itemRepository.findById(itemId)
+        Item item = catalogSnapshotHolder.current().findItem(itemId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED, "아이템을 찾을 수 없습니다."));
 
+        // 인벤토리가 바뀔 수 있는 사용자/대상(보호막 소비)의 행 락을 보유 검증 전에 잡는다
+        lockGamePlayers(gameId, userId, targetUserId);
+
         // 6. 아이템 보유 검증
         if (gameInventoryService.getItemRemainingCount(gameId, userId, itemId) <= 0) {
             throw new BusinessException(ErrorCode.VALIDATION_FAILED, "보유한 아이템이 없습니다.");
@@ -90,6 +107,7 @@ public class GameEffectService {
         // 7. ItemUsage 기록 저장
         ItemUsage usage = new ItemUsage(gameId, userId, targetUserId, itemId);
         itemUsageRepository.save(usage);
+        gameInventoryService.addItemQuantity(gameId, userId, itemId, -1);
 
         // 8. 보호막 체크 및 이펙트 적용
         boolean isBlocked = checkShieldAndApplyEffect(gameId, userId, targetUserId, usage, item);
@@ -126,9 +144,13 @@ public class GameEffectService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN));
 
         // 4. Spell 조회
-        Spell spell = spellRepository.findById(spellId)
+        Spell spell = catalogSnapshotHolder.current().findSpell(spellId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED, "스펠을 찾을 수 없습니다."));
 
+        // 보호막 카운터/인벤토리 프로젝션 시드와 직렬화하기 위해 보유 검증 전에 GamePlayer 행 락을 잡는다
+        boolean isShield = SPELL_SHIELD.equals(spell.getName());
+        lockGamePlayer(gameId, userId);
+
         // 5. 스펠 보유 검증
         if (gameInventoryService.getSpellRemainingCount(gameId, userId, spellId) <= 0) {
             throw new BusinessException(ErrorCode.VALIDATION_FAILED, "보유한 스펠이 없습니다.");
@@ -137,6 +159,12 @@ public class GameEffectService {
         // 6. SpellUsage 기록 저장
         SpellUsage usage = new SpellUsage(gameId, userId, spellId);
         spellUsageRepository.save(usage);
+        gameInventoryService.addSpellQuantity(gameId, userId, spellId, -1);
+
+        // 보호막을 직접 사용한 경우 카운터도 함께 차감 (미초기화 시 다음 시드에서 DB 기준 반영)
+        if (isShield) {
+            addShieldCharges(gameId, userId, -1);
+        }
 
         // 7. SPELL_EFFECT_APPLIED 이벤트 broadcast
         broadcastSpellEffectApplied(gameId, userId, usage, spell);
@@ -155,22 +183,29 @@ public class GameEffectService {
 
     /**
      * 보호막 체크 및 이펙트 적용.
+     * 보호막 확인/소비는 Redis 카운터의 단일 원자 연산으로 처리하고,
+     * 카운터가 없을 때만 DB(구매 수량 - 사용 수량)로 1회 시드한다.
      * @return true if blocked, false if applied
      */
     private boolean checkShieldAndApplyEffect(UUID gameId, UUID fromUserId, UUID targetUserId, ItemUsage usage, Item item) {
-        Optional<Spell> shieldSpellOpt = spellRepository.findByName(SPELL_SHIELD);
+        Optional<Spell> shieldSpellOpt = catalogSnapshotHolder.current().findSpellByName(SPELL_SHIELD);
         if (shieldSpellOpt.isPresent()) {
-            Spell shieldSpell = shieldSpellOpt.get();
-            UUID shieldSpellId = shieldSpell.getId();
+            UUID shieldSpellId = shieldSpellOpt.get().getId();
 
-            // 구매 수량 - 사용 수량 = 잔여 보호막
-            int purchased = gameSpellPurchaseRepository.sumQuantityByGameIdAndUserIdAndSpellId(gameId, targetUserId, shieldSpellId);
-            long used = spellUsageRepository.countByGameIdAndUserIdAndSpellId(gameId, targetUserId, shieldSpellId);
+            long remaining = shieldStateStore.tryConsume(gameId, targetUserId);
+            if (remaining == ShieldStateStore.NOT_INITIALIZED) {
+                seedShieldCounter(gameId, targetUserId, shieldSpellId);
+                remaining = shieldStateStore.tryConsume(gameId, targetUserId);
+            }
+
+            if (remaining >= 0) {
+                // 이 트랜잭션이 롤백되면 소비한 보호막을 카운터에 되돌린다
+                compensateOnRollback(gameId, targetUserId, 1);
 
-            if (purchased > used) {
-                // 보호막 소비: SpellUsage 기록
+                // 보호막 소비: SpellUsage 기록 (DB 인벤토리 계산/정산의 근거)
                 SpellUsage shieldUsage = new SpellUsage(gameId, targetUserId, shieldSpellId);
                 spellUsageRepository.save(shieldUsage);
+                gameInventoryService.addSpellQuantity(gameId, targetUserId, shieldSpellId, -1);
 
                 // ITEM_EFFECT_BLOCKED 이벤트
                 broadcastItemEffectBlocked(gameId, fromUserId, targetUserId, usage, item, shieldSpellId);
@@ -186,6 +221,72 @@ public class GameEffectService {
         return false;
     }
 
+    /**
+     * 보호막 카운터 지연 초기화 (DB 기준 잔여 수).
+     * 호출자(useItem)가 구매/직접 사용과 같은 대상의 GamePlayer 행 락을 이미 잡은 뒤 읽으므로,
+     * 락 이전에 커밋된 변경은 시드에 포함되고 이후 변경은 초기화된 카운터에 증감으로 반영된다.
+     */
+    private void seedShieldCounter(UUID gameId, UUID userId, UUID shieldSpellId) {
+        int charges = gameInventoryService.getSpellRemainingCount(gameId, userId, shieldSpellId);
+        shieldStateStore.initializeIfAbsent(gameId, userId, charges);
+    }
+
+    /**
+     * 보호막 카운터를 증감한다 (보호막 구매, 직접 사용).
+     * 호출자는 같은 트랜잭션에서 해당 플레이어의 GamePlayer 행 락을 잡고 있어야 하며,
+     * 트랜잭션이 롤백되면 반영한 증감을 되돌린다.
+     * @param gameId 게임 ID
+     * @param userId 보호막 보유자 ID
+     * @param delta 증감량
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addShieldCharges(UUID gameId, UUID userId, int delta) {
+        if (shieldStateStore.addChargesIfInitialized(gameId, userId, delta)) {
+            compensateOnRollback(gameId, userId, -delta);
+        }
+    }
+
+    /**
+     * 두 플레이어의 GamePlayer 행 락을 userId 순서로 잡는다.
+     * 서로를 대상으로 동시에 아이템을 사용해도 락 순서가 같아 교착되지 않는다.
+     */
+    private void lockGamePlayers(UUID gameId, UUID userId, UUID otherUserId) {
+        if (userId.equals(otherUserId)) {
+            lockGamePlayer(gameId, userId);
+            return;
+        }
+        boolean userFirst = userId.compareTo(otherUserId) < 0;
+        lockGamePlayer(gameId, userFirst ? userId : otherUserId);
+        lockGamePlayer(gameId, userFirst ? otherUserId : userId);
+    }
+
+    /**
+     * 구매(GameShopService)와 같은 GamePlayer 행 락을 잡는다.
+     * 행이 없으면 구매 기록도 있을 수 없으므로 락 없이 진행한다.
+     */
+    private void lockGamePlayer(UUID gameId, UUID userId) {
+        if (gamePlayerRepository.findByGameIdAndUserIdForUpdate(gameId, userId).isEmpty()) {
+            log.debug("GamePlayer row not found for inventory lock: gameId={}, userId={}", gameId, userId);
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 카운터에 delta를 더해 트랜잭션 안에서 반영한 변화를 되돌린다.
+     */
+    private void compensateOnRollback(UUID gameId, UUID userId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    shieldStateStore.addChargesIfInitialized(gameId, userId, delta);
+                }
+            }
+        });
+    }
+
     /**
      * ITEM_EFFECT_APPLIED 이벤트 broadcast + Redis 저장.
      */
@@ -290,9 +391,10 @@ public class GameEffectService {
 
     /**
      * INVENTORY_SYNC 이벤트를 사용자에게 전송.
+     * payload는 전체 인벤토리지만, 프로젝션에서 읽으므로 집계 쿼리는 프로젝션이 없을 때 1회만 실행된다.
      */
     private void sendInventorySync(UUID gameId, UUID userId) {
-        InventoryResponse inventory = gameInventoryService.calculateInventory(gameId, userId);
+        InventoryResponse inventory = gameInventoryService.getInventory(gameId, userId);
 
         List<Map<String, Object>> itemsList = inventory.items().stream()
                 .map(item -> Map.<String, Object>of("itemId", item.itemId(), "quantity", item.quantity()))
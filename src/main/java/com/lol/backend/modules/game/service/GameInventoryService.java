@@ -8,12 +8,24 @@ import com.lol.backend.modules.game.repo.GameItemPurchaseRepository;
 import com.lol.backend.modules.game.repo.GameSpellPurchaseRepository;
 import com.lol.backend.modules.game.repo.ItemUsageRepository;
 import com.lol.backend.modules.game.repo.SpellUsageRepository;
+import com.lol.backend.state.dto.InventoryStateDto;
+import com.lol.backend.state.store.InventoryStateStore;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 
+/**
+ * 코인/인벤토리 계산 서비스.
+ *
+ * 인벤토리 프로젝션(InventoryStateStore) 일관성 규칙 (보호막 카운터와 동일):
+ * - 프로젝션 증감과 DB 기준 시드는 모두 해당 플레이어의 GamePlayer 행 락 아래에서 수행한다
+ * - 트랜잭션 안에서 프로젝션을 건드렸다면 롤백 시 프로젝션을 지워 다음 조회에서 DB 기준으로 다시 시드한다
+ */
 @Service
 @RequiredArgsConstructor
 public class GameInventoryService {
@@ -23,6 +35,7 @@ public class GameInventoryService {
     private final GameSpellPurchaseRepository gameSpellPurchaseRepository;
     private final ItemUsageRepository itemUsageRepository;
     private final SpellUsageRepository spellUsageRepository;
+    private final InventoryStateStore inventoryStateStore;
 
     /**
      * 현재 잔여 코인을 계산한다.
@@ -85,6 +98,47 @@ public class GameInventoryService {
         return new InventoryResponse(items, spells);
     }
 
+    /**
+     * INVENTORY_SYNC용 전체 인벤토리를 프로젝션에서 조회한다.
+     * 프로젝션이 없을 때만 {@link #calculateInventory}로 1회 시드하고, 이후에는 증감만 반영된다.
+     * 호출자는 같은 트랜잭션에서 해당 플레이어의 GamePlayer 행 락을 잡고 있어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public InventoryResponse getInventory(UUID gameId, UUID userId) {
+        Optional<InventoryStateDto> projection = inventoryStateStore.getInventory(gameId, userId);
+        if (projection.isPresent()) {
+            return toResponse(projection.get());
+        }
+
+        // 같은 트랜잭션의 미커밋 변경까지 포함해 시드하므로 롤백 시 지워야 한다
+        InventoryResponse inventory = calculateInventory(gameId, userId);
+        inventoryStateStore.initializeIfAbsent(gameId, userId, toState(inventory));
+        invalidateOnRollback(gameId, userId);
+        return inventory;
+    }
+
+    /**
+     * 인벤토리 프로젝션의 아이템 수량을 증감한다 (구매, 사용).
+     * 호출자는 같은 트랜잭션에서 해당 플레이어의 GamePlayer 행 락을 잡고 있어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addItemQuantity(UUID gameId, UUID userId, UUID itemId, int delta) {
+        if (inventoryStateStore.addItemIfInitialized(gameId, userId, itemId, delta)) {
+            invalidateOnRollback(gameId, userId);
+        }
+    }
+
+    /**
+     * 인벤토리 프로젝션의 스펠 수량을 증감한다 (구매, 사용, 보호막 소비).
+     * 호출자는 같은 트랜잭션에서 해당 플레이어의 GamePlayer 행 락을 잡고 있어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addSpellQuantity(UUID gameId, UUID userId, UUID spellId, int delta) {
+        if (inventoryStateStore.addSpellIfInitialized(gameId, userId, spellId, delta)) {
+            invalidateOnRollback(gameId, userId);
+        }
+    }
+
     /**
      * 아이템 구매 총 수량을 조회한다.
      */
@@ -140,4 +194,38 @@ public class GameInventoryService {
         long used = spellUsageRepository.countByGameIdAndUserIdAndSpellId(gameId, userId, spellId);
         return (int) (purchased - used);
     }
+
+    /**
+     * 트랜잭션이 롤백되면 프로젝션을 지운다.
+     * 증감을 되돌리는 대신 지우므로, 롤백과 다른 트랜잭션의 시드가 엇갈려도 다음 조회에서 DB 기준으로 맞춰진다.
+     */
+    private void invalidateOnRollback(UUID gameId, UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    inventoryStateStore.invalidate(gameId, userId);
+                }
+            }
+        });
+    }
+
+    private static InventoryResponse toResponse(InventoryStateDto state) {
+        List<InventoryItemResponse> items = new ArrayList<>();
+        state.items().forEach((itemId, quantity) -> items.add(new InventoryItemResponse(itemId.toString(), quantity)));
+        List<InventorySpellResponse> spells = new ArrayList<>();
+        state.spells().forEach((spellId, quantity) -> spells.add(new InventorySpellResponse(spellId.toString(), quantity)));
+        return new InventoryResponse(items, spells);
+    }
+
+    private static InventoryStateDto toState(InventoryResponse inventory) {
+        Map<UUID, Integer> items = new LinkedHashMap<>();
+        inventory.items().forEach(item -> items.put(UUID.fromString(item.itemId()), item.quantity()));
+        Map<UUID, Integer> spells = new LinkedHashMap<>();
+        inventory.spells().forEach(spell -> spells.put(UUID.fromString(spell.spellId()), spell.quantity()));
+        return new InventoryStateDto(items, spells);
+    }
 }
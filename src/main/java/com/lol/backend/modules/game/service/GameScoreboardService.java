@@ -0,0 +1,101 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.event.GameEventPublisher;
+import com.lol.backend.state.dto.ScoreboardEntryDto;
+import com.lol.backend.state.store.ScoreboardStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PLAY 중 실시간 순위표 관리.
+ * - AC 판정이 도착하면 ScoreboardStore에 원자적으로 반영하고 게임을 dirty로 표시한다
+ * - broadcast-interval-ms마다 dirty 게임별로 SCOREBOARD_UPDATED를 한 번만 발행한다 (coalesce)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameScoreboardService {
+
+    private final ScoreboardStore scoreboardStore;
+    private final GameEventPublisher gameEventPublisher;
+
+    private final Set<UUID> dirtyGames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * PLAY 시작 시 참가자를 순위표에 등록한다. 등록된 순위표만 AC를 누적한다.
+     */
+    public void initialize(UUID gameId, List<UUID> userIds) {
+        scoreboardStore.initialize(gameId, userIds);
+    }
+
+    /**
+     * 채점 판정을 순위표에 반영한다. AC가 아닌 판정은 순위에 영향이 없으므로 무시한다.
+     * 반영에 실패하면 순위표를 무효화하여 게임 종료 시 DB 집계로 폴백하게 한다 (누락된 AC로 순위가 틀리지 않도록).
+     * @param submission 판정이 반영된 제출
+     */
+    public void onJudged(Submission submission) {
+        if (submission.getJudgeStatus() != JudgeStatus.AC) {
+            return;
+        }
+        UUID gameId = submission.getGameId();
+        try {
+            scoreboardStore.recordAccepted(gameId, submission.getUserId(), submission.getId(),
+                            submission.getSubmittedElapsedMs())
+                    .ifPresent(entry -> dirtyGames.add(gameId));
+        } catch (Exception e) {
+            log.error("Failed to record AC on scoreboard: gameId={}, submissionId={}", gameId, submission.getId(), e);
+            try {
+                scoreboardStore.invalidate(gameId);
+            } catch (Exception invalidateError) {
+                log.error("Failed to invalidate scoreboard: gameId={}", gameId, invalidateError);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.scoreboard.broadcast-interval-ms:250}")
+    public void broadcastDirty() {
+        for (UUID gameId : dirtyGames) {
+            dirtyGames.remove(gameId);
+            try {
+                scoreboardStore.getStandings(gameId).ifPresent(standings ->
+                        gameEventPublisher.scoreboardUpdated(gameId, toRows(standings)));
+            } catch (Exception e) {
+                log.error("Failed to broadcast scoreboard: gameId={}", gameId, e);
+            }
+        }
+    }
+
+    /**
+     * 순위 순서의 항목에 동점을 고려한 rank를 매긴다 (1, 1, 3 ...).
+     */
+    static List<GameEventPublisher.ScoreboardRowData> toRows(List<ScoreboardEntryDto> standings) {
+        List<GameEventPublisher.ScoreboardRowData> rows = new ArrayList<>(standings.size());
+        int rank = 1;
+        for (int i = 0; i < standings.size(); i++) {
+            ScoreboardEntryDto entry = standings.get(i);
+            if (i > 0) {
+                ScoreboardEntryDto previous = standings.get(i - 1);
+                if (previous.acCount() != entry.acCount() || previous.lastSubmitMs() != entry.lastSubmitMs()) {
+                    rank = i + 1;
+                }
+            }
+            rows.add(new GameEventPublisher.ScoreboardRowData(
+                    entry.userId(),
+                    rank,
+                    entry.acCount(),
+                    entry.acCount() > 0 ? entry.lastSubmitMs() : null
+            ));
+        }
+        return rows;
+    }
+}
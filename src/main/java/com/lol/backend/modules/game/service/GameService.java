@@ -7,7 +7,13 @@ import com.lol.backend.modules.game.config.GameStageProperties;
 import com.lol.backend.modules.game.dto.*;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.judge.JudgeDispatcher;
+import com.lol.backend.modules.game.judge.JudgeQueue;
 import com.lol.backend.modules.game.service.GameInventoryService;
+import com.lol.backend.modules.room.service.RoomNameIndex;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
 import com.lol.backend.modules.user.entity.User;
 import com.lol.backend.modules.user.repo.UserRepository;
 import com.lol.backend.state.store.GameStateStore;
@@ -15,13 +21,20 @@ import com.lol.backend.state.store.RoomStateStore;
 import com.lol.backend.state.snapshot.SnapshotWriter;
 import com.lol.backend.state.dto.GamePlayerStateDto;
 import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.ScoreboardEntryDto;
+import com.lol.backend.state.store.ScoreboardStore;
+import com.lol.backend.state.dto.RoomListChangeDto;
 import com.lol.backend.state.dto.RoomStateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,6 +59,13 @@ public class GameService {
     private final com.lol.backend.modules.game.repo.SubmissionRepository submissionRepository;
     private final GameStageProperties stageProperties;
     private final com.lol.backend.modules.room.event.RoomEventPublisher roomEventPublisher;
+    private final SubmissionSourceService submissionSourceService;
+    private final JudgeQueue judgeQueue;
+    private final JudgeDispatcher judgeDispatcher;
+    private final GameScoreboardService gameScoreboardService;
+    private final ScoreboardStore scoreboardStore;
+    private final LobbyStatsService lobbyStatsService;
+    private final RoomNameIndex roomNameIndex;
 
     /**
      * 게임 상태를 조회한다.
@@ -104,12 +124,14 @@ public class GameService {
 
     /**
      * PLAY stage에서 코드를 제출한다.
+     * 제출은 PENDING으로 저장만 하고 즉시 반환한다. 채점은 JudgeDispatcher가 비동기로 수행하며
+     * 판정은 SUBMISSION_JUDGED 이벤트로 제출자에게 전달된다.
      * @param gameId 게임 ID
      * @param request 코드 제출 요청
-     * @return 게임 상태 응답
+     * @return 제출 접수 응답
      */
     @Transactional
-    public GameStateResponse submitCode(UUID gameId, SubmissionRequest request) {
+    public SubmissionAcceptedResponse submitCode(UUID gameId, SubmissionRequest request) {
         UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
 
         GameStateDto game = gameStateStore.getGame(gameId)
@@ -119,34 +141,60 @@ public class GameService {
         if (!game.stage().equals(GameStage.PLAY.name())) {
             throw new BusinessException(ErrorCode.INVALID_STAGE_ACTION);
         }
+        // 마감 이후 제출은 정산 대기 대상이 아니므로 받지 않는다
+        if (game.stageDeadlineAt() != null && !Instant.now().isBefore(game.stageDeadlineAt())) {
+            throw new BusinessException(ErrorCode.INVALID_STAGE_ACTION);
+        }
 
         // 참가자 확인
         gameStateStore.getGamePlayer(gameId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN));
 
+        // 미판정 제출 상한 (사용자 행 잠금 후 검사하므로 아래 저장까지 같은 사용자의 동시 제출과 직렬화)
+        judgeQueue.checkPendingCap(userId);
+
         // 제출 경과 시간 계산 (게임 시작 시각부터 현재까지)
         int submittedElapsedMs = (int) (Instant.now().toEpochMilli() - game.startedAt().toEpochMilli());
 
-        // Submission 엔티티 생성 (PENDING 상태로 저장, 외부 채점 시스템 연동은 범위 밖)
-        com.lol.backend.modules.game.entity.Submission submission = new com.lol.backend.modules.game.entity.Submission(
+        // 소스 본문은 해시 기준으로 분리 저장 (동일 재제출은 중복 저장하지 않음)
+        String sourceHash = submissionSourceService.store(request.sourceCode());
+
+        // Submission 엔티티 생성 (PENDING 상태로 저장, 채점 결과는 워커가 반영)
+        Submission submission = submissionRepository.save(new Submission(
                 gameId,
                 userId,
                 request.language(),
-                request.sourceCode(),
+                sourceHash,
                 submittedElapsedMs,
                 0, // execTimeMs: 채점 전이므로 0
                 0, // memoryKb: 채점 전이므로 0
-                com.lol.backend.modules.game.entity.JudgeStatus.AC, // 기본값: AC (실제 채점 시스템 연동 시 PENDING 등으로 변경)
+                JudgeStatus.PENDING,
                 null, // judgeDetailJson: 채점 전이므로 null
                 null  // scoreValue: 채점 전이므로 null
-        );
+        ));
 
-        submissionRepository.save(submission);
+        wakeJudgeAfterCommit();
 
-        log.info("Code submitted: gameId={}, userId={}, language={}, elapsedMs={}",
-                gameId, userId, request.language(), submittedElapsedMs);
+        log.info("Code submitted: gameId={}, userId={}, submissionId={}, language={}, elapsedMs={}",
+                gameId, userId, submission.getId(), request.language(), submittedElapsedMs);
 
-        return getGameState(gameId);
+        return SubmissionAcceptedResponse.from(submission);
+    }
+
+    /**
+     * 제출 트랜잭션이 커밋된 뒤 채점 디스패처를 깨운다 (커밋 전에는 워커가 PENDING 행을 볼 수 없음).
+     */
+    private void wakeJudgeAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            judgeDispatcher.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                judgeDispatcher.wakeUp();
+            }
+        });
     }
 
     /**
@@ -174,6 +222,31 @@ public class GameService {
 
         // Redis에 stage 전이 상태 저장
         gameStateStore.updateGameStage(gameId, nextStage.name(), stageStartedAt, stageDeadlineAt);
+
+        // PLAY 시작 시 실시간 순위표 등록 (이후 AC 판정이 증분 반영됨)
+        // 순위표 등록에 실패해도 stage 전이는 진행한다 (순위표가 없으면 게임 종료 시 DB 집계로 폴백)
+        if (nextStage == GameStage.PLAY) {
+            List<UUID> userIds = gameStateStore.getGamePlayers(gameId).stream()
+                    .map(GamePlayerStateDto::userId)
+                    .toList();
+            try {
+                gameScoreboardService.initialize(gameId, userIds);
+            } catch (Exception e) {
+                log.error("Failed to initialize scoreboard: gameId={}", gameId, e);
+            }
+        }
+    }
+
+    /**
+     * PLAY 마감 후 정산을 미뤄야 하는지 판단한다.
+     * 마감 전에 접수되어 아직 판정되지 않은 제출이 있으면 settleTimeout까지 판정을 기다린다.
+     * @param gameId 게임 ID
+     * @param deadline PLAY stage 마감 시각
+     * @param now 현재 시각
+     * @return 정산을 미뤄야 하면 true
+     */
+    public boolean isAwaitingJudgement(UUID gameId, Instant deadline, Instant now) {
+        return judgeQueue.awaitingJudgement(gameId, deadline, now);
     }
 
     /**
@@ -209,6 +282,11 @@ public class GameService {
         // 게임 결과 계산 및 GamePlayer 상태 갱신
         calculateAndSaveGameResults(gameId);
 
+        // 로비 통계: 게임 중 비트 해제
+        lobbyStatsService.playersLeftGame(gameStateStore.getGamePlayers(gameId).stream()
+                .map(GamePlayerStateDto::userId)
+                .toList());
+
         // 방 스냅샷 저장 및 삭제 (DB write-back → Redis deletion)
         // SSOT: 게임 종료 후 방은 목록에서 제거되며, 사용자는 RESULT → MAIN/MY_PAGE로 이동
         UUID roomId = game.roomId();
@@ -218,9 +296,11 @@ public class GameService {
             snapshotWriter.flushRoom(roomId);
             log.info("Room snapshot flushed and deleted: roomId={}, gameId={}", roomId, gameId);
 
+            roomNameIndex.remove(roomId);
+
             // ROOM_LIST_REMOVED 이벤트 발행 (방 삭제 완료 후 발행)
-            roomStateStore.incrementListVersion();
-            long listVersion = roomStateStore.getListVersion();
+            long listVersion = roomStateStore.appendListChange(RoomListChangeDto.remove(roomId));
+            roomNameIndex.observeListVersion(listVersion);
             roomEventPublisher.roomListRemoved(roomId, listVersion, "ROOM_CLOSED");
         } else {
             log.warn("Room not found when flushing: roomId={}, gameId={}", roomId, gameId);
@@ -234,196 +314,122 @@ public class GameService {
         return finishedGame;
     }
 
-    // ECONOMY.md 1.0절 보상 규칙 상수
-    private static final int BASE_COIN = 1000;
-    private static final double BASE_EXP = 25.0;
-    private static final double RESULT_MULTIPLIER_WIN = 1.0;
-    private static final double RESULT_MULTIPLIER_DRAW = 0.8;
-    private static final double RESULT_MULTIPLIER_LOSE = 0.6;
-    private static final int RANK1_BONUS_COIN = 200;
-    private static final double RANK1_BONUS_EXP = 10.0;
-    private static final int RANK2_BONUS_COIN = 100;
-    private static final double RANK2_BONUS_EXP = 5.0;
-    private static final int SOLVED_BONUS_COIN = 100;
-    private static final double SOLVED_BONUS_EXP = 7.5;
-
     /**
      * 게임 결과를 계산하고 GamePlayer 상태를 갱신한다.
-     * ECONOMY.md 1.0절 보상 규칙을 준수한다.
+     * ECONOMY.md 1.0절 보상 규칙은 ResultEngine이 계산한다.
+     * - 최종 순위는 실시간 순위표(ZREVRANGE)에서 순위 순서로 읽으므로 정렬 없이 O(N)
+     *   (AC는 제출 ID 단위로 한 번만 반영되고, 반영 실패 시 순위표가 무효화된다)
+     * - 순위표가 없거나(미초기화/무효화) 참가자가 빠져 있으면 제출을 사용자별 GROUP BY로 집계한다 (source_code 미로딩)
+     * - 사용자는 한 번에 일괄 조회, GamePlayer 상태는 한 번에 일괄 저장
      */
     private void calculateAndSaveGameResults(UUID gameId) {
         GameStateDto game = gameStateStore.getGame(gameId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GAME_NOT_FOUND));
 
-        List<GamePlayerStateDto> players = gameStateStore.getGamePlayers(gameId);
+        List<GamePlayerStateDto> gamePlayers = gameStateStore.getGamePlayers(gameId);
+        if (gamePlayers.isEmpty()) {
+            log.warn("No players to calculate results: gameId={}", gameId);
+            return;
+        }
         boolean isRanked = game.gameType().equals(GameType.RANKED.name());
 
-        // AC(정답) 제출만 조회
-        List<com.lol.backend.modules.game.entity.Submission> acSubmissions =
-                submissionRepository.findByGameIdAndJudgeStatus(gameId, com.lol.backend.modules.game.entity.JudgeStatus.AC);
-
-        // userId별 AC 수와 최종 제출 시간 계산
-        var submissionStats = acSubmissions.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        com.lol.backend.modules.game.entity.Submission::getUserId,
-                        java.util.stream.Collectors.collectingAndThen(
-                                java.util.stream.Collectors.toList(),
-                                list -> new SubmissionStat(
-                                        list.size(), // AC 수
-                                        list.stream()
-                                                .mapToInt(com.lol.backend.modules.game.entity.Submission::getSubmittedElapsedMs)
-                                                .max()
-                                                .orElse(Integer.MAX_VALUE) // 최종 제출 시간
-                                )
-                        )
-                ));
-
-        // 순위 계산: AC 수 내림차순 → 제출 시간 오름차순
-        var rankedPlayers = players.stream()
-                .map(player -> {
-                    SubmissionStat stat = submissionStats.getOrDefault(
-                            player.userId(),
-                            new SubmissionStat(0, Integer.MAX_VALUE) // 제출 없음
-                    );
-                    return new PlayerRank(player, stat.acCount, stat.lastSubmitTime);
-                })
-                .sorted(java.util.Comparator
-                        .comparingInt(PlayerRank::acCount).reversed()
-                        .thenComparingInt(PlayerRank::lastSubmitTime))
-                .toList();
-
-        // 순위 계산 (1차 패스: 순위만 배정)
-        int[] ranks = new int[rankedPlayers.size()];
-        ranks[0] = 1;
-        for (int i = 1; i < rankedPlayers.size(); i++) {
-            PlayerRank pr = rankedPlayers.get(i);
-            PlayerRank prev = rankedPlayers.get(i - 1);
-            if (pr.acCount == prev.acCount && pr.lastSubmitTime == prev.lastSubmitTime) {
-                ranks[i] = ranks[i - 1]; // 동점 → 같은 순위
-            } else {
-                ranks[i] = i + 1;
+        Map<UUID, GamePlayerStateDto> playersById = gamePlayers.stream()
+                .collect(Collectors.toMap(GamePlayerStateDto::userId, player -> player));
+        int playerCount = playersById.size();
+        List<GamePlayerStateDto> players = new ArrayList<>(playerCount);
+        int[] acCounts = new int[playerCount];
+        int[] lastSubmitMs = new int[playerCount];
+
+        // userId별 AC 수와 최종 제출 시간. 순위표가 완전하면 순위 순서로, 아니면 DB 집계(순서 없음)로 채운다
+        Optional<List<ScoreboardEntryDto>> standings = scoreboardStore.getStandings(gameId)
+                .filter(entries -> coversAllPlayers(entries, playersById.keySet()));
+        if (standings.isPresent()) {
+            for (ScoreboardEntryDto entry : standings.get()) {
+                addPlayer(players, acCounts, lastSubmitMs, playersById.remove(entry.userId()),
+                        entry.acCount(), entry.lastSubmitMs());
+            }
+        } else {
+            log.info("Scoreboard unavailable or incomplete, aggregating submissions: gameId={}", gameId);
+            for (SubmissionStatRow row : submissionRepository.aggregateByUser(gameId, JudgeStatus.AC)) {
+                addPlayer(players, acCounts, lastSubmitMs, playersById.remove(row.userId()),
+                        (int) row.acCount(), row.lastSubmitMs());
             }
         }
-
-        // 동점 여부 판별: 같은 순위가 2명 이상이면 동점
-        var rankCounts = new java.util.HashMap<Integer, Integer>();
-        for (int rank : ranks) {
-            rankCounts.merge(rank, 1, Integer::sum);
+        // AC 집계에 없는 플레이어(제출 없음)는 뒤에 붙인다
+        for (GamePlayerStateDto player : playersById.values()) {
+            addPlayer(players, acCounts, lastSubmitMs, player, 0, ResultEngine.NO_SUBMISSION_MS);
         }
+        List<UUID> userIds = players.stream().map(GamePlayerStateDto::userId).toList();
 
-        // 2차 패스: 보상 적용 (ECONOMY.md 1.0절 보상 규칙)
-        for (int i = 0; i < rankedPlayers.size(); i++) {
-            PlayerRank pr = rankedPlayers.get(i);
-            int currentRank = ranks[i];
-            boolean isTied = rankCounts.get(currentRank) > 1;
-            boolean solved = pr.acCount > 0;
-
-            // 보상 계산
-            int scoreDelta;
-            int coinDelta;
-            double expDelta;
-            String result;
-
-            if (isRanked) {
-                // RANKED 모드: ECONOMY.md 1.0절 보상 규칙
-                // result 결정
-                if (currentRank == 1) {
-                    result = isTied ? "DRAW" : "WIN";
-                } else if (currentRank == 2) {
-                    result = isTied ? "DRAW" : "WIN";
-                } else {
-                    result = isTied ? "DRAW" : "LOSE";
-                }
-
-                // result_multiplier
-                double resultMultiplier = switch (result) {
-                    case "WIN" -> RESULT_MULTIPLIER_WIN;
-                    case "DRAW" -> RESULT_MULTIPLIER_DRAW;
-                    case "LOSE" -> RESULT_MULTIPLIER_LOSE;
-                    default -> RESULT_MULTIPLIER_DRAW;
-                };
-
-                // rank_bonus
-                int rankBonusCoin = 0;
-                double rankBonusExp = 0.0;
-                if (currentRank == 1) {
-                    rankBonusCoin = RANK1_BONUS_COIN;
-                    rankBonusExp = RANK1_BONUS_EXP;
-                } else if (currentRank == 2) {
-                    rankBonusCoin = RANK2_BONUS_COIN;
-                    rankBonusExp = RANK2_BONUS_EXP;
-                }
-
-                // solved_bonus
-                int solvedBonusCoin = solved ? SOLVED_BONUS_COIN : 0;
-                double solvedBonusExp = solved ? SOLVED_BONUS_EXP : 0.0;
-
-                // coin_delta = floor(base_coin * result_multiplier + rank_bonus_coin + solved_bonus_coin)
-                coinDelta = (int) Math.floor(BASE_COIN * resultMultiplier + rankBonusCoin + solvedBonusCoin);
-
-                // exp_delta = base_exp * result_multiplier + rank_bonus_exp + solved_bonus_exp
-                expDelta = BASE_EXP * resultMultiplier + rankBonusExp + solvedBonusExp;
-
-                // scoreDelta: 순위별 점수 변동 (ECONOMY.md에는 명시되지 않았으나 기존 로직 유지)
-                if (currentRank == 1) {
-                    scoreDelta = 30;
-                } else if (currentRank == 2) {
-                    scoreDelta = 10;
-                } else {
-                    scoreDelta = -10;
-                }
-            } else {
-                // NORMAL 모드: 보상 없음 (ECONOMY.md 1.0절)
-                scoreDelta = 0;
-                coinDelta = 0;
-                expDelta = 0.0;
-                result = "DRAW";
-            }
-
-            GamePlayerStateDto player = pr.player;
+        ResultEngine.PlayerOutcome[] outcomes = ResultEngine.compute(isRanked, acCounts, lastSubmitMs);
 
-            // User 조회하여 coinBefore, expBefore 설정
-            User user = userRepository.findById(player.userId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다"));
-            int coinBefore = user.getCoin();
-            double expBefore = user.getExp();
+        // coinBefore, expBefore 설정을 위한 User 일괄 조회
+        Map<UUID, User> userMap = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        List<GamePlayerStateDto> updatedPlayers = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            GamePlayerStateDto player = players.get(i);
+            ResultEngine.PlayerOutcome outcome = outcomes[i];
+            User user = userMap.get(player.userId());
+            if (user == null) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다");
+            }
 
-            GamePlayerStateDto updatedPlayer = new GamePlayerStateDto(
+            updatedPlayers.add(new GamePlayerStateDto(
                     player.id(),
                     player.gameId(),
                     player.userId(),
                     player.state(),
                     player.scoreBefore(),
-                    player.scoreBefore() + scoreDelta,
-                    scoreDelta,
+                    player.scoreBefore() + outcome.scoreDelta(),
+                    outcome.scoreDelta(),
                     player.finalScoreValue(),
-                    currentRank,
-                    solved,
-                    result,
-                    coinBefore,
-                    coinDelta,
-                    expBefore,
-                    expDelta,
+                    outcome.rank(),
+                    outcome.solved(),
+                    outcome.result().name(),
+                    user.getCoin(),
+                    outcome.coinDelta(),
+                    user.getExp(),
+                    outcome.expDelta(),
                     player.joinedAt(),
                     player.leftAt(),
                     player.disconnectedAt()
-            );
-
-            gameStateStore.updateGamePlayer(gameId, player.userId(), updatedPlayer);
+            ));
         }
 
-        log.info("Game results calculated: gameId={}, isRanked={}, playerCount={}", gameId, isRanked, players.size());
+        gameStateStore.saveGamePlayers(gameId, updatedPlayers);
+
+        log.info("Game results calculated: gameId={}, isRanked={}, playerCount={}", gameId, isRanked, playerCount);
     }
 
     /**
-     * 제출 통계 (AC 수, 최종 제출 시간)
+     * 순위표에 게임 참가자가 모두 등록되어 있는지 확인한다 (PLAY 시작 시 전원 0점으로 등록됨).
      */
-    private record SubmissionStat(int acCount, int lastSubmitTime) {}
+    private static boolean coversAllPlayers(List<ScoreboardEntryDto> entries, Set<UUID> playerIds) {
+        if (entries.size() < playerIds.size()) {
+            return false;
+        }
+        Set<UUID> registered = new HashSet<>(entries.size() * 2);
+        for (ScoreboardEntryDto entry : entries) {
+            registered.add(entry.userId());
+        }
+        return registered.containsAll(playerIds);
+    }
 
     /**
-     * 플레이어 순위 정보
+     * 결과 계산 입력 배열의 다음 칸에 플레이어를 채운다. 게임 플레이어가 아니면(null) 건너뛴다.
      */
-    private record PlayerRank(GamePlayerStateDto player, int acCount, int lastSubmitTime) {}
+    private static void addPlayer(List<GamePlayerStateDto> players, int[] acCounts, int[] lastSubmitMs,
+                                  GamePlayerStateDto player, int acCount, int lastSubmit) {
+        if (player == null) {
+            return;
+        }
+        int index = players.size();
+        acCounts[index] = acCount;
+        lastSubmitMs[index] = acCount > 0 ? lastSubmit : ResultEngine.NO_SUBMISSION_MS;
+        players.add(player);
+    }
 
     /**
      * stage 전이 규칙을 검증한다.
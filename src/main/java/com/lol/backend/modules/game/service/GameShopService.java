@@ -14,8 +14,7 @@ import com.lol.backend.modules.game.repo.GamePlayerRepository;
 import com.lol.backend.modules.game.repo.GameSpellPurchaseRepository;
 import com.lol.backend.modules.catalog.entity.Item;
 import com.lol.backend.modules.catalog.entity.Spell;
-import com.lol.backend.modules.catalog.repo.ItemRepository;
-import com.lol.backend.modules.catalog.repo.SpellRepository;
+import com.lol.backend.modules.catalog.service.CatalogSnapshotHolder;
 import com.lol.backend.modules.game.event.GameEventPublisher;
 import com.lol.backend.state.store.GameStateStore;
 import com.lol.backend.state.dto.GamePlayerStateDto;
@@ -33,14 +32,14 @@ public class GameShopService {
 
     private final GameProperties gameProperties;
     private final GameStateStore gameStateStore;
-    private final ItemRepository itemRepository;
-    private final SpellRepository spellRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
     private final GameItemPurchaseRepository gameItemPurchaseRepository;
     private final GameSpellPurchaseRepository gameSpellPurchaseRepository;
     private final GameBanPickService gameBanPickService;
     private final GameInventoryService gameInventoryService;
     private final GameEventPublisher gameEventPublisher;
     private final GamePlayerRepository gamePlayerRepository;
+    private final GameEffectService gameEffectService;
 
     @Transactional
     public GameStateResponse purchaseItem(UUID gameId, UUID userId, ShopItemRequest request) {
@@ -55,7 +54,7 @@ public class GameShopService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PLAYER_NOT_IN_ROOM));
 
         UUID itemId = UUID.fromString(request.itemId());
-        Item item = itemRepository.findById(itemId)
+        Item item = catalogSnapshotHolder.current().findItem(itemId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED));
 
         if (!item.isActive()) {
@@ -86,6 +85,9 @@ public class GameShopService {
         GameItemPurchase purchase = new GameItemPurchase(gameId, userId, itemId, request.quantity(), item.getPrice(), totalCost);
         gameItemPurchaseRepository.save(purchase);
 
+        // 인벤토리 프로젝션 반영 (GamePlayer 행 락 아래에서 반영, 롤백 시 무효화)
+        gameInventoryService.addItemQuantity(gameId, userId, itemId, request.quantity());
+
         // 실시간 이벤트 발행 (SSOT EVENTS.md 5.4)
         gameEventPublisher.gameItemPurchased(gameId, game.roomId(), userId, itemId,
                 request.quantity(), item.getPrice(), totalCost, purchasedAt.toString());
@@ -106,7 +108,7 @@ public class GameShopService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PLAYER_NOT_IN_ROOM));
 
         UUID spellId = UUID.fromString(request.spellId());
-        Spell spell = spellRepository.findById(spellId)
+        Spell spell = catalogSnapshotHolder.current().findSpell(spellId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_FAILED));
 
         if (!spell.isActive()) {
@@ -137,6 +139,14 @@ public class GameShopService {
         GameSpellPurchase purchase = new GameSpellPurchase(gameId, userId, spellId, request.quantity(), spell.getPrice(), totalCost);
         gameSpellPurchaseRepository.save(purchase);
 
+        // 인벤토리 프로젝션 반영 (GamePlayer 행 락 아래에서 반영, 롤백 시 무효화)
+        gameInventoryService.addSpellQuantity(gameId, userId, spellId, request.quantity());
+
+        // 보호막 카운터 반영 (GamePlayer 행 락 아래에서 반영, 롤백 시 되돌림)
+        if (GameEffectService.SPELL_SHIELD.equals(spell.getName())) {
+            gameEffectService.addShieldCharges(gameId, userId, request.quantity());
+        }
+
         // 실시간 이벤트 발행 (SSOT EVENTS.md 5.5)
         gameEventPublisher.gameSpellPurchased(gameId, game.roomId(), userId, spellId,
                 request.quantity(), spell.getPrice(), totalCost, purchasedAt.toString());
@@ -8,18 +8,26 @@ import com.lol.backend.modules.game.entity.MatchResult;
 import com.lol.backend.modules.game.repo.GamePlayerRepository;
 import com.lol.backend.modules.game.repo.GameRepository;
 import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.entity.UserStats;
 import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.modules.user.repo.UserStatsRepository;
 import com.lol.backend.state.snapshot.GameSnapshotContributor;
 import com.lol.backend.state.store.GameStateStore;
 import com.lol.backend.state.store.RankingStateStore;
+import com.lol.backend.state.store.UserStatsCacheStore;
 import com.lol.backend.state.dto.GamePlayerStateDto;
 import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.UserStatsStateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -31,6 +39,8 @@ public class GameSnapshotContributorImpl implements GameSnapshotContributor {
     private final UserRepository userRepository;
     private final GameStateStore gameStateStore;
     private final RankingStateStore rankingStateStore;
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsCacheStore userStatsCacheStore;
 
     @Override
     @Transactional
@@ -59,6 +69,7 @@ public class GameSnapshotContributorImpl implements GameSnapshotContributor {
 
         // Redis에서 GamePlayer 목록 조회
         List<GamePlayerStateDto> playerStates = gameStateStore.getGamePlayers(gameState.id());
+        List<UserStatsStateDto> updatedStats = new ArrayList<>();
         for (GamePlayerStateDto playerState : playerStates) {
             GamePlayer dbPlayer = gamePlayerRepository.findById(playerState.id()).orElse(null);
             if (dbPlayer == null) {
@@ -66,6 +77,9 @@ public class GameSnapshotContributorImpl implements GameSnapshotContributor {
                 continue;
             }
 
+            // 결과가 처음 확정되는 시점에만 누적 전적 반영 (스냅샷 재실행 시 중복 집계 방지)
+            boolean resultSettledNow = dbPlayer.getResult() == null && playerState.result() != null;
+
             // GamePlayer 필드 동기화
             dbPlayer.setState(GamePlayerState.valueOf(playerState.state()));
             if (playerState.scoreAfter() != null) {
@@ -130,9 +144,51 @@ public class GameSnapshotContributorImpl implements GameSnapshotContributor {
                 userRepository.save(user);
                 log.debug("User updated after game finish: userId={}, scoreAfter={}, coinDelta={}, expDelta={}",
                         playerState.userId(), playerState.scoreAfter(), playerState.coinDelta(), playerState.expDelta());
+
+                // user_stats 증분 갱신 (정산과 같은 트랜잭션)
+                if (resultSettledNow) {
+                    updatedStats.add(applyUserStats(user.getId(), MatchResult.valueOf(playerState.result())));
+                }
             }
         }
 
+        refreshUserStatsCacheAfterCommit(updatedStats);
+
         log.debug("Game snapshot persisted successfully: gameId={}", gameState.id());
     }
+
+    private UserStatsStateDto applyUserStats(UUID userId, MatchResult result) {
+        // 행 생성과 증분을 한 문장으로 처리한다 (첫 정산이 동시에 일어나도 안전). 이후 조회는 이 트랜잭션이 잠근 행을 읽는다
+        userStatsRepository.upsertResult(userId,
+                result == MatchResult.WIN ? 1 : 0,
+                result == MatchResult.LOSE ? 1 : 0,
+                result == MatchResult.DRAW ? 1 : 0);
+        UserStats stats = userStatsRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("user_stats row missing after upsert: " + userId));
+        log.debug("UserStats updated: userId={}, games={}, currentWinStreak={}",
+                userId, stats.getGames(), stats.getCurrentWinStreak());
+        return new UserStatsStateDto(userId, stats.getGames(), stats.getWins(), stats.getLosses(),
+                stats.getDraws(), stats.getCurrentWinStreak(), stats.getBestWinStreak());
+    }
+
+    /**
+     * 커밋이 확정된 뒤에만 Redis 전적 캐시를 갱신한다.
+     * 롤백된 정산 값이 캐시에 남지 않도록 하기 위함.
+     * games가 더 큰 값만 반영하므로 조회 경로가 늦게 채운 이전 값에 덮이지 않는다.
+     */
+    private void refreshUserStatsCacheAfterCommit(List<UserStatsStateDto> updatedStats) {
+        if (updatedStats.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updatedStats.forEach(userStatsCacheStore::putIfNewer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updatedStats.forEach(userStatsCacheStore::putIfNewer);
+            }
+        });
+    }
 }
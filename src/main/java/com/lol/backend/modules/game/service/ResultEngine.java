@@ -0,0 +1,148 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.modules.game.entity.MatchResult;
+
+import java.util.Arrays;
+
+/**
+ * 게임 결과(순위/동점/보상) 계산 엔진.
+ * ECONOMY.md 1.0절 보상 규칙을 구현하며 Spring/Redis/DB에 의존하지 않는다.
+ *
+ * 순위: AC 수 내림차순 → 최종 제출 시간 오름차순. (AC 수, 최종 제출 시간)이 같으면 같은 순위(동점).
+ * 정렬 키를 long 하나에 [AC 보수 | 제출 시간 | 입력 인덱스]로 패킹해 박싱/비교자 없이 정렬한다.
+ */
+public final class ResultEngine {
+
+    // ECONOMY.md 1.0절 보상 규칙 상수
+    static final int BASE_COIN = 1000;
+    static final double BASE_EXP = 25.0;
+    static final double RESULT_MULTIPLIER_WIN = 1.0;
+    static final double RESULT_MULTIPLIER_DRAW = 0.8;
+    static final double RESULT_MULTIPLIER_LOSE = 0.6;
+    static final int RANK1_BONUS_COIN = 200;
+    static final double RANK1_BONUS_EXP = 10.0;
+    static final int RANK2_BONUS_COIN = 100;
+    static final double RANK2_BONUS_EXP = 5.0;
+    static final int SOLVED_BONUS_COIN = 100;
+    static final double SOLVED_BONUS_EXP = 7.5;
+
+    /** 제출이 없는 플레이어의 최종 제출 시간 */
+    public static final int NO_SUBMISSION_MS = Integer.MAX_VALUE;
+
+    private static final int INDEX_BITS = 17;
+    private static final int TIME_BITS = 31;
+    private static final int MAX_AC = (1 << 15) - 1;
+    /** 한 번에 계산할 수 있는 최대 플레이어 수 */
+    public static final int MAX_PLAYERS = 1 << INDEX_BITS;
+
+    private ResultEngine() {
+    }
+
+    /**
+     * 플레이어 1명의 계산 결과.
+     */
+    public record PlayerOutcome(
+            int rank,
+            boolean solved,
+            MatchResult result,
+            int scoreDelta,
+            int coinDelta,
+            double expDelta
+    ) {
+    }
+
+    /**
+     * 순위와 보상을 계산한다.
+     * 입력이 이미 순위 순서(실시간 순위표 ZREVRANGE에서 읽은 경우)면 정렬을 생략하므로 O(N)이고,
+     * 순서가 없는 입력(DB 집계 폴백)은 정렬한다.
+     *
+     * @param ranked       RANKED 게임 여부 (NORMAL은 보상 없음, 전원 DRAW)
+     * @param acCounts     플레이어별 AC 수
+     * @param lastSubmitMs 플레이어별 최종 AC 제출 시간 (제출 없으면 {@link #NO_SUBMISSION_MS})
+     * @return 입력과 같은 순서의 결과 (플레이어가 없으면 빈 배열)
+     */
+    public static PlayerOutcome[] compute(boolean ranked, int[] acCounts, int[] lastSubmitMs) {
+        int n = acCounts.length;
+        if (n != lastSubmitMs.length) {
+            throw new IllegalArgumentException("acCounts and lastSubmitMs must have the same length");
+        }
+        if (n > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Too many players: " + n);
+        }
+        PlayerOutcome[] outcomes = new PlayerOutcome[n];
+        if (n == 0) {
+            return outcomes;
+        }
+
+        long[] keys = new long[n];
+        boolean sorted = true;
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortKey(acCounts[i], lastSubmitMs[i], i);
+            sorted &= i == 0 || keys[i - 1] < keys[i];
+        }
+        if (!sorted) {
+            Arrays.sort(keys);
+        }
+
+        int rank = 1;
+        for (int pos = 0; pos < n; pos++) {
+            long score = keys[pos] >>> INDEX_BITS;
+            if (pos > 0 && score != (keys[pos - 1] >>> INDEX_BITS)) {
+                rank = pos + 1;
+            }
+            boolean tied = (pos > 0 && score == (keys[pos - 1] >>> INDEX_BITS))
+                    || (pos + 1 < n && score == (keys[pos + 1] >>> INDEX_BITS));
+
+            int index = (int) (keys[pos] & (MAX_PLAYERS - 1));
+            boolean solved = acCounts[index] > 0;
+            outcomes[index] = ranked
+                    ? rankedOutcome(rank, tied, solved)
+                    : new PlayerOutcome(rank, solved, MatchResult.DRAW, 0, 0, 0.0);
+        }
+        return outcomes;
+    }
+
+    private static PlayerOutcome rankedOutcome(int rank, boolean tied, boolean solved) {
+        // 1, 2위는 WIN, 나머지는 LOSE. 동점이면 DRAW
+        MatchResult result = tied ? MatchResult.DRAW : (rank <= 2 ? MatchResult.WIN : MatchResult.LOSE);
+
+        double resultMultiplier = switch (result) {
+            case WIN -> RESULT_MULTIPLIER_WIN;
+            case DRAW -> RESULT_MULTIPLIER_DRAW;
+            case LOSE -> RESULT_MULTIPLIER_LOSE;
+        };
+
+        int rankBonusCoin = 0;
+        double rankBonusExp = 0.0;
+        if (rank == 1) {
+            rankBonusCoin = RANK1_BONUS_COIN;
+            rankBonusExp = RANK1_BONUS_EXP;
+        } else if (rank == 2) {
+            rankBonusCoin = RANK2_BONUS_COIN;
+            rankBonusExp = RANK2_BONUS_EXP;
+        }
+
+        int solvedBonusCoin = solved ? SOLVED_BONUS_COIN : 0;
+        double solvedBonusExp = solved ? SOLVED_BONUS_EXP : 0.0;
+
+        // coin_delta = floor(base_coin * result_multiplier + rank_bonus_coin + solved_bonus_coin)
+        int coinDelta = (int) Math.floor(BASE_COIN * resultMultiplier + rankBonusCoin + solvedBonusCoin);
+        // exp_delta = base_exp * result_multiplier + rank_bonus_exp + solved_bonus_exp
+        double expDelta = BASE_EXP * resultMultiplier + rankBonusExp + solvedBonusExp;
+
+        // scoreDelta: 순위별 점수 변동 (ECONOMY.md에는 명시되지 않았으나 기존 로직 유지)
+        int scoreDelta = rank == 1 ? 30 : (rank == 2 ? 10 : -10);
+
+        return new PlayerOutcome(rank, solved, result, scoreDelta, coinDelta, expDelta);
+    }
+
+    /**
+     * 오름차순 정렬 시 (AC 내림차순, 제출 시간 오름차순, 입력 순서)가 되도록 패킹한다.
+     * AC는 15비트(32767)에서 포화시키며, 제출 시간은 음수가 될 수 없다.
+     */
+    private static long sortKey(int acCount, int lastSubmitMs, int index) {
+        long invertedAc = MAX_AC - Math.min(Math.max(acCount, 0), MAX_AC);
+        long time = Math.max(lastSubmitMs, 0);
+        return (invertedAc << (TIME_BITS + INDEX_BITS)) | (time << INDEX_BITS) | index;
+    }
+}
@@ -0,0 +1,129 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.entity.SubmissionSource;
+import com.lol.backend.modules.game.repo.SubmissionSourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 제출 소스 본문 저장소.
+ * - 키: UTF-8 본문의 SHA-256 (hex) → 동일 재제출은 한 번만 저장
+ * - 값: DEFLATE 압축 본문 (압축 이득이 없으면 원문 그대로)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmissionSourceService {
+
+    private final SubmissionSourceRepository submissionSourceRepository;
+
+    /**
+     * 소스 본문을 저장하고 해시를 반환한다. 이미 존재하는 본문이면 압축/쓰기 없이 해시만 반환한다.
+     * 조회와 저장 사이에 같은 본문이 먼저 저장되어도 insertIfAbsent가 한 행으로 수렴시킨다.
+     * @param sourceCode 소스 본문
+     * @return SHA-256 hex 해시 (submission.source_hash)
+     */
+    @Transactional
+    public String store(String sourceCode) {
+        byte[] raw = sourceCode.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(raw);
+
+        // 재제출이 흔하므로 PK 조회로 먼저 걸러 BEST_COMPRESSION 압축 비용을 아낀다
+        if (submissionSourceRepository.existsById(hash)) {
+            log.debug("Submission source deduplicated: hash={}, bytes={}", hash, raw.length);
+            return hash;
+        }
+
+        byte[] compressed = deflate(raw);
+        boolean useDeflate = compressed.length < raw.length;
+        int inserted = submissionSourceRepository.insertIfAbsent(
+                hash,
+                useDeflate ? SubmissionSource.ENCODING_DEFLATE : SubmissionSource.ENCODING_NONE,
+                raw.length,
+                useDeflate ? compressed : raw
+        );
+
+        log.debug("Submission source stored: hash={}, bytes={}, stored={}, deduplicated={}",
+                hash, raw.length, useDeflate ? compressed.length : raw.length, inserted == 0);
+        return hash;
+    }
+
+    /**
+     * 해시로 소스 본문을 복원한다.
+     * @param hash SHA-256 hex 해시
+     * @return 소스 본문 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> load(String hash) {
+        return submissionSourceRepository.findById(hash).map(SubmissionSourceService::decode);
+    }
+
+    static String decode(SubmissionSource source) {
+        byte[] raw = SubmissionSource.ENCODING_DEFLATE.equals(source.getEncoding())
+                ? inflate(source.getContent(), source.getOriginalLength())
+                : source.getContent();
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    static String hash(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, offset, originalLength - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            if (offset != originalLength) {
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "제출 소스 복원에 실패했습니다");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "제출 소스 복원에 실패했습니다");
+        } finally {
+            inflater.end();
+        }
+    }
+}
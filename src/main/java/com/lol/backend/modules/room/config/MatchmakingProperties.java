@@ -0,0 +1,64 @@
+package com.lol.backend.modules.room.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 빠른 매칭 설정.
+ * application.yml의 room.matchmaking 바인딩.
+ *
+ * @param maxPlayers      매칭으로 만드는 방의 정원 (CreateRoomRequest 허용 범위 2~6)
+ * @param baseTolerance   대기 직후의 허용 점수 차
+ * @param widenPerSecond  대기 1초마다 넓어지는 허용 점수 차
+ * @param maxTolerance    허용 점수 차 상한
+ * @param matchIntervalMs 매칭 루프 주기
+ * @param anchorsPerTick  대기열별로 1회에 기준(anchor)으로 삼는 가장 오래 기다린 티켓 수
+ * @param candidateLimit  anchor별로 점수 구간에서 조회하는 최대 후보 수
+ * @param ticketTtlMs     최대 대기 시간 (초과한 티켓은 대기열에서 제거)
+ */
+@ConfigurationProperties(prefix = "room.matchmaking")
+public record MatchmakingProperties(
+        int maxPlayers,
+        int baseTolerance,
+        int widenPerSecond,
+        int maxTolerance,
+        long matchIntervalMs,
+        int anchorsPerTick,
+        int candidateLimit,
+        long ticketTtlMs
+) {
+    public MatchmakingProperties {
+        if (maxPlayers < 2 || maxPlayers > 6) {
+            maxPlayers = 4;
+        }
+        if (baseTolerance <= 0) {
+            baseTolerance = 100;
+        }
+        if (widenPerSecond < 0) {
+            widenPerSecond = 10;
+        }
+        if (maxTolerance < baseTolerance) {
+            maxTolerance = Math.max(1_000, baseTolerance);
+        }
+        if (matchIntervalMs <= 0) {
+            matchIntervalMs = 1_000;
+        }
+        if (anchorsPerTick <= 0) {
+            anchorsPerTick = 200;
+        }
+        if (candidateLimit < maxPlayers) {
+            candidateLimit = Math.max(32, maxPlayers * 4);
+        }
+        if (ticketTtlMs <= 0) {
+            ticketTtlMs = 600_000;
+        }
+    }
+
+    /**
+     * 대기 시간에 따라 넓어진 허용 점수 차.
+     * @param waitedMs 대기 시간 (ms)
+     */
+    public int toleranceFor(long waitedMs) {
+        long widened = baseTolerance + widenPerSecond * Math.max(0, waitedMs) / 1_000;
+        return (int) Math.min(widened, maxTolerance);
+    }
+}
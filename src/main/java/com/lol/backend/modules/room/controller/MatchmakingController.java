@@ -0,0 +1,42 @@
+package com.lol.backend.modules.room.controller;
+
+import com.lol.backend.common.dto.ApiResponse;
+import com.lol.backend.common.util.RequestContextHolder;
+import com.lol.backend.common.util.SecurityUtil;
+import com.lol.backend.modules.room.dto.QuickMatchRequest;
+import com.lol.backend.modules.room.dto.QuickMatchResponse;
+import com.lol.backend.modules.room.service.MatchmakingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/rooms/quick-match")
+@RequiredArgsConstructor
+public class MatchmakingController {
+
+    private final MatchmakingService matchmakingService;
+
+    // POST /rooms/quick-match
+    @PostMapping
+    public ResponseEntity<ApiResponse<QuickMatchResponse>> enqueue(
+            @RequestBody @Valid QuickMatchRequest request) {
+
+        UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
+        QuickMatchResponse result = matchmakingService.enqueue(userId, request);
+        return ResponseEntity.ok(ApiResponse.success(result, RequestContextHolder.getRequestId()));
+    }
+
+    // DELETE /rooms/quick-match
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> cancel() {
+
+        UUID userId = UUID.fromString(SecurityUtil.getCurrentUserId());
+        matchmakingService.cancel(userId);
+        return ResponseEntity.ok(ApiResponse.success(Map.of(), RequestContextHolder.getRequestId()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.lol.backend.modules.room.dto;
+
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.Language;
+import jakarta.validation.constraints.NotNull;
+
+public record QuickMatchRequest(
+        @NotNull
+        GameType gameType,
+
+        @NotNull
+        Language language
+) {}
@@ -0,0 +1,13 @@
+package com.lol.backend.modules.room.dto;
+
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.Language;
+
+import java.time.Instant;
+
+public record QuickMatchResponse(
+        GameType gameType,
+        Language language,
+        long queueSize,
+        Instant enqueuedAt
+) {}
@@ -62,4 +62,10 @@ public class NoOpRoomEventPublisher implements RoomEventPublisher {
                                 String pageRoute, String stageStartedAt, String stageDeadlineAt, long remainingMs) {
         log.debug("[NoOp] roomGameStarted: roomId={}, gameId={}, stage={}", roomId, gameId, stage);
     }
+
+    @Override
+    public void matchFound(UUID userId, UUID roomId, String gameType, String language, String matchedAt) {
+        log.debug("[NoOp] matchFound: userId={}, roomId={}, gameType={}, language={}, matchedAt={}",
+                userId, roomId, gameType, language, matchedAt);
+    }
 }
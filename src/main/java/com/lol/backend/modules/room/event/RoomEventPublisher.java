@@ -101,4 +101,16 @@ public interface RoomEventPublisher {
      */
     void roomGameStarted(UUID roomId, UUID gameId, String gameType, String stage,
                          String pageRoute, String stageStartedAt, String stageDeadlineAt, long remainingMs);
+
+    /**
+     * ROOM_MATCH_FOUND: /user/queue/rooms
+     * 빠른 매칭으로 방이 만들어졌을 때 참가자 개인 알림.
+     *
+     * @param userId 알림 받을 유저 ID
+     * @param roomId 룸 ID
+     * @param gameType 게임 타입 (NORMAL, RANKED)
+     * @param language 언어
+     * @param matchedAt 매칭 시각 (ISO-8601)
+     */
+    void matchFound(UUID userId, UUID roomId, String gameType, String language, String matchedAt);
 }
@@ -8,6 +8,7 @@ import com.lol.backend.modules.room.event.dto.RoomPlayerLeftEventData;
 import com.lol.backend.modules.room.event.dto.RoomPlayerStateChangedEventData;
 import com.lol.backend.modules.room.event.dto.RoomHostChangedEventData;
 import com.lol.backend.modules.room.event.dto.RoomKickedEventData;
+import com.lol.backend.modules.room.event.dto.RoomMatchFoundEventData;
 import com.lol.backend.modules.room.dto.RoomSummaryResponse;
 import com.lol.backend.realtime.dto.EventType;
 import com.lol.backend.realtime.support.EventPublisher;
@@ -99,6 +100,13 @@ public class StompRoomEventPublisher implements RoomEventPublisher {
         log.debug("roomGameStarted: roomId={}, gameId={}, stage={}", roomId, gameId, stage);
     }
 
+    @Override
+    public void matchFound(UUID userId, UUID roomId, String gameType, String language, String matchedAt) {
+        var data = new RoomMatchFoundEventData(roomId.toString(), gameType, language, matchedAt);
+        eventPublisher.sendToUser(userId.toString(), QUEUE_ROOMS, EventType.ROOM_MATCH_FOUND, data);
+        log.debug("matchFound: userId={}, roomId={}", userId, roomId);
+    }
+
     private String lobbyTopic(UUID roomId) {
         return String.format(TOPIC_ROOM_LOBBY, roomId);
     }
@@ -0,0 +1,12 @@
+package com.lol.backend.modules.room.event.dto;
+
+/**
+ * ROOM_MATCH_FOUND 이벤트 데이터.
+ * 빠른 매칭으로 방이 만들어졌을 때 참가자 개인 큐(/user/queue/rooms)로 전달된다.
+ */
+public record RoomMatchFoundEventData(
+    String roomId,
+    String gameType,
+    String language,
+    String matchedAt
+) {}
@@ -0,0 +1,275 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.room.config.MatchmakingProperties;
+import com.lol.backend.modules.room.dto.CreateRoomRequest;
+import com.lol.backend.modules.room.dto.QuickMatchRequest;
+import com.lol.backend.modules.room.dto.QuickMatchResponse;
+import com.lol.backend.modules.room.dto.RoomDetailResponse;
+import com.lol.backend.modules.room.event.RoomEventPublisher;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.realtime.presence.PresenceService;
+import com.lol.backend.state.dto.MatchTicketDto;
+import com.lol.backend.state.store.MatchQueueStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 점수 기반 빠른 매칭 서비스.
+ *
+ * - (gameType, language)별 대기열은 Redis 점수 ZSET이라 등록/취소/점수 구간 조회가 O(log n)이다
+ * - 매칭 루프는 가장 오래 기다린 티켓을 기준(anchor)으로, 대기 시간에 따라 넓어진 허용 점수 차 안에서
+ *   점수가 가장 가까운 maxPlayers-1명을 골라 원자적으로 꺼낸(claim) 뒤 방을 만든다
+ * - claim이 원자적이므로 여러 노드에서 루프가 돌아도 같은 티켓이 두 번 매칭되지 않는다
+ * - 방 생성/참가는 RoomService를 그대로 사용하므로 목록/대기실 이벤트도 기존 경로로 발행된다
+ */
+@Slf4j
+@Service
+public class MatchmakingService {
+
+    private static final String ROOM_NAME_PREFIX = "빠른 매칭 · ";
+
+    private final MatchQueueStore matchQueueStore;
+    private final RoomService roomService;
+    private final UserRepository userRepository;
+    private final PresenceService presenceService;
+    private final RoomEventPublisher eventPublisher;
+    private final MatchmakingProperties properties;
+    private final Clock clock;
+
+    public MatchmakingService(MatchQueueStore matchQueueStore,
+                              RoomService roomService,
+                              UserRepository userRepository,
+                              PresenceService presenceService,
+                              RoomEventPublisher eventPublisher,
+                              MatchmakingProperties properties) {
+        this(matchQueueStore, roomService, userRepository, presenceService, eventPublisher, properties,
+                Clock.systemUTC());
+    }
+
+    MatchmakingService(MatchQueueStore matchQueueStore,
+                       RoomService roomService,
+                       UserRepository userRepository,
+                       PresenceService presenceService,
+                       RoomEventPublisher eventPublisher,
+                       MatchmakingProperties properties,
+                       Clock clock) {
+        this.matchQueueStore = matchQueueStore;
+        this.roomService = roomService;
+        this.userRepository = userRepository;
+        this.presenceService = presenceService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 빠른 매칭 대기열에 등록한다.
+     * @param userId 사용자 ID
+     * @param request 게임 타입/언어
+     */
+    public QuickMatchResponse enqueue(UUID userId, QuickMatchRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
+        if (user.getActiveGameId() != null) {
+            throw new BusinessException(ErrorCode.ACTIVE_GAME_EXISTS);
+        }
+
+        String gameType = request.gameType().name();
+        String language = request.language().name();
+        long now = clock.millis();
+        MatchTicketDto ticket = new MatchTicketDto(userId, user.getScore(), now);
+        if (!matchQueueStore.enqueue(gameType, language, ticket, properties.ticketTtlMs())) {
+            throw new BusinessException(ErrorCode.INVALID_PLAYER_STATE, "이미 매칭 대기 중입니다");
+        }
+        log.debug("Match ticket enqueued: userId={}, gameType={}, language={}, score={}",
+                userId, gameType, language, user.getScore());
+
+        return new QuickMatchResponse(
+                request.gameType(),
+                request.language(),
+                matchQueueStore.size(gameType, language),
+                Instant.ofEpochMilli(now)
+        );
+    }
+
+    /**
+     * 빠른 매칭 대기를 취소한다. 대기 중이 아니면 아무것도 하지 않는다.
+     * @param userId 사용자 ID
+     */
+    public void cancel(UUID userId) {
+        matchQueueStore.dequeue(userId)
+                .ifPresent(queue -> log.debug("Match ticket cancelled: userId={}, queue={}", userId, queue));
+    }
+
+    /**
+     * 모든 대기열에 대해 매칭을 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${room.matchmaking.match-interval-ms:1000}")
+    public void matchAll() {
+        for (GameType gameType : GameType.values()) {
+            for (Language language : Language.values()) {
+                try {
+                    match(gameType, language);
+                } catch (Exception e) {
+                    log.warn("Matchmaking failed: gameType={}, language={}", gameType, language, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 대기열에서 가장 오래 기다린 티켓부터 기준으로 삼아 매칭한다.
+     * @return 만들어진 방 수
+     */
+    int match(GameType gameType, Language language) {
+        String gt = gameType.name();
+        String lang = language.name();
+        int groupSize = properties.maxPlayers();
+        if (matchQueueStore.size(gt, lang) < groupSize) {
+            return 0;
+        }
+
+        long now = clock.millis();
+        Set<UUID> taken = new HashSet<>();
+        int formed = 0;
+        for (MatchTicketDto anchor : matchQueueStore.oldest(gt, lang, properties.anchorsPerTick())) {
+            if (taken.contains(anchor.userId())) {
+                continue;
+            }
+            long waitedMs = now - anchor.enqueuedAtMs();
+            if (waitedMs > properties.ticketTtlMs()) {
+                // 최대 대기 시간 초과: 티켓 키는 TTL로 이미 만료됐을 수 있으므로 ZSET에서 직접 꺼낸다
+                matchQueueStore.claim(gt, lang, List.of(anchor.userId()));
+                continue;
+            }
+
+            List<MatchTicketDto> group = pickGroup(gt, lang, anchor, waitedMs, taken, groupSize);
+            if (group == null) {
+                continue;
+            }
+            List<UUID> userIds = group.stream().map(MatchTicketDto::userId).toList();
+            if (!matchQueueStore.claim(gt, lang, userIds)) {
+                // 그 사이 취소되었거나 다른 노드가 먼저 매칭함 → 다음 주기에 다시 시도
+                continue;
+            }
+            taken.addAll(userIds);
+            if (formRoom(gameType, language, group)) {
+                formed++;
+            }
+        }
+        return formed;
+    }
+
+    /**
+     * anchor의 허용 점수 차 안에서 점수가 가까운 순으로 groupSize-1명을 고른다.
+     * @return anchor 포함 그룹 (인원이 모자라면 null)
+     */
+    private List<MatchTicketDto> pickGroup(String gt, String lang, MatchTicketDto anchor, long waitedMs,
+                                           Set<UUID> taken, int groupSize) {
+        int tolerance = properties.toleranceFor(waitedMs);
+        List<MatchTicketDto> candidates = new ArrayList<>();
+        for (MatchTicketDto candidate : matchQueueStore.findNearest(gt, lang,
+                anchor.score(), tolerance, properties.candidateLimit())) {
+            if (!candidate.userId().equals(anchor.userId()) && !taken.contains(candidate.userId())) {
+                candidates.add(candidate);
+            }
+        }
+        if (candidates.size() < groupSize - 1) {
+            return null;
+        }
+        candidates.sort(Comparator
+                .comparingInt((MatchTicketDto c) -> Math.abs(c.score() - anchor.score()))
+                .thenComparingLong(MatchTicketDto::enqueuedAtMs));
+
+        List<MatchTicketDto> group = new ArrayList<>(groupSize);
+        group.add(anchor);
+        group.addAll(candidates.subList(0, groupSize - 1));
+        return group;
+    }
+
+    /**
+     * 꺼낸 그룹으로 방을 만든다.
+     * 오프라인 사용자는 버리고, 인원이 모자라게 되면 나머지는 원래 대기 시작 시각 그대로 되돌린다.
+     * 방 생성/참가에 실패한 사용자도 같은 방식으로 되돌린다 (claim으로 이미 대기열에서 빠졌으므로).
+     * @return 방이 만들어졌으면 true
+     */
+    private boolean formRoom(GameType gameType, Language language, List<MatchTicketDto> group) {
+        String gt = gameType.name();
+        String lang = language.name();
+
+        Map<UUID, Boolean> online = presenceService.getOnline(group.stream().map(MatchTicketDto::userId).toList());
+        List<MatchTicketDto> present = group.stream()
+                .filter(ticket -> Boolean.TRUE.equals(online.get(ticket.userId())))
+                .sorted(Comparator.comparingLong(MatchTicketDto::enqueuedAtMs))
+                .toList();
+        if (present.size() < group.size()) {
+            log.debug("Dropped offline match tickets: gameType={}, language={}, dropped={}",
+                    gt, lang, group.size() - present.size());
+            requeue(gt, lang, present);
+            return false;
+        }
+
+        // 가장 오래 기다린 사용자가 방장
+        MatchTicketDto host = present.get(0);
+        RoomDetailResponse room;
+        try {
+            room = roomService.createRoom(host.userId(), new CreateRoomRequest(
+                    ROOM_NAME_PREFIX + lang, gameType, language, properties.maxPlayers()));
+        } catch (BusinessException e) {
+            // 방장 본인 상태 문제(이미 게임 중 등)이므로 방장만 빼고 나머지를 되돌린다
+            log.debug("Match host could not create room: userId={}, code={}", host.userId(), e.getErrorCode());
+            requeue(gt, lang, present.subList(1, present.size()));
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Match room creation failed, requeueing group: hostId={}, gameType={}, language={}",
+                    host.userId(), gt, lang, e);
+            requeue(gt, lang, present);
+            return false;
+        }
+
+        UUID roomId = UUID.fromString(room.roomId());
+        String matchedAt = Instant.ofEpochMilli(clock.millis()).toString();
+        eventPublisher.matchFound(host.userId(), roomId, gt, lang, matchedAt);
+        List<MatchTicketDto> failed = new ArrayList<>();
+        for (MatchTicketDto member : present.subList(1, present.size())) {
+            try {
+                roomService.joinRoom(roomId, member.userId());
+                eventPublisher.matchFound(member.userId(), roomId, gt, lang, matchedAt);
+            } catch (RuntimeException e) {
+                log.debug("Matched user could not join room: userId={}, roomId={}", member.userId(), roomId, e);
+                failed.add(member);
+            }
+        }
+        // 참가하지 못한 사용자는 원래 대기 시작 시각 그대로 되돌려 다음 주기에 다시 매칭한다
+        requeue(gt, lang, failed);
+        log.info("Match formed: roomId={}, gameType={}, language={}, players={}, requeued={}",
+                roomId, gt, lang, present.size() - failed.size(), failed.size());
+        return true;
+    }
+
+    private void requeue(String gt, String lang, List<MatchTicketDto> tickets) {
+        long now = clock.millis();
+        for (MatchTicketDto ticket : tickets) {
+            long remainingTtl = properties.ticketTtlMs() - (now - ticket.enqueuedAtMs());
+            if (remainingTtl > 0) {
+                matchQueueStore.enqueue(gt, lang, ticket, remainingTtl);
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.state.dto.RoomListChangeDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.store.RoomStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 방 이름의 메모리 n-gram 역색인.
+ *
+ * 한글 방 이름은 접두사 색인이 쓸모없으므로 이름의 모든 2-gram/3-gram을 색인하고,
+ * 검색어의 n-gram posting을 교집합한 뒤 원문 contains로 후보를 확정한다 (기존 부분 문자열 검색과 동일한 의미).
+ * 언어/게임 타입 필터는 색인에 함께 저장된 속성으로 후보 단계에서 바로 거른다.
+ *
+ * 이 노드의 생성/삭제는 RoomService가 즉시 반영하고, 다른 노드의 변경은 방 목록 버전(room:{list}:version)이
+ * 로컬에서 관찰한 값과 달라졌을 때 변경 스트림(room:{list}:changes)에서 그 사이의 생성/삭제만 읽어 반영한다.
+ * 스트림이 절삭되어 중간 버전이 비었거나 아직 색인 전이면 전체 재색인한다.
+ */
+@Slf4j
+@Component
+public class RoomNameIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final RoomStateStore roomStateStore;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<UUID, IndexedRoom> rooms = new HashMap<>();
+    private Map<String, Set<UUID>> postings = new HashMap<>();
+    // 이 색인이 반영한 것으로 확인된 마지막 방 목록 버전 (-1이면 아직 색인 전)
+    private volatile long syncedVersion = -1;
+    // 재색인 도중 로컬 변경이 있어 교체된 색인에서 누락됐을 수 있음 → 다음 주기에 다시 재색인
+    private volatile boolean stale;
+    private long localMutations;
+
+    public RoomNameIndex(RoomStateStore roomStateStore) {
+        this.roomStateStore = roomStateStore;
+    }
+
+    public boolean isReady() {
+        return syncedVersion >= 0;
+    }
+
+    /**
+     * 방을 색인하거나 이름/속성이 바뀐 방을 재색인한다.
+     */
+    public void put(RoomStateDto room) {
+        lock.writeLock().lock();
+        try {
+            IndexedRoom previous = rooms.get(room.id());
+            if (previous != null && previous.matchesAttributes(room)) {
+                return;
+            }
+            if (previous != null) {
+                unindex(room.id(), previous.name());
+            }
+            rooms.put(room.id(), IndexedRoom.of(room));
+            index(postings, room.id(), room.roomName());
+            localMutations++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID roomId) {
+        lock.writeLock().lock();
+        try {
+            IndexedRoom previous = rooms.remove(roomId);
+            if (previous != null) {
+                unindex(roomId, previous.name());
+            }
+            localMutations++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이 노드가 방 목록 버전을 올린 직후 호출한다.
+     * 직전 관찰 버전의 바로 다음이면 로컬 변경만 있었던 것이므로 재색인을 생략한다.
+     */
+    public void observeListVersion(long version) {
+        synchronized (this) {
+            if (syncedVersion >= 0 && !stale && version == syncedVersion + 1) {
+                syncedVersion = version;
+            }
+        }
+    }
+
+    /**
+     * 방 목록 버전이 관찰 값과 다르면(다른 노드의 변경) 그 사이 변경을 반영한다.
+     * 변경 스트림에서 이어 읽을 수 없으면 전체 재색인한다.
+     */
+    @Scheduled(fixedDelayString = "${room.search.sync-interval-ms:2000}")
+    public void syncVersion() {
+        long synced;
+        boolean needsRebuild;
+        synchronized (this) {
+            synced = syncedVersion;
+            needsRebuild = synced < 0 || stale;
+        }
+        long version = roomStateStore.getListVersion();
+        if (!needsRebuild && version == synced) {
+            return;
+        }
+        if (!needsRebuild && version > synced) {
+            Optional<List<RoomListChangeDto>> changes = roomStateStore.getListChangesSince(synced, version);
+            if (changes.isPresent()) {
+                apply(changes.get(), version);
+                return;
+            }
+            log.debug("Room list changes unavailable, rebuilding index: synced={}, version={}", synced, version);
+        }
+        rebuild(version);
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하고 필터를 만족하는 방 ID 후보를 반환한다.
+     * @param roomName 검색어 (비어 있지 않아야 함)
+     * @param language 언어 필터 (null이면 미적용)
+     * @param gameType 게임 타입 필터 (null이면 미적용)
+     */
+    public List<UUID> search(String roomName, Language language, GameType gameType) {
+        String languageName = language != null ? language.name() : null;
+        String gameTypeName = gameType != null ? gameType.name() : null;
+
+        lock.readLock().lock();
+        try {
+            Collection<UUID> candidates = candidates(roomName);
+            List<UUID> matched = new ArrayList<>(Math.min(candidates.size(), 1024));
+            for (UUID roomId : candidates) {
+                IndexedRoom room = rooms.get(roomId);
+                if (room != null
+                        && (languageName == null || languageName.equals(room.language()))
+                        && (gameTypeName == null || gameTypeName.equals(room.gameType()))
+                        && room.name().contains(roomName)) {
+                    matched.add(roomId);
+                }
+            }
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rooms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<UUID> candidates(String roomName) {
+        if (roomName.length() < 2) {
+            // 1글자는 posting이 거의 전체라 색인 이득이 없으므로 메모리의 이름만 훑는다
+            return rooms.keySet();
+        }
+        int gram = Math.min(roomName.length(), MAX_GRAM);
+        List<Set<UUID>> lists = new ArrayList<>(roomName.length() - gram + 1);
+        for (int i = 0; i + gram <= roomName.length(); i++) {
+            Set<UUID> posting = postings.get(roomName.substring(i, i + gram));
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<UUID> smallest = lists.get(0);
+        if (lists.size() == 1) {
+            return smallest;
+        }
+        List<UUID> intersection = new ArrayList<>(smallest.size());
+        for (UUID roomId : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(roomId);
+            }
+            if (inAll) {
+                intersection.add(roomId);
+            }
+        }
+        return intersection;
+    }
+
+    private void apply(List<RoomListChangeDto> changes, long version) {
+        int applied = 0;
+        lock.writeLock().lock();
+        try {
+            for (RoomListChangeDto change : changes) {
+                switch (change.type()) {
+                    case UPSERT -> {
+                        IndexedRoom room = new IndexedRoom(
+                                change.roomName() != null ? change.roomName() : "", change.language(), change.gameType());
+                        IndexedRoom previous = rooms.put(change.roomId(), room);
+                        if (previous != null) {
+                            unindex(change.roomId(), previous.name());
+                        }
+                        index(postings, change.roomId(), room.name());
+                        applied++;
+                    }
+                    case REMOVE -> {
+                        IndexedRoom previous = rooms.remove(change.roomId());
+                        if (previous != null) {
+                            unindex(change.roomId(), previous.name());
+                            applied++;
+                        }
+                    }
+                    case UPDATE -> {
+                        // 인원/상태 변경은 이름 색인과 무관
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        synchronized (this) {
+            // 반영하는 사이 이 노드의 변경으로 관찰 버전이 더 올라갔으면 그대로 둔다
+            syncedVersion = Math.max(syncedVersion, version);
+        }
+        log.debug("Room name index synced incrementally: version={}, changes={}, applied={}",
+                version, changes.size(), applied);
+    }
+
+    private void rebuild(long version) {
+        long mutationsBefore;
+        lock.readLock().lock();
+        try {
+            mutationsBefore = localMutations;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<RoomStateDto> activeRooms = roomStateStore.getAllActiveRooms();
+        Map<UUID, IndexedRoom> newRooms = new HashMap<>(activeRooms.size() * 2);
+        Map<String, Set<UUID>> newPostings = new HashMap<>(activeRooms.size() * 8);
+        for (RoomStateDto room : activeRooms) {
+            newRooms.put(room.id(), IndexedRoom.of(room));
+            index(newPostings, room.id(), room.roomName());
+        }
+
+        boolean mutatedDuringRebuild;
+        lock.writeLock().lock();
+        try {
+            rooms = newRooms;
+            postings = newPostings;
+            mutatedDuringRebuild = localMutations != mutationsBefore;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        synchronized (this) {
+            syncedVersion = version;
+            stale = mutatedDuringRebuild;
+        }
+        log.debug("Room name index rebuilt: version={}, rooms={}, grams={}", version, newRooms.size(), newPostings.size());
+    }
+
+    private static void index(Map<String, Set<UUID>> target, UUID roomId, String name) {
+        for (String gram : grams(name)) {
+            target.computeIfAbsent(gram, k -> new HashSet<>()).add(roomId);
+        }
+    }
+
+    private void unindex(UUID roomId, String name) {
+        for (String gram : grams(name)) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting != null && posting.remove(roomId) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    static Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        if (name == null) {
+            return grams;
+        }
+        for (int n = 2; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= name.length(); i++) {
+                grams.add(name.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    private record IndexedRoom(String name, String language, String gameType) {
+
+        static IndexedRoom of(RoomStateDto room) {
+            return new IndexedRoom(room.roomName() != null ? room.roomName() : "", room.language(), room.gameType());
+        }
+
+        boolean matchesAttributes(RoomStateDto room) {
+            return name.equals(room.roomName()) && language.equals(room.language()) && gameType.equals(room.gameType());
+        }
+    }
+}
@@ -14,9 +14,11 @@ import com.lol.backend.modules.room.dto.*;
 import com.lol.backend.modules.room.entity.*;
 import com.lol.backend.modules.room.event.RoomEventPublisher;
 import com.lol.backend.modules.game.event.GameEventPublisher;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
 import com.lol.backend.modules.user.entity.Language;
 import com.lol.backend.modules.user.entity.User;
 import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.realtime.presence.PresenceService;
 import com.lol.backend.state.snapshot.SnapshotWriter;
 import com.lol.backend.state.store.GameStateStore;
 import com.lol.backend.state.store.RoomStateStore;
@@ -24,6 +26,7 @@ import com.lol.backend.state.dto.GamePlayerStateDto;
 import com.lol.backend.state.dto.GameStateDto;
 import com.lol.backend.state.dto.RoomHostHistoryStateDto;
 import com.lol.backend.state.dto.RoomKickStateDto;
+import com.lol.backend.state.dto.RoomListChangeDto;
 import com.lol.backend.state.dto.RoomPlayerStateDto;
 import com.lol.backend.state.dto.RoomStateDto;
 import org.springframework.stereotype.Service;
@@ -48,6 +51,9 @@ public class RoomService {
     private final GameStateStore gameStateStore;
     private final SnapshotWriter snapshotWriter;
     private final GameService gameService;
+    private final LobbyStatsService lobbyStatsService;
+    private final RoomNameIndex roomNameIndex;
+    private final PresenceService presenceService;
 
     // ========== 1. getRooms ==========
     public PagedRoomListResponse getRooms(UUID currentUserId,
@@ -56,8 +62,12 @@ public class RoomService {
                                           GameType gameType,
                                           String cursor,
                                           int limit) {
-        // Redis에서 활성 룸 목록 조회
-        List<RoomStateDto> allRooms = roomStateStore.getAllActiveRooms();
+        // 이름 검색은 n-gram 색인 후보만 조회하고, 그 외에는 Redis에서 활성 룸 목록 전체를 조회
+        // (색인 후보도 아래 필터로 최신 상태를 다시 확인한다)
+        boolean nameSearch = roomName != null && !roomName.isEmpty();
+        List<RoomStateDto> allRooms = nameSearch && roomNameIndex.isReady()
+                ? roomStateStore.getRooms(roomNameIndex.search(roomName, language, gameType))
+                : roomStateStore.getAllActiveRooms();
 
         // 필터링 적용
         List<RoomStateDto> filteredRooms = allRooms.stream()
@@ -145,6 +155,7 @@ public class RoomService {
                 now
         );
         roomStateStore.saveRoom(roomState);
+        roomNameIndex.put(roomState);
 
         // Redis에 RoomPlayer 상태 저장 (DB 접근 없음)
         UUID playerId = UUID.randomUUID();
@@ -158,14 +169,15 @@ public class RoomService {
                 null
         );
         roomStateStore.addPlayer(playerState);
+        // 참가도 활동으로 기록한다 (STOMP 연결 전에 이탈한 사용자도 끊김 sweep 대상이 되도록)
+        presenceService.touch(userId);
 
         // Host history → Redis
         roomStateStore.addHostHistory(new RoomHostHistoryStateDto(
                 roomId, null, userId, HostChangeReason.SYSTEM.name(), now
         ));
 
-        roomStateStore.incrementListVersion();
-        long listVersion = roomStateStore.getListVersion();
+        long listVersion = bumpListVersion(RoomListChangeDto.upsert(roomState));
         RoomSummaryResponse summary = buildRoomSummary(roomId);
         eventPublisher.roomListUpsert(summary, listVersion);
 
@@ -224,9 +236,10 @@ public class RoomService {
             // Player already in room, return current state
             return buildRoomDetailResponse(roomId);
         }
+        // 참가도 활동으로 기록한다 (STOMP 연결 전에 이탈한 사용자도 끊김 sweep 대상이 되도록)
+        presenceService.touch(userId);
 
-        roomStateStore.incrementListVersion();
-        long listVersion = roomStateStore.getListVersion();
+        long listVersion = bumpListVersion(RoomListChangeDto.update(roomId));
         eventPublisher.playerJoined(
                 roomId,
                 userId,
@@ -247,20 +260,10 @@ public class RoomService {
         RoomStateDto roomState = roomStateStore.getRoom(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
 
-        RoomPlayerStateDto playerState = roomStateStore.getPlayer(roomId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PLAYER_NOT_IN_ROOM));
-
-        // Redis에서 플레이어 leftAt 갱신
-        RoomPlayerStateDto updatedPlayer = new RoomPlayerStateDto(
-                playerState.id(),
-                playerState.roomId(),
-                playerState.userId(),
-                playerState.state(),
-                playerState.joinedAt(),
-                Instant.now(),
-                playerState.disconnectedAt()
-        );
-        roomStateStore.addPlayer(updatedPlayer);
+        // Redis에서 플레이어 leftAt 갱신 (원자적 조건부 갱신: 이미 나간 플레이어면 실패)
+        if (!roomStateStore.markPlayerLeft(roomId, userId, Instant.now())) {
+            throw new BusinessException(ErrorCode.PLAYER_NOT_IN_ROOM);
+        }
 
         List<RoomPlayerStateDto> remaining = getActivePlayers(roomId);
 
@@ -272,8 +275,8 @@ public class RoomService {
                 // 게임이 시작된 방 해체: DB에 스냅샷 반영 + Redis 삭제
                 snapshotWriter.flushRoom(roomId);
             }
-            roomStateStore.incrementListVersion();
-            long listVersion = roomStateStore.getListVersion();
+            roomNameIndex.remove(roomId);
+            long listVersion = bumpListVersion(RoomListChangeDto.remove(roomId));
             eventPublisher.roomListRemoved(roomId, listVersion, "ROOM_CLOSED");
             return;
         }
@@ -284,30 +287,10 @@ public class RoomService {
             UUID newHostUserId = newHostPlayer.userId();
 
             // Redis에 Room hostUserId 갱신
-            RoomStateDto updatedRoom = new RoomStateDto(
-                    roomState.id(),
-                    roomState.roomName(),
-                    roomState.gameType(),
-                    roomState.language(),
-                    roomState.maxPlayers(),
-                    newHostUserId,
-                    roomState.activeGameId(),
-                    roomState.createdAt(),
-                    Instant.now()
-            );
-            roomStateStore.saveRoom(updatedRoom);
+            roomStateStore.updateHost(roomId, newHostUserId, Instant.now());
 
             // Redis에 새 방장 상태 READY로 갱신
-            RoomPlayerStateDto newHostUpdated = new RoomPlayerStateDto(
-                    newHostPlayer.id(),
-                    newHostPlayer.roomId(),
-                    newHostPlayer.userId(),
-                    PlayerState.READY.name(),
-                    newHostPlayer.joinedAt(),
-                    newHostPlayer.leftAt(),
-                    newHostPlayer.disconnectedAt()
-            );
-            roomStateStore.addPlayer(newHostUpdated);
+            roomStateStore.updatePlayerState(roomId, newHostUserId, PlayerState.READY.name());
 
             // Host history → Redis
             roomStateStore.addHostHistory(new RoomHostHistoryStateDto(
@@ -323,8 +306,7 @@ public class RoomService {
             );
         }
 
-        roomStateStore.incrementListVersion();
-        long listVersion = roomStateStore.getListVersion();
+        long listVersion = bumpListVersion(RoomListChangeDto.update(roomId));
         eventPublisher.playerLeft(roomId, userId, Instant.now().toString(), "LEAVE");
 
         // Emit ROOM_LIST_UPSERT to synchronize room list after leave (if room still exists)
@@ -491,8 +473,7 @@ public class RoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GAME_NOT_FOUND));
 
         // ROOM_LIST_REMOVED 이벤트 발행
-        roomStateStore.incrementListVersion();
-        long listVersion = roomStateStore.getListVersion();
+        long listVersion = bumpListVersion(RoomListChangeDto.update(roomId));
         eventPublisher.roomListRemoved(roomId, listVersion, "GAME_STARTED");
 
         // SSOT 계약: remainingMs와 meta.serverTime을 동일 Instant 기반으로 계산
@@ -527,6 +508,8 @@ public class RoomService {
                 serverTime
         );
 
+        lobbyStatsService.playersEnteredGame(activePlayers.stream().map(RoomPlayerStateDto::userId).toList());
+
         return ActiveGameResponse.from(updatedGame);
     }
 
@@ -546,20 +529,9 @@ public class RoomService {
         roomStateStore.addKick(new RoomKickStateDto(roomId, targetUserId, userId, Instant.now()));
 
         // Redis에서 플레이어 leftAt 갱신
-        RoomPlayerStateDto targetPlayer = roomStateStore.getPlayer(roomId, targetUserId).get();
-        RoomPlayerStateDto updatedPlayer = new RoomPlayerStateDto(
-                targetPlayer.id(),
-                targetPlayer.roomId(),
-                targetPlayer.userId(),
-                targetPlayer.state(),
-                targetPlayer.joinedAt(),
-                Instant.now(),
-                targetPlayer.disconnectedAt()
-        );
-        roomStateStore.addPlayer(updatedPlayer);
+        roomStateStore.markPlayerLeft(roomId, targetUserId, Instant.now());
 
-        roomStateStore.incrementListVersion();
-        long listVersion = roomStateStore.getListVersion();
+        long listVersion = bumpListVersion(RoomListChangeDto.update(roomId));
         eventPublisher.playerKicked(
                 roomId,
                 targetUserId,
@@ -581,6 +553,15 @@ public class RoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
     }
 
+    /**
+     * 방 목록 버전을 올리면서 변경을 기록하고, 이름 색인에 이 노드의 변경임을 알린다 (이미 반영한 변경을 다시 읽지 않음).
+     */
+    private long bumpListVersion(RoomListChangeDto change) {
+        long listVersion = roomStateStore.appendListChange(change);
+        roomNameIndex.observeListVersion(listVersion);
+        return listVersion;
+    }
+
     private List<RoomPlayerStateDto> getActivePlayers(UUID roomId) {
         return roomStateStore.getPlayers(roomId).stream()
                 .filter(p -> p.leftAt() == null)
@@ -0,0 +1,26 @@
+package com.lol.backend.modules.stats.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로비 통계 설정.
+ * application.yml의 stats.lobby 바인딩.
+ *
+ * @param rebuildIntervalMs 접속/게임 중 비트맵을 presence와 game:index 기준으로 다시 만드는 주기
+ * @param onlineWindowMs    재구성 시 마지막 활동이 이 시간 이내면 접속 중으로 본다
+ *                          (presence 온라인 판정 + 끊김 유예보다 길어야 유예 중인 사용자가 빠지지 않는다)
+ */
+@ConfigurationProperties(prefix = "stats.lobby")
+public record LobbyStatsProperties(
+        long rebuildIntervalMs,
+        long onlineWindowMs
+) {
+    public LobbyStatsProperties {
+        if (rebuildIntervalMs <= 0) {
+            rebuildIntervalMs = 60_000;
+        }
+        if (onlineWindowMs <= 0) {
+            onlineWindowMs = 60_000;
+        }
+    }
+}
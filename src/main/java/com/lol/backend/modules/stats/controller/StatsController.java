@@ -4,6 +4,8 @@ import com.lol.backend.common.dto.ApiResponse;
 import com.lol.backend.common.util.RequestContextHolder;
 import com.lol.backend.modules.stats.dto.ListOfAlgorithmPickBanRatesResponse;
 import com.lol.backend.modules.stats.dto.ListOfPlayerRankingsResponse;
+import com.lol.backend.modules.stats.dto.LobbyStatsResponse;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
 import com.lol.backend.modules.stats.service.StatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatsController {
 
     private final StatsService statsService;
+    private final LobbyStatsService lobbyStatsService;
 
     /**
      * GET /api/v1/stats/realtime/player-rankings
@@ -40,4 +43,14 @@ public class StatsController {
         ListOfAlgorithmPickBanRatesResponse response = statsService.getAlgorithmPickBanRates();
         return ApiResponse.success(response, RequestContextHolder.getRequestId());
     }
+
+    /**
+     * GET /api/v1/stats/realtime/lobby
+     * 로비 헤더 통계 조회 (접속/게임 중 인원, 언어별 DAU, MAU).
+     */
+    @GetMapping("/realtime/lobby")
+    public ApiResponse<LobbyStatsResponse> getLobbyStats() {
+        LobbyStatsResponse response = lobbyStatsService.getLobbyStats();
+        return ApiResponse.success(response, RequestContextHolder.getRequestId());
+    }
 }
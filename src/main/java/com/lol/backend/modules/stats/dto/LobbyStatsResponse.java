@@ -0,0 +1,37 @@
+package com.lol.backend.modules.stats.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.lol.backend.state.dto.LobbyStatsStateDto;
+
+import java.util.Map;
+
+/**
+ * 로비 헤더 통계.
+ * 접속/게임 중 인원은 현재 값, DAU/MAU는 HyperLogLog 추정치(표준 오차 약 0.81%)이다.
+ */
+public record LobbyStatsResponse(
+        @JsonProperty("onlineUsers")
+        long onlineUsers,
+
+        @JsonProperty("inGameUsers")
+        long inGameUsers,
+
+        @JsonProperty("dailyActiveUsers")
+        long dailyActiveUsers,
+
+        @JsonProperty("monthlyActiveUsers")
+        long monthlyActiveUsers,
+
+        @JsonProperty("dailyActiveByLanguage")
+        Map<String, Long> dailyActiveByLanguage
+) {
+    public static LobbyStatsResponse from(LobbyStatsStateDto stats) {
+        return new LobbyStatsResponse(
+                stats.onlineUsers(),
+                stats.inGameUsers(),
+                stats.dailyActiveUsers(),
+                stats.monthlyActiveUsers(),
+                stats.dailyActiveByLanguage()
+        );
+    }
+}
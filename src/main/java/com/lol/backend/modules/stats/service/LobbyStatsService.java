@@ -0,0 +1,161 @@
+package com.lol.backend.modules.stats.service;
+
+import com.lol.backend.modules.stats.config.LobbyStatsProperties;
+import com.lol.backend.modules.stats.dto.LobbyStatsResponse;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.realtime.presence.PresenceService;
+import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.LobbyStatsStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로비 통계 서비스.
+ * 접속/해제와 게임 시작/종료 훅에서 비트맵과 HyperLogLog를 갱신하고, 로비 헤더 통계를 O(1) 명령으로 조회한다.
+ *
+ * 통계 갱신 실패는 본 흐름(접속, 게임 시작/종료)을 막지 않도록 로그만 남긴다.
+ * 그 때문에 해제 이벤트가 유실되면(노드 종료, 갱신 실패) 비트가 켜진 채 남으므로,
+ * rebuild-interval-ms마다 접속 비트맵은 presence lastSeen, 게임 중 비트맵은 game:index 참가자로 다시 만든다.
+ * 일자 경계는 서비스 기준 시간대(KST)를 따른다.
+ */
+@Slf4j
+@Service
+public class LobbyStatsService {
+
+    private static final ZoneId STATS_ZONE = ZoneId.of("Asia/Seoul");
+    private static final List<String> LANGUAGES = Arrays.stream(Language.values()).map(Enum::name).toList();
+
+    private final LobbyStatsStore lobbyStatsStore;
+    private final UserRepository userRepository;
+    private final PresenceService presenceService;
+    private final GameStateStore gameStateStore;
+    private final LobbyStatsProperties properties;
+    private final Clock clock;
+
+    // 이 노드에서 오늘 이미 DAU로 기록한 사용자 (재접속마다 DB 조회/PFADD 반복 방지)
+    private volatile DailyRecorded dailyRecorded;
+
+    public LobbyStatsService(LobbyStatsStore lobbyStatsStore, UserRepository userRepository,
+                             PresenceService presenceService, GameStateStore gameStateStore,
+                             LobbyStatsProperties properties) {
+        this(lobbyStatsStore, userRepository, presenceService, gameStateStore, properties, Clock.system(STATS_ZONE));
+    }
+
+    LobbyStatsService(LobbyStatsStore lobbyStatsStore, UserRepository userRepository,
+                      PresenceService presenceService, GameStateStore gameStateStore,
+                      LobbyStatsProperties properties, Clock clock) {
+        this.lobbyStatsStore = lobbyStatsStore;
+        this.userRepository = userRepository;
+        this.presenceService = presenceService;
+        this.gameStateStore = gameStateStore;
+        this.properties = properties;
+        this.clock = clock;
+        this.dailyRecorded = new DailyRecorded(today(), ConcurrentHashMap.newKeySet());
+    }
+
+    public void userConnected(UUID userId) {
+        try {
+            lobbyStatsStore.setOnline(userId, true);
+            recordDailyActive(userId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update lobby stats on connect: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 끊김 유예가 지나 오프라인으로 확정된 사용자를 접속 비트맵에서 해제한다.
+     */
+    public void userOffline(UUID userId) {
+        try {
+            lobbyStatsStore.setOnline(userId, false);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update lobby stats on offline: userId={}", userId, e);
+        }
+    }
+
+    public void playersEnteredGame(Collection<UUID> userIds) {
+        updateInGame(userIds, true);
+    }
+
+    public void playersLeftGame(Collection<UUID> userIds) {
+        updateInGame(userIds, false);
+    }
+
+    public LobbyStatsResponse getLobbyStats() {
+        return LobbyStatsResponse.from(lobbyStatsStore.read(today(), LANGUAGES));
+    }
+
+    @Scheduled(fixedDelayString = "${stats.lobby.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        try {
+            rebuildBitmaps();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild lobby stats bitmaps", e);
+        }
+    }
+
+    /**
+     * 접속/게임 중 비트맵을 현재 상태로 다시 만든다.
+     * 조회와 교체 사이에 바뀐 사용자는 다음 재구성 때 맞춰진다.
+     */
+    void rebuildBitmaps() {
+        Set<UUID> online = presenceService.getSeenWithin(properties.onlineWindowMs());
+        lobbyStatsStore.replaceOnline(online);
+
+        Set<UUID> inGame = new HashSet<>();
+        for (UUID gameId : gameStateStore.getAllActiveGameIds()) {
+            inGame.addAll(gameStateStore.getGamePlayerIds(gameId));
+        }
+        lobbyStatsStore.replaceInGame(inGame);
+        log.debug("Lobby stats bitmaps rebuilt: online={}, inGame={}", online.size(), inGame.size());
+    }
+
+    private void updateInGame(Collection<UUID> userIds, boolean inGame) {
+        try {
+            lobbyStatsStore.setInGame(userIds, inGame);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update in-game stats: users={}, inGame={}", userIds.size(), inGame, e);
+        }
+    }
+
+    private void recordDailyActive(UUID userId) {
+        LocalDate today = today();
+        DailyRecorded recorded = dailyRecorded;
+        if (!recorded.day().equals(today)) {
+            recorded = new DailyRecorded(today, ConcurrentHashMap.newKeySet());
+            dailyRecorded = recorded;
+        }
+        if (!recorded.userIds().add(userId)) {
+            return;
+        }
+        String language = userRepository.findById(userId)
+                .map(user -> user.getLanguage().name())
+                .orElse(null);
+        try {
+            lobbyStatsStore.recordActive(userId, today, language);
+        } catch (RuntimeException e) {
+            recorded.userIds().remove(userId);
+            throw e;
+        }
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock.withZone(STATS_ZONE));
+    }
+
+    private record DailyRecorded(LocalDate day, Set<UUID> userIds) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.lol.backend.modules.user.dto;
+
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.game.entity.MatchResult;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 전적 목록 조회용 DTO 프로젝션.
+ * game_player + game + room 조인 결과를 엔티티 그래프 없이 한 번의 쿼리로 받는다.
+ */
+public record MatchHistoryRow(
+        UUID gameId,
+        String roomName,
+        GameType gameType,
+        MatchResult result,
+        Instant joinedAt,
+        long finalPlayers
+) {
+}
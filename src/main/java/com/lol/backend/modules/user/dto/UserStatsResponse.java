@@ -1,10 +1,26 @@
 package com.lol.backend.modules.user.dto;
 
+import com.lol.backend.state.dto.UserStatsStateDto;
+
 public record UserStatsResponse(
         int games,
         int wins,
         int losses,
         int draws,
-        double winRate
+        double winRate,
+        int currentWinStreak,
+        int bestWinStreak
 ) {
+    public static UserStatsResponse from(UserStatsStateDto stats) {
+        double winRate = stats.games() == 0 ? 0.0 : (double) stats.wins() / stats.games();
+        return new UserStatsResponse(
+                stats.games(),
+                stats.wins(),
+                stats.losses(),
+                stats.draws(),
+                winRate,
+                stats.currentWinStreak(),
+                stats.bestWinStreak()
+        );
+    }
 }
@@ -0,0 +1,55 @@
+package com.lol.backend.modules.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 사용자별 누적 전적 (materialized).
+ * 게임 종료 정산 시 UserStatsRepository.upsertResult로 증분 갱신되며, 전적 조회는 game_player 스캔 없이 이 테이블(및 Redis 캐시)만 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int games = 0;
+
+    @Column(nullable = false)
+    private int wins = 0;
+
+    @Column(nullable = false)
+    private int losses = 0;
+
+    @Column(nullable = false)
+    private int draws = 0;
+
+    @Column(name = "current_win_streak", nullable = false)
+    private int currentWinStreak = 0;
+
+    @Column(name = "best_win_streak", nullable = false)
+    private int bestWinStreak = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = Instant.now();
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0.0 : (double) wins / games;
+    }
+}
@@ -0,0 +1,39 @@
+package com.lol.backend.modules.user.repo;
+
+import com.lol.backend.modules.user.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+
+    /**
+     * 게임 1판의 결과를 누적한다 (행이 없으면 생성).
+     * INSERT … ON CONFLICT DO UPDATE 한 문장으로 처리하므로 첫 정산이 동시에 일어나도 PK 충돌이나 카운터 유실이 없다.
+     * WIN이면 연승을 이어가고, LOSE/DRAW면 현재 연승을 끊는다 (SET 우변은 갱신 전 값을 참조한다).
+     * @param win 승리면 1, 아니면 0 (loss/draw도 같은 규칙)
+     * @return 반영된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO user_stats AS s
+                (user_id, games, wins, losses, draws, current_win_streak, best_win_streak, updated_at)
+            VALUES (:userId, 1, :win, :loss, :draw, :win, :win, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id) DO UPDATE SET
+                games = s.games + 1,
+                wins = s.wins + EXCLUDED.wins,
+                losses = s.losses + EXCLUDED.losses,
+                draws = s.draws + EXCLUDED.draws,
+                current_win_streak = CASE WHEN EXCLUDED.wins = 1 THEN s.current_win_streak + 1 ELSE 0 END,
+                best_win_streak = GREATEST(s.best_win_streak,
+                        CASE WHEN EXCLUDED.wins = 1 THEN s.current_win_streak + 1 ELSE 0 END),
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int upsertResult(@Param("userId") UUID userId,
+                     @Param("win") int win,
+                     @Param("loss") int loss,
+                     @Param("draw") int draw);
+}
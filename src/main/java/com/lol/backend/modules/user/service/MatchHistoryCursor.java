@@ -0,0 +1,51 @@
+package com.lol.backend.modules.user.service;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 전적 목록 복합 keyset 커서 (joinedAt, gameId).
+ * 인코딩 형식: Base64("{joinedAt ISO-8601}|{gameId}")
+ *
+ * 이전 버전의 커서(joinedAt ISO 문자열 그대로)도 해석한다.
+ * 이 경우 gameId를 최소 UUID로 두어 기존과 동일하게 "joinedAt 이전" 행만 조회된다.
+ */
+public record MatchHistoryCursor(Instant joinedAt, UUID gameId) {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = joinedAt.toString() + SEPARATOR + gameId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MatchHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            // 레거시 커서: ISO-8601 Instant 문자열
+            if (Character.isDigit(cursor.charAt(0)) && cursor.contains("T")) {
+                return new MatchHistoryCursor(Instant.parse(cursor), MIN_UUID);
+            }
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new BusinessException(ErrorCode.VALIDATION_FAILED, "유효하지 않은 커서입니다");
+            }
+            return new MatchHistoryCursor(
+                    Instant.parse(raw.substring(0, idx)),
+                    UUID.fromString(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED, "유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -4,28 +4,23 @@ import com.lol.backend.common.dto.PageInfo;
 import com.lol.backend.common.exception.BusinessException;
 import com.lol.backend.common.exception.ErrorCode;
 import com.lol.backend.modules.game.dto.ActiveGameResponse;
-import com.lol.backend.modules.game.entity.Game;
-import com.lol.backend.modules.game.entity.GamePlayer;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
-import com.lol.backend.modules.game.entity.MatchResult;
 import com.lol.backend.modules.game.repo.GamePlayerRepository;
-import com.lol.backend.modules.game.repo.GameRepository;
-import com.lol.backend.modules.room.entity.Room;
-import com.lol.backend.modules.room.repo.RoomRepository;
 import com.lol.backend.modules.user.dto.*;
 import com.lol.backend.modules.user.entity.User;
 import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.modules.user.repo.UserStatsRepository;
 import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.UserStatsCacheStore;
 import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.UserStatsStateDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,10 +30,10 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final GameRepository gameRepository;
     private final GamePlayerRepository gamePlayerRepository;
-    private final RoomRepository roomRepository;
     private final GameStateStore gameStateStore;
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsCacheStore userStatsCacheStore;
 
     public UserProfileResponse getMyProfile(String userId) {
         User user = userRepository.findById(UUID.fromString(userId))
@@ -66,95 +61,62 @@ public class UserService {
         return ActiveGameResponse.from(gameState);
     }
 
+    /**
+     * 누적 전적 조회.
+     * Redis 캐시 → user_stats 순으로 조회하며, game_player 전체 스캔은 하지 않는다.
+     * 아직 종료된 게임이 없는 사용자는 user_stats 행이 없으므로 0으로 응답한다.
+     * 캐시 채우기는 games 기준 버전 비교로 하여, 늦게 끝난 이 조회가 정산 직후 캐시된 값을 되돌리지 않는다.
+     */
     public UserStatsResponse getMyStats(String userId) {
         UUID userUuid = UUID.fromString(userId);
-        List<GamePlayer> finishedGames = gamePlayerRepository.findByUserIdAndResultIsNotNull(userUuid);
-
-        int games = finishedGames.size();
-        int wins = 0;
-        int losses = 0;
-        int draws = 0;
-
-        for (GamePlayer gp : finishedGames) {
-            MatchResult result = gp.getResult();
-            if (result == MatchResult.WIN) {
-                wins++;
-            } else if (result == MatchResult.LOSE) {
-                losses++;
-            } else if (result == MatchResult.DRAW) {
-                draws++;
-            }
+
+        UserStatsStateDto cached = userStatsCacheStore.get(userUuid).orElse(null);
+        if (cached != null) {
+            return UserStatsResponse.from(cached);
         }
 
-        double winRate = games == 0 ? 0.0 : (double) wins / games;
+        UserStatsStateDto stats = userStatsRepository.findById(userUuid)
+                .map(s -> new UserStatsStateDto(userUuid, s.getGames(), s.getWins(), s.getLosses(),
+                        s.getDraws(), s.getCurrentWinStreak(), s.getBestWinStreak()))
+                .orElseGet(() -> new UserStatsStateDto(userUuid, 0, 0, 0, 0, 0, 0));
+        // 조회 중 정산이 커밋되어 캐시가 더 최신 값으로 채워졌으면 덮어쓰지 않는다
+        userStatsCacheStore.putIfNewer(stats);
 
-        return new UserStatsResponse(games, wins, losses, draws, winRate);
+        return UserStatsResponse.from(stats);
     }
 
+    /**
+     * 전적 목록 조회 (복합 keyset 커서 페이징).
+     * game_player/game/room 조인 + 최종 인원 수를 단일 프로젝션 쿼리로 가져온다.
+     */
     public PagedMatchListResponse getMyMatches(String userId, String cursor, int limit) {
         UUID userUuid = UUID.fromString(userId);
         Pageable pageable = Pageable.ofSize(limit + 1);
 
-        List<GamePlayer> gamePlayers;
-        if (cursor == null) {
-            gamePlayers = gamePlayerRepository.findByUserIdAndResultIsNotNullOrderByJoinedAtDesc(userUuid, pageable);
-        } else {
-            Instant before = Instant.parse(cursor);
-            gamePlayers = gamePlayerRepository.findByUserIdAndResultIsNotNullAndJoinedAtBeforeOrderByJoinedAtDesc(userUuid, before, pageable);
-        }
+        MatchHistoryCursor after = MatchHistoryCursor.decode(cursor);
+        List<MatchHistoryRow> rows = after == null
+                ? gamePlayerRepository.findMatchHistory(userUuid, pageable)
+                : gamePlayerRepository.findMatchHistoryAfter(userUuid, after.joinedAt(), after.gameId(), pageable);
 
-        boolean hasNext = gamePlayers.size() > limit;
-        List<GamePlayer> items = hasNext ? gamePlayers.subList(0, limit) : gamePlayers;
+        boolean hasNext = rows.size() > limit;
+        List<MatchHistoryRow> items = hasNext ? rows.subList(0, limit) : rows;
 
         String nextCursor = null;
         if (hasNext) {
-            nextCursor = items.get(items.size() - 1).getJoinedAt().toString();
+            MatchHistoryRow last = items.get(items.size() - 1);
+            nextCursor = new MatchHistoryCursor(last.joinedAt(), last.gameId()).encode();
         }
 
-        // N+1 방지: bulk query
-        List<UUID> gameIds = items.stream().map(GamePlayer::getGameId).distinct().toList();
-        var gameMap = gameRepository.findAllById(gameIds).stream()
-                .collect(java.util.stream.Collectors.toMap(Game::getId, g -> g));
-
-        List<UUID> roomIds = gameMap.values().stream()
-                .map(Game::getRoomId)
-                .distinct()
+        List<MatchSummaryResponse> matches = items.stream()
+                .map(row -> new MatchSummaryResponse(
+                        row.gameId().toString(),
+                        row.roomName(),
+                        row.gameType().name(),
+                        row.result().name(),
+                        (int) row.finalPlayers(),
+                        row.joinedAt().toString()
+                ))
                 .toList();
-        var roomMap = roomRepository.findAllById(roomIds).stream()
-                .collect(java.util.stream.Collectors.toMap(Room::getId, r -> r));
-
-        // finalPlayers bulk query: gameId별 result가 있는 플레이어 수
-        List<GamePlayer> allGamePlayers = gamePlayerRepository.findByGameIdIn(gameIds);
-        var finalPlayersMap = allGamePlayers.stream()
-                .filter(p -> p.getResult() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                        GamePlayer::getGameId,
-                        java.util.stream.Collectors.counting()
-                ));
-
-        List<MatchSummaryResponse> matches = new ArrayList<>();
-        for (GamePlayer gp : items) {
-            Game game = gameMap.get(gp.getGameId());
-            if (game == null) {
-                continue;
-            }
-
-            Room room = roomMap.get(game.getRoomId());
-            if (room == null) {
-                continue;
-            }
-
-            int finalPlayers = finalPlayersMap.getOrDefault(gp.getGameId(), 0L).intValue();
-
-            matches.add(new MatchSummaryResponse(
-                    gp.getGameId().toString(),
-                    room.getRoomName(),
-                    game.getGameType().name(),
-                    gp.getResult().name(),
-                    finalPlayers,
-                    gp.getJoinedAt().toString()
-            ));
-        }
 
         return new PagedMatchListResponse(matches, PageInfo.of(limit, nextCursor));
     }
@@ -0,0 +1,41 @@
+package com.lol.backend.realtime.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 연결 끊김 유예 처리 설정.
+ * application.yml의 realtime.disconnect 바인딩.
+ *
+ * @param graceMs        마지막 세션 종료 후 DISCONNECTED로 표시하기까지의 유예
+ *                       (다른 노드의 활동이 presence에 반영될 수 있도록 heartbeat + flush 주기보다 커야 한다)
+ * @param leaveTimeoutMs 마지막 세션 종료 후 대기실에서 자동 퇴장(방장 위임 포함)시키기까지의 시간
+ * @param tickMs         타이머 휠 tick 간격
+ * @param wheelSize      타이머 휠 슬롯 수
+ * @param sweepIntervalMs presence 기반 sweep 주기 (다른 노드가 죽어 끊김 이벤트가 없던 사용자를 처리)
+ */
+@ConfigurationProperties(prefix = "realtime.disconnect")
+public record DisconnectProperties(
+        long graceMs,
+        long leaveTimeoutMs,
+        long tickMs,
+        int wheelSize,
+        long sweepIntervalMs
+) {
+    public DisconnectProperties {
+        if (graceMs <= 0) {
+            graceMs = 20_000;
+        }
+        if (leaveTimeoutMs <= graceMs) {
+            leaveTimeoutMs = Math.max(60_000, graceMs * 2);
+        }
+        if (tickMs <= 0) {
+            tickMs = 1_000;
+        }
+        if (wheelSize <= 0) {
+            wheelSize = 128;
+        }
+        if (sweepIntervalMs <= 0) {
+            sweepIntervalMs = 15_000;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.lol.backend.realtime.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게임 이벤트 로그(재접속 replay) 설정.
+ * application.yml의 realtime.event-log 바인딩.
+ *
+ * @param maxLength   게임별 보관 이벤트 수 상한 (Stream MAXLEN ~)
+ * @param replayLimit SUBSCRIBE since로 한 번에 재전송하는 최대 건수 (초과 시 RESYNC_REQUIRED)
+ */
+@ConfigurationProperties(prefix = "realtime.event-log")
+public record EventLogProperties(
+        int maxLength,
+        int replayLimit
+) {
+    public EventLogProperties {
+        if (maxLength <= 0) {
+            maxLength = 1000;
+        }
+        if (replayLimit <= 0) {
+            replayLimit = 500;
+        }
+    }
+}
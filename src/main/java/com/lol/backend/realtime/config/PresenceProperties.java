@@ -0,0 +1,40 @@
+package com.lol.backend.realtime.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 접속(presence) 설정.
+ * application.yml의 realtime.presence 바인딩.
+ *
+ * @param heartbeatMs     STOMP 하트비트 주기 (서버→클라이언트, 클라이언트→서버 모두)
+ * @param flushIntervalMs 노드에 모인 활동 시각을 Redis에 기록하는 주기
+ * @param onlineWindowMs  마지막 활동이 이 시간 이내면 온라인 (하트비트 + flush 지연보다 커야 한다)
+ * @param retentionMs     마지막 활동이 이 시간보다 오래된 항목은 sweep으로 제거
+ * @param sweepIntervalMs sweep 주기
+ */
+@ConfigurationProperties(prefix = "realtime.presence")
+public record PresenceProperties(
+        long heartbeatMs,
+        long flushIntervalMs,
+        long onlineWindowMs,
+        long retentionMs,
+        long sweepIntervalMs
+) {
+    public PresenceProperties {
+        if (heartbeatMs <= 0) {
+            heartbeatMs = 10_000;
+        }
+        if (flushIntervalMs <= 0) {
+            flushIntervalMs = 5_000;
+        }
+        if (onlineWindowMs <= 0) {
+            onlineWindowMs = 30_000;
+        }
+        if (retentionMs <= 0) {
+            retentionMs = 24 * 60 * 60 * 1000L;
+        }
+        if (sweepIntervalMs <= 0) {
+            sweepIntervalMs = 60_000;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.lol.backend.realtime.config;
 
+import com.lol.backend.realtime.interceptor.PresenceChannelInterceptor;
 import com.lol.backend.realtime.interceptor.StompAuthChannelInterceptor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,20 +17,42 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - 브로커 prefix: /topic, /queue
  * - 어플리케이션 prefix: /app
  * - 사용자 prefix: /user
+ * - 하트비트: realtime.presence.heartbeat-ms (양방향, presence 활동 기록에 사용)
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final PresenceChannelInterceptor presenceChannelInterceptor;
+    private final PresenceProperties presenceProperties;
 
-    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor) {
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           PresenceChannelInterceptor presenceChannelInterceptor,
+                           PresenceProperties presenceProperties) {
         this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.presenceChannelInterceptor = presenceChannelInterceptor;
+        this.presenceProperties = presenceProperties;
+    }
+
+    /**
+     * 브로커 하트비트 전용 스케줄러. 컨테이너가 초기화/종료를 관리한다.
+     * @Scheduled 작업의 스케줄러 선택(TaskScheduler 타입 단일 빈)에 끼어들지 않도록 autowire 후보에서 뺀다.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        long heartbeat = presenceProperties.heartbeatMs();
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(webSocketHeartbeatScheduler());
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
@@ -40,6 +65,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        registration.interceptors(stompAuthChannelInterceptor, presenceChannelInterceptor);
     }
 }
@@ -25,4 +25,11 @@ public record EventEnvelope<T>(
     public static <T> EventEnvelope<T> of(EventType type, T data, java.time.Instant serverTime) {
         return new EventEnvelope<>(type, data, EventMeta.create(serverTime));
     }
+
+    /**
+     * 게임 이벤트 로그 시퀀스를 부여한 사본을 반환한다.
+     */
+    public EventEnvelope<T> withSeq(long seq) {
+        return new EventEnvelope<>(type, data, meta.withSeq(seq));
+    }
 }
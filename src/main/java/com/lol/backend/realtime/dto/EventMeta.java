@@ -1,20 +1,28 @@
 package com.lol.backend.realtime.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * Event Envelope 메타데이터.
  * CONVENTIONS.md 3.1 기준.
+ *
+ * @param seq 게임 토픽(/topic/games/{gameId}) 이벤트의 게임별 단조 증가 시퀀스.
+ *            그 외 이벤트는 null이며 직렬화에서 생략된다. 재접속 시 SUBSCRIBE since 헤더로 사용한다.
  */
 public record EventMeta(
         String eventId,
-        String serverTime
+        String serverTime,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long seq
 ) {
     public static EventMeta create() {
         return new EventMeta(
                 UUID.randomUUID().toString(),
-                Instant.now().toString()
+                Instant.now().toString(),
+                null
         );
     }
 
@@ -28,7 +36,15 @@ public record EventMeta(
     public static EventMeta create(Instant serverTime) {
         return new EventMeta(
                 UUID.randomUUID().toString(),
-                serverTime.toString()
+                serverTime.toString(),
+                null
         );
     }
+
+    /**
+     * 게임 이벤트 로그 시퀀스를 부여한 사본을 반환한다.
+     */
+    public EventMeta withSeq(long seq) {
+        return new EventMeta(eventId, serverTime, seq);
+    }
 }
@@ -15,6 +15,7 @@ public enum EventType {
     ROOM_PLAYER_STATE_CHANGED,
     ROOM_HOST_CHANGED,
     ROOM_KICKED,
+    ROOM_MATCH_FOUND,
     GAME_STAGE_CHANGED,
     ROOM_GAME_STARTED,
     GAME_BAN_SUBMITTED,
@@ -26,5 +27,8 @@ public enum EventType {
     SPELL_EFFECT_APPLIED,
     ITEM_EFFECT_BLOCKED,
     EFFECT_REMOVED,
-    INVENTORY_SYNC
+    INVENTORY_SYNC,
+    SUBMISSION_JUDGED,
+    SCOREBOARD_UPDATED,
+    RESYNC_REQUIRED
 }
@@ -2,6 +2,7 @@ package com.lol.backend.realtime.handler;
 
 import com.lol.backend.common.exception.BusinessException;
 import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.command.GameCommandExecutor;
 import com.lol.backend.modules.game.service.GameEffectService;
 import com.lol.backend.realtime.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import java.util.*;
 public class GameEffectStompHandler {
 
     private final GameEffectService gameEffectService;
+    private final GameCommandExecutor gameCommandExecutor;
 
     /**
      * ITEM_USE 커맨드 처리.
@@ -40,8 +42,8 @@ public class GameEffectStompHandler {
         UUID itemId = parseUUID(envelope.data().itemId());
         UUID targetUserId = parseUUID(envelope.data().targetUserId());
 
-        // 비즈니스 로직은 Service에 위임
-        gameEffectService.useItem(gameUuid, userId, itemId, targetUserId);
+        // 비즈니스 로직은 Service에 위임 (게임 단위 직렬 실행)
+        gameCommandExecutor.execute(gameUuid, () -> gameEffectService.useItem(gameUuid, userId, itemId, targetUserId));
     }
 
     /**
@@ -57,8 +59,8 @@ public class GameEffectStompHandler {
         UUID gameUuid = parseUUID(gameId);
         UUID spellId = parseUUID(envelope.data().spellId());
 
-        // 비즈니스 로직은 Service에 위임
-        gameEffectService.useSpell(gameUuid, userId, spellId);
+        // 비즈니스 로직은 Service에 위임 (게임 단위 직렬 실행)
+        gameCommandExecutor.execute(gameUuid, () -> gameEffectService.useSpell(gameUuid, userId, spellId));
     }
 
 
@@ -0,0 +1,62 @@
+package com.lol.backend.realtime.handler;
+
+import com.lol.backend.realtime.support.EventPublisher;
+import com.lol.backend.state.store.GameStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * 게임 토픽 재구독 시 누락 이벤트 재전송 핸들러.
+ * SUBSCRIBE /topic/games/{gameId} 에 since 헤더(마지막으로 받은 meta.seq)가 있으면
+ * 그 이후 이벤트를 /user/queue/replay 로 다시 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameEventReplayHandler {
+
+    static final String SINCE_HEADER = "since";
+
+    private final EventPublisher eventPublisher;
+    private final GameStateStore gameStateStore;
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String since = accessor.getFirstNativeHeader(SINCE_HEADER);
+        if (since == null) {
+            return;
+        }
+        UUID gameId = EventPublisher.gameIdOf(accessor.getDestination());
+        Principal user = event.getUser();
+        if (gameId == null || user == null) {
+            return;
+        }
+
+        long sinceSeq;
+        UUID userId;
+        try {
+            sinceSeq = Long.parseLong(since);
+            userId = UUID.fromString(user.getName());
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid replay request ignored: destination={}, since={}", accessor.getDestination(), since);
+            return;
+        }
+        if (sinceSeq < 0) {
+            return;
+        }
+        if (gameStateStore.getGamePlayer(gameId, userId).isEmpty()) {
+            log.debug("Replay denied for non-participant: gameId={}, userId={}", gameId, userId);
+            return;
+        }
+
+        eventPublisher.replayGameEvents(user.getName(), gameId, sinceSeq);
+    }
+}
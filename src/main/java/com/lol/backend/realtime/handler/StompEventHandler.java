@@ -1,67 +1,78 @@
 package com.lol.backend.realtime.handler;
 
-import com.lol.backend.state.store.EphemeralStateStore;
-import com.lol.backend.state.dto.ConnectionHeartbeatDto;
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
+import com.lol.backend.realtime.presence.DisconnectGraceService;
+import com.lol.backend.realtime.presence.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 import java.security.Principal;
-import java.time.Duration;
-import java.time.Instant;
 import java.util.UUID;
 
 /**
  * STOMP 연결/해제 이벤트 핸들러.
- * CONNECT/DISCONNECT 시 CONNECTION_HEARTBEAT를 Redis에 저장한다.
+ * CONNECT/DISCONNECT 시점도 활동으로 보고 presence에 기록한다.
+ * 연결 유지 중의 활동은 PresenceChannelInterceptor가 인바운드 프레임(하트비트 포함)으로 기록한다.
+ * 세션 수명과 룸/게임 구독은 DisconnectGraceService에 전달하여 끊김 유예 처리를 맡긴다.
+ * 접속 시 로비 통계(접속 비트맵, DAU/MAU)를 갱신하며, 오프라인 확정은 유예 처리 이후에 반영된다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompEventHandler {
 
-    private static final Duration HEARTBEAT_TTL = Duration.ofSeconds(30);
-
-    private final EphemeralStateStore ephemeralStateStore;
+    private final PresenceService presenceService;
+    private final ServerMetrics serverMetrics;
+    private final DisconnectGraceService disconnectGraceService;
+    private final LobbyStatsService lobbyStatsService;
 
     @EventListener
     public void handleSessionConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        serverMetrics.sessionConnected(sessionId);
         Principal user = event.getUser();
         String userId = user != null ? user.getName() : "anonymous";
 
         if (!"anonymous".equals(userId)) {
-            UUID userUuid = UUID.fromString(userId);
-            ConnectionHeartbeatDto heartbeat = new ConnectionHeartbeatDto(
-                    userUuid,
-                    Instant.now(),
-                    "CONNECTED"
-            );
-            ephemeralStateStore.saveHeartbeat(heartbeat, HEARTBEAT_TTL);
-            log.info("STOMP session connected and heartbeat saved: userId={}", userId);
+            presenceService.touch(UUID.fromString(userId));
+            disconnectGraceService.onConnected(UUID.fromString(userId), sessionId);
+            lobbyStatsService.userConnected(UUID.fromString(userId));
+            log.info("STOMP session connected: userId={}", userId);
         } else {
-            log.info("STOMP session connected: userId=anonymous (no heartbeat saved)");
+            log.info("STOMP session connected: userId=anonymous (presence not tracked)");
         }
     }
 
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        serverMetrics.sessionDisconnected(event.getSessionId());
         Principal user = event.getUser();
         String userId = user != null ? user.getName() : "anonymous";
 
         if (!"anonymous".equals(userId)) {
-            UUID userUuid = UUID.fromString(userId);
-            ConnectionHeartbeatDto heartbeat = new ConnectionHeartbeatDto(
-                    userUuid,
-                    Instant.now(),
-                    "DISCONNECTED"
-            );
-            ephemeralStateStore.saveHeartbeat(heartbeat, HEARTBEAT_TTL);
-            log.info("STOMP session disconnected and heartbeat updated: userId={}, sessionId={}", userId, event.getSessionId());
+            presenceService.touch(UUID.fromString(userId));
+            disconnectGraceService.onDisconnected(UUID.fromString(userId), event.getSessionId());
+            log.info("STOMP session disconnected: userId={}, sessionId={}", userId, event.getSessionId());
         } else {
-            log.info("STOMP session disconnected: userId=anonymous (no heartbeat saved), sessionId={}", event.getSessionId());
+            log.info("STOMP session disconnected: userId=anonymous (presence not tracked), sessionId={}", event.getSessionId());
+        }
+    }
+
+    @EventListener
+    public void handleSessionSubscribe(SessionSubscribeEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return;
         }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        disconnectGraceService.onSubscribed(UUID.fromString(user.getName()), accessor.getDestination());
     }
 }
@@ -0,0 +1,36 @@
+package com.lol.backend.realtime.interceptor;
+
+import com.lol.backend.realtime.presence.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * 인바운드 STOMP 프레임(하트비트 포함)으로 사용자 활동을 기록하는 인터셉터.
+ * 인증 인터셉터 뒤에 등록되어 CONNECT 이후 세션에 부여된 사용자만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceChannelInterceptor implements ChannelInterceptor {
+
+    private final PresenceService presenceService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user != null) {
+            try {
+                presenceService.touch(UUID.fromString(user.getName()));
+            } catch (IllegalArgumentException ignored) {
+                // userId 형식이 아닌 principal은 presence 대상이 아니다
+            }
+        }
+        return message;
+    }
+}
@@ -58,12 +58,11 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
         }
 
         String token = authHeader.substring(BEARER_PREFIX.length());
-        if (!jwtTokenProvider.validateToken(token)) {
-            log.debug("STOMP CONNECT rejected: invalid JWT token");
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다");
-        }
-
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        String userId = jwtTokenProvider.verifyAndGetUserId(token)
+                .orElseThrow(() -> {
+                    log.debug("STOMP CONNECT rejected: invalid JWT token");
+                    return new IllegalArgumentException("유효하지 않은 토큰입니다");
+                });
         accessor.setUser(new StompPrincipal(userId));
         log.debug("STOMP CONNECT authenticated: userId={}", userId);
     }
@@ -0,0 +1,443 @@
+package com.lol.backend.realtime.presence;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.modules.game.entity.GamePlayerState;
+import com.lol.backend.modules.room.entity.PlayerState;
+import com.lol.backend.modules.room.event.RoomEventPublisher;
+import com.lol.backend.modules.room.service.RoomService;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
+import com.lol.backend.realtime.config.DisconnectProperties;
+import com.lol.backend.realtime.support.EventPublisher;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.RoomPlayerStateDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.dto.UserMembershipDto;
+import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.RoomStateStore;
+import com.lol.backend.state.store.UserMembershipStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 연결 끊김 유예 처리 엔진.
+ *
+ * 사용자의 이 노드 마지막 STOMP 세션이 끊기면 타이머 휠에 등록하고, 만료 시 다음 단계를 진행한다.
+ * - grace-ms 경과: 오프라인 확정(로비 접속 통계 해제), 룸/게임 플레이어를 DISCONNECTED로 표시
+ *   (룸은 ROOM_PLAYER_STATE_CHANGED 발행)
+ * - leave-timeout-ms 경과: 게임이 없는 대기실에서 자동 퇴장 (방장 위임, 정원 반환, 빈 방 해체는 leaveRoom이 처리)
+ *
+ * 각 단계 직전에 presence를 확인하여 끊긴 이후 다른 노드(또는 재접속)에서 활동이 있었으면 중단한다.
+ * 대상 룸/게임은 세션의 구독 destination으로 파악하며, 재구독 시 DISCONNECTED 상태를 복구한다.
+ *
+ * 노드가 죽으면 그 노드의 끊김 이벤트가 없으므로, sweep-interval-ms마다 presence lastSeen ZSET에서
+ * 오래된 사용자만 score 구간으로 골라 같은 단계를 진행한다 (lastSeen이 grace-ms보다 오래되면 DISCONNECTED,
+ * leave-timeout-ms보다 오래되면 대기실 자동 퇴장). 대상 룸/게임은 사용자 참가 인덱스(UserMembershipStore)로 찾으므로
+ * 비용은 활성 룸/게임 수가 아니라 오래된 사용자 수에 비례한다. 상태 변경은 모두 CAS라 여러 노드가 함께 돌려도 한 번만 반영된다.
+ * sweep은 참가 인덱스로 이 노드 사용자의 구독 기록 중 더 이상 참가하지 않는 룸/게임도 정리한다.
+ */
+@Slf4j
+@Service
+public class DisconnectGraceService {
+
+    private static final Pattern ROOM_LOBBY = Pattern.compile("^/topic/rooms/([0-9a-fA-F-]{36})/lobby$");
+
+    private final RoomStateStore roomStateStore;
+    private final GameStateStore gameStateStore;
+    private final UserMembershipStore userMembershipStore;
+    private final RoomService roomService;
+    private final RoomEventPublisher roomEventPublisher;
+    private final PresenceService presenceService;
+    private final LobbyStatsService lobbyStatsService;
+    private final DisconnectProperties properties;
+    private final Clock clock;
+
+    private final TimerWheel<UUID> wheel;
+    private final Map<UUID, UserSessions> users = new ConcurrentHashMap<>();
+
+    // 직전 sweep 시각 (0이면 이 노드의 첫 sweep)
+    private volatile long lastSweepAtMs;
+
+    public DisconnectGraceService(RoomStateStore roomStateStore, GameStateStore gameStateStore,
+                                  UserMembershipStore userMembershipStore,
+                                  RoomService roomService, RoomEventPublisher roomEventPublisher,
+                                  PresenceService presenceService, LobbyStatsService lobbyStatsService,
+                                  DisconnectProperties properties) {
+        this(roomStateStore, gameStateStore, userMembershipStore, roomService, roomEventPublisher, presenceService,
+                lobbyStatsService, properties, Clock.systemUTC());
+    }
+
+    DisconnectGraceService(RoomStateStore roomStateStore, GameStateStore gameStateStore,
+                           UserMembershipStore userMembershipStore,
+                           RoomService roomService, RoomEventPublisher roomEventPublisher,
+                           PresenceService presenceService, LobbyStatsService lobbyStatsService,
+                           DisconnectProperties properties, Clock clock) {
+        this.roomStateStore = roomStateStore;
+        this.gameStateStore = gameStateStore;
+        this.userMembershipStore = userMembershipStore;
+        this.roomService = roomService;
+        this.roomEventPublisher = roomEventPublisher;
+        this.presenceService = presenceService;
+        this.lobbyStatsService = lobbyStatsService;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new TimerWheel<>(properties.tickMs(), properties.wheelSize(), clock.millis());
+    }
+
+    public void onConnected(UUID userId, String sessionId) {
+        UserSessions sessions = users.computeIfAbsent(userId, k -> new UserSessions());
+        synchronized (sessions) {
+            sessions.sessionIds.add(sessionId);
+            sessions.phase = Phase.CONNECTED;
+            wheel.cancel(userId);
+        }
+    }
+
+    /**
+     * 룸 대기실/게임 토픽 구독을 기록하고, DISCONNECTED로 표시된 상태였다면 복구한다.
+     */
+    public void onSubscribed(UUID userId, String destination) {
+        UUID roomId = roomIdOf(destination);
+        UUID gameId = roomId == null ? EventPublisher.gameIdOf(destination) : null;
+        if (roomId == null && gameId == null) {
+            return;
+        }
+        UserSessions sessions = users.computeIfAbsent(userId, k -> new UserSessions());
+        synchronized (sessions) {
+            if (roomId != null) {
+                sessions.roomIds.put(roomId, clock.millis());
+            } else {
+                sessions.gameIds.put(gameId, clock.millis());
+            }
+        }
+        if (roomId != null) {
+            restoreRoomPlayer(roomId, userId);
+        } else {
+            restoreGamePlayer(gameId, userId);
+        }
+    }
+
+    public void onDisconnected(UUID userId, String sessionId) {
+        UserSessions sessions = users.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        synchronized (sessions) {
+            sessions.sessionIds.remove(sessionId);
+            if (!sessions.sessionIds.isEmpty()) {
+                return;
+            }
+            sessions.disconnectedAtMs = clock.millis();
+            sessions.phase = Phase.GRACE;
+            wheel.schedule(userId, sessions.disconnectedAtMs + properties.graceMs());
+        }
+        log.debug("Disconnect grace started: userId={}", userId);
+    }
+
+    @Scheduled(fixedRateString = "${realtime.disconnect.tick-ms:1000}")
+    public void tick() {
+        for (UUID userId : wheel.advance(clock.millis())) {
+            try {
+                handleExpired(userId);
+            } catch (Exception e) {
+                log.error("Failed to handle disconnect timer: userId={}", userId, e);
+            }
+        }
+    }
+
+    private void handleExpired(UUID userId) {
+        UserSessions sessions = users.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        synchronized (sessions) {
+            if (!sessions.sessionIds.isEmpty() || sessions.phase == Phase.CONNECTED) {
+                return;
+            }
+            long lastSeen = presenceService.getLastSeen(List.of(userId)).getOrDefault(userId, 0L);
+            if (lastSeen > sessions.disconnectedAtMs) {
+                // 끊긴 뒤 다른 노드에서 활동 → 그 노드가 이후 처리를 맡는다
+                users.remove(userId, sessions);
+                return;
+            }
+
+            if (sessions.phase == Phase.GRACE) {
+                lobbyStatsService.userOffline(userId);
+                if (sessions.roomIds.isEmpty() && sessions.gameIds.isEmpty()) {
+                    users.remove(userId, sessions);
+                    return;
+                }
+                markDisconnected(userId, sessions);
+                sessions.phase = Phase.MARKED;
+                wheel.schedule(userId, sessions.disconnectedAtMs + properties.leaveTimeoutMs());
+            } else if (sessions.phase == Phase.MARKED) {
+                leaveWaitingRooms(userId, sessions);
+                users.remove(userId, sessions);
+            }
+        }
+    }
+
+    private void markDisconnected(UUID userId, UserSessions sessions) {
+        Instant disconnectedAt = Instant.ofEpochMilli(sessions.disconnectedAtMs);
+
+        for (UUID roomId : sessions.roomIds.keySet()) {
+            roomStateStore.getPlayer(roomId, userId)
+                    .filter(p -> p.leftAt() == null && !PlayerState.DISCONNECTED.name().equals(p.state()))
+                    .ifPresent(p -> markRoomPlayerDisconnected(roomId, userId, p.state(), disconnectedAt));
+        }
+        for (UUID gameId : sessions.gameIds.keySet()) {
+            gameStateStore.updateGamePlayerState(gameId, userId, GamePlayerState.CONNECTED.name(),
+                    GamePlayerState.DISCONNECTED.name(), disconnectedAt);
+        }
+        log.info("Player marked DISCONNECTED: userId={}, rooms={}, games={}",
+                userId, sessions.roomIds.size(), sessions.gameIds.size());
+    }
+
+    /**
+     * 읽은 state를 기대값으로 한 CAS로 DISCONNECTED를 표시한다 (사이에 강퇴/퇴장이 쓴 값을 덮어쓰지 않는다).
+     * @return 표시했으면 true
+     */
+    private boolean markRoomPlayerDisconnected(UUID roomId, UUID userId, String observedState, Instant disconnectedAt) {
+        if (!roomStateStore.updatePlayerState(roomId, userId, observedState, PlayerState.DISCONNECTED.name(),
+                disconnectedAt)) {
+            return false;
+        }
+        roomEventPublisher.playerStateChanged(roomId, userId, PlayerState.DISCONNECTED.name(),
+                Instant.now(clock).toString());
+        return true;
+    }
+
+    private void leaveWaitingRooms(UUID userId, UserSessions sessions) {
+        for (UUID roomId : sessions.roomIds.keySet()) {
+            RoomStateDto room = roomStateStore.getRoom(roomId).orElse(null);
+            if (room == null || room.activeGameId() != null) {
+                // 게임 중인 방은 게임 종료 흐름이 정리한다
+                continue;
+            }
+            boolean present = roomStateStore.getPlayer(roomId, userId)
+                    .filter(p -> p.leftAt() == null)
+                    .isPresent();
+            if (present) {
+                autoLeave(roomId, userId);
+            }
+        }
+    }
+
+    private void autoLeave(UUID roomId, UUID userId) {
+        try {
+            roomService.leaveRoom(roomId, userId);
+            log.info("Disconnected player auto-left room: roomId={}, userId={}", roomId, userId);
+        } catch (BusinessException e) {
+            log.debug("Auto-leave skipped: roomId={}, userId={}, code={}", roomId, userId, e.getErrorCode());
+        }
+    }
+
+    /**
+     * presence lastSeen이 오래된 사용자의 룸/게임만 확인해 끊김 단계를 진행한다.
+     * 이 노드에 세션이 열려 있는 사용자는 건너뛴다 (세션 종료 시 타이머 휠이 처리).
+     */
+    @Scheduled(fixedDelayString = "${realtime.disconnect.sweep-interval-ms:15000}")
+    public void sweep() {
+        try {
+            sweepStale();
+        } catch (Exception e) {
+            log.warn("Disconnect sweep failed", e);
+        }
+    }
+
+    void sweepStale() {
+        long now = clock.millis();
+        // 직전 sweep 이후 grace/leave-timeout을 넘긴 사용자가 적어도 한 번은 구간에 들도록 하한을 잡는다.
+        // 첫 sweep은 이 노드가 없던 동안 끊긴 사용자까지 보도록 presence 보존 기간 전체를 본다
+        long from = lastSweepAtMs > 0 ? lastSweepAtMs - properties.leaveTimeoutMs() : 0L;
+        Map<UUID, Long> stale = new HashMap<>(presenceService.getLastSeenBetween(from, now - properties.graceMs()));
+        stale.keySet().removeIf(this::connectedHere);
+
+        if (!stale.isEmpty()) {
+            Map<UUID, UserMembershipDto> memberships = userMembershipStore.getMemberships(stale.keySet());
+            Set<UUID> roomIds = new HashSet<>();
+            memberships.values().forEach(membership -> roomIds.addAll(membership.roomIds()));
+            Map<UUID, RoomStateDto> rooms = new HashMap<>();
+            roomStateStore.getRooms(roomIds).forEach(room -> rooms.put(room.id(), room));
+
+            memberships.forEach((userId, membership) -> {
+                long lastSeen = stale.get(userId);
+                for (UUID roomId : membership.roomIds()) {
+                    sweepRoomPlayer(roomId, rooms.get(roomId), userId, lastSeen, now);
+                }
+                for (UUID gameId : membership.gameIds()) {
+                    sweepGamePlayer(gameId, userId, lastSeen, now);
+                }
+            });
+        }
+        pruneSubscriptions(now);
+        lastSweepAtMs = now;
+    }
+
+    private void sweepRoomPlayer(UUID roomId, RoomStateDto room, UUID userId, long lastSeenMs, long now) {
+        RoomPlayerStateDto player = room == null ? null : roomStateStore.getPlayer(roomId, userId)
+                .filter(p -> p.leftAt() == null)
+                .orElse(null);
+        if (player == null) {
+            // 인덱스에만 남은 항목 (룸/게임 키와 원자적으로 지워지지 않는다)
+            userMembershipStore.removeRoom(List.of(userId), roomId);
+            return;
+        }
+        if (!PlayerState.DISCONNECTED.name().equals(player.state())) {
+            long seen = lastActivity(lastSeenMs, player.joinedAt());
+            if (now - seen >= properties.graceMs()) {
+                if (markRoomPlayerDisconnected(roomId, userId, player.state(), Instant.ofEpochMilli(seen))) {
+                    log.info("Stale room player marked DISCONNECTED: roomId={}, userId={}", roomId, userId);
+                }
+            }
+            return;
+        }
+        if (room.activeGameId() != null) {
+            return;
+        }
+        long since = Math.max(lastActivity(lastSeenMs, player.joinedAt()),
+                player.disconnectedAt() != null ? player.disconnectedAt().toEpochMilli() : 0L);
+        if (now - since >= properties.leaveTimeoutMs()) {
+            autoLeave(roomId, userId);
+        }
+    }
+
+    private void sweepGamePlayer(UUID gameId, UUID userId, long lastSeenMs, long now) {
+        GamePlayerStateDto player = gameStateStore.getGamePlayer(gameId, userId).orElse(null);
+        if (player == null) {
+            userMembershipStore.removeGame(List.of(userId), gameId);
+            return;
+        }
+        long seen = lastActivity(lastSeenMs, player.joinedAt());
+        if (!GamePlayerState.CONNECTED.name().equals(player.state()) || now - seen < properties.graceMs()) {
+            return;
+        }
+        if (gameStateStore.updateGamePlayerState(gameId, userId, GamePlayerState.CONNECTED.name(),
+                GamePlayerState.DISCONNECTED.name(), Instant.ofEpochMilli(seen))) {
+            log.info("Stale game player marked DISCONNECTED: gameId={}, userId={}", gameId, userId);
+        }
+    }
+
+    /**
+     * 이 노드 사용자의 구독 기록에서 더 이상 참가하지 않는 룸/게임을 참가 인덱스 기준으로 지운다.
+     * sweep이 시작된 뒤 구독한 항목은 인덱스 조회보다 늦게 반영됐을 수 있으므로 남겨 둔다.
+     */
+    private void pruneSubscriptions(long startedAt) {
+        List<UUID> candidates = new ArrayList<>();
+        users.forEach((userId, sessions) -> {
+            synchronized (sessions) {
+                // 끊김 처리 중인 사용자는 타이머 휠이 구독 기록을 쓴다
+                if (sessions.phase == Phase.CONNECTED
+                        && (!sessions.roomIds.isEmpty() || !sessions.gameIds.isEmpty())) {
+                    candidates.add(userId);
+                }
+            }
+        });
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Map<UUID, UserMembershipDto> memberships = userMembershipStore.getMemberships(candidates);
+        for (UUID userId : candidates) {
+            UserSessions sessions = users.get(userId);
+            if (sessions == null) {
+                continue;
+            }
+            UserMembershipDto membership = memberships.getOrDefault(userId, UserMembershipDto.empty());
+            synchronized (sessions) {
+                if (sessions.phase != Phase.CONNECTED) {
+                    continue;
+                }
+                sessions.roomIds.entrySet().removeIf(e -> e.getValue() < startedAt
+                        && !membership.roomIds().contains(e.getKey()));
+                sessions.gameIds.entrySet().removeIf(e -> e.getValue() < startedAt
+                        && !membership.gameIds().contains(e.getKey()));
+            }
+        }
+    }
+
+    /**
+     * 참가 직후 아직 presence가 flush되지 않았을 수 있으므로 참가 시각도 활동으로 본다.
+     */
+    private static long lastActivity(long lastSeenMs, Instant joinedAt) {
+        return Math.max(lastSeenMs, joinedAt != null ? joinedAt.toEpochMilli() : 0L);
+    }
+
+    private boolean connectedHere(UUID userId) {
+        UserSessions sessions = users.get(userId);
+        if (sessions == null) {
+            return false;
+        }
+        synchronized (sessions) {
+            return !sessions.sessionIds.isEmpty();
+        }
+    }
+
+    private void restoreRoomPlayer(UUID roomId, UUID userId) {
+        RoomPlayerStateDto player = roomStateStore.getPlayer(roomId, userId).orElse(null);
+        if (player == null || player.leftAt() != null || !PlayerState.DISCONNECTED.name().equals(player.state())) {
+            return;
+        }
+        boolean host = roomStateStore.getRoom(roomId)
+                .map(room -> userId.equals(room.hostUserId()))
+                .orElse(false);
+        String restored = host ? PlayerState.READY.name() : PlayerState.UNREADY.name();
+        if (!roomStateStore.updatePlayerState(roomId, userId, PlayerState.DISCONNECTED.name(), restored, null)) {
+            // 사이에 퇴장/강퇴되었거나 다른 경로로 이미 복구됨
+            return;
+        }
+        roomEventPublisher.playerStateChanged(roomId, userId, restored, Instant.now(clock).toString());
+        log.info("Room player reconnected: roomId={}, userId={}, state={}", roomId, userId, restored);
+    }
+
+    private void restoreGamePlayer(UUID gameId, UUID userId) {
+        if (gameStateStore.updateGamePlayerState(gameId, userId, GamePlayerState.DISCONNECTED.name(),
+                GamePlayerState.CONNECTED.name(), null)) {
+            log.info("Game player reconnected: gameId={}, userId={}", gameId, userId);
+        }
+    }
+
+    private static UUID roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_LOBBY.matcher(destination);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(matcher.group(1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    int pendingTimers() {
+        return wheel.size();
+    }
+
+    private enum Phase {
+        CONNECTED, GRACE, MARKED
+    }
+
+    private static final class UserSessions {
+        private final Set<String> sessionIds = new HashSet<>();
+        // 구독한 룸/게임 ID → 구독 시각(ms)
+        private final Map<UUID, Long> roomIds = new HashMap<>();
+        private final Map<UUID, Long> gameIds = new HashMap<>();
+        private long disconnectedAtMs;
+        private Phase phase = Phase.CONNECTED;
+    }
+}
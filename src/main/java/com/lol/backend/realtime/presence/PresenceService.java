@@ -0,0 +1,149 @@
+package com.lol.backend.realtime.presence;
+
+import com.lol.backend.realtime.config.PresenceProperties;
+import com.lol.backend.state.store.PresenceStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 접속(presence) 서비스.
+ * - STOMP 프레임(하트비트 포함)마다 touch()로 노드 로컬 맵에 활동 시각만 갱신한다 (Redis 쓰기 없음)
+ * - flush-interval-ms마다 모인 활동 시각을 ZADD 한 번으로 presence:lastSeen에 기록한다
+ * - 온라인 여부는 마지막 활동이 online-window-ms 이내인지로 판단한다
+ * - retention-ms보다 오래된 항목은 주기적으로 score 범위 삭제한다
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    private final PresenceStore presenceStore;
+    private final PresenceProperties properties;
+    private final Clock clock;
+
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+
+    public PresenceService(PresenceStore presenceStore, PresenceProperties properties) {
+        this(presenceStore, properties, Clock.systemUTC());
+    }
+
+    PresenceService(PresenceStore presenceStore, PresenceProperties properties, Clock clock) {
+        this.presenceStore = presenceStore;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 사용자 활동을 기록한다. 다음 flush 때 Redis에 반영된다.
+     * @param userId 사용자 ID
+     */
+    public void touch(UUID userId) {
+        pending.put(userId, clock.millis());
+    }
+
+    /**
+     * 사용자들의 마지막 활동 시각을 일괄 조회한다.
+     * 아직 flush되지 않은 이 노드의 활동도 반영한다.
+     * @param userIds 사용자 ID 목록
+     * @return userId별 마지막 활동 epoch ms (기록이 없으면 0)
+     */
+    public Map<UUID, Long> getLastSeen(Collection<UUID> userIds) {
+        Map<UUID, Long> stored = presenceStore.getLastSeen(userIds);
+        Map<UUID, Long> result = new HashMap<>();
+        for (UUID userId : userIds) {
+            result.put(userId, Math.max(stored.getOrDefault(userId, 0L), pending.getOrDefault(userId, 0L)));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자들의 온라인 여부를 일괄 조회한다.
+     * @param userIds 사용자 ID 목록
+     * @return userId별 온라인 여부
+     */
+    public Map<UUID, Boolean> getOnline(Collection<UUID> userIds) {
+        long threshold = clock.millis() - properties.onlineWindowMs();
+        Map<UUID, Boolean> result = new HashMap<>();
+        getLastSeen(userIds).forEach((userId, seen) -> result.put(userId, seen >= threshold));
+        return result;
+    }
+
+    /**
+     * 마지막 활동이 windowMs 이내인 사용자를 조회한다.
+     * 아직 flush되지 않은 이 노드의 활동도 반영한다.
+     * @param windowMs 기준 시간 (ms)
+     * @return 사용자 ID 목록
+     */
+    public Set<UUID> getSeenWithin(long windowMs) {
+        long since = clock.millis() - windowMs;
+        Set<UUID> result = new HashSet<>(presenceStore.getSeenSince(since));
+        pending.forEach((userId, seen) -> {
+            if (seen >= since) {
+                result.add(userId);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 마지막 활동 시각이 [fromMs, toMs] 구간인 사용자를 조회한다.
+     * 아직 flush되지 않은 이 노드의 활동도 반영한다 (구간 이후에 활동했으면 제외).
+     * @param fromMs 구간 시작 epoch ms (포함)
+     * @param toMs 구간 끝 epoch ms (포함)
+     * @return userId별 마지막 활동 epoch ms
+     */
+    public Map<UUID, Long> getLastSeenBetween(long fromMs, long toMs) {
+        Map<UUID, Long> result = new HashMap<>(presenceStore.getSeenBetween(fromMs, toMs));
+        pending.forEach((userId, seen) -> {
+            if (seen > toMs) {
+                result.remove(userId);
+            } else if (seen >= fromMs) {
+                result.merge(userId, seen, Math::max);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 사용자의 온라인 여부를 조회한다.
+     */
+    public boolean isOnline(UUID userId) {
+        return getOnline(List.of(userId)).get(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.presence.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<UUID, Long> batch = new HashMap<>(pending);
+        try {
+            presenceStore.recordAll(batch);
+        } catch (Exception e) {
+            // 남겨 두면 다음 flush에서 재시도된다
+            log.warn("Failed to flush presence: users={}", batch.size(), e);
+            return;
+        }
+        // flush 중 다시 touch된 사용자는 더 최신 값이 남도록 같은 값일 때만 제거
+        batch.forEach(pending::remove);
+        log.debug("Presence flushed: users={}", batch.size());
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.presence.sweep-interval-ms:60000}")
+    public void sweep() {
+        long removed = presenceStore.removeSeenBefore(clock.millis() - properties.retentionMs());
+        if (removed > 0) {
+            log.info("Presence sweep removed {} stale entries", removed);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.lol.backend.realtime.presence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 해시 타이머 휠.
+ * 만료 시각을 tick 단위 슬롯에 배치하고, advance 호출 시 지나간 슬롯만 확인한다.
+ * 등록/취소는 O(1)이고 tick당 비용은 해당 슬롯의 항목 수에 비례한다 (전체 대상 폴링 없음).
+ * 휠 한 바퀴보다 먼 만료는 같은 슬롯에 남아 있다가 deadline이 지난 바퀴에서 만료된다.
+ *
+ * @param <K> 타이머 키 (키당 타이머 1개, 재등록 시 교체)
+ */
+final class TimerWheel<K> {
+
+    private final long tickMs;
+    private final List<Set<K>> slots;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    TimerWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.tickMs = tickMs;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new LinkedHashSet<>());
+        }
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+    }
+
+    /**
+     * deadlineMs에 만료되도록 등록한다. 같은 키의 기존 타이머는 교체된다.
+     */
+    synchronized void schedule(K key, long deadlineMs) {
+        cancel(key);
+        long tick = Math.max(Math.ceilDiv(deadlineMs, tickMs), currentTick + 1);
+        deadlineTicks.put(key, tick);
+        slot(tick).add(key);
+    }
+
+    /**
+     * 타이머를 취소한다.
+     * @return 등록된 타이머가 있었으면 true
+     */
+    synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        slot(tick).remove(key);
+        return true;
+    }
+
+    /**
+     * nowMs까지 휠을 진행하고 만료된 키를 반환한다.
+     */
+    synchronized List<K> advance(long nowMs) {
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+        // 한 바퀴 이상 건너뛰면 모든 슬롯을 한 번씩만 확인하면 된다
+        long fromTick = Math.max(currentTick + 1, targetTick - slots.size() + 1);
+
+        List<K> expired = new ArrayList<>();
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<K> it = slot(tick).iterator();
+            while (it.hasNext()) {
+                K key = it.next();
+                if (deadlineTicks.get(key) <= targetTick) {
+                    it.remove();
+                    deadlineTicks.remove(key);
+                    expired.add(key);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private Set<K> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
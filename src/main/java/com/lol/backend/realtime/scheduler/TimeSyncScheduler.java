@@ -4,8 +4,7 @@ import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.realtime.dto.EventEnvelope;
 import com.lol.backend.realtime.dto.EventType;
 import com.lol.backend.realtime.dto.TimeSyncEventData;
-import com.lol.backend.state.dto.GamePlayerStateDto;
-import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.store.GameStateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -126,7 +125,7 @@ public class TimeSyncScheduler {
             List<UUID> activeGameIds = gameStateStore.getAllActiveGameIds();
 
             for (UUID gameId : activeGameIds) {
-                GameStateDto game = gameStateStore.getGame(gameId).orElse(null);
+                GameStageStateDto game = gameStateStore.getGameStage(gameId).orElse(null);
                 if (game == null) {
                     continue;
                 }
@@ -145,10 +144,8 @@ public class TimeSyncScheduler {
                 }
 
                 // 게임의 모든 플레이어에게 현재 stage 매핑
-                List<GamePlayerStateDto> players = gameStateStore.getGamePlayers(gameId);
-                for (GamePlayerStateDto player : players) {
-                    String userId = player.userId().toString();
-                    userStageMap.put(userId, stage);
+                for (UUID userId : gameStateStore.getGamePlayerIds(gameId)) {
+                    userStageMap.put(userId.toString(), stage);
                 }
             }
         } catch (Exception e) {
@@ -1,26 +1,61 @@
 package com.lol.backend.realtime.support;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.realtime.config.EventLogProperties;
 import com.lol.backend.realtime.dto.EventEnvelope;
 import com.lol.backend.realtime.dto.EventType;
+import com.lol.backend.state.dto.GameEventLogEntryDto;
+import com.lol.backend.state.store.GameEventLogStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * SimpMessagingTemplate 래퍼.
  * broadcast, sendToUser, sendError 편의 메서드를 제공한다.
+ *
+ * /topic/games/{gameId} 브로드캐스트는 게임 이벤트 로그에 먼저 추가되어 meta.seq를 부여받는다.
+ * 재접속 클라이언트는 since 헤더로 누락분만 /user/queue/replay로 다시 받는다 (replayGameEvents).
+ *
+ * 같은 게임의 seq 부여와 전송은 gameId stripe 락 안에서 함께 하므로, 이 노드에서 seq가 뒤바뀐 순서로 전송되지 않는다.
+ * 락은 전송까지만 잡고 다른 락을 기다리지 않으므로 게임 커맨드 실행기와 달리 stripe 사이 교착이 없다.
  */
 @Slf4j
 @Component
 public class EventPublisher {
 
+    private static final String GAME_TOPIC_PREFIX = "/topic/games/";
+    private static final String QUEUE_REPLAY = "/queue/replay";
+    private static final int SEQ_LOCK_STRIPES = 64;
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final ServerMetrics serverMetrics;
+    private final GameEventLogStore gameEventLogStore;
+    private final ObjectMapper objectMapper;
+    private final int replayLimit;
+    private final Object[] seqLocks = new Object[SEQ_LOCK_STRIPES];
 
-    public EventPublisher(SimpMessagingTemplate messagingTemplate) {
+    public EventPublisher(SimpMessagingTemplate messagingTemplate, ServerMetrics serverMetrics,
+                          GameEventLogStore gameEventLogStore, ObjectMapper objectMapper,
+                          EventLogProperties eventLogProperties) {
         this.messagingTemplate = messagingTemplate;
+        this.serverMetrics = serverMetrics;
+        this.gameEventLogStore = gameEventLogStore;
+        this.objectMapper = objectMapper;
+        this.replayLimit = eventLogProperties.replayLimit();
+        for (int i = 0; i < seqLocks.length; i++) {
+            seqLocks[i] = new Object();
+        }
     }
 
     /**
@@ -29,7 +64,8 @@ public class EventPublisher {
     public <T> void broadcast(String topic, EventType type, T data) {
         EventEnvelope<T> envelope = EventEnvelope.of(type, data);
         log.debug("Broadcasting {} to {}", type, topic);
-        messagingTemplate.convertAndSend(topic, envelope);
+        send(topic, envelope);
+        serverMetrics.recordEventPublished(type, "broadcast");
     }
 
     /**
@@ -44,7 +80,8 @@ public class EventPublisher {
     public <T> void broadcast(String topic, EventType type, T data, java.time.Instant serverTime) {
         EventEnvelope<T> envelope = EventEnvelope.of(type, data, serverTime);
         log.debug("Broadcasting {} to {} with serverTime={}", type, topic, serverTime.toString());
-        messagingTemplate.convertAndSend(topic, envelope);
+        send(topic, envelope);
+        serverMetrics.recordEventPublished(type, "broadcast");
     }
 
     /**
@@ -54,6 +91,7 @@ public class EventPublisher {
         EventEnvelope<T> envelope = EventEnvelope.of(type, data);
         log.debug("Sending {} to user {} at {}", type, userId, destination);
         messagingTemplate.convertAndSendToUser(userId, destination, envelope);
+        serverMetrics.recordEventPublished(type, "user");
     }
 
     /**
@@ -67,4 +105,84 @@ public class EventPublisher {
         );
         sendToUser(userId, "/queue/errors", EventType.ERROR, errorData);
     }
+
+    /**
+     * sinceSeq 이후 놓친 게임 이벤트를 사용자의 /queue/replay로 순서대로 재전송한다.
+     * 누락분이 로그에 남아 있지 않으면 RESYNC_REQUIRED를 보내 전체 상태 재조회를 유도한다.
+     * 구독 직후 실시간 이벤트와 겹칠 수 있으므로 클라이언트는 meta.seq로 중복을 제거한다.
+     *
+     * @param userId 사용자 ID
+     * @param gameId 게임 ID
+     * @param sinceSeq 클라이언트가 마지막으로 받은 시퀀스
+     */
+    public void replayGameEvents(String userId, UUID gameId, long sinceSeq) {
+        Optional<List<GameEventLogEntryDto>> entries = gameEventLogStore.readSince(gameId, sinceSeq, replayLimit);
+        if (entries.isEmpty()) {
+            sendToUser(userId, QUEUE_REPLAY, EventType.RESYNC_REQUIRED, Map.of(
+                    "gameId", gameId.toString(),
+                    "since", sinceSeq
+            ));
+            log.info("Game event replay unavailable, resync required: userId={}, gameId={}, since={}",
+                    userId, gameId, sinceSeq);
+            return;
+        }
+        for (GameEventLogEntryDto entry : entries.get()) {
+            try {
+                JsonNode envelope = objectMapper.readTree(entry.envelopeJson());
+                ((ObjectNode) envelope.get("meta")).put("seq", entry.seq());
+                messagingTemplate.convertAndSendToUser(userId, QUEUE_REPLAY, envelope);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("Failed to replay game event: gameId={}, seq={}", gameId, entry.seq(), e);
+            }
+        }
+        log.debug("Game events replayed: userId={}, gameId={}, since={}, count={}",
+                userId, gameId, sinceSeq, entries.get().size());
+    }
+
+    /**
+     * 게임 토픽 destination이면 gameId를 반환한다 (/topic/games/{gameId}).
+     */
+    public static UUID gameIdOf(String destination) {
+        if (destination == null || !destination.startsWith(GAME_TOPIC_PREFIX)
+                || destination.length() != GAME_TOPIC_PREFIX.length() + 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(GAME_TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 게임 토픽이면 같은 게임의 다른 발행과 직렬화하여 seq 부여 후 바로 전송한다.
+     */
+    private <T> void send(String topic, EventEnvelope<T> envelope) {
+        UUID gameId = gameIdOf(topic);
+        if (gameId == null) {
+            messagingTemplate.convertAndSend(topic, envelope);
+            return;
+        }
+        synchronized (seqLockFor(gameId)) {
+            messagingTemplate.convertAndSend(topic, withGameLogSeq(gameId, envelope));
+        }
+    }
+
+    private Object seqLockFor(UUID gameId) {
+        return seqLocks[Math.floorMod(gameId.hashCode(), seqLocks.length)];
+    }
+
+    /**
+     * 게임 토픽 이벤트를 로그에 추가하고 seq를 부여한다.
+     * 로그 추가 실패는 실시간 전달을 막지 않는다 (seq 없이 발행).
+     */
+    <T> EventEnvelope<T> withGameLogSeq(UUID gameId, EventEnvelope<T> envelope) {
+        try {
+            long seq = gameEventLogStore.append(gameId, objectMapper.writeValueAsString(envelope));
+            return envelope.withSeq(seq);
+        } catch (Exception e) {
+            log.warn("Failed to append game event log: gameId={}, type={}", gameId, envelope.type(), e);
+            return envelope;
+        }
+    }
 }
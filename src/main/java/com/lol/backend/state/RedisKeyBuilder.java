@@ -1,73 +1,191 @@
 package com.lol.backend.state;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
+/**
+ * Redis 키 생성기.
+ *
+ * Redis Cluster에서 한 Lua 스크립트/다중 키 명령이 다루는 키는 같은 slot이어야 하므로,
+ * 함께 쓰이는 키는 hash tag({...})로 묶는다.
+ * - 방: room:{roomId}... (방 단위)
+ * - 게임/효과: game:{gameId}..., effect:{gameId}... (게임 단위, 게임 삭제를 한 번의 DEL로 처리)
+ * - 빠른 매칭: match:{gameType:language}... (대기열 단위, 티켓은 사용자별로 분산)
+ * - 로비 비트맵: stats:{lobby}... (순번 할당 스크립트가 함께 다룸)
+ * - 방 목록 버전/변경 스트림: room:{list}... (버전 증가와 변경 기록을 한 스크립트로 처리)
+ * 활성 방/게임 목록은 keyspace SCAN 대신 room:index / game:index SET으로 찾는다.
+ * 키 계열별 TTL은 StateTtl, 계열 분류와 하위 키의 본 키 판별은 StateKeyFamily를 따른다.
+ */
 public final class RedisKeyBuilder {
 
+    private static final String LOBBY_TAG = "{lobby}";
+    private static final String LIST_TAG = "{list}";
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
     private RedisKeyBuilder() {
     }
 
     public static String room(UUID roomId) {
-        return "room:" + roomId;
+        return "room:" + tag(roomId);
     }
 
     public static String roomPlayers(UUID roomId) {
-        return "room:" + roomId + ":players";
+        return "room:" + tag(roomId) + ":players";
     }
 
     public static String roomKicks(UUID roomId) {
-        return "room:" + roomId + ":kicks";
+        return "room:" + tag(roomId) + ":kicks";
     }
 
     public static String roomHostHistory(UUID roomId) {
-        return "room:" + roomId + ":host_history";
+        return "room:" + tag(roomId) + ":host_history";
+    }
+
+    public static String roomIndex() {
+        return "room:index";
     }
 
     public static String roomListVersion() {
-        return "room:list:version";
+        return "room:" + LIST_TAG + ":version";
+    }
+
+    public static String roomListChanges() {
+        return "room:" + LIST_TAG + ":changes";
+    }
+
+    public static String matchQueue(String gameType, String language) {
+        return "match:{" + gameType + ":" + language + "}:queue";
+    }
+
+    public static String matchWaiting(String gameType, String language) {
+        return "match:{" + gameType + ":" + language + "}:waiting";
+    }
+
+    public static String matchTicket(UUID userId) {
+        return "match:ticket:" + userId;
     }
 
     public static String game(UUID gameId) {
-        return "game:" + gameId;
+        return "game:" + tag(gameId);
+    }
+
+    public static String gameIndex() {
+        return "game:index";
     }
 
     public static String gamePlayers(UUID gameId) {
-        return "game:" + gameId + ":players";
+        return "game:" + tag(gameId) + ":players";
     }
 
     public static String gamePlayer(UUID gameId, UUID userId) {
-        return "game:" + gameId + ":players:" + userId;
+        return "game:" + tag(gameId) + ":players:" + userId;
     }
 
     public static String gameBans(UUID gameId) {
-        return "game:" + gameId + ":bans";
+        return "game:" + tag(gameId) + ":bans";
     }
 
     public static String gamePicks(UUID gameId) {
-        return "game:" + gameId + ":picks";
+        return "game:" + tag(gameId) + ":picks";
     }
 
     public static String gamePurchasesItems(UUID gameId) {
-        return "game:" + gameId + ":purchases:items";
+        return "game:" + tag(gameId) + ":purchases:items";
     }
 
     public static String gamePurchasesSpells(UUID gameId) {
-        return "game:" + gameId + ":purchases:spells";
+        return "game:" + tag(gameId) + ":purchases:spells";
+    }
+
+    public static String gameShields(UUID gameId) {
+        return "game:" + tag(gameId) + ":shields";
+    }
+
+    public static String gameInventory(UUID gameId, UUID userId) {
+        return "game:" + tag(gameId) + ":inventory:" + userId;
+    }
+
+    public static String gameScoreboard(UUID gameId) {
+        return "game:" + tag(gameId) + ":scoreboard";
+    }
+
+    public static String gameScoreboardJudged(UUID gameId) {
+        return "game:" + tag(gameId) + ":scoreboard:judged";
+    }
+
+    public static String gameEvents(UUID gameId) {
+        return "game:" + tag(gameId) + ":events";
+    }
+
+    public static String gameEventSeq(UUID gameId) {
+        return "game:" + tag(gameId) + ":events:seq";
     }
 
-    public static String heartbeat(UUID userId) {
-        return "heartbeat:" + userId;
+    public static String presenceLastSeen() {
+        return "presence:lastSeen";
     }
 
     public static String effect(UUID gameId, String uniqueId) {
-        return "effect:" + gameId + ":" + uniqueId;
+        return "effect:" + tag(gameId) + ":" + uniqueId;
     }
 
     public static String effectsActive(UUID gameId) {
-        return "effect:" + gameId + ":active";
+        return "effect:" + tag(gameId) + ":active";
     }
 
     public static String rankingScore() {
         return "ranking:score";
     }
+
+    public static String catalogVersion() {
+        return "catalog:version";
+    }
+
+    public static String userStats(UUID userId) {
+        return "user:" + userId + ":stats";
+    }
+
+    public static String userMemberships(UUID userId) {
+        return "user:" + userId + ":memberships";
+    }
+
+    public static String statsUserOrdinals() {
+        return "stats:" + LOBBY_TAG + ":user:ordinal";
+    }
+
+    public static String statsUserOrdinalSeq() {
+        return "stats:" + LOBBY_TAG + ":user:ordinal:seq";
+    }
+
+    public static String statsOnline() {
+        return "stats:" + LOBBY_TAG + ":online";
+    }
+
+    public static String statsInGame() {
+        return "stats:" + LOBBY_TAG + ":ingame";
+    }
+
+    public static String statsRebuild(String bitmapKey) {
+        return bitmapKey + ":rebuild";
+    }
+
+    public static String statsDailyActive(LocalDate day) {
+        return "stats:dau:" + DAY.format(day);
+    }
+
+    public static String statsDailyActive(LocalDate day, String language) {
+        return "stats:dau:" + DAY.format(day) + ":" + language;
+    }
+
+    public static String statsMonthlyActive(YearMonth month) {
+        return "stats:mau:" + MONTH.format(month);
+    }
+
+    private static String tag(UUID id) {
+        return "{" + id + "}";
+    }
 }
@@ -0,0 +1,66 @@
+package com.lol.backend.state;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RedisKeyBuilder 키 계열 분류.
+ * 키 계열별 메모리 집계와 하위 키의 본 키(부모) 판별에 쓴다.
+ */
+public enum StateKeyFamily {
+
+    ROOM("room:", StateTtl.ROOM),
+    GAME("game:", StateTtl.GAME),
+    EFFECT("effect:", StateTtl.GAME),
+    MATCH("match:", null),
+    PRESENCE("presence:", null),
+    RANKING("ranking:", null),
+    CATALOG("catalog:", null),
+    USER("user:", null),
+    STATS("stats:", null),
+    OTHER("", null);
+
+    // room:{uuid}:suffix, game:{uuid}:suffix, effect:{gameId}:suffix
+    private static final Pattern ENTITY_CHILD_KEY =
+            Pattern.compile("^(room|game|effect):\\{([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})\\}:.+$");
+
+    private final String prefix;
+    private final Duration childTtl;
+
+    StateKeyFamily(String prefix, Duration childTtl) {
+        this.prefix = prefix;
+        this.childTtl = childTtl;
+    }
+
+    /**
+     * 본 키가 있는 하위 키에 적용할 TTL (전역 키 계열이면 null).
+     */
+    public Duration childTtl() {
+        return childTtl;
+    }
+
+    public static StateKeyFamily of(String key) {
+        for (StateKeyFamily family : values()) {
+            if (family != OTHER && key.startsWith(family.prefix)) {
+                return family;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * 방/게임 하위 키의 본 키를 반환한다.
+     * effect:{gameId}:... 는 게임 키(game:{gameId})가 본 키다.
+     * @return 본 키 (하위 키가 아니면 null)
+     */
+    public static String parentKey(String key) {
+        Matcher matcher = ENTITY_CHILD_KEY.matcher(key);
+        if (!matcher.matches()) {
+            return null;
+        }
+        UUID id = UUID.fromString(matcher.group(2));
+        return "room".equals(matcher.group(1)) ? RedisKeyBuilder.room(id) : RedisKeyBuilder.game(id);
+    }
+}
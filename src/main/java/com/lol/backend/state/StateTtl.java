@@ -0,0 +1,22 @@
+package com.lol.backend.state;
+
+import java.time.Duration;
+
+/**
+ * Redis 키 계열별 TTL 정책.
+ *
+ * - 방(room:{id}...)과 게임(game:{id}..., effect:{gameId}:active)의 하위 키는 본 키와 같은 TTL을 쓰며,
+ *   하위 키를 쓸 때 함께 EXPIRE한다. 본 키 없이 남은 하위 키는 StateKeyJanitor가 회수한다.
+ * - 인덱스/버전/대기열/순위/로비 비트맵 등 전역 키는 TTL 없이 유지한다.
+ */
+public final class StateTtl {
+
+    public static final Duration ROOM = Duration.ofHours(24);
+    public static final Duration GAME = Duration.ofHours(4);
+    public static final Duration USER_STATS = Duration.ofHours(24);
+    public static final Duration DAILY_STATS = Duration.ofDays(3);
+    public static final Duration MONTHLY_STATS = Duration.ofDays(62);
+
+    private StateTtl() {
+    }
+}
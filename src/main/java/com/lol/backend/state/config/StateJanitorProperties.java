@@ -0,0 +1,42 @@
+package com.lol.backend.state.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 키 정리(janitor) 설정.
+ * application.yml의 state.janitor 바인딩.
+ *
+ * @param enabled              스케줄 실행 여부
+ * @param intervalMs           tick 주기
+ * @param scanBudget           tick당 SCAN으로 읽는 최대 키 수 (고아 재확인/삭제 수도 같은 한도)
+ * @param orphanGraceMs        본 키가 없는 하위 키를 처음 본 뒤 삭제 전까지 기다리는 시간 (생성 순서 경합 방지)
+ * @param memorySamplesPerTick tick당 MEMORY USAGE로 재는 최대 키 수
+ * @param maxPendingOrphans    삭제 대기 중인 고아 키 최대 수 (초과분은 다음 SCAN 회차에 다시 찾는다)
+ */
+@ConfigurationProperties(prefix = "state.janitor")
+public record StateJanitorProperties(
+        boolean enabled,
+        long intervalMs,
+        int scanBudget,
+        long orphanGraceMs,
+        int memorySamplesPerTick,
+        int maxPendingOrphans
+) {
+    public StateJanitorProperties {
+        if (intervalMs <= 0) {
+            intervalMs = 10_000;
+        }
+        if (scanBudget <= 0) {
+            scanBudget = 500;
+        }
+        if (orphanGraceMs <= 0) {
+            orphanGraceMs = 300_000;
+        }
+        if (memorySamplesPerTick <= 0) {
+            memorySamplesPerTick = 20;
+        }
+        if (maxPendingOrphans <= 0) {
+            maxPendingOrphans = 10_000;
+        }
+    }
+}
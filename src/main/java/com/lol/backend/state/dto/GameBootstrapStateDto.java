@@ -0,0 +1,19 @@
+package com.lol.backend.state.dto;
+
+import java.util.List;
+
+/**
+ * 재접속 부트스트랩용 게임 상태 묶음.
+ * 한 번의 파이프라인 조회로 읽은 게임/플레이어/밴/픽/활성 효과와 이벤트 로그 시퀀스를 담는다.
+ *
+ * @param eventSeq 조회 시점의 게임 이벤트 로그 시퀀스 (이벤트가 없으면 0)
+ */
+public record GameBootstrapStateDto(
+        GameStateDto game,
+        List<GamePlayerStateDto> players,
+        List<GameBanDto> bans,
+        List<GamePickDto> picks,
+        List<ItemEffectActiveDto> effects,
+        long eventSeq
+) {
+}
@@ -0,0 +1,14 @@
+package com.lol.backend.state.dto;
+
+/**
+ * 게임 이벤트 로그 항목.
+ * Redis 키: game:{gameId}:events (Stream, entry ID = {seq}-0)
+ *
+ * @param seq          게임별 단조 증가 시퀀스 (EventMeta.seq)
+ * @param envelopeJson 발행 당시 EventEnvelope JSON (meta.seq 제외)
+ */
+public record GameEventLogEntryDto(
+        long seq,
+        String envelopeJson
+) {
+}
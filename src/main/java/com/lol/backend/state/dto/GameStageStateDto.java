@@ -0,0 +1,16 @@
+package com.lol.backend.state.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 스케줄러용 게임 stage 부분 조회 결과 (game:{id} Hash의 HMGET).
+ */
+public record GameStageStateDto(
+        UUID gameId,
+        String gameType,
+        String stage,
+        Instant stageStartedAt,
+        Instant stageDeadlineAt
+) {
+}
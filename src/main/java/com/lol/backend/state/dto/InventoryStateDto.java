@@ -0,0 +1,17 @@
+package com.lol.backend.state.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 플레이어별 인벤토리 프로젝션 (잔여 수량이 1 이상인 항목만).
+ * Redis 키: game:{gameId}:inventory:{userId} (Hash)
+ *
+ * @param items  아이템 ID → 잔여 수량
+ * @param spells 스펠 ID → 잔여 수량
+ */
+public record InventoryStateDto(
+        Map<UUID, Integer> items,
+        Map<UUID, Integer> spells
+) {
+}
@@ -0,0 +1,16 @@
+package com.lol.backend.state.dto;
+
+import java.util.Map;
+
+/**
+ * 로비 통계 DTO.
+ * Redis 키: stats:online, stats:ingame, stats:dau:{yyyyMMdd}[:{language}], stats:mau:{yyyyMM}
+ */
+public record LobbyStatsStateDto(
+        long onlineUsers,
+        long inGameUsers,
+        long dailyActiveUsers,
+        long monthlyActiveUsers,
+        Map<String, Long> dailyActiveByLanguage
+) {
+}
@@ -0,0 +1,14 @@
+package com.lol.backend.state.dto;
+
+import java.util.UUID;
+
+/**
+ * 매칭 대기 티켓 DTO.
+ * Redis 키: match:queue:{gameType}:{language} (score), match:waiting:{gameType}:{language} (enqueuedAtMs)
+ */
+public record MatchTicketDto(
+        UUID userId,
+        int score,
+        long enqueuedAtMs
+) {
+}
@@ -0,0 +1,40 @@
+package com.lol.backend.state.dto;
+
+import java.util.UUID;
+
+/**
+ * 방 목록 변경 항목.
+ * Redis 키: room:{list}:changes (Stream, entry ID = {listVersion}-0)
+ *
+ * @param version  이 변경으로 올라간 방 목록 버전 (기록 전에는 0)
+ * @param roomId   방 ID
+ * @param type     UPSERT: 방 생성/속성 변경, REMOVE: 방 삭제, UPDATE: 인원/상태만 변경 (이름 색인 영향 없음)
+ * @param roomName 방 이름 (UPSERT일 때만)
+ * @param language 언어 (UPSERT일 때만)
+ * @param gameType 게임 타입 (UPSERT일 때만)
+ */
+public record RoomListChangeDto(
+        long version,
+        UUID roomId,
+        Type type,
+        String roomName,
+        String language,
+        String gameType
+) {
+
+    public enum Type {
+        UPSERT, REMOVE, UPDATE
+    }
+
+    public static RoomListChangeDto upsert(RoomStateDto room) {
+        return new RoomListChangeDto(0, room.id(), Type.UPSERT, room.roomName(), room.language(), room.gameType());
+    }
+
+    public static RoomListChangeDto remove(UUID roomId) {
+        return new RoomListChangeDto(0, roomId, Type.REMOVE, null, null, null);
+    }
+
+    public static RoomListChangeDto update(UUID roomId) {
+        return new RoomListChangeDto(0, roomId, Type.UPDATE, null, null, null);
+    }
+}
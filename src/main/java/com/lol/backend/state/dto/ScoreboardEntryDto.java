@@ -0,0 +1,18 @@
+package com.lol.backend.state.dto;
+
+import java.util.UUID;
+
+/**
+ * 게임 내 실시간 순위표 항목.
+ * Redis 키: game:{gameId}:scoreboard (Sorted Set member)
+ *
+ * @param userId       사용자 ID
+ * @param acCount      AC 수
+ * @param lastSubmitMs 최종 AC 제출 경과 시간(ms), AC가 없으면 Integer.MAX_VALUE
+ */
+public record ScoreboardEntryDto(
+        UUID userId,
+        int acCount,
+        int lastSubmitMs
+) {
+}
@@ -0,0 +1,22 @@
+package com.lol.backend.state.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자가 참가 중인 룸/게임 인덱스 항목.
+ * Redis 키: user:{userId}:memberships (Hash)
+ *
+ * 인덱스는 참가 후보만 알려주므로, 사용하는 쪽은 실제 룸/게임 플레이어 상태로 다시 확인해야 한다.
+ *
+ * @param roomIds 참가 중인 룸 ID
+ * @param gameIds 참가 중인 게임 ID
+ */
+public record UserMembershipDto(
+        Set<UUID> roomIds,
+        Set<UUID> gameIds
+) {
+    public static UserMembershipDto empty() {
+        return new UserMembershipDto(Set.of(), Set.of());
+    }
+}
@@ -0,0 +1,18 @@
+package com.lol.backend.state.dto;
+
+import java.util.UUID;
+
+/**
+ * 사용자 누적 전적 캐시 DTO.
+ * Redis 키: user:{userId}:stats
+ */
+public record UserStatsStateDto(
+        UUID userId,
+        int games,
+        int wins,
+        int losses,
+        int draws,
+        int currentWinStreak,
+        int bestWinStreak
+) {
+}
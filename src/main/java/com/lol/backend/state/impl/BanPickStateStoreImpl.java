@@ -3,6 +3,7 @@ package com.lol.backend.state.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
 import com.lol.backend.state.dto.GameBanDto;
 import com.lol.backend.state.dto.GamePickDto;
 import com.lol.backend.state.store.BanPickStateStore;
@@ -35,6 +36,7 @@ public class BanPickStateStoreImpl implements BanPickStateStore {
         try {
             String json = objectMapper.writeValueAsString(ban);
             redisTemplate.opsForHash().put(key, hashKey, json);
+            redisTemplate.expire(key, StateTtl.GAME);
             log.debug("Saved ban: gameId={}, userId={}, algorithmId={}", ban.gameId(), ban.userId(), ban.algorithmId());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize ban: " + ban.id(), e);
@@ -86,6 +88,7 @@ public class BanPickStateStoreImpl implements BanPickStateStore {
         try {
             String json = objectMapper.writeValueAsString(pick);
             redisTemplate.opsForHash().put(key, hashKey, json);
+            redisTemplate.expire(key, StateTtl.GAME);
             log.debug("Saved pick: gameId={}, userId={}, algorithmId={}", pick.gameId(), pick.userId(), pick.algorithmId());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize pick: " + pick.id(), e);
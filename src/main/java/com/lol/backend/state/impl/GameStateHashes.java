@@ -0,0 +1,151 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게임/게임 플레이어 상태의 Redis Hash 필드 매핑.
+ *
+ * 속성 하나가 Hash 필드 하나이며, null 속성은 필드를 두지 않는다 (쓰기 시 빈 문자열 → HDEL).
+ * 필드 순서는 아래 상수 배열 순서를 따르며 HMGET/스크립트 인자도 같은 순서를 쓴다.
+ */
+public final class GameStateHashes {
+
+    public static final List<String> GAME_FIELDS = List.of(
+            "id", "roomId", "gameType", "stage", "stageStartedAt", "stageDeadlineAt",
+            "startedAt", "finishedAt", "finalAlgorithmId", "createdAt");
+
+    // 스케줄러가 매 tick 읽는 필드 (HMGET)
+    public static final List<String> STAGE_FIELDS = List.of(
+            "gameType", "stage", "stageStartedAt", "stageDeadlineAt");
+
+    public static final List<String> PLAYER_FIELDS = List.of(
+            "id", "gameId", "userId", "state", "scoreBefore", "scoreAfter", "scoreDelta",
+            "finalScoreValue", "rankInGame", "solved", "result", "coinBefore", "coinDelta",
+            "expBefore", "expDelta", "joinedAt", "leftAt", "disconnectedAt");
+
+    private GameStateHashes() {
+    }
+
+    /**
+     * @return GAME_FIELDS 순서의 값 (null은 빈 문자열)
+     */
+    public static List<String> gameValues(GameStateDto game) {
+        return values(
+                game.id(), game.roomId(), game.gameType(), game.stage(), game.stageStartedAt(),
+                game.stageDeadlineAt(), game.startedAt(), game.finishedAt(), game.finalAlgorithmId(),
+                game.createdAt());
+    }
+
+    /**
+     * @return PLAYER_FIELDS 순서의 값 (null은 빈 문자열)
+     */
+    public static List<String> playerValues(GamePlayerStateDto player) {
+        return values(
+                player.id(), player.gameId(), player.userId(), player.state(), player.scoreBefore(),
+                player.scoreAfter(), player.scoreDelta(), player.finalScoreValue(), player.rankInGame(),
+                player.solved(), player.result(), player.coinBefore(), player.coinDelta(),
+                player.expBefore(), player.expDelta(), player.joinedAt(), player.leftAt(),
+                player.disconnectedAt());
+    }
+
+    /**
+     * HGETALL 결과를 게임 상태로 변환한다.
+     * @return 변환된 상태 (Hash가 비어 있으면 null)
+     */
+    public static GameStateDto toGame(Map<?, ?> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+        return new GameStateDto(
+                uuid(hash.get("id")),
+                uuid(hash.get("roomId")),
+                string(hash.get("gameType")),
+                string(hash.get("stage")),
+                instant(hash.get("stageStartedAt")),
+                instant(hash.get("stageDeadlineAt")),
+                instant(hash.get("startedAt")),
+                instant(hash.get("finishedAt")),
+                uuid(hash.get("finalAlgorithmId")),
+                instant(hash.get("createdAt"))
+        );
+    }
+
+    /**
+     * STAGE_FIELDS 순서의 HMGET 결과를 stage 조회 결과로 변환한다.
+     * @return 변환된 결과 (게임이 없으면 null)
+     */
+    public static GameStageStateDto toStage(UUID gameId, List<?> values) {
+        if (values == null || values.get(1) == null) {
+            return null;
+        }
+        return new GameStageStateDto(
+                gameId,
+                string(values.get(0)),
+                string(values.get(1)),
+                instant(values.get(2)),
+                instant(values.get(3))
+        );
+    }
+
+    /**
+     * HGETALL 결과를 게임 플레이어 상태로 변환한다.
+     * @return 변환된 상태 (Hash가 비어 있으면 null)
+     */
+    public static GamePlayerStateDto toPlayer(Map<?, ?> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+        return new GamePlayerStateDto(
+                uuid(hash.get("id")),
+                uuid(hash.get("gameId")),
+                uuid(hash.get("userId")),
+                string(hash.get("state")),
+                integer(hash.get("scoreBefore"), 0),
+                integer(hash.get("scoreAfter"), null),
+                integer(hash.get("scoreDelta"), null),
+                integer(hash.get("finalScoreValue"), null),
+                integer(hash.get("rankInGame"), null),
+                hash.get("solved") != null ? Boolean.valueOf(hash.get("solved").toString()) : null,
+                string(hash.get("result")),
+                integer(hash.get("coinBefore"), null),
+                integer(hash.get("coinDelta"), null),
+                hash.get("expBefore") != null ? Double.valueOf(hash.get("expBefore").toString()) : null,
+                hash.get("expDelta") != null ? Double.valueOf(hash.get("expDelta").toString()) : null,
+                instant(hash.get("joinedAt")),
+                instant(hash.get("leftAt")),
+                instant(hash.get("disconnectedAt"))
+        );
+    }
+
+    private static List<String> values(Object... values) {
+        List<String> result = new ArrayList<>(values.length);
+        for (Object value : values) {
+            result.add(value != null ? value.toString() : "");
+        }
+        return result;
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static UUID uuid(Object value) {
+        return value != null ? UUID.fromString(value.toString()) : null;
+    }
+
+    private static Instant instant(Object value) {
+        return value != null ? Instant.parse(value.toString()) : null;
+    }
+
+    private static Integer integer(Object value, Integer defaultValue) {
+        return value != null ? Integer.valueOf(value.toString()) : defaultValue;
+    }
+}
@@ -1,123 +1,138 @@
 package com.lol.backend.state.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
 import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.script.StateScripts;
 import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.UserMembershipStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Redis Hash 기반 게임 상태 구현체.
+ * 게임/플레이어 상태를 속성별 Hash 필드로 저장해 stage 전이는 필드만 HSET하고,
+ * 스케줄러는 필요한 필드만 HMGET한다 (JSON 전체를 읽고 다시 쓰지 않는다).
+ */
 @Slf4j
 @Service
 @Primary
 public class GameStateStoreImpl implements GameStateStore {
 
+    // 게임 상태의 수명 (플레이어 SET/Hash도 같은 TTL)
+    private static final long TTL_SECONDS = StateTtl.GAME.toSeconds();
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final StateScripts stateScripts;
+    private final UserMembershipStore userMembershipStore;
 
-    public GameStateStoreImpl(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public GameStateStoreImpl(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts,
+                              UserMembershipStore userMembershipStore) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.stateScripts = stateScripts;
+        this.userMembershipStore = userMembershipStore;
     }
 
     @Override
     public void saveGame(GameStateDto game) {
-        String key = RedisKeyBuilder.game(game.id());
-        try {
-            String json = objectMapper.writeValueAsString(game);
-            redisTemplate.opsForValue().set(key, json, java.time.Duration.ofHours(4));
-            log.debug("Saved game state: gameId={}", game.id());
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize game state: " + game.id(), e);
-        }
+        stateScripts.putGame(game.id(), GameStateHashes.GAME_FIELDS, GameStateHashes.gameValues(game), TTL_SECONDS);
+        redisTemplate.opsForSet().add(RedisKeyBuilder.gameIndex(), game.id().toString());
+        log.debug("Saved game state: gameId={}", game.id());
     }
 
     @Override
     public Optional<GameStateDto> getGame(UUID gameId) {
-        String key = RedisKeyBuilder.game(gameId);
-        String json = redisTemplate.opsForValue().get(key);
-        if (json == null) {
-            return Optional.empty();
-        }
-        try {
-            GameStateDto dto = objectMapper.readValue(json, GameStateDto.class);
-            return Optional.of(dto);
-        } catch (IOException e) {
-            log.error("Failed to deserialize game state: gameId={}", gameId, e);
-            return Optional.empty();
-        }
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(RedisKeyBuilder.game(gameId));
+        return Optional.ofNullable(GameStateHashes.toGame(hash));
+    }
+
+    @Override
+    public Optional<GameStageStateDto> getGameStage(UUID gameId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(RedisKeyBuilder.game(gameId),
+                new ArrayList<>(GameStateHashes.STAGE_FIELDS));
+        return Optional.ofNullable(GameStateHashes.toStage(gameId, values));
     }
 
     @Override
     public void deleteGame(UUID gameId) {
-        redisTemplate.delete(RedisKeyBuilder.game(gameId));
-        redisTemplate.delete(RedisKeyBuilder.gamePlayers(gameId));
-        redisTemplate.delete(RedisKeyBuilder.gameBans(gameId));
-        redisTemplate.delete(RedisKeyBuilder.gamePicks(gameId));
-        redisTemplate.delete(RedisKeyBuilder.gamePurchasesItems(gameId));
-        redisTemplate.delete(RedisKeyBuilder.gamePurchasesSpells(gameId));
-        redisTemplate.delete(RedisKeyBuilder.effectsActive(gameId));
+        // 게임/효과 키는 모두 {gameId} hash tag로 같은 slot이므로 한 번의 DEL로 지운다
+        List<String> keys = new ArrayList<>(List.of(
+                RedisKeyBuilder.game(gameId),
+                RedisKeyBuilder.gamePlayers(gameId),
+                RedisKeyBuilder.gameBans(gameId),
+                RedisKeyBuilder.gamePicks(gameId),
+                RedisKeyBuilder.gamePurchasesItems(gameId),
+                RedisKeyBuilder.gamePurchasesSpells(gameId),
+                RedisKeyBuilder.effectsActive(gameId),
+                RedisKeyBuilder.gameShields(gameId),
+                RedisKeyBuilder.gameScoreboard(gameId),
+                RedisKeyBuilder.gameScoreboardJudged(gameId),
+                RedisKeyBuilder.gameEvents(gameId),
+                RedisKeyBuilder.gameEventSeq(gameId)
+        ));
+        List<UUID> userIds = getGamePlayerIds(gameId);
+        for (UUID userId : userIds) {
+            keys.add(RedisKeyBuilder.gamePlayer(gameId, userId));
+            keys.add(RedisKeyBuilder.gameInventory(gameId, userId));
+        }
+        redisTemplate.delete(keys);
+        redisTemplate.opsForSet().remove(RedisKeyBuilder.gameIndex(), gameId.toString());
+        userMembershipStore.removeGame(userIds, gameId);
         log.debug("Deleted game state and all associated keys: gameId={}", gameId);
     }
 
     @Override
     public void saveGamePlayer(GamePlayerStateDto gamePlayer) {
-        String key = RedisKeyBuilder.gamePlayers(gamePlayer.gameId());
-        String hashKey = gamePlayer.userId().toString();
-        try {
-            String json = objectMapper.writeValueAsString(gamePlayer);
-            redisTemplate.opsForHash().put(key, hashKey, json);
-            log.debug("Saved game player state: gameId={}, userId={}", gamePlayer.gameId(), gamePlayer.userId());
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize game player state: " + gamePlayer.userId(), e);
-        }
+        saveGamePlayers(gamePlayer.gameId(), List.of(gamePlayer));
     }
 
     @Override
     public Optional<GamePlayerStateDto> getGamePlayer(UUID gameId, UUID userId) {
-        String key = RedisKeyBuilder.gamePlayers(gameId);
-        String hashKey = userId.toString();
-        Object value = redisTemplate.opsForHash().get(key, hashKey);
-        if (value == null) {
-            return Optional.empty();
-        }
-        try {
-            GamePlayerStateDto dto = objectMapper.readValue(value.toString(), GamePlayerStateDto.class);
-            return Optional.of(dto);
-        } catch (IOException e) {
-            log.error("Failed to deserialize game player state: gameId={}, userId={}", gameId, userId, e);
-            return Optional.empty();
-        }
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(RedisKeyBuilder.gamePlayer(gameId, userId));
+        return Optional.ofNullable(GameStateHashes.toPlayer(hash));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<GamePlayerStateDto> getGamePlayers(UUID gameId) {
-        String key = RedisKeyBuilder.gamePlayers(gameId);
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
-        if (entries.isEmpty()) {
+        List<UUID> userIds = getGamePlayerIds(gameId);
+        if (userIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return entries.values().stream()
-                .map(obj -> {
-                    try {
-                        return objectMapper.readValue(obj.toString(), GamePlayerStateDto.class);
-                    } catch (IOException e) {
-                        log.error("Failed to deserialize game player state from gameId={}", gameId, e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        // 플레이어 Hash는 파이프라인으로 한 번에 읽는다 (결과는 Map<String, String>)
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : userIds) {
+                connection.hashCommands().hGetAll(RedisKeyBuilder.gamePlayer(gameId, userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        List<GamePlayerStateDto> players = new ArrayList<>(hashes.size());
+        for (Object hash : hashes) {
+            GamePlayerStateDto player = GameStateHashes.toPlayer((Map<Object, Object>) hash);
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public List<UUID> getGamePlayerIds(UUID gameId) {
+        Set<String> members = redisTemplate.opsForSet().members(RedisKeyBuilder.gamePlayers(gameId));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(UUID::fromString).toList();
     }
 
     @Override
@@ -127,89 +142,78 @@ public class GameStateStoreImpl implements GameStateStore {
     }
 
     @Override
-    public void updateGameStage(UUID gameId, String stage, Instant stageStartedAt, Instant stageDeadlineAt) {
-        String key = RedisKeyBuilder.game(gameId);
-
-        // Atomic read-modify-write using Lua script
-        String luaScript =
-            "local existing = redis.call('GET', KEYS[1]) " +
-            "if not existing then return nil end " +
-            "local json = cjson.decode(existing) " +
-            "json.stage = ARGV[1] " +
-            "json.stageStartedAt = ARGV[2] " +
-            "json.stageDeadlineAt = ARGV[3] " +
-            "local updated = cjson.encode(json) " +
-            "redis.call('SET', KEYS[1], updated, 'KEEPTTL') " +
-            "return updated";
+    public boolean updateGamePlayerState(UUID gameId, UUID userId, String expectedState, String state,
+                                         Instant disconnectedAt) {
+        boolean updated = stateScripts.compareAndSetGamePlayerState(gameId, userId, expectedState, state, disconnectedAt);
+        log.debug("Updated game player state: gameId={}, userId={}, state={}, updated={}", gameId, userId, state, updated);
+        return updated;
+    }
 
-        try {
-            String stageStartedAtStr = stageStartedAt != null ? stageStartedAt.toString() : "";
-            String stageDeadlineAtStr = stageDeadlineAt != null ? stageDeadlineAt.toString() : "";
-
-            String result = redisTemplate.execute(
-                (org.springframework.data.redis.core.RedisCallback<String>) connection -> {
-                    byte[] keyBytes = key.getBytes();
-                    byte[] stageBytes = stage.getBytes();
-                    byte[] startedBytes = stageStartedAtStr.getBytes();
-                    byte[] deadlineBytes = stageDeadlineAtStr.getBytes();
-                    Object res = connection.eval(
-                        luaScript.getBytes(),
-                        org.springframework.data.redis.connection.ReturnType.VALUE,
-                        1,
-                        keyBytes,
-                        stageBytes,
-                        startedBytes,
-                        deadlineBytes
-                    );
-                    return res != null ? new String((byte[]) res) : null;
-                }
-            );
+    @Override
+    public void saveGamePlayers(UUID gameId, List<GamePlayerStateDto> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        List<UUID> userIds = new ArrayList<>(players.size());
+        List<List<String>> values = new ArrayList<>(players.size());
+        for (GamePlayerStateDto player : players) {
+            userIds.add(player.userId());
+            values.add(GameStateHashes.playerValues(player));
+        }
+        stateScripts.putGamePlayers(gameId, GameStateHashes.PLAYER_FIELDS, userIds, values, TTL_SECONDS);
+        userMembershipStore.addGame(userIds, gameId);
+        log.debug("Saved game player states: gameId={}, count={}", gameId, players.size());
+    }
 
-            if (result == null) {
-                log.warn("Cannot update game stage: game not found. gameId={}", gameId);
-            } else {
-                log.debug("Updated game stage: gameId={}, newStage={}", gameId, stage);
-            }
+    @Override
+    public void updateGameStage(UUID gameId, String stage, Instant stageStartedAt, Instant stageDeadlineAt) {
+        boolean updated;
+        try {
+            updated = stateScripts.setGameStage(gameId, stage, stageStartedAt, stageDeadlineAt);
         } catch (Exception e) {
             log.error("Failed to update game stage atomically: gameId={}", gameId, e);
             throw new RuntimeException("Failed to update game stage", e);
         }
+
+        if (!updated) {
+            log.warn("Cannot update game stage: game not found. gameId={}", gameId);
+        } else {
+            log.debug("Updated game stage: gameId={}, newStage={}", gameId, stage);
+        }
     }
 
     @Override
     public List<UUID> getAllActiveGameIds() {
-        // Use SCAN instead of KEYS to prevent blocking in production
-        org.springframework.data.redis.core.ScanOptions options =
-            org.springframework.data.redis.core.ScanOptions.scanOptions()
-                .match("game:*")
-                .count(100)
-                .build();
-
-        Set<String> keys = new HashSet<>();
-        org.springframework.data.redis.core.Cursor<String> cursor = null;
-        try {
-            cursor = redisTemplate.scan(options);
-            while (cursor.hasNext()) {
-                keys.add(cursor.next());
-            }
-        } finally {
-            if (cursor != null) {
-                try {
-                    cursor.close();
-                } catch (Exception e) {
-                    log.warn("Failed to close cursor", e);
+        // keyspace SCAN 대신 game:index로 찾는다 (클러스터에서도 노드별 SCAN 없이 동작)
+        Set<String> members = redisTemplate.opsForSet().members(RedisKeyBuilder.gameIndex());
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<UUID> gameIds = members.stream().map(UUID::fromString).toList();
+        List<Object> exists = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                for (UUID gameId : gameIds) {
+                    connection.keyCommands().exists(RedisKeyBuilder.game(gameId).getBytes());
                 }
+                return null;
+            }
+        );
+
+        // TTL로 만료된 게임은 deleteGame을 거치지 않으므로 조회 시 인덱스에서 정리한다
+        List<UUID> active = new ArrayList<>(gameIds.size());
+        List<Object> stale = new ArrayList<>();
+        for (int i = 0; i < gameIds.size(); i++) {
+            if (Boolean.TRUE.equals(exists.get(i))) {
+                active.add(gameIds.get(i));
+            } else {
+                stale.add(gameIds.get(i).toString());
             }
         }
-
-        if (keys.isEmpty()) {
-            return Collections.emptyList();
+        if (!stale.isEmpty()) {
+            redisTemplate.opsForSet().remove(RedisKeyBuilder.gameIndex(), stale.toArray());
+            log.debug("Pruned expired games from index: count={}", stale.size());
         }
-
-        // "game:<uuid>" 형식의 키만 필터링하고 UUID 추출
-        return keys.stream()
-                .filter(key -> key.matches("^game:[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"))
-                .map(key -> UUID.fromString(key.substring(5))) // "game:" 제거
-                .collect(Collectors.toList());
+        return active;
     }
 }
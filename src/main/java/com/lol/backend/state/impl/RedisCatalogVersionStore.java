@@ -0,0 +1,29 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.store.CatalogVersionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis String(INCR) 기반 카탈로그 버전 구현체.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisCatalogVersionStore implements CatalogVersionStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public long getVersion() {
+        String value = redisTemplate.opsForValue().get(RedisKeyBuilder.catalogVersion());
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    @Override
+    public long bumpVersion() {
+        Long version = redisTemplate.opsForValue().increment(RedisKeyBuilder.catalogVersion());
+        return version == null ? 0L : version;
+    }
+}
@@ -5,7 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lol.backend.common.exception.BusinessException;
 import com.lol.backend.common.exception.ErrorCode;
 import com.lol.backend.state.RedisKeyBuilder;
-import com.lol.backend.state.dto.ConnectionHeartbeatDto;
+import com.lol.backend.state.StateTtl;
 import com.lol.backend.state.dto.ItemEffectActiveDto;
 import com.lol.backend.state.store.EphemeralStateStore;
 import lombok.RequiredArgsConstructor;
@@ -15,13 +15,15 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Redis 기반 Ephemeral 상태 저장소 구현체.
- * - CONNECTION_HEARTBEAT: Redis String + TTL (~30초)
  * - ITEM_EFFECT_ACTIVE: Redis String + TTL (아이템 지속 시간)
+ *   게임별 인덱스 Hash(effect:{gameId}:active)에도 함께 기록해 KEYS 스캔 없이 조회한다.
+ *   인덱스 항목은 개별 만료가 없으므로 만료 스케줄러가 removeEffect로 정리하고,
+ *   인덱스 Hash 자체는 게임 키와 같은 TTL(StateTtl.GAME)을 쓴다.
  */
 @Slf4j
 @Service
@@ -31,42 +33,15 @@ public class RedisEphemeralStateStore implements EphemeralStateStore {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
-    @Override
-    public void saveHeartbeat(ConnectionHeartbeatDto heartbeat, Duration ttl) {
-        String key = RedisKeyBuilder.heartbeat(heartbeat.userId());
-        try {
-            String json = objectMapper.writeValueAsString(heartbeat);
-            redisTemplate.opsForValue().set(key, json, ttl);
-            log.debug("Saved heartbeat: userId={}, connectionState={}, ttl={}s",
-                    heartbeat.userId(), heartbeat.connectionState(), ttl.getSeconds());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize heartbeat: {}", heartbeat, e);
-            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "하트비트 저장 실패");
-        }
-    }
-
-    @Override
-    public Optional<ConnectionHeartbeatDto> getHeartbeat(UUID userId) {
-        String key = RedisKeyBuilder.heartbeat(userId);
-        String json = redisTemplate.opsForValue().get(key);
-        if (json == null) {
-            return Optional.empty();
-        }
-        try {
-            ConnectionHeartbeatDto dto = objectMapper.readValue(json, ConnectionHeartbeatDto.class);
-            return Optional.of(dto);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize heartbeat: key={}, json={}", key, json, e);
-            return Optional.empty();
-        }
-    }
-
     @Override
     public void saveEffect(ItemEffectActiveDto effect, Duration ttl) {
         String key = RedisKeyBuilder.effect(effect.gameId(), effect.uniqueId());
         try {
             String json = objectMapper.writeValueAsString(effect);
             redisTemplate.opsForValue().set(key, json, ttl);
+            String activeKey = RedisKeyBuilder.effectsActive(effect.gameId());
+            redisTemplate.opsForHash().put(activeKey, effect.uniqueId(), json);
+            redisTemplate.expire(activeKey, StateTtl.GAME);
             log.debug("Saved effect: gameId={}, uniqueId={}, itemId={}, ttl={}s",
                     effect.gameId(), effect.uniqueId(), effect.itemId(), ttl.getSeconds());
         } catch (JsonProcessingException e) {
@@ -77,20 +52,15 @@ public class RedisEphemeralStateStore implements EphemeralStateStore {
 
     @Override
     public List<ItemEffectActiveDto> getActiveEffects(UUID gameId) {
-        // T2-2에서 구체적으로 구현 예정
-        // effect:<gameId>:* 패턴으로 모든 활성 이펙트를 조회
-        String pattern = "effect:" + gameId + ":*";
-        var keys = redisTemplate.keys(pattern);
-        if (keys == null || keys.isEmpty()) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(RedisKeyBuilder.effectsActive(gameId));
+        if (entries.isEmpty()) {
             return List.of();
         }
 
-        return keys.stream()
-                .map(key -> redisTemplate.opsForValue().get(key))
-                .filter(json -> json != null)
+        return entries.values().stream()
                 .map(json -> {
                     try {
-                        return objectMapper.readValue(json, ItemEffectActiveDto.class);
+                        return objectMapper.readValue(json.toString(), ItemEffectActiveDto.class);
                     } catch (JsonProcessingException e) {
                         log.error("Failed to deserialize effect: json={}", json, e);
                         return null;
@@ -104,6 +74,7 @@ public class RedisEphemeralStateStore implements EphemeralStateStore {
     public void removeEffect(UUID gameId, String uniqueId) {
         String key = RedisKeyBuilder.effect(gameId, uniqueId);
         Boolean deleted = redisTemplate.delete(key);
+        redisTemplate.opsForHash().delete(RedisKeyBuilder.effectsActive(gameId), uniqueId);
         log.debug("Removed effect: gameId={}, uniqueId={}, deleted={}", gameId, uniqueId, deleted);
     }
 }
@@ -0,0 +1,135 @@
+package com.lol.backend.state.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.GameBanDto;
+import com.lol.backend.state.dto.GameBootstrapStateDto;
+import com.lol.backend.state.dto.GamePickDto;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.ItemEffectActiveDto;
+import com.lol.backend.state.store.GameBootstrapStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 파이프라인 기반 부트스트랩 조회 구현체.
+ * 개별 Store를 순차 호출하면 키마다 왕복이 발생하므로 6개 명령을 한 번에 보내고,
+ * 플레이어별 Hash만 두 번째 파이프라인으로 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisGameBootstrapStore implements GameBootstrapStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<GameBootstrapStateDto> read(UUID gameId) {
+        // 결과는 템플릿의 String 직렬화기로 역직렬화된다 (Hash는 Map<String, String>, Set은 Set<String>)
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hGetAll(bytes(RedisKeyBuilder.game(gameId)));
+            connection.setCommands().sMembers(bytes(RedisKeyBuilder.gamePlayers(gameId)));
+            connection.hashCommands().hGetAll(bytes(RedisKeyBuilder.gameBans(gameId)));
+            connection.hashCommands().hGetAll(bytes(RedisKeyBuilder.gamePicks(gameId)));
+            connection.hashCommands().hGetAll(bytes(RedisKeyBuilder.effectsActive(gameId)));
+            connection.stringCommands().get(bytes(RedisKeyBuilder.gameEventSeq(gameId)));
+            return null;
+        });
+
+        GameStateDto game = GameStateHashes.toGame((Map<Object, Object>) results.get(0));
+        if (game == null) {
+            return Optional.empty();
+        }
+        Object seq = results.get(5);
+
+        return Optional.of(new GameBootstrapStateDto(
+                game,
+                readPlayers(gameId, (Collection<Object>) results.get(1)),
+                parseAll((Map<Object, Object>) results.get(2), GameBanDto.class, gameId),
+                parseAll((Map<Object, Object>) results.get(3), GamePickDto.class, gameId),
+                activeEffects(parseAll((Map<Object, Object>) results.get(4), ItemEffectActiveDto.class, gameId)),
+                seq != null ? Long.parseLong(seq.toString()) : 0L
+        ));
+    }
+
+    /**
+     * 플레이어별 Hash는 참가자 SET을 읽은 뒤에야 키를 알 수 있으므로 두 번째 파이프라인으로 읽는다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<GamePlayerStateDto> readPlayers(UUID gameId, Collection<Object> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object userId : userIds) {
+                connection.hashCommands().hGetAll(
+                        bytes(RedisKeyBuilder.gamePlayer(gameId, UUID.fromString(userId.toString()))));
+            }
+            return null;
+        });
+        List<GamePlayerStateDto> players = new ArrayList<>(hashes.size());
+        for (Object hash : hashes) {
+            GamePlayerStateDto player = GameStateHashes.toPlayer((Map<Object, Object>) hash);
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * 만료 처리(effect 키 TTL, 만료 스케줄러)보다 먼저 읽힌 효과는 expiresAt 기준으로 거른다.
+     */
+    private static List<ItemEffectActiveDto> activeEffects(List<ItemEffectActiveDto> effects) {
+        if (effects.isEmpty()) {
+            return effects;
+        }
+        Instant now = Instant.now();
+        return effects.stream()
+                .filter(effect -> effect.expiresAt() == null || effect.expiresAt().isAfter(now))
+                .toList();
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private <T> List<T> parseAll(Map<Object, Object> entries, Class<T> type, UUID gameId) {
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+        List<T> parsed = new ArrayList<>(entries.size());
+        for (Object value : entries.values()) {
+            T dto = parse(value, type, gameId);
+            if (dto != null) {
+                parsed.add(dto);
+            }
+        }
+        return parsed;
+    }
+
+    private <T> T parse(Object json, Class<T> type, UUID gameId) {
+        try {
+            return objectMapper.readValue(json.toString(), type);
+        } catch (IOException e) {
+            log.error("Failed to deserialize {} for bootstrap: gameId={}", type.getSimpleName(), gameId, e);
+            return null;
+        }
+    }
+}
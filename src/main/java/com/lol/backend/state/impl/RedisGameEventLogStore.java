@@ -0,0 +1,85 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.realtime.config.EventLogProperties;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.GameEventLogEntryDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.GameEventLogStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis Stream 기반 게임 이벤트 로그 구현체.
+ * 시퀀스 발급(INCR)과 XADD를 Lua 스크립트로 묶어 stream ID가 시퀀스 순서와 항상 일치하도록 한다.
+ */
+@Slf4j
+@Service
+public class RedisGameEventLogStore implements GameEventLogStore {
+
+    // 게임 상태(game:{id})와 동일한 수명
+    private static final long TTL_SECONDS = StateTtl.GAME.toSeconds();
+
+    private static final String FIELD_ENVELOPE = "e";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateScripts stateScripts;
+    private final int maxLength;
+
+    public RedisGameEventLogStore(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts,
+                                  EventLogProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.stateScripts = stateScripts;
+        this.maxLength = properties.maxLength();
+    }
+
+    @Override
+    public long append(UUID gameId, String envelopeJson) {
+        Long seq = stateScripts.appendGameEvent(gameId, envelopeJson, maxLength, TTL_SECONDS);
+        if (seq == null) {
+            throw new IllegalStateException("Event log append returned no sequence: gameId=" + gameId);
+        }
+        return seq;
+    }
+
+    @Override
+    public Optional<List<GameEventLogEntryDto>> readSince(UUID gameId, long sinceSeq, int limit) {
+        String seqValue = redisTemplate.opsForValue().get(RedisKeyBuilder.gameEventSeq(gameId));
+        long lastSeq = seqValue != null ? Long.parseLong(seqValue) : 0L;
+        if (sinceSeq >= lastSeq) {
+            return Optional.of(List.of());
+        }
+        if (lastSeq - sinceSeq > limit) {
+            log.debug("Event log gap exceeds limit: gameId={}, since={}, last={}", gameId, sinceSeq, lastSeq);
+            return Optional.empty();
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                RedisKeyBuilder.gameEvents(gameId),
+                Range.rightUnbounded(Range.Bound.inclusive((sinceSeq + 1) + "-0")),
+                Limit.limit().count(limit));
+        if (records == null || records.isEmpty() || records.get(0).getId().getTimestamp() != sinceSeq + 1) {
+            // MAXLEN 절삭 또는 TTL 만료로 누락분 앞부분이 사라짐
+            log.debug("Event log truncated: gameId={}, since={}, last={}", gameId, sinceSeq, lastSeq);
+            return Optional.empty();
+        }
+
+        List<GameEventLogEntryDto> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object envelope = record.getValue().get(FIELD_ENVELOPE);
+            if (envelope != null) {
+                entries.add(new GameEventLogEntryDto(record.getId().getTimestamp(), envelope.toString()));
+            }
+        }
+        return Optional.of(entries);
+    }
+}
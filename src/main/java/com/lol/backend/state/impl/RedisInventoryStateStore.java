@@ -0,0 +1,103 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.InventoryStateDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.InventoryStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 인벤토리 프로젝션 구현체.
+ * 시드/증감은 StateScripts의 Lua 스크립트로 단일 왕복에 원자적으로 처리하고, 조회는 HGETALL 한 번이다.
+ */
+@Slf4j
+@Service
+public class RedisInventoryStateStore implements InventoryStateStore {
+
+    // 게임 상태(game:{id})와 동일한 수명
+    private static final long TTL_SECONDS = StateTtl.GAME.toSeconds();
+
+    private static final String ITEM_PREFIX = "item:";
+    private static final String SPELL_PREFIX = "spell:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateScripts stateScripts;
+
+    public RedisInventoryStateStore(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts) {
+        this.redisTemplate = redisTemplate;
+        this.stateScripts = stateScripts;
+    }
+
+    @Override
+    public Optional<InventoryStateDto> getInventory(UUID gameId, UUID userId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(RedisKeyBuilder.gameInventory(gameId, userId));
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<UUID, Integer> items = new LinkedHashMap<>();
+        Map<UUID, Integer> spells = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : hash.entrySet()) {
+            String field = (String) entry.getKey();
+            if (field.startsWith(ITEM_PREFIX)) {
+                items.put(UUID.fromString(field.substring(ITEM_PREFIX.length())), Integer.parseInt((String) entry.getValue()));
+            } else if (field.startsWith(SPELL_PREFIX)) {
+                spells.put(UUID.fromString(field.substring(SPELL_PREFIX.length())), Integer.parseInt((String) entry.getValue()));
+            }
+        }
+        return Optional.of(new InventoryStateDto(items, spells));
+    }
+
+    @Override
+    public void initializeIfAbsent(UUID gameId, UUID userId, InventoryStateDto inventory) {
+        List<String> fields = new ArrayList<>();
+        List<String> quantities = new ArrayList<>();
+        inventory.items().forEach((itemId, quantity) -> {
+            if (quantity > 0) {
+                fields.add(ITEM_PREFIX + itemId);
+                quantities.add(String.valueOf(quantity));
+            }
+        });
+        inventory.spells().forEach((spellId, quantity) -> {
+            if (quantity > 0) {
+                fields.add(SPELL_PREFIX + spellId);
+                quantities.add(String.valueOf(quantity));
+            }
+        });
+        boolean seeded = stateScripts.initInventoryIfAbsent(gameId, userId, fields, quantities, TTL_SECONDS);
+        log.debug("Inventory projection initialized: gameId={}, userId={}, entries={}, seeded={}",
+                gameId, userId, fields.size(), seeded);
+    }
+
+    @Override
+    public boolean addItemIfInitialized(UUID gameId, UUID userId, UUID itemId, int delta) {
+        return add(gameId, userId, ITEM_PREFIX + itemId, delta);
+    }
+
+    @Override
+    public boolean addSpellIfInitialized(UUID gameId, UUID userId, UUID spellId, int delta) {
+        return add(gameId, userId, SPELL_PREFIX + spellId, delta);
+    }
+
+    @Override
+    public void invalidate(UUID gameId, UUID userId) {
+        redisTemplate.delete(RedisKeyBuilder.gameInventory(gameId, userId));
+        log.debug("Inventory projection invalidated: gameId={}, userId={}", gameId, userId);
+    }
+
+    private boolean add(UUID gameId, UUID userId, String field, int delta) {
+        Long result = stateScripts.addInventory(gameId, userId, field, delta);
+        log.debug("Inventory projection add: gameId={}, userId={}, field={}, delta={}, result={}",
+                gameId, userId, field, delta, result);
+        return result != null && result != -2L;
+    }
+}
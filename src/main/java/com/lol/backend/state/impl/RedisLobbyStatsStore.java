@@ -0,0 +1,112 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.LobbyStatsStateDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.LobbyStatsStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 비트맵/HyperLogLog 기반 로비 통계 구현체.
+ * 비트맵은 사용자당 1비트, HyperLogLog는 키당 최대 12KB로 사용자 수와 무관하게 고정이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisLobbyStatsStore implements LobbyStatsStore {
+
+    private static final long DAILY_TTL_SECONDS = StateTtl.DAILY_STATS.toSeconds();
+    private static final long MONTHLY_TTL_SECONDS = StateTtl.MONTHLY_STATS.toSeconds();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateScripts stateScripts;
+
+    @Override
+    public void setOnline(UUID userId, boolean online) {
+        stateScripts.setLobbyBits(RedisKeyBuilder.statsOnline(), List.of(userId), online);
+    }
+
+    @Override
+    public void setInGame(Collection<UUID> userIds, boolean inGame) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        stateScripts.setLobbyBits(RedisKeyBuilder.statsInGame(), userIds, inGame);
+    }
+
+    @Override
+    public void replaceOnline(Collection<UUID> userIds) {
+        stateScripts.replaceLobbyBits(RedisKeyBuilder.statsOnline(), userIds);
+    }
+
+    @Override
+    public void replaceInGame(Collection<UUID> userIds) {
+        stateScripts.replaceLobbyBits(RedisKeyBuilder.statsInGame(), userIds);
+    }
+
+    @Override
+    public void recordActive(UUID userId, LocalDate day, String language) {
+        byte[] member = bytes(userId.toString());
+        byte[] dailyKey = bytes(RedisKeyBuilder.statsDailyActive(day));
+        byte[] monthlyKey = bytes(RedisKeyBuilder.statsMonthlyActive(YearMonth.from(day)));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hyperLogLogCommands().pfAdd(dailyKey, member);
+            connection.keyCommands().expire(dailyKey, DAILY_TTL_SECONDS);
+            connection.hyperLogLogCommands().pfAdd(monthlyKey, member);
+            connection.keyCommands().expire(monthlyKey, MONTHLY_TTL_SECONDS);
+            if (language != null) {
+                byte[] languageKey = bytes(RedisKeyBuilder.statsDailyActive(day, language));
+                connection.hyperLogLogCommands().pfAdd(languageKey, member);
+                connection.keyCommands().expire(languageKey, DAILY_TTL_SECONDS);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public LobbyStatsStateDto read(LocalDate day, Collection<String> languages) {
+        List<String> languageList = List.copyOf(languages);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitCount(bytes(RedisKeyBuilder.statsOnline()));
+            connection.stringCommands().bitCount(bytes(RedisKeyBuilder.statsInGame()));
+            connection.hyperLogLogCommands().pfCount(bytes(RedisKeyBuilder.statsDailyActive(day)));
+            connection.hyperLogLogCommands().pfCount(bytes(RedisKeyBuilder.statsMonthlyActive(YearMonth.from(day))));
+            for (String language : languageList) {
+                connection.hyperLogLogCommands().pfCount(bytes(RedisKeyBuilder.statsDailyActive(day, language)));
+            }
+            return null;
+        });
+
+        Map<String, Long> byLanguage = new LinkedHashMap<>();
+        for (int i = 0; i < languageList.size(); i++) {
+            byLanguage.put(languageList.get(i), toLong(results.get(4 + i)));
+        }
+        return new LobbyStatsStateDto(
+                toLong(results.get(0)),
+                toLong(results.get(1)),
+                toLong(results.get(2)),
+                toLong(results.get(3)),
+                byLanguage
+        );
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
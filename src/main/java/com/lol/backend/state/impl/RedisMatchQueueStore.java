@@ -0,0 +1,106 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.MatchTicketDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.MatchQueueStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis ZSET 기반 빠른 매칭 대기열 구현체.
+ * 점수 ZSET과 대기 ZSET은 같은 hash tag({gameType:language})라 Lua 스크립트(StateScripts)로 함께 갱신한다.
+ * 티켓 키는 사용자별로 다른 slot이므로 스크립트 밖에서 SET NX/DEL 한다 (티켓이 ZSET보다 먼저 생기고 나중에 지워진다).
+ * claim이 원자적이므로 여러 노드의 매칭 루프가 동시에 돌아도 한 티켓이 두 방에 배정되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisMatchQueueStore implements MatchQueueStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateScripts stateScripts;
+
+    @Override
+    public boolean enqueue(String gameType, String language, MatchTicketDto ticket, long ticketTtlMs) {
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(
+                RedisKeyBuilder.matchTicket(ticket.userId()),
+                ticketValue(gameType, language),
+                Duration.ofMillis(ticketTtlMs));
+        if (!Boolean.TRUE.equals(created)) {
+            return false;
+        }
+        stateScripts.addMatchTicket(gameType, language, ticket.userId(), ticket.score(), ticket.enqueuedAtMs());
+        return true;
+    }
+
+    @Override
+    public Optional<String> dequeue(UUID userId) {
+        String ticketKey = RedisKeyBuilder.matchTicket(userId);
+        String value = redisTemplate.opsForValue().get(ticketKey);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split(":", 2);
+        String member = userId.toString();
+        // ZSET에서 먼저 빼야 티켓이 지워진 뒤 재등록된 ZSET 항목을 지우지 않는다
+        redisTemplate.opsForZSet().remove(RedisKeyBuilder.matchQueue(parts[0], parts[1]), member);
+        redisTemplate.opsForZSet().remove(RedisKeyBuilder.matchWaiting(parts[0], parts[1]), member);
+        Boolean deleted = redisTemplate.delete(ticketKey);
+        return Boolean.TRUE.equals(deleted) ? Optional.of(value) : Optional.empty();
+    }
+
+    @Override
+    public List<MatchTicketDto> oldest(String gameType, String language, int limit) {
+        return toTickets(stateScripts.oldestMatchTickets(gameType, language, limit));
+    }
+
+    @Override
+    public List<MatchTicketDto> findNearest(String gameType, String language, int score, int tolerance, int limit) {
+        return toTickets(stateScripts.nearestMatchTickets(gameType, language, score, tolerance, limit));
+    }
+
+    @Override
+    public boolean claim(String gameType, String language, List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return false;
+        }
+        if (!stateScripts.claimMatchTickets(gameType, language, userIds)) {
+            return false;
+        }
+        // 티켓은 사용자별로 slot이 다르므로 claim 이후 개별 삭제
+        redisTemplate.delete(userIds.stream().map(RedisKeyBuilder::matchTicket).toList());
+        return true;
+    }
+
+    @Override
+    public long size(String gameType, String language) {
+        Long size = redisTemplate.opsForZSet().zCard(RedisKeyBuilder.matchQueue(gameType, language));
+        return size != null ? size : 0L;
+    }
+
+    private static String ticketValue(String gameType, String language) {
+        return gameType + ":" + language;
+    }
+
+    private static List<MatchTicketDto> toTickets(List<String> flat) {
+        if (flat == null || flat.isEmpty()) {
+            return List.of();
+        }
+        List<MatchTicketDto> tickets = new ArrayList<>(flat.size() / 3);
+        for (int i = 0; i + 2 < flat.size(); i += 3) {
+            tickets.add(new MatchTicketDto(
+                    UUID.fromString(flat.get(i)),
+                    (int) Double.parseDouble(flat.get(i + 1)),
+                    (long) Double.parseDouble(flat.get(i + 2))
+            ));
+        }
+        return tickets;
+    }
+}
@@ -0,0 +1,107 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.store.PresenceStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis Sorted Set 기반 presence 구현체.
+ * 여러 노드가 같은 사용자를 기록해도 ZADD GT로 가장 최근 시각만 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisPresenceStore implements PresenceStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void recordAll(Map<UUID, Long> lastSeenMs) {
+        if (lastSeenMs.isEmpty()) {
+            return;
+        }
+        byte[] key = RedisKeyBuilder.presenceLastSeen().getBytes(StandardCharsets.UTF_8);
+        Set<Tuple> tuples = new LinkedHashSet<>(lastSeenMs.size() * 2);
+        lastSeenMs.forEach((userId, seenAt) ->
+                tuples.add(new DefaultTuple(userId.toString().getBytes(StandardCharsets.UTF_8), seenAt.doubleValue())));
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zAdd(key, tuples, ZAddArgs.empty().gt()));
+    }
+
+    @Override
+    public Map<UUID, Long> getLastSeen(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = List.copyOf(userIds);
+        Object[] members = ids.stream().map(UUID::toString).toArray();
+        List<Double> scores = redisTemplate.opsForZSet().score(RedisKeyBuilder.presenceLastSeen(), members);
+
+        Map<UUID, Long> result = new HashMap<>();
+        if (scores == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            Double score = scores.get(i);
+            if (score != null) {
+                result.put(ids.get(i), score.longValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<UUID> getSeenSince(long sinceMs) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(RedisKeyBuilder.presenceLastSeen(), sinceMs, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> result = new HashSet<>(members.size() * 2);
+        for (String member : members) {
+            result.add(UUID.fromString(member));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<UUID, Long> getSeenBetween(long fromMs, long toMs) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(RedisKeyBuilder.presenceLastSeen(), fromMs, toMs);
+        if (tuples == null || tuples.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> result = new HashMap<>(tuples.size() * 2);
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                result.put(UUID.fromString(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long removeSeenBefore(long cutoffMs) {
+        Long removed = redisTemplate.opsForZSet()
+                .removeRangeByScore(RedisKeyBuilder.presenceLastSeen(), Double.NEGATIVE_INFINITY, cutoffMs - 1);
+        return removed != null ? removed : 0L;
+    }
+}
@@ -0,0 +1,105 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.ScoreboardEntryDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.ScoreboardStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis Sorted Set 기반 게임 내 순위표 구현체.
+ * AC 반영은 StateScripts의 Lua 스크립트로 읽기-계산-쓰기를 단일 왕복에 원자적으로 처리한다.
+ */
+@Slf4j
+@Service
+public class RedisScoreboardStore implements ScoreboardStore {
+
+    // 게임 상태(game:{id})와 동일한 수명
+    private static final Duration TTL = StateTtl.GAME;
+
+    static final long TIME_RANGE = 1L << 31;
+    static final int NO_SUBMISSION_MS = Integer.MAX_VALUE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ZSetOperations<String, String> zSetOps;
+    private final StateScripts stateScripts;
+
+    public RedisScoreboardStore(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts) {
+        this.redisTemplate = redisTemplate;
+        this.zSetOps = redisTemplate.opsForZSet();
+        this.stateScripts = stateScripts;
+    }
+
+    @Override
+    public void initialize(UUID gameId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String key = RedisKeyBuilder.gameScoreboard(gameId);
+        Set<ZSetOperations.TypedTuple<String>> members = new HashSet<>(userIds.size());
+        for (UUID userId : userIds) {
+            members.add(ZSetOperations.TypedTuple.of(userId.toString(), 0.0));
+        }
+        // ZADD NX 한 번으로 전원 등록 (이미 있는 member의 점수는 유지)
+        zSetOps.addIfAbsent(key, members);
+        redisTemplate.expire(key, TTL);
+        log.debug("Scoreboard initialized: gameId={}, players={}", gameId, userIds.size());
+    }
+
+    @Override
+    public Optional<ScoreboardEntryDto> recordAccepted(UUID gameId, UUID userId, UUID submissionId,
+                                                       int submittedElapsedMs) {
+        List<Object> result = stateScripts.recordScoreboardAccepted(
+                gameId, userId, submissionId, Math.max(submittedElapsedMs, 0), TTL.toSeconds());
+        if (result == null || result.size() < 2) {
+            log.debug("Scoreboard not initialized, AC skipped: gameId={}, userId={}", gameId, userId);
+            return Optional.empty();
+        }
+        ScoreboardEntryDto entry = new ScoreboardEntryDto(
+                userId,
+                ((Number) result.get(0)).intValue(),
+                ((Number) result.get(1)).intValue()
+        );
+        log.debug("Scoreboard AC recorded: gameId={}, userId={}, acCount={}, lastSubmitMs={}",
+                gameId, userId, entry.acCount(), entry.lastSubmitMs());
+        return Optional.of(entry);
+    }
+
+    @Override
+    public void invalidate(UUID gameId) {
+        redisTemplate.delete(List.of(RedisKeyBuilder.gameScoreboard(gameId), RedisKeyBuilder.gameScoreboardJudged(gameId)));
+        log.warn("Scoreboard invalidated: gameId={}", gameId);
+    }
+
+    @Override
+    public Optional<List<ScoreboardEntryDto>> getStandings(UUID gameId) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                zSetOps.reverseRangeWithScores(RedisKeyBuilder.gameScoreboard(gameId), 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Optional.empty();
+        }
+        List<ScoreboardEntryDto> standings = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0;
+            standings.add(decode(UUID.fromString(tuple.getValue()), score));
+        }
+        return Optional.of(standings);
+    }
+
+    static ScoreboardEntryDto decode(UUID userId, double score) {
+        long value = (long) score;
+        int acCount = (int) (value / TIME_RANGE);
+        if (acCount <= 0) {
+            return new ScoreboardEntryDto(userId, 0, NO_SUBMISSION_MS);
+        }
+        int lastSubmitMs = (int) (TIME_RANGE - 1 - (value % TIME_RANGE));
+        return new ScoreboardEntryDto(userId, acCount, lastSubmitMs);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.ShieldStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 보호막 카운터 구현체.
+ * 확인/소비/증감은 StateScripts의 Lua 스크립트로 단일 왕복에 원자적으로 처리한다.
+ */
+@Slf4j
+@Service
+public class RedisShieldStateStore implements ShieldStateStore {
+
+    // 게임 상태(game:{id})와 동일한 수명
+    private static final long TTL_SECONDS = StateTtl.GAME.toSeconds();
+
+    private final StateScripts stateScripts;
+
+    public RedisShieldStateStore(StateScripts stateScripts) {
+        this.stateScripts = stateScripts;
+    }
+
+    @Override
+    public long tryConsume(UUID gameId, UUID userId) {
+        Long result = stateScripts.consumeShield(gameId, userId);
+        long remaining = result != null ? result : NOT_INITIALIZED;
+        log.debug("Shield consume: gameId={}, userId={}, result={}", gameId, userId, remaining);
+        return remaining;
+    }
+
+    @Override
+    public void initializeIfAbsent(UUID gameId, UUID userId, int charges) {
+        stateScripts.initShieldIfAbsent(gameId, userId, Math.max(charges, 0), TTL_SECONDS);
+        log.debug("Shield counter initialized: gameId={}, userId={}, charges={}", gameId, userId, charges);
+    }
+
+    @Override
+    public boolean addChargesIfInitialized(UUID gameId, UUID userId, int delta) {
+        Long result = stateScripts.addShieldCharges(gameId, userId, delta);
+        log.debug("Shield counter add: gameId={}, userId={}, delta={}, result={}", gameId, userId, delta, result);
+        return result != null && result != NOT_INITIALIZED;
+    }
+}
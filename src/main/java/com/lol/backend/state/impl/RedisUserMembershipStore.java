@@ -0,0 +1,128 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.UserMembershipDto;
+import com.lol.backend.state.store.UserMembershipStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 사용자 참가 인덱스 구현체.
+ * 여러 사용자를 다루는 쓰기/조회는 파이프라인으로 한 번에 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisUserMembershipStore implements UserMembershipStore {
+
+    // 룸 상태와 같은 수명 (게임은 룸보다 짧다)
+    private static final long TTL_SECONDS = StateTtl.ROOM.toSeconds();
+
+    private static final String ROOM_PREFIX = "room:";
+    private static final String GAME_PREFIX = "game:";
+    private static final byte[] PRESENT = "1".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void addRoom(UUID userId, UUID roomId) {
+        add(List.of(userId), ROOM_PREFIX + roomId);
+    }
+
+    @Override
+    public void removeRoom(Collection<UUID> userIds, UUID roomId) {
+        remove(userIds, ROOM_PREFIX + roomId);
+    }
+
+    @Override
+    public void addGame(Collection<UUID> userIds, UUID gameId) {
+        add(userIds, GAME_PREFIX + gameId);
+    }
+
+    @Override
+    public void removeGame(Collection<UUID> userIds, UUID gameId) {
+        remove(userIds, GAME_PREFIX + gameId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<UUID, UserMembershipDto> getMemberships(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = List.copyOf(userIds);
+        // 결과는 Map<String, String>
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : ids) {
+                connection.hashCommands().hGetAll(key(userId));
+            }
+            return null;
+        });
+
+        Map<UUID, UserMembershipDto> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> hash = (Map<String, String>) hashes.get(i);
+            if (hash == null || hash.isEmpty()) {
+                continue;
+            }
+            Set<UUID> roomIds = new HashSet<>();
+            Set<UUID> gameIds = new HashSet<>();
+            for (String field : hash.keySet()) {
+                if (field.startsWith(ROOM_PREFIX)) {
+                    roomIds.add(UUID.fromString(field.substring(ROOM_PREFIX.length())));
+                } else if (field.startsWith(GAME_PREFIX)) {
+                    gameIds.add(UUID.fromString(field.substring(GAME_PREFIX.length())));
+                }
+            }
+            result.put(ids.get(i), new UserMembershipDto(roomIds, gameIds));
+        }
+        return result;
+    }
+
+    private void add(Collection<UUID> userIds, String field) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : userIds) {
+                byte[] key = key(userId);
+                connection.hashCommands().hSet(key, fieldBytes, PRESENT);
+                connection.keyCommands().expire(key, TTL_SECONDS);
+            }
+            return null;
+        });
+        log.debug("Membership added: field={}, users={}", field, userIds.size());
+    }
+
+    private void remove(Collection<UUID> userIds, String field) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : userIds) {
+                connection.hashCommands().hDel(key(userId), fieldBytes);
+            }
+            return null;
+        });
+        log.debug("Membership removed: field={}, users={}", field, userIds.size());
+    }
+
+    private static byte[] key(UUID userId) {
+        return RedisKeyBuilder.userMemberships(userId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lol.backend.state.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.UserStatsStateDto;
+import com.lol.backend.state.script.StateScripts;
+import com.lol.backend.state.store.UserStatsCacheStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis String 기반 사용자 전적 캐시 구현체.
+ * 캐시 실패는 조회 경로를 막지 않도록 로그만 남기고 DB로 폴백한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisUserStatsCacheStore implements UserStatsCacheStore {
+
+    private static final Duration TTL = StateTtl.USER_STATS;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StateScripts stateScripts;
+
+    @Override
+    public Optional<UserStatsStateDto> get(UUID userId) {
+        String key = RedisKeyBuilder.userStats(userId);
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, UserStatsStateDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize user stats: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean putIfNewer(UserStatsStateDto stats) {
+        try {
+            boolean stored = stateScripts.putUserStatsIfNewer(stats.userId(), objectMapper.writeValueAsString(stats),
+                    stats.games(), TTL.toSeconds());
+            log.debug("Cached user stats: userId={}, games={}, stored={}", stats.userId(), stats.games(), stored);
+            return stored;
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize user stats: userId={}", stats.userId(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        redisTemplate.delete(RedisKeyBuilder.userStats(userId));
+    }
+}
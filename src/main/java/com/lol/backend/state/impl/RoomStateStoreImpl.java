@@ -3,31 +3,53 @@ package com.lol.backend.state.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
 import com.lol.backend.state.dto.RoomHostHistoryStateDto;
 import com.lol.backend.state.dto.RoomKickStateDto;
+import com.lol.backend.state.dto.RoomListChangeDto;
 import com.lol.backend.state.dto.RoomPlayerStateDto;
 import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.script.StateScripts;
 import com.lol.backend.state.store.RoomStateStore;
+import com.lol.backend.state.store.UserMembershipStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 방 상태 저장소.
+ * 방 키(room:{id})와 하위 키(players, kicks, host_history)는 모두 StateTtl.ROOM을 쓴다.
+ * 하위 키는 쓸 때마다 EXPIRE하고, saveRoom은 본 키를 다시 쓰면서 하위 키의 TTL도 함께 늘린다.
+ */
 @Slf4j
 @Service
 @Primary
 public class RoomStateStoreImpl implements RoomStateStore {
 
+    // 방 목록 변경 스트림 보관 수 (이보다 뒤처진 노드는 전체 재색인)
+    private static final int LIST_CHANGES_MAX_LENGTH = 1000;
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final StateScripts stateScripts;
+    private final UserMembershipStore userMembershipStore;
 
-    public RoomStateStoreImpl(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public RoomStateStoreImpl(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                              StateScripts stateScripts, UserMembershipStore userMembershipStore) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.stateScripts = stateScripts;
+        this.userMembershipStore = userMembershipStore;
     }
 
     @Override
@@ -35,13 +57,32 @@ public class RoomStateStoreImpl implements RoomStateStore {
         String key = RedisKeyBuilder.room(room.id());
         try {
             String json = objectMapper.writeValueAsString(room);
-            redisTemplate.opsForValue().set(key, json, java.time.Duration.ofHours(24));
+            redisTemplate.opsForValue().set(key, json, StateTtl.ROOM);
+            redisTemplate.opsForSet().add(RedisKeyBuilder.roomIndex(), room.id().toString());
+            expireChildren(room.id());
             log.debug("Saved room state: roomId={}", room.id());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize room state: " + room.id(), e);
         }
     }
 
+    /**
+     * 하위 키가 본 키보다 먼저 만료되지 않도록 본 키와 같은 TTL로 맞춘다 (없는 키의 EXPIRE는 무시된다).
+     */
+    private void expireChildren(UUID roomId) {
+        long ttlSeconds = StateTtl.ROOM.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().expire(bytes(RedisKeyBuilder.roomPlayers(roomId)), ttlSeconds);
+            connection.keyCommands().expire(bytes(RedisKeyBuilder.roomKicks(roomId)), ttlSeconds);
+            connection.keyCommands().expire(bytes(RedisKeyBuilder.roomHostHistory(roomId)), ttlSeconds);
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
     @Override
     public Optional<RoomStateDto> getRoom(UUID roomId) {
         String key = RedisKeyBuilder.room(roomId);
@@ -60,62 +101,77 @@ public class RoomStateStoreImpl implements RoomStateStore {
 
     @Override
     public void deleteRoom(UUID roomId) {
-        String roomKey = RedisKeyBuilder.room(roomId);
-        String playersKey = RedisKeyBuilder.roomPlayers(roomId);
-        String kicksKey = RedisKeyBuilder.roomKicks(roomId);
-        String hostHistoryKey = RedisKeyBuilder.roomHostHistory(roomId);
-        redisTemplate.delete(roomKey);
-        redisTemplate.delete(playersKey);
-        redisTemplate.delete(kicksKey);
-        redisTemplate.delete(hostHistoryKey);
+        Set<Object> userIds = redisTemplate.opsForHash().keys(RedisKeyBuilder.roomPlayers(roomId));
+        // 방 키는 모두 {roomId} hash tag로 같은 slot이므로 한 번의 DEL로 지운다
+        redisTemplate.delete(List.of(
+                RedisKeyBuilder.room(roomId),
+                RedisKeyBuilder.roomPlayers(roomId),
+                RedisKeyBuilder.roomKicks(roomId),
+                RedisKeyBuilder.roomHostHistory(roomId)
+        ));
+        redisTemplate.opsForSet().remove(RedisKeyBuilder.roomIndex(), roomId.toString());
+        userMembershipStore.removeRoom(userIds.stream().map(id -> UUID.fromString(id.toString())).toList(), roomId);
         log.debug("Deleted room state: roomId={}", roomId);
     }
 
     @Override
     public List<RoomStateDto> getAllActiveRooms() {
-        // Use SCAN instead of KEYS to prevent blocking in production
-        org.springframework.data.redis.core.ScanOptions options =
-            org.springframework.data.redis.core.ScanOptions.scanOptions()
-                .match("room:*")
-                .count(100)
-                .build();
-
-        Set<String> keys = new HashSet<>();
-        org.springframework.data.redis.core.Cursor<String> cursor = null;
-        try {
-            cursor = redisTemplate.scan(options);
-            while (cursor.hasNext()) {
-                keys.add(cursor.next());
-            }
-        } finally {
-            if (cursor != null) {
-                try {
-                    cursor.close();
-                } catch (Exception e) {
-                    log.warn("Failed to close cursor", e);
-                }
-            }
+        // keyspace SCAN 대신 room:index로 찾는다 (클러스터에서도 노드별 SCAN 없이 동작)
+        Set<String> members = redisTemplate.opsForSet().members(RedisKeyBuilder.roomIndex());
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        if (keys.isEmpty()) {
+        List<UUID> roomIds = members.stream().map(UUID::fromString).toList();
+        List<RoomStateDto> rooms = readRooms(roomIds.stream().map(RedisKeyBuilder::room).toList());
+        if (rooms.size() < roomIds.size()) {
+            pruneIndex(roomIds, rooms);
+        }
+        return rooms;
+    }
+
+    /**
+     * TTL로 만료된 방은 deleteRoom을 거치지 않으므로 조회 시 인덱스에서 정리한다.
+     */
+    private void pruneIndex(List<UUID> indexedIds, List<RoomStateDto> existing) {
+        Set<UUID> alive = existing.stream().map(RoomStateDto::id).collect(Collectors.toSet());
+        Object[] stale = indexedIds.stream()
+                .filter(id -> !alive.contains(id))
+                .map(UUID::toString)
+                .toArray();
+        redisTemplate.opsForSet().remove(RedisKeyBuilder.roomIndex(), stale);
+        log.debug("Pruned expired rooms from index: count={}", stale.length);
+    }
+
+    @Override
+    public List<RoomStateDto> getRooms(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) {
             return Collections.emptyList();
         }
+        return readRooms(roomIds.stream().map(RedisKeyBuilder::room).toList());
+    }
 
-        return keys.stream()
-                .filter(key -> !key.contains(":players") && !key.contains(":version")
-                        && !key.contains(":kicks") && !key.contains(":host_history"))
-                .map(key -> {
-                    String json = redisTemplate.opsForValue().get(key);
-                    if (json == null) return null;
-                    try {
-                        return objectMapper.readValue(json, RoomStateDto.class);
-                    } catch (IOException e) {
-                        log.error("Failed to deserialize room state from key={}", key, e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private List<RoomStateDto> readRooms(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        List<RoomStateDto> rooms = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            String json = values.get(i);
+            if (json == null) {
+                continue;
+            }
+            try {
+                rooms.add(objectMapper.readValue(json, RoomStateDto.class));
+            } catch (IOException e) {
+                log.error("Failed to deserialize room state from key={}", keys.get(i), e);
+            }
+        }
+        return rooms;
     }
 
     @Override
@@ -125,6 +181,8 @@ public class RoomStateStoreImpl implements RoomStateStore {
         try {
             String json = objectMapper.writeValueAsString(player);
             redisTemplate.opsForHash().put(key, hashKey, json);
+            redisTemplate.expire(key, StateTtl.ROOM);
+            userMembershipStore.addRoom(player.userId(), player.roomId());
             log.debug("Added player to room: roomId={}, userId={}", player.roomId(), player.userId());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize room player state: " + player.userId(), e);
@@ -136,42 +194,12 @@ public class RoomStateStoreImpl implements RoomStateStore {
      * @return true if player was added, false if player already exists
      */
     public boolean addPlayerIfNotExists(RoomPlayerStateDto player) {
-        String key = RedisKeyBuilder.roomPlayers(player.roomId());
-        String hashKey = player.userId().toString();
-
-        // Lua script to check if player exists with leftAt == null before adding
-        String luaScript =
-            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
-            "if existing then " +
-            "  local json = cjson.decode(existing) " +
-            "  if not json.leftAt then " +
-            "    return 0 " +
-            "  end " +
-            "end " +
-            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
-            "return 1";
-
         try {
             String json = objectMapper.writeValueAsString(player);
-            Long result = redisTemplate.execute(
-                (org.springframework.data.redis.core.RedisCallback<Long>) connection -> {
-                    byte[] keyBytes = key.getBytes();
-                    byte[] hashKeyBytes = hashKey.getBytes();
-                    byte[] jsonBytes = json.getBytes();
-                    Object res = connection.eval(
-                        luaScript.getBytes(),
-                        org.springframework.data.redis.connection.ReturnType.INTEGER,
-                        1,
-                        keyBytes,
-                        hashKeyBytes,
-                        jsonBytes
-                    );
-                    return res != null ? (Long) res : 0L;
-                }
-            );
-
-            boolean added = result != null && result == 1L;
+            boolean added = stateScripts.addRoomPlayerIfAbsent(player.roomId(), player.userId(), json,
+                    StateTtl.ROOM.toSeconds());
             if (added) {
+                userMembershipStore.addRoom(player.userId(), player.roomId());
                 log.debug("Atomically added player to room: roomId={}, userId={}", player.roomId(), player.userId());
             } else {
                 log.debug("Player already exists in room: roomId={}, userId={}", player.roomId(), player.userId());
@@ -182,11 +210,29 @@ public class RoomStateStoreImpl implements RoomStateStore {
         }
     }
 
+    @Override
+    public boolean markPlayerLeft(UUID roomId, UUID userId, Instant leftAt) {
+        boolean marked = stateScripts.markRoomPlayerLeft(roomId, userId, leftAt) != null;
+        if (marked) {
+            userMembershipStore.removeRoom(List.of(userId), roomId);
+        }
+        log.debug("Mark player left: roomId={}, userId={}, marked={}", roomId, userId, marked);
+        return marked;
+    }
+
+    @Override
+    public boolean updateHost(UUID roomId, UUID hostUserId, Instant updatedAt) {
+        boolean updated = stateScripts.setRoomHost(roomId, hostUserId, updatedAt) != null;
+        log.debug("Update room host: roomId={}, hostUserId={}, updated={}", roomId, hostUserId, updated);
+        return updated;
+    }
+
     @Override
     public void removePlayer(UUID roomId, UUID userId) {
         String key = RedisKeyBuilder.roomPlayers(roomId);
         String hashKey = userId.toString();
         redisTemplate.opsForHash().delete(key, hashKey);
+        userMembershipStore.removeRoom(List.of(userId), roomId);
         log.debug("Removed player from room: roomId={}, userId={}", roomId, userId);
     }
 
@@ -230,53 +276,71 @@ public class RoomStateStoreImpl implements RoomStateStore {
 
     @Override
     public void updatePlayerState(UUID roomId, UUID userId, String state) {
-        String key = RedisKeyBuilder.roomPlayers(roomId);
-        String hashKey = userId.toString();
-
-        // Atomic read-modify-write using Lua script
-        String luaScript =
-            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
-            "if not existing then return nil end " +
-            "local json = cjson.decode(existing) " +
-            "json.state = ARGV[2] " +
-            "local updated = cjson.encode(json) " +
-            "redis.call('HSET', KEYS[1], ARGV[1], updated) " +
-            "return updated";
-
+        String result;
         try {
-            String result = redisTemplate.execute(
-                (org.springframework.data.redis.core.RedisCallback<String>) connection -> {
-                    byte[] keyBytes = key.getBytes();
-                    byte[] hashKeyBytes = hashKey.getBytes();
-                    byte[] stateBytes = state.getBytes();
-                    Object res = connection.eval(
-                        luaScript.getBytes(),
-                        org.springframework.data.redis.connection.ReturnType.VALUE,
-                        1,
-                        keyBytes,
-                        hashKeyBytes,
-                        stateBytes
-                    );
-                    return res != null ? new String((byte[]) res) : null;
-                }
-            );
-
-            if (result == null) {
-                log.warn("Cannot update player state: player not found. roomId={}, userId={}", roomId, userId);
-            } else {
-                log.debug("Updated player state: roomId={}, userId={}, newState={}", roomId, userId, state);
-            }
+            result = stateScripts.setRoomPlayerState(roomId, userId, state);
         } catch (Exception e) {
             log.error("Failed to update player state atomically: roomId={}, userId={}", roomId, userId, e);
             throw new RuntimeException("Failed to update player state", e);
         }
+
+        if (result == null) {
+            log.warn("Cannot update player state: player not found. roomId={}, userId={}", roomId, userId);
+        } else {
+            log.debug("Updated player state: roomId={}, userId={}, newState={}", roomId, userId, state);
+        }
     }
 
     @Override
-    public void incrementListVersion() {
-        String key = RedisKeyBuilder.roomListVersion();
-        redisTemplate.opsForValue().increment(key);
-        log.debug("Incremented room list version");
+    public boolean updatePlayerState(UUID roomId, UUID userId, String expectedState, String state,
+                                     Instant disconnectedAt) {
+        String result = stateScripts.compareAndSetRoomPlayerState(roomId, userId, expectedState, state, disconnectedAt);
+        log.debug("Compare-and-set player state: roomId={}, userId={}, {} -> {}, updated={}",
+                roomId, userId, expectedState, state, result != null);
+        return result != null;
+    }
+
+    @Override
+    public long appendListChange(RoomListChangeDto change) {
+        Long version = stateScripts.appendRoomListChange(LIST_CHANGES_MAX_LENGTH, change.roomId(), change.type().name(),
+                change.roomName(), change.language(), change.gameType());
+        if (version == null) {
+            throw new IllegalStateException("Room list append returned no version: roomId=" + change.roomId());
+        }
+        log.debug("Appended room list change: version={}, roomId={}, type={}", version, change.roomId(), change.type());
+        return version;
+    }
+
+    @Override
+    public Optional<List<RoomListChangeDto>> getListChangesSince(long sinceVersion, long untilVersion) {
+        if (sinceVersion >= untilVersion) {
+            return Optional.of(List.of());
+        }
+        if (untilVersion - sinceVersion > LIST_CHANGES_MAX_LENGTH) {
+            return Optional.empty();
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                RedisKeyBuilder.roomListChanges(),
+                Range.closed((sinceVersion + 1) + "-0", untilVersion + "-0"));
+        if (records == null || records.size() != untilVersion - sinceVersion
+                || records.get(0).getId().getTimestamp() != sinceVersion + 1) {
+            // MAXLEN 절삭 또는 버전 키 초기화로 중간 변경이 사라짐
+            return Optional.empty();
+        }
+
+        List<RoomListChangeDto> changes = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            changes.add(new RoomListChangeDto(
+                    record.getId().getTimestamp(),
+                    UUID.fromString(String.valueOf(fields.get("r"))),
+                    RoomListChangeDto.Type.valueOf(String.valueOf(fields.get("t"))),
+                    emptyToNull(fields.get("n")),
+                    emptyToNull(fields.get("l")),
+                    emptyToNull(fields.get("g"))
+            ));
+        }
+        return Optional.of(changes);
     }
 
     @Override
@@ -301,6 +365,7 @@ public class RoomStateStoreImpl implements RoomStateStore {
         try {
             String json = objectMapper.writeValueAsString(kick);
             redisTemplate.opsForHash().put(key, hashKey, json);
+            redisTemplate.expire(key, StateTtl.ROOM);
             log.debug("Added kick to room: roomId={}, userId={}", kick.roomId(), kick.userId());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize room kick state: " + kick.userId(), e);
@@ -340,6 +405,7 @@ public class RoomStateStoreImpl implements RoomStateStore {
         try {
             String json = objectMapper.writeValueAsString(history);
             redisTemplate.opsForList().rightPush(key, json);
+            redisTemplate.expire(key, StateTtl.ROOM);
             log.debug("Added host history to room: roomId={}, toUserId={}", history.roomId(), history.toUserId());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize room host history state", e);
@@ -365,4 +431,8 @@ public class RoomStateStoreImpl implements RoomStateStore {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    private static String emptyToNull(Object value) {
+        return value == null || value.toString().isEmpty() ? null : value.toString();
+    }
 }
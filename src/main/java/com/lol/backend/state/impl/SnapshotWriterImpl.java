@@ -1,5 +1,6 @@
 package com.lol.backend.state.impl;
 
+import com.lol.backend.common.metrics.ServerMetrics;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.state.dto.GameStateDto;
 import com.lol.backend.state.dto.RoomStateDto;
@@ -26,19 +27,22 @@ public class SnapshotWriterImpl implements SnapshotWriter {
     private final RoomSnapshotContributor roomSnapshotContributor;
     private final GameSnapshotContributor gameSnapshotContributor;
     private final BanPickSnapshotContributor banPickSnapshotContributor;
+    private final ServerMetrics serverMetrics;
 
     public SnapshotWriterImpl(
             RoomStateStore roomStateStore,
             GameStateStore gameStateStore,
             RoomSnapshotContributor roomSnapshotContributor,
             GameSnapshotContributor gameSnapshotContributor,
-            BanPickSnapshotContributor banPickSnapshotContributor
+            BanPickSnapshotContributor banPickSnapshotContributor,
+            ServerMetrics serverMetrics
     ) {
         this.roomStateStore = roomStateStore;
         this.gameStateStore = gameStateStore;
         this.roomSnapshotContributor = roomSnapshotContributor;
         this.gameSnapshotContributor = gameSnapshotContributor;
         this.banPickSnapshotContributor = banPickSnapshotContributor;
+        this.serverMetrics = serverMetrics;
     }
 
     @Override
@@ -52,7 +56,9 @@ public class SnapshotWriterImpl implements SnapshotWriter {
             return;
         }
 
+        long start = System.nanoTime();
         roomSnapshotContributor.persistRoomSnapshot(roomState);
+        serverMetrics.recordSnapshotFlush("room", System.nanoTime() - start);
 
         log.info("Room snapshot persisted successfully: roomId={}", roomId);
     }
@@ -69,6 +75,7 @@ public class SnapshotWriterImpl implements SnapshotWriter {
     @Transactional
     public void flushGame(UUID gameId) {
         log.info("Flushing game snapshot to DB: gameId={}", gameId);
+        long start = System.nanoTime();
 
         // Redis에서 Game 상태 조회
         GameStateDto gameState = gameStateStore.getGame(gameId).orElse(null);
@@ -89,6 +96,7 @@ public class SnapshotWriterImpl implements SnapshotWriter {
             log.debug("Game state deleted from Redis: gameId={}", gameId);
         }
 
+        serverMetrics.recordSnapshotFlush("game", System.nanoTime() - start);
         log.info("Game snapshot flushed successfully: gameId={}", gameId);
     }
 }
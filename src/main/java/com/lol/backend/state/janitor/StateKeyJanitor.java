@@ -0,0 +1,333 @@
+package com.lol.backend.state.janitor;
+
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.state.StateKeyFamily;
+import com.lol.backend.state.config.StateJanitorProperties;
+import com.lol.backend.state.script.StateScripts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 키 정리기.
+ *
+ * flushRoom/deleteGame 사이에 노드가 죽는 등으로 본 키(room:{id}, game:{id}) 없이 남은 하위 키를 찾아 지운다.
+ * - tick마다 keyspace SCAN을 scanBudget개만큼 이어서 읽는다 (커서는 tick 사이에 유지)
+ * - 본 키가 없는 하위 키는 처음 본 시각을 기록해 두고, orphanGraceMs가 지난 뒤 다시 확인해서도 없으면 UNLINK한다
+ * - 본 키가 있는데 TTL이 없는 하위 키(정책 도입 전 키)는 StateKeyFamily의 TTL을 건다
+ * - SCAN 1회차가 끝나면 키 계열별 키 수와 메모리 추정치(MEMORY USAGE 표본 평균 x 키 수)를 지표로 갱신한다
+ *
+ * Redis Cluster에서 SCAN은 연결된 노드의 키만 돌기 때문에 노드별 전수 조사는 아니며,
+ * 키 정리는 TTL이 1차로 담당하고 janitor는 TTL 없이 남은 키를 보완한다.
+ * 여러 서버 노드가 동시에 돌려도 같은 키를 중복 확인할 뿐 결과는 같다.
+ */
+@Slf4j
+@Component
+public class StateKeyJanitor implements DisposableBean {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateScripts stateScripts;
+    private final ServerMetrics serverMetrics;
+    private final StateJanitorProperties properties;
+    private final Clock clock;
+
+    // 고아 후보 키 → 처음 본 시각(ms)
+    private final Map<String, Long> pendingOrphans = new LinkedHashMap<>();
+
+    private Cursor<String> cursor;
+    private PassStats pass;
+
+    public StateKeyJanitor(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts,
+                           ServerMetrics serverMetrics, StateJanitorProperties properties) {
+        this(redisTemplate, stateScripts, serverMetrics, properties, Clock.systemUTC());
+    }
+
+    StateKeyJanitor(RedisTemplate<String, String> redisTemplate, StateScripts stateScripts,
+                    ServerMetrics serverMetrics, StateJanitorProperties properties, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.stateScripts = stateScripts;
+        this.serverMetrics = serverMetrics;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${state.janitor.interval-ms:10000}")
+    public void tick() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.warn("State key janitor tick failed", e);
+        }
+    }
+
+    /**
+     * SCAN을 한 구간 진행하고, 유예 시간이 지난 고아 키를 회수한다.
+     * @return 이번 구간에서 SCAN 1회차가 끝났으면 true
+     */
+    public synchronized boolean sweep() {
+        long now = clock.millis();
+        boolean passFinished;
+        try {
+            passFinished = scanNext(now);
+        } catch (RuntimeException e) {
+            closeCursor();
+            throw e;
+        }
+        reclaimOrphans(now);
+        return passFinished;
+    }
+
+    private boolean scanNext(long now) {
+        if (cursor == null) {
+            cursor = redisTemplate.scan(ScanOptions.scanOptions().count(properties.scanBudget()).build());
+            pass = new PassStats();
+        }
+        List<String> keys = new ArrayList<>(properties.scanBudget());
+        while (keys.size() < properties.scanBudget() && cursor.hasNext()) {
+            keys.add(cursor.next());
+        }
+        inspect(keys, now);
+        sampleMemory(keys);
+        if (cursor.hasNext()) {
+            return false;
+        }
+        closeCursor();
+        publish(pass);
+        pass = null;
+        return true;
+    }
+
+    /**
+     * 키별 PTTL과 본 키 EXISTS를 한 번의 파이프라인으로 읽어 고아 후보 등록, TTL 보정을 한다.
+     */
+    private void inspect(List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> parents = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            parents.add(StateKeyFamily.parentKey(key));
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                connection.keyCommands().pTtl(bytes(keys.get(i)));
+                if (parents.get(i) != null) {
+                    connection.keyCommands().exists(bytes(parents.get(i)));
+                }
+            }
+            return null;
+        });
+
+        Map<String, Duration> unaligned = new LinkedHashMap<>();
+        int r = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            long pttl = toLong(results.get(r++));
+            Boolean parentExists = parents.get(i) != null ? (Boolean) results.get(r++) : null;
+            if (pttl == -2) {
+                // 읽는 사이 만료/삭제됨
+                continue;
+            }
+            StateKeyFamily family = StateKeyFamily.of(key);
+            pass.count(family);
+            if (parentExists == null) {
+                continue;
+            }
+            if (!parentExists) {
+                if (pendingOrphans.size() < properties.maxPendingOrphans()) {
+                    pendingOrphans.putIfAbsent(key, now);
+                }
+            } else if (pttl == -1 && family.childTtl() != null) {
+                unaligned.put(key, family.childTtl());
+            }
+        }
+        alignTtl(unaligned);
+    }
+
+    private void alignTtl(Map<String, Duration> unaligned) {
+        if (unaligned.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            unaligned.forEach((key, ttl) -> connection.keyCommands().expire(bytes(key), ttl.toSeconds()));
+            return null;
+        });
+        Map<StateKeyFamily, Long> aligned = new EnumMap<>(StateKeyFamily.class);
+        for (String key : unaligned.keySet()) {
+            aligned.merge(StateKeyFamily.of(key), 1L, Long::sum);
+        }
+        aligned.forEach(serverMetrics::recordJanitorTtlAligned);
+        log.info("State key janitor aligned TTL: count={}", unaligned.size());
+    }
+
+    /**
+     * 아직 표본이 없는 계열의 키를 먼저 재고, 남은 한도는 읽은 순서대로 채운다.
+     */
+    private void sampleMemory(List<String> keys) {
+        int budget = properties.memorySamplesPerTick();
+        Set<String> samples = new LinkedHashSet<>(budget);
+        Set<StateKeyFamily> families = EnumSet.noneOf(StateKeyFamily.class);
+        for (String key : keys) {
+            StateKeyFamily family = StateKeyFamily.of(key);
+            if (samples.size() < budget && !pass.sampled(family) && families.add(family)) {
+                samples.add(key);
+            }
+        }
+        for (String key : keys) {
+            if (samples.size() >= budget) {
+                break;
+            }
+            samples.add(key);
+        }
+        for (String key : samples) {
+            long bytes = stateScripts.keyMemoryUsage(key);
+            if (bytes > 0) {
+                pass.sample(StateKeyFamily.of(key), bytes);
+            }
+        }
+    }
+
+    /**
+     * 유예 시간이 지난 후보의 본 키를 다시 확인하고, 여전히 없으면 UNLINK한다.
+     * 키마다 slot이 다를 수 있으므로 다중 키 DEL 대신 키별 UNLINK를 파이프라인으로 보낸다.
+     */
+    private void reclaimOrphans(long now) {
+        List<String> due = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> it = pendingOrphans.entrySet().iterator();
+        while (it.hasNext() && due.size() < properties.scanBudget()) {
+            Map.Entry<String, Long> entry = it.next();
+            if (now - entry.getValue() >= properties.orphanGraceMs()) {
+                due.add(entry.getKey());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        due.forEach(pendingOrphans::remove);
+
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : due) {
+                connection.keyCommands().exists(bytes(StateKeyFamily.parentKey(key)));
+            }
+            return null;
+        });
+        List<String> orphans = new ArrayList<>(due.size());
+        for (int i = 0; i < due.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                orphans.add(due.get(i));
+            }
+        }
+        if (orphans.isEmpty()) {
+            return;
+        }
+
+        List<Object> unlinked = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : orphans) {
+                connection.keyCommands().unlink(bytes(key));
+            }
+            return null;
+        });
+        Map<StateKeyFamily, Long> reclaimed = new EnumMap<>(StateKeyFamily.class);
+        for (int i = 0; i < orphans.size(); i++) {
+            if (toLong(unlinked.get(i)) > 0) {
+                reclaimed.merge(StateKeyFamily.of(orphans.get(i)), 1L, Long::sum);
+            }
+        }
+        reclaimed.forEach(serverMetrics::recordJanitorReclaimed);
+        long total = reclaimed.values().stream().mapToLong(Long::longValue).sum();
+        if (total > 0) {
+            log.info("State key janitor reclaimed orphan keys: count={}, byFamily={}", total, reclaimed);
+        }
+    }
+
+    private void publish(PassStats stats) {
+        for (StateKeyFamily family : StateKeyFamily.values()) {
+            serverMetrics.recordKeyspace(family, stats.keys(family), stats.estimatedBytes(family));
+        }
+        log.debug("State key janitor pass finished: keys={}, pendingOrphans={}", stats.keys, pendingOrphans.size());
+    }
+
+    int pendingOrphanCount() {
+        return pendingOrphans.size();
+    }
+
+    private void closeCursor() {
+        if (cursor != null) {
+            try {
+                cursor.close();
+            } catch (Exception e) {
+                log.debug("Failed to close janitor scan cursor", e);
+            }
+            cursor = null;
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeCursor();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : -2L;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * SCAN 1회차 동안의 계열별 키 수와 메모리 표본.
+     */
+    private static final class PassStats {
+
+        private final Map<StateKeyFamily, Long> keys = new EnumMap<>(StateKeyFamily.class);
+        private final Map<StateKeyFamily, Long> sampledBytes = new EnumMap<>(StateKeyFamily.class);
+        private final Map<StateKeyFamily, Long> samples = new EnumMap<>(StateKeyFamily.class);
+
+        void count(StateKeyFamily family) {
+            keys.merge(family, 1L, Long::sum);
+        }
+
+        void sample(StateKeyFamily family, long bytes) {
+            sampledBytes.merge(family, bytes, Long::sum);
+            samples.merge(family, 1L, Long::sum);
+        }
+
+        boolean sampled(StateKeyFamily family) {
+            return samples.containsKey(family);
+        }
+
+        long keys(StateKeyFamily family) {
+            return keys.getOrDefault(family, 0L);
+        }
+
+        long estimatedBytes(StateKeyFamily family) {
+            long sampleCount = samples.getOrDefault(family, 0L);
+            if (sampleCount == 0) {
+                return 0;
+            }
+            return sampledBytes.get(family) * keys(family) / sampleCount;
+        }
+    }
+}
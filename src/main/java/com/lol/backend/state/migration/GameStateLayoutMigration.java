@@ -0,0 +1,136 @@
+package com.lol.backend.state.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.impl.GameStateHashes;
+import com.lol.backend.state.script.StateScripts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JSON 문자열로 저장된 게임 상태(game:{id} String, game:{id}:players Hash of JSON)를
+ * 속성별 Hash 레이아웃(game:{id} Hash, game:{id}:players Set + game:{id}:players:{userId} Hash)으로 바꾼다.
+ *
+ * - state.game-layout-migration.enabled=true일 때만 기동 시 한 번 실행한다 (키 이동 이후, 상태 재적재 이전)
+ * - game:index에 등록된 게임만 대상으로 하며, 키 타입으로 이전 레이아웃인지 판별한다
+ * - 키마다 이전 값 삭제와 새 레이아웃 쓰기를 한 스크립트로 처리하며, 읽은 뒤 값이 바뀐 키는 건너뛴다
+ * - 게임 키의 남은 TTL은 그대로 유지한다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class GameStateLayoutMigration implements ApplicationRunner {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StateScripts stateScripts;
+    private final boolean enabled;
+
+    public GameStateLayoutMigration(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                    StateScripts stateScripts,
+                                    @Value("${state.game-layout-migration.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.stateScripts = stateScripts;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        int migrated = migrate();
+        log.info("Game state layout migration finished: migrated={}", migrated);
+    }
+
+    /**
+     * 이전 레이아웃의 게임/플레이어 키를 모두 바꾼다.
+     * @return 바꾼 키 수
+     */
+    public int migrate() {
+        Set<String> gameIds = redisTemplate.opsForSet().members(RedisKeyBuilder.gameIndex());
+        if (gameIds == null) {
+            return 0;
+        }
+        int migrated = 0;
+        for (String id : gameIds) {
+            UUID gameId = UUID.fromString(id);
+            if (migrateGame(gameId)) {
+                migrated++;
+            }
+            if (migratePlayers(gameId)) {
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    private boolean migrateGame(UUID gameId) {
+        String key = RedisKeyBuilder.game(gameId);
+        if (redisTemplate.type(key) != DataType.STRING) {
+            return false;
+        }
+        String json = redisTemplate.opsForValue().get(key);
+        GameStateDto game = json != null ? parse(json, GameStateDto.class, gameId) : null;
+        if (game == null) {
+            return false;
+        }
+        // 이전 키를 지우고 새 Hash를 쓰는 것을 한 스크립트에서 처리해 게임 키가 비는 순간이 없도록 한다
+        boolean migrated = stateScripts.migrateGame(gameId, json,
+                GameStateHashes.GAME_FIELDS, GameStateHashes.gameValues(game));
+        if (migrated) {
+            log.debug("Migrated game state layout: gameId={}", gameId);
+        }
+        return migrated;
+    }
+
+    private boolean migratePlayers(UUID gameId) {
+        String key = RedisKeyBuilder.gamePlayers(gameId);
+        if (redisTemplate.type(key) != DataType.HASH) {
+            return false;
+        }
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        List<UUID> userIds = new ArrayList<>(entries.size());
+        List<List<String>> values = new ArrayList<>(entries.size());
+        for (Object value : entries.values()) {
+            GamePlayerStateDto player = parse(value.toString(), GamePlayerStateDto.class, gameId);
+            if (player != null) {
+                userIds.add(player.userId());
+                values.add(GameStateHashes.playerValues(player));
+            }
+        }
+        boolean migrated = stateScripts.migrateGamePlayers(gameId, entries.size(), GameStateHashes.PLAYER_FIELDS,
+                userIds, values, StateTtl.GAME.toSeconds());
+        if (migrated) {
+            log.debug("Migrated game player layout: gameId={}, players={}", gameId, userIds.size());
+        }
+        return migrated;
+    }
+
+    private <T> T parse(String json, Class<T> type, UUID gameId) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            log.warn("Skipped unreadable legacy {}: gameId={}", type.getSimpleName(), gameId, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.lol.backend.state.migration;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * hash tag 도입 이전 키(room:{uuid 그대로}..., game:..., effect:..., stats:online, room:list:version 등)를 새 키 체계로 옮긴다.
+ *
+ * - state.key-migration.enabled=true일 때만 기동 시 한 번 실행한다 (다른 ApplicationRunner보다 먼저)
+ * - 키 이동은 RENAME 대신 DUMP/RESTORE/DEL이라 이전 키와 새 키의 slot이 달라도 동작한다
+ * - 남은 TTL은 그대로 유지하고, 새 키가 이미 있으면 덮어쓰지 않는다
+ * - 방/게임 본 키를 옮길 때 room:index / game:index에도 등록한다
+ *
+ * 키 탐색에 SCAN을 쓰므로 샤딩 전 단일 인스턴스에서 배포 직후 한 번 실행하고 다시 끈다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RedisKeyMigration implements ApplicationRunner {
+
+    // room:<uuid>[:suffix], game:<uuid>[:suffix], effect:<uuid>[:suffix] (hash tag 없음)
+    private static final Pattern LEGACY_ENTITY_KEY =
+            Pattern.compile("^(room|game|effect):([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(:.*)?$");
+    private static final List<String> LEGACY_PATTERNS = List.of("room:*", "game:*", "effect:*");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+
+    public RedisKeyMigration(RedisTemplate<String, String> redisTemplate,
+                             @Value("${state.key-migration.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        int migrated = migrate();
+        log.info("Redis key migration finished: migrated={}", migrated);
+    }
+
+    /**
+     * 이전 체계의 키를 모두 옮긴다.
+     * @return 옮긴 키 수
+     */
+    public int migrate() {
+        int migrated = 0;
+        for (String pattern : LEGACY_PATTERNS) {
+            for (String key : scan(pattern)) {
+                Matcher matcher = LEGACY_ENTITY_KEY.matcher(key);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String prefix = matcher.group(1);
+                String id = matcher.group(2);
+                String suffix = matcher.group(3) != null ? matcher.group(3) : "";
+                if (!move(key, prefix + ":{" + id + "}" + suffix)) {
+                    continue;
+                }
+                migrated++;
+                if (suffix.isEmpty() && "room".equals(prefix)) {
+                    redisTemplate.opsForSet().add(RedisKeyBuilder.roomIndex(), id);
+                } else if (suffix.isEmpty() && "game".equals(prefix)) {
+                    redisTemplate.opsForSet().add(RedisKeyBuilder.gameIndex(), id);
+                }
+            }
+        }
+        for (Map.Entry<String, String> entry : legacyGlobalKeys().entrySet()) {
+            if (move(entry.getKey(), entry.getValue())) {
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    private boolean move(String from, String to) {
+        byte[] dump = redisTemplate.dump(from);
+        if (dump == null) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(to))) {
+            log.warn("Skipped key migration, target exists: from={}, to={}", from, to);
+            return false;
+        }
+        Long ttlMs = redisTemplate.getExpire(from, TimeUnit.MILLISECONDS);
+        redisTemplate.restore(to, dump, ttlMs != null && ttlMs > 0 ? ttlMs : 0, TimeUnit.MILLISECONDS);
+        redisTemplate.delete(from);
+        log.debug("Migrated key: from={}, to={}", from, to);
+        return true;
+    }
+
+    private List<String> scan(String pattern) {
+        // 스캔 중 키를 옮기면 커서가 새 키를 다시 만날 수 있으므로 먼저 모두 모은다
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    private static Map<String, String> legacyGlobalKeys() {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("room:list:version", RedisKeyBuilder.roomListVersion());
+        keys.put("stats:user:ordinal", RedisKeyBuilder.statsUserOrdinals());
+        keys.put("stats:user:ordinal:seq", RedisKeyBuilder.statsUserOrdinalSeq());
+        keys.put("stats:online", RedisKeyBuilder.statsOnline());
+        keys.put("stats:ingame", RedisKeyBuilder.statsInGame());
+        return keys;
+    }
+}
@@ -0,0 +1,44 @@
+package com.lol.backend.state.script;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 이름과 버전이 붙은 Lua 스크립트.
+ * 본문 첫 줄에 "-- {name} v{version}" 주석을 넣어 버전이 바뀌면 SHA1도 바뀌도록 한다
+ * (구 버전 SHA로 캐시된 스크립트가 새 코드에서 실행되지 않는다).
+ *
+ * @param <T> 결과 타입 (Long → INTEGER, String → VALUE, List → MULTI)
+ */
+public final class StateScript<T> {
+
+    private final String name;
+    private final int version;
+    private final RedisScript<T> script;
+
+    private StateScript(String name, int version, String body, Class<T> resultType) {
+        this.name = name;
+        this.version = version;
+        this.script = new DefaultRedisScript<>("-- " + name + " v" + version + "\n" + body, resultType);
+    }
+
+    static <T> StateScript<T> of(String name, int version, Class<T> resultType, String body) {
+        return new StateScript<>(name, version, body, resultType);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public String sha1() {
+        return script.getSha1();
+    }
+
+    RedisScript<T> redisScript() {
+        return script;
+    }
+}
@@ -0,0 +1,694 @@
+package com.lol.backend.state.script;
+
+import com.lol.backend.state.RedisKeyBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상태 Store가 쓰는 Lua 스크립트 모음.
+ *
+ * - 기동 시 모든 스크립트를 SCRIPT LOAD로 한 번 올려 두고, 호출은 EVALSHA로 SHA만 보낸다
+ * - Redis 재시작/failover/SCRIPT FLUSH로 캐시가 비면 NOSCRIPT를 받아 본문으로 한 번 재실행한다
+ *   (RedisTemplate의 스크립트 실행기가 처리하며, 이때 스크립트가 다시 캐시된다)
+ * - 스크립트 본문을 바꾸면 해당 스크립트의 version을 올린다 (본문 첫 줄 주석에 포함되어 SHA가 바뀐다)
+ * - 한 스크립트가 다루는 키는 모두 같은 hash tag라 Redis Cluster에서도 한 slot에서 실행된다
+ *
+ * JSON 필드의 null은 cjson에서 cjson.null(참 값)로 디코드되므로 is_absent로 nil과 함께 판정한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class StateScripts implements ApplicationRunner {
+
+    private static final String IS_ABSENT =
+            "local function is_absent(v) return v == nil or v == cjson.null end ";
+
+    // ========== room ==========
+
+    // KEYS[1]=room:{id}:players / ARGV=userId, playerJson, ttlSeconds → 1: 추가, 0: 이미 참가 중(leftAt 없음)
+    static final StateScript<Long> ROOM_PLAYER_ADD_IF_ABSENT = StateScript.of("room_player_add_if_absent", 3, Long.class,
+            IS_ABSENT +
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if existing and is_absent(cjson.decode(existing).leftAt) then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1");
+
+    // KEYS[1]=room:{id}:players / ARGV=userId, state → 갱신된 JSON (플레이어 없으면 nil)
+    static final StateScript<String> ROOM_PLAYER_SET_STATE = StateScript.of("room_player_set_state", 1, String.class,
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not existing then return nil end " +
+            "local json = cjson.decode(existing) " +
+            "json.state = ARGV[2] " +
+            "local updated = cjson.encode(json) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], updated) " +
+            "return updated");
+
+    // KEYS[1]=room:{id}:players / ARGV=userId, expectedState, state, disconnectedAt ("" → 유지)
+    // → 갱신된 JSON (없거나, 이미 나갔거나, 현재 state가 expectedState가 아니면 nil)
+    static final StateScript<String> ROOM_PLAYER_CAS_STATE = StateScript.of("room_player_cas_state", 1, String.class,
+            IS_ABSENT +
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not existing then return nil end " +
+            "local json = cjson.decode(existing) " +
+            "if not is_absent(json.leftAt) or json.state ~= ARGV[2] then return nil end " +
+            "json.state = ARGV[3] " +
+            "if ARGV[4] ~= '' then json.disconnectedAt = ARGV[4] end " +
+            "local updated = cjson.encode(json) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], updated) " +
+            "return updated");
+
+    // KEYS[1]=room:{id}:players / ARGV=userId, leftAt → 갱신된 JSON (없거나 이미 나갔으면 nil)
+    static final StateScript<String> ROOM_PLAYER_MARK_LEFT = StateScript.of("room_player_mark_left", 1, String.class,
+            IS_ABSENT +
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not existing then return nil end " +
+            "local json = cjson.decode(existing) " +
+            "if not is_absent(json.leftAt) then return nil end " +
+            "json.leftAt = ARGV[2] " +
+            "local updated = cjson.encode(json) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], updated) " +
+            "return updated");
+
+    // KEYS[1]=room:{id} / ARGV=hostUserId, updatedAt → 갱신된 JSON (방 없으면 nil), TTL 유지
+    static final StateScript<String> ROOM_SET_HOST = StateScript.of("room_set_host", 1, String.class,
+            "local existing = redis.call('GET', KEYS[1]) " +
+            "if not existing then return nil end " +
+            "local json = cjson.decode(existing) " +
+            "json.hostUserId = ARGV[1] " +
+            "json.updatedAt = ARGV[2] " +
+            "local updated = cjson.encode(json) " +
+            "redis.call('SET', KEYS[1], updated, 'KEEPTTL') " +
+            "return updated");
+
+    // KEYS[1]=room:{list}:version, KEYS[2]=room:{list}:changes / ARGV=maxLen, roomId, type, roomName, language, gameType
+    // → 올라간 버전. stream ID를 버전으로 맞추고, 버전 키가 초기화되어 ID가 역전되면 스트림을 비우고 다시 쓴다
+    static final StateScript<Long> ROOM_LIST_APPEND = StateScript.of("room_list_append", 1, Long.class,
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "local id = version .. '-0' " +
+            "local added = redis.pcall('XADD', KEYS[2], 'MAXLEN', '~', ARGV[1], id, " +
+            "  'r', ARGV[2], 't', ARGV[3], 'n', ARGV[4], 'l', ARGV[5], 'g', ARGV[6]) " +
+            "if type(added) == 'table' and added.err then " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "  redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[1], id, " +
+            "    'r', ARGV[2], 't', ARGV[3], 'n', ARGV[4], 'l', ARGV[5], 'g', ARGV[6]) " +
+            "end " +
+            "return version");
+
+    // ========== game ==========
+
+    // 필드 이름/값 인자 묶음을 Hash에 반영한다. 값이 빈 문자열이면 null 속성이므로 HDEL한다.
+    private static final String PUT_FIELDS =
+            "local function put_fields(key, n, fbase, vbase) " +
+            "  local set, del = {}, {} " +
+            "  for i = 1, n do " +
+            "    local v = ARGV[vbase + i] " +
+            "    if v == '' then del[#del + 1] = ARGV[fbase + i] " +
+            "    else set[#set + 1] = ARGV[fbase + i]; set[#set + 1] = v end " +
+            "  end " +
+            "  if #set > 0 then redis.call('HSET', key, unpack(set)) end " +
+            "  if #del > 0 then redis.call('HDEL', key, unpack(del)) end " +
+            "end ";
+
+    // KEYS[1]=game:{id} / ARGV=ttlSeconds, n, 필드 n개, 값 n개 → 1
+    static final StateScript<Long> GAME_PUT = StateScript.of("game_put", 1, Long.class,
+            PUT_FIELDS +
+            "local n = tonumber(ARGV[2]) " +
+            "put_fields(KEYS[1], n, 2, n + 2) " +
+            "if tonumber(ARGV[1]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return 1");
+
+    // KEYS[1]=game:{id}:players, KEYS[2..]=game:{id}:players:<userId>
+    // ARGV=ttlSeconds, n, 필드 n개, (userId, 값 n개)... → 저장한 수
+    static final StateScript<Long> GAME_PLAYERS_PUT = StateScript.of("game_players_put", 2, Long.class,
+            PUT_FIELDS +
+            "local n = tonumber(ARGV[2]) " +
+            "for j = 2, #KEYS do " +
+            "  local base = n + 2 + (j - 2) * (n + 1) " +
+            "  redis.call('SADD', KEYS[1], ARGV[base + 1]) " +
+            "  put_fields(KEYS[j], n, 2, base + 1) " +
+            "  redis.call('EXPIRE', KEYS[j], ARGV[1]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return #KEYS - 1");
+
+    // 이전 JSON 레이아웃 변환. 읽은 JSON과 지금 값이 같을 때만 같은 키를 Hash로 바꾸고 남은 TTL을 유지한다.
+    // KEYS[1]=game:{id} / ARGV=legacyJson, n, 필드 n개, 값 n개 → 1: 변환, 0: 이미 바뀌었거나 값이 달라짐
+    static final StateScript<Long> GAME_MIGRATE = StateScript.of("game_migrate", 1, Long.class,
+            PUT_FIELDS +
+            "if redis.call('TYPE', KEYS[1]).ok ~= 'string' or redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "local n = tonumber(ARGV[2]) " +
+            "put_fields(KEYS[1], n, 2, n + 2) " +
+            "if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end " +
+            "return 1");
+
+    // 이전 JSON 레이아웃 변환. Hash of JSON의 항목 수가 읽은 수와 같을 때만 플레이어 SET + Hash로 바꾼다.
+    // KEYS[1]=game:{id}:players, KEYS[2..]=game:{id}:players:<userId>
+    // ARGV=legacyCount, ttlSeconds, n, 필드 n개, (userId, 값 n개)... → 변환한 플레이어 수, -1: 이미 바뀌었거나 값이 달라짐
+    static final StateScript<Long> GAME_PLAYERS_MIGRATE = StateScript.of("game_players_migrate", 1, Long.class,
+            PUT_FIELDS +
+            "if redis.call('TYPE', KEYS[1]).ok ~= 'hash' or redis.call('HLEN', KEYS[1]) ~= tonumber(ARGV[1]) then return -1 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "local n = tonumber(ARGV[3]) " +
+            "for j = 2, #KEYS do " +
+            "  local base = n + 3 + (j - 2) * (n + 1) " +
+            "  redis.call('SADD', KEYS[1], ARGV[base + 1]) " +
+            "  put_fields(KEYS[j], n, 3, base + 1) " +
+            "  redis.call('EXPIRE', KEYS[j], ARGV[2]) " +
+            "end " +
+            "if #KEYS > 1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return #KEYS - 1");
+
+    // KEYS[1]=game:{id} / ARGV=stage, stageStartedAt, stageDeadlineAt ("" → HDEL) → 1: 갱신, 0: 게임 없음
+    static final StateScript<Long> GAME_SET_STAGE = StateScript.of("game_set_stage", 2, Long.class,
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'stage', ARGV[1]) " +
+            "if ARGV[2] == '' then redis.call('HDEL', KEYS[1], 'stageStartedAt') " +
+            "else redis.call('HSET', KEYS[1], 'stageStartedAt', ARGV[2]) end " +
+            "if ARGV[3] == '' then redis.call('HDEL', KEYS[1], 'stageDeadlineAt') " +
+            "else redis.call('HSET', KEYS[1], 'stageDeadlineAt', ARGV[3]) end " +
+            "return 1");
+
+    // KEYS[1]=game:{id}:players:<userId> / ARGV=expectedState, state, disconnectedAt ("" → 유지)
+    // → 1: 갱신, 0: 플레이어 없음 또는 현재 state가 expectedState가 아님 (다른 필드는 건드리지 않는다)
+    static final StateScript<Long> GAME_PLAYER_CAS_STATE = StateScript.of("game_player_cas_state", 1, Long.class,
+            "if redis.call('HGET', KEYS[1], 'state') ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'state', ARGV[2]) " +
+            "if ARGV[3] ~= '' then redis.call('HSET', KEYS[1], 'disconnectedAt', ARGV[3]) end " +
+            "return 1");
+
+    // KEYS[1]=game:{id}:shields / ARGV=userId → 남은 수 (-1: 소진, -2: 미초기화)
+    static final StateScript<Long> SHIELD_CONSUME = StateScript.of("shield_consume", 1, Long.class,
+            "local v = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not v then return -2 end " +
+            "if tonumber(v) <= 0 then return -1 end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], -1)");
+
+    // KEYS[1]=game:{id}:shields / ARGV=userId, charges, ttlSeconds
+    static final StateScript<Long> SHIELD_INIT = StateScript.of("shield_init", 1, Long.class,
+            "local set = redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return set");
+
+    // KEYS[1]=game:{id}:shields / ARGV=userId, delta → 변경 후 값 (-2: 미초기화)
+    static final StateScript<Long> SHIELD_ADD = StateScript.of("shield_add", 1, Long.class,
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return -2 end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])");
+
+    // KEYS[1]=game:{id}:inventory:<userId> / ARGV=ttlSeconds, n, 필드 n개, 수량 n개 → 1: 시드, 0: 이미 있음
+    // 빈 인벤토리도 초기화된 것으로 보기 위해 표식 필드(_seeded)를 함께 쓴다
+    static final StateScript<Long> INVENTORY_INIT = StateScript.of("inventory_init", 1, Long.class,
+            PUT_FIELDS +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local n = tonumber(ARGV[2]) " +
+            "put_fields(KEYS[1], n, 2, n + 2) " +
+            "redis.call('HSET', KEYS[1], '_seeded', '1') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1");
+
+    // KEYS[1]=game:{id}:inventory:<userId> / ARGV=field, delta → 변경 후 수량 (-2: 미초기화). 0 이하가 되면 필드를 지운다
+    static final StateScript<Long> INVENTORY_ADD = StateScript.of("inventory_add", 1, Long.class,
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "local v = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if v <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]); return 0 end " +
+            "return v");
+
+    // KEYS[1]=game:{id}:scoreboard, KEYS[2]=game:{id}:scoreboard:judged / ARGV=userId, elapsedMs, ttlSeconds, submissionId
+    // → {acCount, lastSubmitMs} (미초기화면 nil). 이미 반영한 submissionId면 점수를 바꾸지 않고 현재 항목을 돌려준다
+    @SuppressWarnings("rawtypes")
+    static final StateScript<List> SCOREBOARD_RECORD_AC = StateScript.of("scoreboard_record_ac", 2, List.class,
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local cur = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local ac, last = 0, -1 " +
+            "if cur then " +
+            "  cur = tonumber(cur) " +
+            "  ac = math.floor(cur / 2147483648) " +
+            "  if ac > 0 then last = 2147483647 - (cur - ac * 2147483648) end " +
+            "end " +
+            "if redis.call('SADD', KEYS[2], ARGV[4]) == 0 then return {ac, last} end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "ac = ac + 1 " +
+            "local t = tonumber(ARGV[2]) " +
+            "if t > last then last = t end " +
+            "redis.call('ZADD', KEYS[1], ac * 2147483648 + (2147483647 - last), ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return {ac, last}");
+
+    // KEYS[1]=game:{id}:events:seq, KEYS[2]=game:{id}:events / ARGV=envelopeJson, maxLength, ttlSeconds → seq
+    static final StateScript<Long> EVENT_LOG_APPEND = StateScript.of("event_log_append", 1, Long.class,
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], seq .. '-0', 'e', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return seq");
+
+    // ========== user ==========
+
+    // KEYS[1]=user:{id}:stats / ARGV=statsJson, games, ttlSeconds → 1: 저장, 0: 캐시가 같거나 더 최신
+    static final StateScript<Long> USER_STATS_PUT_IF_NEWER = StateScript.of("user_stats_put_if_newer", 1, Long.class,
+            "local existing = redis.call('GET', KEYS[1]) " +
+            "if existing then " +
+            "  local ok, json = pcall(cjson.decode, existing) " +
+            "  if ok and tonumber(json.games) and tonumber(json.games) >= tonumber(ARGV[2]) then return 0 end " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+            "return 1");
+
+    // ========== stats ==========
+
+    // KEYS[1]=ordinals, KEYS[2]=ordinal seq, KEYS[3]=bitmap / ARGV=bit, userIds...
+    // 순번 조회/발급과 SETBIT를 원자적으로 처리한다. 해제 시에는 순번을 새로 발급하지 않는다.
+    static final StateScript<Long> LOBBY_SET_BITS = StateScript.of("lobby_set_bits", 1, Long.class,
+            "local bit = tonumber(ARGV[1]) " +
+            "for i = 2, #ARGV do " +
+            "  local ord = redis.call('HGET', KEYS[1], ARGV[i]) " +
+            "  if not ord and bit == 1 then " +
+            "    ord = redis.call('INCR', KEYS[2]) " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ord) " +
+            "  end " +
+            "  if ord then redis.call('SETBIT', KEYS[3], ord, bit) end " +
+            "end " +
+            "return #ARGV - 1");
+
+    // KEYS[1]=ordinals, KEYS[2]=ordinal seq, KEYS[3]=bitmap, KEYS[4]=임시 bitmap / ARGV=userIds...
+    // 임시 비트맵에 주어진 사용자만 켜서 RENAME으로 교체한다 (대상이 없으면 비트맵 삭제). 교체 중 조회는 이전 비트맵을 본다.
+    static final StateScript<Long> LOBBY_REPLACE_BITS = StateScript.of("lobby_replace_bits", 1, Long.class,
+            "redis.call('DEL', KEYS[4]) " +
+            "for i = 1, #ARGV do " +
+            "  local ord = redis.call('HGET', KEYS[1], ARGV[i]) " +
+            "  if not ord then " +
+            "    ord = redis.call('INCR', KEYS[2]) " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ord) " +
+            "  end " +
+            "  redis.call('SETBIT', KEYS[4], ord, 1) " +
+            "end " +
+            "if #ARGV > 0 then redis.call('RENAME', KEYS[4], KEYS[3]) else redis.call('DEL', KEYS[3]) end " +
+            "return #ARGV");
+
+    // ========== keyspace ==========
+
+    // KEYS[1]=임의 키 → 메모리 사용량(bytes, 키가 없으면 0). 클러스터에서도 키의 slot으로 라우팅되도록 스크립트로 실행한다
+    static final StateScript<Long> KEY_MEMORY_USAGE = StateScript.of("key_memory_usage", 1, Long.class,
+            "return redis.call('MEMORY', 'USAGE', KEYS[1]) or 0");
+
+    // ========== match ==========
+
+    // KEYS[1]=queue, KEYS[2]=waiting / ARGV=userId, score, enqueuedAtMs
+    static final StateScript<Long> MATCH_ADD = StateScript.of("match_add", 1, Long.class,
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+            "return 1");
+
+    // KEYS[1]=queue, KEYS[2]=waiting / ARGV=userIds → 1: 모두 꺼냄, 0: 하나라도 없어 아무것도 안 꺼냄
+    static final StateScript<Long> MATCH_CLAIM = StateScript.of("match_claim", 1, Long.class,
+            "for i = 1, #ARGV do " +
+            "  if not redis.call('ZSCORE', KEYS[1], ARGV[i]) then return 0 end " +
+            "end " +
+            "for i = 1, #ARGV do " +
+            "  redis.call('ZREM', KEYS[1], ARGV[i]) " +
+            "  redis.call('ZREM', KEYS[2], ARGV[i]) " +
+            "end " +
+            "return 1");
+
+    // KEYS[1]=queue, KEYS[2]=waiting / ARGV=center, tolerance, limit → [userId, score, enqueuedAtMs, ...] (center와 가까운 순)
+    // center에서 위(ZRANGEBYSCORE)/아래(ZREVRANGEBYSCORE)로 각각 limit개만 읽어 거리 순으로 병합한다
+    @SuppressWarnings("rawtypes")
+    static final StateScript<List> MATCH_NEAREST = StateScript.of("match_nearest", 1, List.class,
+            "local c = tonumber(ARGV[1]) " +
+            "local tol = tonumber(ARGV[2]) " +
+            "local limit = tonumber(ARGV[3]) " +
+            "local up = redis.call('ZRANGEBYSCORE', KEYS[1], c, c + tol, 'WITHSCORES', 'LIMIT', 0, limit) " +
+            "local down = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. c, c - tol, 'WITHSCORES', 'LIMIT', 0, limit) " +
+            "local ui, di, n, out = 1, 1, 0, {} " +
+            "while n < limit and (ui < #up or di < #down) do " +
+            "  local id, score " +
+            "  if di >= #down or (ui < #up and tonumber(up[ui + 1]) - c <= c - tonumber(down[di + 1])) then " +
+            "    id = up[ui]; score = up[ui + 1]; ui = ui + 2 " +
+            "  else " +
+            "    id = down[di]; score = down[di + 1]; di = di + 2 " +
+            "  end " +
+            "  local enq = redis.call('ZSCORE', KEYS[2], id) " +
+            "  if enq then out[#out + 1] = id; out[#out + 1] = score; out[#out + 1] = enq; n = n + 1 end " +
+            "end " +
+            "return out");
+
+    // KEYS[1]=queue, KEYS[2]=waiting / ARGV=limit → [userId, score, enqueuedAtMs, ...]
+    @SuppressWarnings("rawtypes")
+    static final StateScript<List> MATCH_OLDEST = StateScript.of("match_oldest", 1, List.class,
+            "local ids = redis.call('ZRANGE', KEYS[2], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES') " +
+            "local out = {} " +
+            "for i = 1, #ids, 2 do " +
+            "  local score = redis.call('ZSCORE', KEYS[1], ids[i]) " +
+            "  if score then out[#out + 1] = ids[i]; out[#out + 1] = score; out[#out + 1] = ids[i + 1] end " +
+            "end " +
+            "return out");
+
+    static final List<StateScript<?>> ALL = List.of(
+            ROOM_PLAYER_ADD_IF_ABSENT, ROOM_PLAYER_SET_STATE, ROOM_PLAYER_CAS_STATE, ROOM_PLAYER_MARK_LEFT, ROOM_SET_HOST, ROOM_LIST_APPEND,
+            GAME_PUT, GAME_PLAYERS_PUT, GAME_MIGRATE, GAME_PLAYERS_MIGRATE, GAME_PLAYER_CAS_STATE, GAME_SET_STAGE, SHIELD_CONSUME, SHIELD_INIT, SHIELD_ADD,
+            INVENTORY_INIT, INVENTORY_ADD, SCOREBOARD_RECORD_AC, EVENT_LOG_APPEND,
+            USER_STATS_PUT_IF_NEWER,
+            LOBBY_SET_BITS, LOBBY_REPLACE_BITS, KEY_MEMORY_USAGE,
+            MATCH_ADD, MATCH_CLAIM, MATCH_NEAREST, MATCH_OLDEST
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public StateScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int loaded = preload();
+            log.info("State scripts loaded: count={}", loaded);
+        } catch (Exception e) {
+            // 미리 올리지 못해도 첫 호출의 NOSCRIPT 폴백으로 올라가므로 기동은 막지 않는다
+            log.warn("Failed to preload state scripts, falling back to lazy load", e);
+        }
+    }
+
+    /**
+     * 모든 스크립트를 SCRIPT LOAD한다.
+     * @return 올린 스크립트 수
+     */
+    public int preload() {
+        List<String> shas = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> result = new ArrayList<>(ALL.size());
+            for (StateScript<?> script : ALL) {
+                result.add(connection.scriptingCommands().scriptLoad(
+                        script.redisScript().getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            }
+            return result;
+        });
+        for (int i = 0; i < ALL.size(); i++) {
+            StateScript<?> script = ALL.get(i);
+            if (shas == null || !script.sha1().equals(shas.get(i))) {
+                throw new IllegalStateException("State script SHA mismatch: " + script.name());
+            }
+            log.debug("State script loaded: name={}, version={}, sha={}", script.name(), script.version(), script.sha1());
+        }
+        return ALL.size();
+    }
+
+    // ========== room ==========
+
+    /**
+     * 플레이어가 참가 중(leftAt 없음)이 아니면 추가한다.
+     * @return 추가했으면 true
+     */
+    public boolean addRoomPlayerIfAbsent(UUID roomId, UUID userId, String playerJson, long ttlSeconds) {
+        Long result = execute(ROOM_PLAYER_ADD_IF_ABSENT, List.of(RedisKeyBuilder.roomPlayers(roomId)),
+                userId.toString(), playerJson, String.valueOf(ttlSeconds));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * @return 갱신된 플레이어 JSON (플레이어가 없으면 null)
+     */
+    public String setRoomPlayerState(UUID roomId, UUID userId, String state) {
+        return execute(ROOM_PLAYER_SET_STATE, List.of(RedisKeyBuilder.roomPlayers(roomId)),
+                userId.toString(), state);
+    }
+
+    /**
+     * 참가 중인 플레이어의 state가 expectedState일 때만 state(와 disconnectedAt)를 바꾼다.
+     * @return 갱신된 플레이어 JSON (조건이 맞지 않으면 null)
+     */
+    public String compareAndSetRoomPlayerState(UUID roomId, UUID userId, String expectedState, String state,
+                                               Instant disconnectedAt) {
+        return execute(ROOM_PLAYER_CAS_STATE, List.of(RedisKeyBuilder.roomPlayers(roomId)),
+                userId.toString(), expectedState, state, disconnectedAt != null ? disconnectedAt.toString() : "");
+    }
+
+    /**
+     * 참가 중인 플레이어의 leftAt을 기록한다.
+     * @return 갱신된 플레이어 JSON (플레이어가 없거나 이미 나갔으면 null)
+     */
+    public String markRoomPlayerLeft(UUID roomId, UUID userId, Instant leftAt) {
+        return execute(ROOM_PLAYER_MARK_LEFT, List.of(RedisKeyBuilder.roomPlayers(roomId)),
+                userId.toString(), leftAt.toString());
+    }
+
+    /**
+     * @return 갱신된 방 JSON (방이 없으면 null)
+     */
+    public String setRoomHost(UUID roomId, UUID hostUserId, Instant updatedAt) {
+        return execute(ROOM_SET_HOST, List.of(RedisKeyBuilder.room(roomId)),
+                hostUserId.toString(), updatedAt.toString());
+    }
+
+    /**
+     * 방 목록 버전을 올리고 변경을 변경 스트림에 기록한다.
+     * @return 올라간 방 목록 버전
+     */
+    public Long appendRoomListChange(int maxLength, UUID roomId, String type, String roomName, String language,
+                                     String gameType) {
+        return execute(ROOM_LIST_APPEND, List.of(RedisKeyBuilder.roomListVersion(), RedisKeyBuilder.roomListChanges()),
+                String.valueOf(maxLength), roomId.toString(), type,
+                roomName != null ? roomName : "", language != null ? language : "", gameType != null ? gameType : "");
+    }
+
+    // ========== game ==========
+
+    /**
+     * 게임 Hash를 필드 단위로 쓴다 (빈 문자열 값은 HDEL).
+     * @param ttlSeconds 0이면 TTL을 건드리지 않는다
+     */
+    public void putGame(UUID gameId, List<String> fields, List<String> values, long ttlSeconds) {
+        List<String> args = new ArrayList<>(2 + fields.size() * 2);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        args.addAll(values);
+        execute(GAME_PUT, List.of(RedisKeyBuilder.game(gameId)), args.toArray(String[]::new));
+    }
+
+    /**
+     * 게임 플레이어 Hash들을 필드 단위로 쓰고 플레이어 SET에 등록한다. 쓴 키는 모두 ttlSeconds로 EXPIRE한다.
+     * @param values 플레이어별 값 (fields 순서, 빈 문자열 값은 HDEL)
+     */
+    public void putGamePlayers(UUID gameId, List<String> fields, List<UUID> userIds, List<List<String>> values,
+                               long ttlSeconds) {
+        List<String> keys = new ArrayList<>(1 + userIds.size());
+        keys.add(RedisKeyBuilder.gamePlayers(gameId));
+        List<String> args = new ArrayList<>(2 + fields.size() + userIds.size() * (fields.size() + 1));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        for (int i = 0; i < userIds.size(); i++) {
+            keys.add(RedisKeyBuilder.gamePlayer(gameId, userIds.get(i)));
+            args.add(userIds.get(i).toString());
+            args.addAll(values.get(i));
+        }
+        execute(GAME_PLAYERS_PUT, keys, args.toArray(String[]::new));
+    }
+
+    /**
+     * 이전 JSON 레이아웃의 게임 키를 같은 키의 Hash로 원자적으로 바꾼다. 남은 TTL은 유지한다.
+     * @param legacyJson 변환 값을 만들 때 읽은 JSON (그 사이 값이 바뀌었으면 변환하지 않는다)
+     * @return 변환했으면 true
+     */
+    public boolean migrateGame(UUID gameId, String legacyJson, List<String> fields, List<String> values) {
+        List<String> args = new ArrayList<>(2 + fields.size() * 2);
+        args.add(legacyJson);
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        args.addAll(values);
+        Long result = execute(GAME_MIGRATE, List.of(RedisKeyBuilder.game(gameId)), args.toArray(String[]::new));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 이전 JSON 레이아웃의 플레이어 Hash를 플레이어 SET + 플레이어별 Hash로 원자적으로 바꾼다.
+     * @param legacyCount 변환 값을 만들 때 읽은 항목 수 (그 사이 항목 수가 바뀌었으면 변환하지 않는다)
+     * @return 변환했으면 true
+     */
+    public boolean migrateGamePlayers(UUID gameId, int legacyCount, List<String> fields, List<UUID> userIds,
+                                      List<List<String>> values, long ttlSeconds) {
+        List<String> keys = new ArrayList<>(1 + userIds.size());
+        keys.add(RedisKeyBuilder.gamePlayers(gameId));
+        List<String> args = new ArrayList<>(3 + fields.size() + userIds.size() * (fields.size() + 1));
+        args.add(String.valueOf(legacyCount));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        for (int i = 0; i < userIds.size(); i++) {
+            keys.add(RedisKeyBuilder.gamePlayer(gameId, userIds.get(i)));
+            args.add(userIds.get(i).toString());
+            args.addAll(values.get(i));
+        }
+        Long result = execute(GAME_PLAYERS_MIGRATE, keys, args.toArray(String[]::new));
+        return result != null && result >= 0;
+    }
+
+    /**
+     * 게임 플레이어의 state가 expectedState일 때만 state(와 disconnectedAt) 필드를 바꾼다.
+     * @return 갱신했으면 true
+     */
+    public boolean compareAndSetGamePlayerState(UUID gameId, UUID userId, String expectedState, String state,
+                                                Instant disconnectedAt) {
+        Long result = execute(GAME_PLAYER_CAS_STATE, List.of(RedisKeyBuilder.gamePlayer(gameId, userId)),
+                expectedState, state, disconnectedAt != null ? disconnectedAt.toString() : "");
+        return result != null && result == 1L;
+    }
+
+    /**
+     * @return 갱신했으면 true (게임이 없으면 false)
+     */
+    public boolean setGameStage(UUID gameId, String stage, Instant stageStartedAt, Instant stageDeadlineAt) {
+        Long result = execute(GAME_SET_STAGE, List.of(RedisKeyBuilder.game(gameId)),
+                stage,
+                stageStartedAt != null ? stageStartedAt.toString() : "",
+                stageDeadlineAt != null ? stageDeadlineAt.toString() : "");
+        return result != null && result == 1L;
+    }
+
+    public Long consumeShield(UUID gameId, UUID userId) {
+        return execute(SHIELD_CONSUME, List.of(RedisKeyBuilder.gameShields(gameId)), userId.toString());
+    }
+
+    public void initShieldIfAbsent(UUID gameId, UUID userId, int charges, long ttlSeconds) {
+        execute(SHIELD_INIT, List.of(RedisKeyBuilder.gameShields(gameId)),
+                userId.toString(), String.valueOf(charges), String.valueOf(ttlSeconds));
+    }
+
+    public Long addShieldCharges(UUID gameId, UUID userId, int delta) {
+        return execute(SHIELD_ADD, List.of(RedisKeyBuilder.gameShields(gameId)),
+                userId.toString(), String.valueOf(delta));
+    }
+
+    /**
+     * @return 시드했으면 true (이미 있으면 false)
+     */
+    public boolean initInventoryIfAbsent(UUID gameId, UUID userId, List<String> fields, List<String> quantities,
+                                         long ttlSeconds) {
+        List<String> args = new ArrayList<>(2 + fields.size() * 2);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        args.addAll(quantities);
+        Long result = execute(INVENTORY_INIT, List.of(RedisKeyBuilder.gameInventory(gameId, userId)),
+                args.toArray(String[]::new));
+        return result != null && result == 1L;
+    }
+
+    public Long addInventory(UUID gameId, UUID userId, String field, int delta) {
+        return execute(INVENTORY_ADD, List.of(RedisKeyBuilder.gameInventory(gameId, userId)),
+                field, String.valueOf(delta));
+    }
+
+    /**
+     * @return [acCount, lastSubmitMs] (순위표가 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> recordScoreboardAccepted(UUID gameId, UUID userId, UUID submissionId, int elapsedMs,
+                                                 long ttlSeconds) {
+        return execute(SCOREBOARD_RECORD_AC,
+                List.of(RedisKeyBuilder.gameScoreboard(gameId), RedisKeyBuilder.gameScoreboardJudged(gameId)),
+                userId.toString(), String.valueOf(elapsedMs), String.valueOf(ttlSeconds), submissionId.toString());
+    }
+
+    public Long appendGameEvent(UUID gameId, String envelopeJson, int maxLength, long ttlSeconds) {
+        return execute(EVENT_LOG_APPEND,
+                List.of(RedisKeyBuilder.gameEventSeq(gameId), RedisKeyBuilder.gameEvents(gameId)),
+                envelopeJson, String.valueOf(maxLength), String.valueOf(ttlSeconds));
+    }
+
+    // ========== user ==========
+
+    /**
+     * @return 저장했으면 true (캐시된 값의 games가 같거나 더 크면 false)
+     */
+    public boolean putUserStatsIfNewer(UUID userId, String statsJson, int games, long ttlSeconds) {
+        Long result = execute(USER_STATS_PUT_IF_NEWER, List.of(RedisKeyBuilder.userStats(userId)),
+                statsJson, String.valueOf(games), String.valueOf(ttlSeconds));
+        return result != null && result == 1L;
+    }
+
+    // ========== stats ==========
+
+    public void setLobbyBits(String bitmapKey, Collection<UUID> userIds, boolean value) {
+        String[] args = new String[1 + userIds.size()];
+        args[0] = value ? "1" : "0";
+        int i = 1;
+        for (UUID userId : userIds) {
+            args[i++] = userId.toString();
+        }
+        execute(LOBBY_SET_BITS,
+                List.of(RedisKeyBuilder.statsUserOrdinals(), RedisKeyBuilder.statsUserOrdinalSeq(), bitmapKey),
+                args);
+    }
+
+    public void replaceLobbyBits(String bitmapKey, Collection<UUID> userIds) {
+        execute(LOBBY_REPLACE_BITS,
+                List.of(RedisKeyBuilder.statsUserOrdinals(), RedisKeyBuilder.statsUserOrdinalSeq(), bitmapKey,
+                        RedisKeyBuilder.statsRebuild(bitmapKey)),
+                userIds.stream().map(UUID::toString).toArray(String[]::new));
+    }
+
+    // ========== keyspace ==========
+
+    /**
+     * @return 키의 메모리 사용량 (bytes, 키가 없으면 0)
+     */
+    public long keyMemoryUsage(String key) {
+        Long result = execute(KEY_MEMORY_USAGE, List.of(key));
+        return result != null ? result : 0L;
+    }
+
+    // ========== match ==========
+
+    public void addMatchTicket(String gameType, String language, UUID userId, int score, long enqueuedAtMs) {
+        execute(MATCH_ADD, matchKeys(gameType, language),
+                userId.toString(), String.valueOf(score), String.valueOf(enqueuedAtMs));
+    }
+
+    public boolean claimMatchTickets(String gameType, String language, List<UUID> userIds) {
+        Long result = execute(MATCH_CLAIM, matchKeys(gameType, language),
+                userIds.stream().map(UUID::toString).toArray(String[]::new));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * @return score와 가까운 순의 [userId, score, enqueuedAtMs, ...]
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> nearestMatchTickets(String gameType, String language, int score, int tolerance, int limit) {
+        return execute(MATCH_NEAREST, matchKeys(gameType, language),
+                String.valueOf(score), String.valueOf(tolerance), String.valueOf(limit));
+    }
+
+    /**
+     * @return [userId, score, enqueuedAtMs, ...]
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> oldestMatchTickets(String gameType, String language, int limit) {
+        return execute(MATCH_OLDEST, matchKeys(gameType, language), String.valueOf(limit));
+    }
+
+    private static List<String> matchKeys(String gameType, String language) {
+        return List.of(RedisKeyBuilder.matchQueue(gameType, language), RedisKeyBuilder.matchWaiting(gameType, language));
+    }
+
+    private <T> T execute(StateScript<T> script, List<String> keys, String... args) {
+        // RedisTemplate이 EVALSHA를 먼저 시도하고 NOSCRIPT면 EVAL로 재실행한다
+        return redisTemplate.execute(script.redisScript(), keys, (Object[]) args);
+    }
+}
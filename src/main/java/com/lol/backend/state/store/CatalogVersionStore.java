@@ -0,0 +1,23 @@
+package com.lol.backend.state.store;
+
+/**
+ * 카탈로그 스냅샷 전역 버전 Store 인터페이스.
+ * 카탈로그가 변경되면 버전을 올려 각 노드의 인메모리 스냅샷을 재로드하게 한다.
+ *
+ * Redis 키:
+ * - catalog:version (String, INCR)
+ */
+public interface CatalogVersionStore {
+
+    /**
+     * 현재 카탈로그 버전을 조회한다.
+     * @return 버전 (없으면 0)
+     */
+    long getVersion();
+
+    /**
+     * 카탈로그 버전을 1 올린다.
+     * @return 증가된 버전
+     */
+    long bumpVersion();
+}
@@ -0,0 +1,27 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.GameBootstrapStateDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 재접속 부트스트랩 조회 Store 인터페이스.
+ * 게임 상태를 구성하는 키들을 한 번의 파이프라인으로 읽는다 (읽기 전용).
+ *
+ * Redis 키:
+ * - game:{gameId} (String, JSON)
+ * - game:{gameId}:players (Hash)
+ * - game:{gameId}:bans / game:{gameId}:picks (Hash)
+ * - effect:{gameId}:active (Hash)
+ * - game:{gameId}:events:seq (String)
+ */
+public interface GameBootstrapStore {
+
+    /**
+     * 게임 상태 묶음을 조회한다.
+     * @param gameId 게임 ID
+     * @return 상태 묶음 (게임이 없으면 empty)
+     */
+    Optional<GameBootstrapStateDto> read(UUID gameId);
+}
@@ -0,0 +1,35 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.GameEventLogEntryDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게임 토픽 이벤트 로그 Store 인터페이스.
+ * 재접속한 클라이언트가 놓친 이벤트만 다시 받을 수 있도록 /topic/games/{gameId} 이벤트를 순서대로 보관한다.
+ *
+ * Redis 키:
+ * - game:{gameId}:events:seq (String) - 마지막으로 발급한 시퀀스
+ * - game:{gameId}:events (Stream, MAXLEN ~ 상한) - entry ID: {seq}-0, field e: EventEnvelope JSON
+ */
+public interface GameEventLogStore {
+
+    /**
+     * 이벤트를 로그에 추가하고 시퀀스를 발급한다 (발급과 추가는 원자 연산).
+     * @param gameId 게임 ID
+     * @param envelopeJson EventEnvelope JSON
+     * @return 발급된 시퀀스 (1부터 시작)
+     */
+    long append(UUID gameId, String envelopeJson);
+
+    /**
+     * sinceSeq 이후의 이벤트를 순서대로 조회한다.
+     * @param gameId 게임 ID
+     * @param sinceSeq 클라이언트가 마지막으로 받은 시퀀스
+     * @param limit 최대 조회 건수
+     * @return 누락분 전체 (상한 절삭으로 일부가 사라졌거나 limit을 넘으면 empty → 전체 상태 재조회 필요)
+     */
+    Optional<List<GameEventLogEntryDto>> readSince(UUID gameId, long sinceSeq, int limit);
+}
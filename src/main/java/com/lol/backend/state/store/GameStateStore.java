@@ -1,18 +1,35 @@
 package com.lol.backend.state.store;
 
 import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.dto.GameStateDto;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 게임 상태 Redis Store 인터페이스.
+ *
+ * Redis 키:
+ * - game:{gameId} (Hash, 속성별 필드 + TTL)
+ * - game:{gameId}:players (Set, 참가자 userId + TTL)
+ * - game:{gameId}:players:{userId} (Hash, 속성별 필드 + TTL)
+ * - game:index (Set, 활성 게임 ID)
+ */
 public interface GameStateStore {
 
     void saveGame(GameStateDto game);
 
     Optional<GameStateDto> getGame(UUID gameId);
 
+    /**
+     * stage 관련 필드만 조회한다 (HMGET). 매 tick 도는 스케줄러용.
+     * @param gameId 게임 ID
+     * @return stage 조회 결과 (게임이 없으면 empty)
+     */
+    Optional<GameStageStateDto> getGameStage(UUID gameId);
+
     void deleteGame(UUID gameId);
 
     void saveGamePlayer(GamePlayerStateDto gamePlayer);
@@ -21,12 +38,34 @@ public interface GameStateStore {
 
     List<GamePlayerStateDto> getGamePlayers(UUID gameId);
 
+    /**
+     * 게임 참가자 ID만 조회한다 (SMEMBERS).
+     * @param gameId 게임 ID
+     * @return 참가자 userId 리스트
+     */
+    List<UUID> getGamePlayerIds(UUID gameId);
+
     void updateGamePlayer(UUID gameId, UUID userId, GamePlayerStateDto updatedPlayer);
 
+    /**
+     * 플레이어의 state가 expectedState일 때만 state/disconnectedAt 필드를 원자적으로 바꾼다.
+     * 순위/보상 등 다른 필드는 건드리지 않으므로 게임 종료 처리와 겹쳐도 덮어쓰지 않는다.
+     * @param disconnectedAt null이면 유지
+     * @return 갱신했으면 true (플레이어가 없거나 state가 다르면 false)
+     */
+    boolean updateGamePlayerState(UUID gameId, UUID userId, String expectedState, String state,
+                                  java.time.Instant disconnectedAt);
+
+    /**
+     * 여러 GamePlayer 상태를 한 번의 스크립트 호출로 저장한다.
+     */
+    void saveGamePlayers(UUID gameId, List<GamePlayerStateDto> players);
+
     void updateGameStage(UUID gameId, String stage, java.time.Instant stageStartedAt, java.time.Instant stageDeadlineAt);
 
     /**
      * Redis에 저장된 모든 활성 게임 ID를 조회한다.
+     * game:index SET 기준이며, TTL로 만료된 게임은 조회 시 인덱스에서 정리한다.
      * @return 활성 게임 ID 리스트
      */
     List<UUID> getAllActiveGameIds();
@@ -0,0 +1,52 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.InventoryStateDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 플레이어별 인벤토리 프로젝션 Store 인터페이스.
+ * INVENTORY_SYNC를 매번 구매/사용 집계 쿼리 없이 "직전 인벤토리 + 적용한 증감"으로 만들기 위한 fast path.
+ *
+ * Redis 키:
+ * - game:{gameId}:inventory:{userId} (Hash) - field: item:{itemId} / spell:{spellId}, value: 잔여 수량
+ *
+ * 보호막 카운터(ShieldStateStore)와 같이 지연 초기화된다. 키가 없으면 호출자가 DB(구매 수량 - 사용 수량)로 시드한다.
+ */
+public interface InventoryStateStore {
+
+    /**
+     * @param gameId 게임 ID
+     * @param userId 사용자 ID
+     * @return 프로젝션 (미초기화면 empty)
+     */
+    Optional<InventoryStateDto> getInventory(UUID gameId, UUID userId);
+
+    /**
+     * 프로젝션이 없을 때만 초기값을 설정한다.
+     * @param gameId 게임 ID
+     * @param userId 사용자 ID
+     * @param inventory DB 기준 인벤토리
+     */
+    void initializeIfAbsent(UUID gameId, UUID userId, InventoryStateDto inventory);
+
+    /**
+     * 이미 초기화된 프로젝션의 아이템 수량을 증감한다.
+     * 미초기화 상태면 아무것도 하지 않는다 (다음 시드 시 DB 값에 포함되므로).
+     * @return 프로젝션에 반영했으면 true, 미초기화라 건너뛰었으면 false
+     */
+    boolean addItemIfInitialized(UUID gameId, UUID userId, UUID itemId, int delta);
+
+    /**
+     * 이미 초기화된 프로젝션의 스펠 수량을 증감한다.
+     * @return 프로젝션에 반영했으면 true, 미초기화라 건너뛰었으면 false
+     * @see #addItemIfInitialized(UUID, UUID, UUID, int)
+     */
+    boolean addSpellIfInitialized(UUID gameId, UUID userId, UUID spellId, int delta);
+
+    /**
+     * 프로젝션을 삭제한다. 다음 조회 시 DB 기준으로 다시 시드된다.
+     */
+    void invalidate(UUID gameId, UUID userId);
+}
@@ -0,0 +1,67 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.LobbyStatsStateDto;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 로비 통계 Store 인터페이스.
+ * 상태 플래그는 사용자 순번(ordinal) 기반 비트맵으로, 활성 사용자 수는 HyperLogLog로 집계한다.
+ * 조회는 BITCOUNT/PFCOUNT만 사용하므로 사용자 순회나 DB 조회가 없다.
+ *
+ * Redis 키:
+ * - stats:{lobby}:user:ordinal (Hash, userId → 비트 오프셋으로 쓰는 조밀한 순번)
+ * - stats:{lobby}:user:ordinal:seq (String, 순번 발급 카운터)
+ * - stats:{lobby}:online (Bitmap, 접속 중)
+ * - stats:{lobby}:ingame (Bitmap, 게임 중)
+ * - stats:{lobby}:online:rebuild / stats:{lobby}:ingame:rebuild (재구성 중 임시 Bitmap, RENAME으로 교체)
+ * - stats:dau:{yyyyMMdd} / stats:dau:{yyyyMMdd}:{language} (HyperLogLog + TTL)
+ * - stats:mau:{yyyyMM} (HyperLogLog + TTL)
+ */
+public interface LobbyStatsStore {
+
+    /**
+     * 접속 비트를 설정/해제한다. 순번이 없으면 설정 시에만 발급한다.
+     * @param userId 사용자 ID
+     * @param online 접속 여부
+     */
+    void setOnline(UUID userId, boolean online);
+
+    /**
+     * 게임 중 비트를 한 번의 스크립트로 일괄 설정/해제한다.
+     * @param userIds 사용자 ID 목록
+     * @param inGame 게임 중 여부
+     */
+    void setInGame(Collection<UUID> userIds, boolean inGame);
+
+    /**
+     * 접속 비트맵을 주어진 사용자만 켜진 상태로 원자적으로 교체한다.
+     * 해제 이벤트 유실로 켜진 채 남은 비트를 정리하는 주기적 재구성용이다.
+     * @param userIds 접속 중인 사용자 ID 목록
+     */
+    void replaceOnline(Collection<UUID> userIds);
+
+    /**
+     * 게임 중 비트맵을 주어진 사용자만 켜진 상태로 원자적으로 교체한다.
+     * @param userIds 게임 중인 사용자 ID 목록
+     */
+    void replaceInGame(Collection<UUID> userIds);
+
+    /**
+     * 일간/월간 활성 사용자로 기록한다 (PFADD).
+     * @param userId 사용자 ID
+     * @param day 기준 일자
+     * @param language 사용자 언어 (null이면 언어별 집계 생략)
+     */
+    void recordActive(UUID userId, LocalDate day, String language);
+
+    /**
+     * 로비 통계를 한 번의 파이프라인으로 조회한다.
+     * @param day 기준 일자 (MAU는 해당 월)
+     * @param languages 언어별 DAU를 조회할 언어 목록
+     * @return 통계
+     */
+    LobbyStatsStateDto read(LocalDate day, Collection<String> languages);
+}
@@ -0,0 +1,56 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.MatchTicketDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 빠른 매칭 대기열 Store 인터페이스.
+ * (gameType, language)별로 점수 순 ZSET과 대기 시작 순 ZSET을 함께 유지하여
+ * 등록/점수 구간 조회/가장 오래 기다린 티켓 조회를 모두 O(log n)(+결과 수)로 처리한다.
+ *
+ * Redis 키:
+ * - match:{gameType:language}:queue (ZSET, member=userId, score=User.score)
+ * - match:{gameType:language}:waiting (ZSET, member=userId, score=대기 시작 epoch ms)
+ * - match:ticket:{userId} (String, "{gameType}:{language}" + TTL, 중복 등록 방지/취소용)
+ */
+public interface MatchQueueStore {
+
+    /**
+     * 대기열에 등록한다. 이미 어느 대기열에든 티켓이 있으면 등록하지 않는다.
+     * @return 등록되었으면 true
+     */
+    boolean enqueue(String gameType, String language, MatchTicketDto ticket, long ticketTtlMs);
+
+    /**
+     * 사용자의 티켓을 대기열에서 제거한다.
+     * @return 제거된 티켓의 "{gameType}:{language}" (티켓이 없으면 empty)
+     */
+    Optional<String> dequeue(UUID userId);
+
+    /**
+     * 가장 오래 기다린 티켓부터 조회한다.
+     * @param limit 최대 개수
+     */
+    List<MatchTicketDto> oldest(String gameType, String language, int limit);
+
+    /**
+     * 점수 구간 [score - tolerance, score + tolerance]의 티켓을 score와 가까운 순으로 조회한다.
+     * 구간 양쪽 끝이 아니라 score에서 바깥쪽으로 읽으므로 limit보다 티켓이 많아도 가장 가까운 티켓을 놓치지 않는다.
+     * @param limit 최대 개수
+     */
+    List<MatchTicketDto> findNearest(String gameType, String language, int score, int tolerance, int limit);
+
+    /**
+     * 티켓들을 원자적으로 대기열에서 꺼낸다. 하나라도 이미 빠졌으면(취소/다른 노드가 매칭) 아무것도 꺼내지 않는다.
+     * @return 모두 꺼냈으면 true
+     */
+    boolean claim(String gameType, String language, List<UUID> userIds);
+
+    /**
+     * 대기 인원 수 (ZCARD).
+     */
+    long size(String gameType, String language);
+}
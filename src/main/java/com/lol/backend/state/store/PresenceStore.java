@@ -0,0 +1,51 @@
+package com.lol.backend.state.store;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자 접속(presence) Store 인터페이스.
+ * 노드별로 모은 활동 시각을 배치로 기록하고, 마지막 활동 시각으로 온라인 여부를 판단한다.
+ *
+ * Redis 키:
+ * - presence:lastSeen (ZSET, member=userId, score=마지막 활동 epoch ms)
+ */
+public interface PresenceStore {
+
+    /**
+     * 활동 시각을 한 번의 ZADD로 기록한다. 기존 값보다 최신인 경우에만 갱신한다 (GT).
+     * @param lastSeenMs userId별 마지막 활동 epoch ms
+     */
+    void recordAll(Map<UUID, Long> lastSeenMs);
+
+    /**
+     * 마지막 활동 시각을 일괄 조회한다 (ZMSCORE).
+     * @param userIds 사용자 ID 목록
+     * @return userId별 마지막 활동 epoch ms (기록이 없는 사용자는 제외)
+     */
+    Map<UUID, Long> getLastSeen(Collection<UUID> userIds);
+
+    /**
+     * sinceMs 이후에 활동한 사용자를 조회한다 (ZRANGEBYSCORE).
+     * @param sinceMs 기준 epoch ms
+     * @return 사용자 ID 목록
+     */
+    Set<UUID> getSeenSince(long sinceMs);
+
+    /**
+     * 마지막 활동 시각이 [fromMs, toMs] 구간인 사용자를 조회한다 (ZRANGEBYSCORE WITHSCORES).
+     * @param fromMs 구간 시작 epoch ms (포함)
+     * @param toMs 구간 끝 epoch ms (포함)
+     * @return userId별 마지막 활동 epoch ms
+     */
+    Map<UUID, Long> getSeenBetween(long fromMs, long toMs);
+
+    /**
+     * cutoff 이전에 마지막으로 활동한 항목을 제거한다.
+     * @param cutoffMs 기준 epoch ms
+     * @return 제거된 항목 수
+     */
+    long removeSeenBefore(long cutoffMs);
+}
@@ -2,9 +2,12 @@ package com.lol.backend.state.store;
 
 import com.lol.backend.state.dto.RoomHostHistoryStateDto;
 import com.lol.backend.state.dto.RoomKickStateDto;
+import com.lol.backend.state.dto.RoomListChangeDto;
 import com.lol.backend.state.dto.RoomPlayerStateDto;
 import com.lol.backend.state.dto.RoomStateDto;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,10 +22,19 @@ public interface RoomStateStore {
 
     List<RoomStateDto> getAllActiveRooms();
 
+    // 지정한 방들을 한 번의 MGET으로 조회 (없는 방은 제외, 입력 순서 유지)
+    List<RoomStateDto> getRooms(Collection<UUID> roomIds);
+
     void addPlayer(RoomPlayerStateDto player);
 
     boolean addPlayerIfNotExists(RoomPlayerStateDto player);
 
+    // 참가 중인 플레이어의 leftAt을 원자적으로 기록 (없거나 이미 나갔으면 false)
+    boolean markPlayerLeft(UUID roomId, UUID userId, Instant leftAt);
+
+    // 방장만 원자적으로 교체 (TTL 유지, 방이 없으면 false)
+    boolean updateHost(UUID roomId, UUID hostUserId, Instant updatedAt);
+
     void removePlayer(UUID roomId, UUID userId);
 
     Optional<RoomPlayerStateDto> getPlayer(UUID roomId, UUID userId);
@@ -31,10 +43,17 @@ public interface RoomStateStore {
 
     void updatePlayerState(UUID roomId, UUID userId, String state);
 
-    void incrementListVersion();
+    // 참가 중인 플레이어의 state가 expectedState일 때만 원자적으로 교체 (disconnectedAt이 null이면 유지, 조건 불일치 시 false)
+    boolean updatePlayerState(UUID roomId, UUID userId, String expectedState, String state, Instant disconnectedAt);
+
+    // 방 목록 버전을 올리고 변경을 room:{list}:changes 스트림에 함께 기록 (반환: 올라간 버전)
+    long appendListChange(RoomListChangeDto change);
 
     long getListVersion();
 
+    // (sinceVersion, untilVersion] 변경을 버전 순으로 조회 (스트림 절삭 등으로 중간이 비면 empty → 전체 재색인 필요)
+    Optional<List<RoomListChangeDto>> getListChangesSince(long sinceVersion, long untilVersion);
+
     // Kick 관련
     void addKick(RoomKickStateDto kick);
 
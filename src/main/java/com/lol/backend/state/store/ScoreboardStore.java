@@ -0,0 +1,53 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.ScoreboardEntryDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게임 내 실시간 순위표 Store 인터페이스.
+ * 채점 판정(AC)이 도착할 때마다 증분 갱신되며, PLAY 중 SCOREBOARD_UPDATED 표시와 게임 종료 시 최종 순위의 입력이 된다.
+ * 순위표가 없거나(미초기화/무효화) 참가자가 빠져 있으면 최종 순위는 DB 제출 집계로 폴백한다.
+ *
+ * Redis 키:
+ * - game:{gameId}:scoreboard (Sorted Set) - member: userId,
+ *   score: acCount * 2^31 + (2^31 - 1 - lastSubmitMs) → ZREVRANGE가 곧 (AC 내림차순, 시간 오름차순)
+ * - game:{gameId}:scoreboard:judged (Set) - 반영한 submissionId (판정 재전달 시 중복 반영 방지)
+ */
+public interface ScoreboardStore {
+
+    /**
+     * PLAY 시작 시 참가자를 0점으로 등록한다 (이미 있는 member는 유지).
+     * @param gameId 게임 ID
+     * @param userIds 참가자 ID 목록
+     */
+    void initialize(UUID gameId, Collection<UUID> userIds);
+
+    /**
+     * AC 판정을 반영한다 (AC +1, 최종 제출 시간 = max(기존, submittedElapsedMs)). 원자 연산.
+     * 순위표가 없으면(미초기화/무효화) 반영하지 않는다. 부분 집계로 다시 만들어지는 것을 막기 위함.
+     * 같은 submissionId는 한 번만 반영한다.
+     * @param gameId 게임 ID
+     * @param userId 제출자 ID
+     * @param submissionId 제출 ID
+     * @param submittedElapsedMs 게임 시작부터 제출까지 경과 시간(ms)
+     * @return 반영 후 항목 (순위표가 없으면 empty)
+     */
+    Optional<ScoreboardEntryDto> recordAccepted(UUID gameId, UUID userId, UUID submissionId, int submittedElapsedMs);
+
+    /**
+     * 순위표를 무효화한다. 이후 AC는 반영되지 않으며 게임 종료 시 DB 집계로 폴백한다.
+     * @param gameId 게임 ID
+     */
+    void invalidate(UUID gameId);
+
+    /**
+     * 순위 순서(AC 내림차순, 최종 제출 시간 오름차순)로 전체 항목을 조회한다.
+     * @param gameId 게임 ID
+     * @return 순위표 (키가 없으면 empty → 호출자가 DB 집계로 폴백)
+     */
+    Optional<List<ScoreboardEntryDto>> getStandings(UUID gameId);
+}
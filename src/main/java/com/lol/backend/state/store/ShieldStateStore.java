@@ -0,0 +1,47 @@
+package com.lol.backend.state.store;
+
+import java.util.UUID;
+
+/**
+ * 플레이어별 보호막 잔여 횟수 카운터 Store 인터페이스.
+ * 아이템 사용 시 보호막 확인과 소비를 한 번의 원자적 연산으로 처리하기 위한 fast path.
+ *
+ * Redis 키:
+ * - game:{gameId}:shields (Hash) - field: userId, value: 잔여 보호막 수
+ *
+ * 카운터는 지연 초기화된다. 필드가 없으면 호출자가 DB(구매 수량 - 사용 수량)로 시드한다.
+ */
+public interface ShieldStateStore {
+
+    /** 보호막이 남아있지 않음 */
+    long NO_CHARGE = -1L;
+
+    /** 카운터가 아직 초기화되지 않음 (DB 기준 시드 필요) */
+    long NOT_INITIALIZED = -2L;
+
+    /**
+     * 보호막이 남아있으면 1 소비한다 (check-and-consume 원자 연산).
+     * @param gameId 게임 ID
+     * @param userId 보호막 보유자 ID
+     * @return 소비 후 잔여 수(0 이상), 없으면 {@link #NO_CHARGE}, 미초기화면 {@link #NOT_INITIALIZED}
+     */
+    long tryConsume(UUID gameId, UUID userId);
+
+    /**
+     * 카운터가 없을 때만 초기값을 설정한다 (HSETNX).
+     * @param gameId 게임 ID
+     * @param userId 사용자 ID
+     * @param charges 잔여 보호막 수
+     */
+    void initializeIfAbsent(UUID gameId, UUID userId, int charges);
+
+    /**
+     * 이미 초기화된 카운터에 보호막 수를 더한다.
+     * 미초기화 상태면 아무것도 하지 않는다 (다음 시드 시 DB 값에 포함되므로).
+     * @param gameId 게임 ID
+     * @param userId 사용자 ID
+     * @param delta 증감량
+     * @return 카운터에 반영했으면 true, 미초기화라 건너뛰었으면 false
+     */
+    boolean addChargesIfInitialized(UUID gameId, UUID userId, int delta);
+}
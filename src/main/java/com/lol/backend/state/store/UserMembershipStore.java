@@ -0,0 +1,44 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.UserMembershipDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 → 참가 중인 룸/게임 인덱스 Store 인터페이스.
+ * 끊김 sweep이 모든 활성 룸/게임을 돌지 않고 오래된 사용자의 룸/게임만 찾기 위해 쓴다.
+ *
+ * Redis 키:
+ * - user:{userId}:memberships (Hash) - field: room:{roomId} / game:{gameId}
+ *
+ * 룸/게임 Store가 플레이어를 쓰고 지울 때 함께 갱신한다. 룸/게임 키와 slot이 달라 원자적이지 않으므로
+ * 남은 항목은 읽는 쪽이 실제 상태로 확인한 뒤 지운다.
+ */
+public interface UserMembershipStore {
+
+    void addRoom(UUID userId, UUID roomId);
+
+    /**
+     * 여러 사용자의 룸 항목을 한 번의 파이프라인으로 지운다.
+     */
+    void removeRoom(Collection<UUID> userIds, UUID roomId);
+
+    /**
+     * 여러 사용자의 게임 항목을 한 번의 파이프라인으로 추가한다.
+     */
+    void addGame(Collection<UUID> userIds, UUID gameId);
+
+    /**
+     * 여러 사용자의 게임 항목을 한 번의 파이프라인으로 지운다.
+     */
+    void removeGame(Collection<UUID> userIds, UUID gameId);
+
+    /**
+     * 여러 사용자의 인덱스를 한 번의 파이프라인으로 조회한다.
+     * @param userIds 사용자 ID 목록
+     * @return userId별 참가 항목 (항목이 없는 사용자는 제외)
+     */
+    Map<UUID, UserMembershipDto> getMemberships(Collection<UUID> userIds);
+}
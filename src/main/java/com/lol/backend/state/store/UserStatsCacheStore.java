@@ -0,0 +1,37 @@
+package com.lol.backend.state.store;
+
+import com.lol.backend.state.dto.UserStatsStateDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자 누적 전적 Redis 캐시 Store 인터페이스.
+ * SSOT는 DB(user_stats)이며, 이 캐시는 조회 경로 전용이다.
+ *
+ * Redis 키:
+ * - user:{userId}:stats (String, JSON + TTL)
+ */
+public interface UserStatsCacheStore {
+
+    /**
+     * 캐시된 전적을 조회한다.
+     * @param userId 사용자 ID
+     * @return 캐시된 전적 (없거나 역직렬화 실패 시 empty)
+     */
+    Optional<UserStatsStateDto> get(UUID userId);
+
+    /**
+     * 캐시된 값보다 새로운(games가 더 큰) 전적일 때만 저장한다.
+     * games는 정산마다 1씩만 증가하므로 버전으로 쓰며, 늦게 도착한 이전 DB 조회 값이 최신 값을 덮지 않는다.
+     * @param stats 전적
+     * @return 저장했으면 true
+     */
+    boolean putIfNewer(UserStatsStateDto stats);
+
+    /**
+     * 캐시된 전적을 제거한다.
+     * @param userId 사용자 ID
+     */
+    void evict(UUID userId);
+}
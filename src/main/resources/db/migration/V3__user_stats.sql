@@ -0,0 +1,56 @@
+-- V3: Materialized per-user stats
+-- getMyStats()가 종료된 모든 game_player를 스캔하지 않도록 사용자별 누적 전적을 유지한다.
+-- 게임 종료 정산(GameSnapshotContributorImpl)과 같은 트랜잭션에서 갱신된다.
+
+-- ============================================================
+-- user_stats
+-- ============================================================
+CREATE TABLE user_stats (
+    user_id            UUID        PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    games              INT         NOT NULL DEFAULT 0 CHECK (games >= 0),
+    wins               INT         NOT NULL DEFAULT 0 CHECK (wins >= 0),
+    losses             INT         NOT NULL DEFAULT 0 CHECK (losses >= 0),
+    draws              INT         NOT NULL DEFAULT 0 CHECK (draws >= 0),
+    current_win_streak INT         NOT NULL DEFAULT 0 CHECK (current_win_streak >= 0),
+    best_win_streak    INT         NOT NULL DEFAULT 0 CHECK (best_win_streak >= 0),
+    updated_at         TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================================
+-- 1회성 백필: 기존 game_player 결과로부터 누적 전적/연승 계산
+-- 연승은 joined_at 순으로 같은 결과가 이어지는 구간(gaps-and-islands)으로 계산한다.
+-- ============================================================
+WITH ordered AS (
+    SELECT user_id,
+           result,
+           joined_at,
+           ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY joined_at, game_id)
+               - ROW_NUMBER() OVER (PARTITION BY user_id, result ORDER BY joined_at, game_id) AS run_id
+    FROM game_player
+    WHERE result IS NOT NULL
+),
+runs AS (
+    SELECT user_id,
+           result,
+           COUNT(*)       AS run_length,
+           MAX(joined_at) AS run_end
+    FROM ordered
+    GROUP BY user_id, result, run_id
+),
+last_run AS (
+    SELECT DISTINCT ON (user_id) user_id, result, run_length
+    FROM runs
+    ORDER BY user_id, run_end DESC
+)
+INSERT INTO user_stats (user_id, games, wins, losses, draws, current_win_streak, best_win_streak, updated_at)
+SELECT r.user_id,
+       SUM(r.run_length),
+       COALESCE(SUM(r.run_length) FILTER (WHERE r.result = 'WIN'), 0),
+       COALESCE(SUM(r.run_length) FILTER (WHERE r.result = 'LOSE'), 0),
+       COALESCE(SUM(r.run_length) FILTER (WHERE r.result = 'DRAW'), 0),
+       CASE WHEN l.result = 'WIN' THEN l.run_length ELSE 0 END,
+       COALESCE(MAX(r.run_length) FILTER (WHERE r.result = 'WIN'), 0),
+       CURRENT_TIMESTAMP
+FROM runs r
+JOIN last_run l ON l.user_id = r.user_id
+GROUP BY r.user_id, l.result, l.run_length;
@@ -0,0 +1,20 @@
+-- V4: Match history keyset paging indexes
+-- UserService.getMyMatches()의 단일 프로젝션 쿼리 + 복합 커서 (joined_at, game_id)용 인덱스
+
+-- ============================================================
+-- game_player: 사용자별 전적 목록 (keyset)
+-- ============================================================
+-- 정렬 순서 (joined_at DESC, game_id DESC)와 일치하는 부분 인덱스.
+-- result를 INCLUDE하여 목록 스캔이 heap 접근 없이 진행되도록 한다.
+CREATE INDEX idx_game_player_user_history
+    ON game_player (user_id, joined_at DESC, game_id DESC)
+    INCLUDE (result)
+    WHERE result IS NOT NULL;
+
+-- 게임별 최종 인원 수 (finalPlayers) 카운트용 부분 인덱스 (index-only scan)
+CREATE INDEX idx_game_player_game_finished
+    ON game_player (game_id)
+    WHERE result IS NOT NULL;
+
+-- idx_game_player_user_history로 대체됨
+DROP INDEX IF EXISTS idx_game_player_user_joined;
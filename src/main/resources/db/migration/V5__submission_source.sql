@@ -0,0 +1,38 @@
+-- V5: Content-addressed submission source
+-- submission.source_code(TEXT)를 별도 테이블로 분리한다.
+-- 본문은 SHA-256(UTF-8) 해시를 키로 한 번만 저장되며, 애플리케이션에서 DEFLATE 압축 후 기록한다.
+-- 메타데이터 조회(결과 집계, 목록)는 더 이상 소스 본문을 읽지 않는다.
+
+-- ============================================================
+-- submission_source
+-- ============================================================
+CREATE TABLE submission_source (
+    hash            VARCHAR(64) PRIMARY KEY,
+    encoding        VARCHAR(10) NOT NULL CHECK (encoding IN ('NONE', 'DEFLATE')),
+    original_length INTEGER     NOT NULL CHECK (original_length >= 0),
+    content         BYTEA       NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================================
+-- 1회성 이관: 기존 source_code를 해시 기준으로 중복 제거하여 이동
+-- SQL에서는 DEFLATE를 만들 수 없으므로 기존 행은 encoding = 'NONE'으로 보관한다.
+-- ============================================================
+INSERT INTO submission_source (hash, encoding, original_length, content)
+SELECT DISTINCT ON (hash) hash, 'NONE', octet_length(body), body
+FROM (
+    SELECT encode(sha256(convert_to(source_code, 'UTF8')), 'hex') AS hash,
+           convert_to(source_code, 'UTF8')                        AS body
+    FROM submission
+) src
+ORDER BY hash;
+
+ALTER TABLE submission ADD COLUMN source_hash VARCHAR(64);
+
+UPDATE submission
+SET source_hash = encode(sha256(convert_to(source_code, 'UTF8')), 'hex');
+
+ALTER TABLE submission
+    ALTER COLUMN source_hash SET NOT NULL,
+    ADD CONSTRAINT fk_submission_source FOREIGN KEY (source_hash) REFERENCES submission_source (hash) ON DELETE RESTRICT,
+    DROP COLUMN source_code;
@@ -0,0 +1,23 @@
+-- V6: Asynchronous judge queue
+-- submission 테이블 자체를 채점 대기열로 사용한다 (PENDING → JUDGING → 판정).
+-- 워커는 FOR UPDATE SKIP LOCKED로 PENDING 행을 선점하므로 여러 인스턴스가 같은 행을 중복 채점하지 않는다.
+
+ALTER TABLE submission DROP CONSTRAINT IF EXISTS submission_judge_status_check;
+ALTER TABLE submission
+    ADD CONSTRAINT submission_judge_status_check
+        CHECK (judge_status IN ('PENDING', 'JUDGING', 'AC', 'WA', 'TLE', 'MLE', 'CE', 'RE'));
+
+-- 선점 시각 (오래된 JUDGING은 재대기열화), 채점 시도 횟수
+ALTER TABLE submission
+    ADD COLUMN judge_claimed_at TIMESTAMPTZ,
+    ADD COLUMN judge_attempts   INTEGER NOT NULL DEFAULT 0 CHECK (judge_attempts >= 0);
+
+-- 대기열 선점 (submitted_at 순) 및 재대기열화 스캔용 부분 인덱스
+CREATE INDEX idx_submission_judge_queue
+    ON submission (submitted_at)
+    WHERE judge_status IN ('PENDING', 'JUDGING');
+
+-- 사용자별 미판정 제출 수 (제출 제한) 카운트용 부분 인덱스
+CREATE INDEX idx_submission_user_unjudged
+    ON submission (user_id)
+    WHERE judge_status IN ('PENDING', 'JUDGING');
@@ -0,0 +1,8 @@
+-- V7: Terminal judge failure status
+-- 채점기 오류/선점 만료로 시도 횟수(game.judge.max-attempts)를 모두 소진한 제출은 FAILED로 확정한다.
+-- (재대기열화가 무한히 반복되지 않도록 releaseStale은 시도 횟수가 남은 제출만 PENDING으로 되돌린다)
+
+ALTER TABLE submission DROP CONSTRAINT IF EXISTS submission_judge_status_check;
+ALTER TABLE submission
+    ADD CONSTRAINT submission_judge_status_check
+        CHECK (judge_status IN ('PENDING', 'JUDGING', 'AC', 'WA', 'TLE', 'MLE', 'CE', 'RE', 'FAILED'));
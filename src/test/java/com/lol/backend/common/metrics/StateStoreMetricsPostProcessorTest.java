@@ -0,0 +1,65 @@
+package com.lol.backend.common.metrics;
+
+import com.lol.backend.state.store.CatalogVersionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StateStoreMetricsPostProcessor 단위 테스트.
+ */
+class StateStoreMetricsPostProcessorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private StateStoreMetricsPostProcessor postProcessor() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        return new StateStoreMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Store 빈은 프록시로 감싸지고 메서드별 호출 지연이 기록된다")
+    void wrapsStoreBeans() {
+        CatalogVersionStore store = new FixedCatalogVersionStore();
+
+        Object processed = postProcessor().postProcessAfterInitialization(store, "catalogVersionStore");
+        CatalogVersionStore proxied = (CatalogVersionStore) processed;
+
+        assertThat(proxied).isNotSameAs(store);
+        assertThat(proxied.getVersion()).isEqualTo(7L);
+        assertThat(proxied.getVersion()).isEqualTo(7L);
+
+        Timer timer = registry.find("state.store.call")
+                .tag("store", "FixedCatalogVersionStore")
+                .tag("method", "getVersion")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Store가 아닌 빈은 그대로 반환된다")
+    void ignoresOtherBeans() {
+        Object bean = new Object();
+
+        assertThat(postProcessor().postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+
+    private static class FixedCatalogVersionStore implements CatalogVersionStore {
+        @Override
+        public long getVersion() {
+            return 7L;
+        }
+
+        @Override
+        public long bumpVersion() {
+            return 8L;
+        }
+    }
+}
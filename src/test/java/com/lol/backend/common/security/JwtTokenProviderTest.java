@@ -0,0 +1,74 @@
+package com.lol.backend.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider 검증/캐시 단위 테스트.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-must-be-at-least-256-bits-long-for-hs256-algorithm-test";
+
+    @Test
+    @DisplayName("유효한 토큰은 userId를 반환하고 재검증 시에도 동일한 결과를 반환한다")
+    void verifyAndGetUserId_validToken() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L, 100, 60_000L);
+        String token = provider.createToken("user-1");
+
+        assertThat(provider.verifyAndGetUserId(token)).contains("user-1");
+        assertThat(provider.verifyAndGetUserId(token)).contains("user-1");
+        assertThat(provider.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰이나 변조된 토큰은 거부된다")
+    void verifyAndGetUserId_invalidToken() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L, 100, 60_000L);
+        JwtTokenProvider other = new JwtTokenProvider(SECRET + "-other", 3_600_000L, 100, 60_000L);
+        String foreign = other.createToken("user-1");
+        String tampered = provider.createToken("user-1") + "x";
+
+        assertThat(provider.verifyAndGetUserId(foreign)).isEmpty();
+        assertThat(provider.verifyAndGetUserId(tampered)).isEmpty();
+        assertThat(provider.verifyAndGetUserId("")).isEmpty();
+        assertThat(provider.verifyAndGetUserId(null)).isEmpty();
+        assertThat(provider.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시되지 않고 거부된다")
+    void verifyAndGetUserId_expiredToken() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, -1_000L, 100, 60_000L);
+        String token = provider.createToken("user-1");
+
+        assertThat(provider.verifyAndGetUserId(token)).isEmpty();
+        assertThat(provider.verifyAndGetUserId(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되어도 검증 결과는 동일하다")
+    void verifyAndGetUserId_cacheDisabled() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L, 0, 60_000L);
+        String token = provider.createToken("user-2");
+
+        assertThat(provider.verifyAndGetUserId(token)).contains("user-2");
+        assertThat(provider.verifyAndGetUserId(token)).contains("user-2");
+        assertThat(provider.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차도 새 토큰은 검증되고, 캐시 크기는 상한을 넘지 않는다")
+    void verifyAndGetUserId_boundedCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L, 2, 60_000L);
+
+        for (int i = 0; i < 10; i++) {
+            String userId = "user-" + i;
+            assertThat(provider.verifyAndGetUserId(provider.createToken(userId))).contains(userId);
+        }
+
+        assertThat(provider.cachedTokenCount()).isLessThanOrEqualTo(2);
+    }
+}
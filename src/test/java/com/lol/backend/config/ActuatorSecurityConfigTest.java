@@ -0,0 +1,60 @@
+package com.lol.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 보안 통합 테스트
+ * - info는 인증 없이 허용
+ * - prometheus는 management.auth 계정의 HTTP Basic 인증 필요
+ */
+@SpringBootTest(properties = {
+        "management.auth.username=scraper",
+        "management.auth.password=scrape-secret"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class ActuatorSecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("info는 인증 없이 조회된다")
+    void info_permitsAnonymous() throws Exception {
+        mockMvc.perform(get("/actuator/info"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("prometheus는 인증이 없으면 401")
+    void prometheus_rejectsAnonymous() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("prometheus는 잘못된 비밀번호면 401")
+    void prometheus_rejectsWrongPassword() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("prometheus는 설정된 계정으로 조회된다")
+    void prometheus_permitsConfiguredUser() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,82 @@
+package com.lol.backend.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 하네스 지연 수집기.
+ * 커맨드별 응답 지연과 이벤트 타입별 전달 지연(meta.serverTime → 수신)을 모아 백분위를 계산한다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Queue<Long>> commandSamples = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Long>> eventSamples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+    private final AtomicLong eventCount = new AtomicLong();
+
+    void recordCommand(String command, long elapsedNanos) {
+        commandSamples.computeIfAbsent(command, k -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+    }
+
+    void recordEvent(String type, long deliveryNanos) {
+        eventCount.incrementAndGet();
+        eventSamples.computeIfAbsent(type, k -> new ConcurrentLinkedQueue<>()).add(Math.max(0, deliveryNanos));
+    }
+
+    void recordFailure(String command) {
+        failures.computeIfAbsent(command, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    long totalFailures() {
+        return failures.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    long eventCount() {
+        return eventCount.get();
+    }
+
+    String report(Duration wallTime) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n=== Commands (ms) ===%n"));
+        appendTable(sb, commandSamples);
+        sb.append(String.format("%n=== Events: serverTime -> client receive (ms) ===%n"));
+        appendTable(sb, eventSamples);
+        if (!failures.isEmpty()) {
+            sb.append(String.format("%n=== Failures ===%n"));
+            new TreeMap<>(failures).forEach((k, v) -> sb.append(String.format("%-24s %d%n", k, v.get())));
+        }
+        double seconds = Math.max(1, wallTime.toMillis()) / 1000.0;
+        sb.append(String.format("%nevents received: %d (%.1f events/s over %.1fs)%n", eventCount.get(), eventCount.get() / seconds, seconds));
+        return sb.toString();
+    }
+
+    private static void appendTable(StringBuilder sb, Map<String, Queue<Long>> samples) {
+        sb.append(String.format("%-24s %8s %9s %9s %9s %9s%n", "name", "count", "p50", "p99", "p999", "max"));
+        new TreeMap<>(samples).forEach((name, queue) -> {
+            long[] sorted = queue.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            sb.append(String.format("%-24s %8d %9.2f %9.2f %9.2f %9.2f%n", name, sorted.length,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 0.999)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,223 @@
+package com.lol.backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 부하 하네스의 가상 플레이어 1명.
+ * REST 커맨드는 HTTP로, 아이템/스펠은 STOMP SEND로 보내고 게임 이벤트를 구독한다.
+ *
+ * STOMP 커맨드(ITEM_USE/SPELL_USE) 지연은 전송부터 사용자 큐의 INVENTORY_SYNC(또는 ERROR) 수신까지로 잰다.
+ */
+final class LoadPlayer {
+
+    private static final Duration STOMP_COMMAND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final UUID userId;
+    private final String token;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    private final CompletableFuture<JsonNode> gameFinished = new CompletableFuture<>();
+    private final AtomicReference<PendingCommand> pendingStompCommand = new AtomicReference<>();
+    private StompSession session;
+
+    LoadPlayer(UUID userId, String token, String baseUrl, HttpClient httpClient,
+               ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.userId = userId;
+        this.token = token;
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    UUID userId() {
+        return userId;
+    }
+
+    CompletableFuture<JsonNode> gameFinished() {
+        return gameFinished;
+    }
+
+    // ========== STOMP ==========
+
+    void connect(WebSocketStompClient stompClient, String wsUrl) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        long start = System.nanoTime();
+        session = stompClient.connectAsync(wsUrl, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+        recorder.recordCommand("STOMP_CONNECT", System.nanoTime() - start);
+
+        session.subscribe("/user/queue/inventory", handler(this::onUserQueueEvent));
+        session.subscribe("/user/queue/errors", handler(this::onUserQueueEvent));
+    }
+
+    void subscribeGame(UUID gameId) {
+        session.subscribe("/topic/games/" + gameId, handler(event -> {
+            if ("GAME_FINISHED".equals(event.path("type").asText())) {
+                gameFinished.complete(event);
+            }
+        }));
+    }
+
+    void useItem(UUID gameId, String itemId, UUID targetUserId) {
+        sendStompCommand("ITEM_USE", "/app/games/" + gameId + "/items.use",
+                Map.of("itemId", itemId, "targetUserId", targetUserId.toString()));
+    }
+
+    void useSpell(UUID gameId, String spellId) {
+        sendStompCommand("SPELL_USE", "/app/games/" + gameId + "/spells.use", Map.of("spellId", spellId));
+    }
+
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    private void sendStompCommand(String command, String destination, Map<String, String> data) {
+        PendingCommand pending = new PendingCommand(command, System.nanoTime(), new CompletableFuture<>());
+        pendingStompCommand.set(pending);
+        session.send(destination, Map.of(
+                "type", command,
+                "data", data,
+                "meta", Map.of("commandId", UUID.randomUUID().toString())
+        ));
+        try {
+            pending.done().get(STOMP_COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            recorder.recordFailure(command);
+        } finally {
+            pendingStompCommand.compareAndSet(pending, null);
+        }
+    }
+
+    private void onUserQueueEvent(JsonNode event) {
+        PendingCommand pending = pendingStompCommand.getAndSet(null);
+        if (pending == null) {
+            return;
+        }
+        if ("ERROR".equals(event.path("type").asText())) {
+            recorder.recordFailure(pending.command() + ":" + event.path("data").path("code").asText());
+        } else {
+            recorder.recordCommand(pending.command(), System.nanoTime() - pending.startNanos());
+        }
+        pending.done().complete(null);
+    }
+
+    private StompFrameHandler handler(java.util.function.Consumer<JsonNode> onEvent) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                try {
+                    JsonNode event = (JsonNode) payload;
+                    String type = event.path("type").asText();
+                    String serverTime = event.path("meta").path("serverTime").asText(null);
+                    long deliveryNanos = serverTime != null
+                            ? Duration.between(Instant.parse(serverTime), Instant.now()).toNanos()
+                            : 0L;
+                    recorder.recordEvent(type, deliveryNanos);
+                    onEvent.accept(event);
+                } catch (Exception e) {
+                    recorder.recordFailure("EVENT_PARSE");
+                }
+            }
+        };
+    }
+
+    // ========== REST ==========
+
+    /**
+     * 기존 재접속 순서 (active-game → state → catalog 3종). 전체 소요를 RECONNECT_LEGACY로 기록한다.
+     */
+    void reconnectLegacy(UUID gameId) {
+        long start = System.nanoTime();
+        get("ACTIVE_GAME", "/users/me/active-game");
+        get("GAME_STATE", "/games/" + gameId + "/state");
+        get("CATALOG", "/catalog/algorithms");
+        get("CATALOG", "/catalog/items");
+        get("CATALOG", "/catalog/spells");
+        recorder.recordCommand("RECONNECT_LEGACY", System.nanoTime() - start);
+    }
+
+    /**
+     * 부트스트랩 1회로 재접속한다. 전체 소요를 RECONNECT_BOOTSTRAP으로 기록한다.
+     */
+    void reconnectBootstrap() {
+        long start = System.nanoTime();
+        get("BOOTSTRAP", "/games/active/bootstrap");
+        recorder.recordCommand("RECONNECT_BOOTSTRAP", System.nanoTime() - start);
+    }
+
+    JsonNode post(String command, String path, Object body) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            return send(command, request);
+        } catch (Exception e) {
+            throw new IllegalStateException(command + " failed", e);
+        }
+    }
+
+    JsonNode get(String command, String path) {
+        return send(command, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private JsonNode send(String command, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    request.header("Authorization", "Bearer " + token).timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            JsonNode body = objectMapper.readTree(response.body());
+            if (response.statusCode() / 100 != 2) {
+                String code = body.path("error").path("code").asText(String.valueOf(response.statusCode()));
+                recorder.recordFailure(command + ":" + code);
+                throw new IllegalStateException(command + " rejected: " + response.statusCode() + " " + code);
+            }
+            recorder.recordCommand(command, elapsed);
+            return body.path("data");
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            recorder.recordFailure(command);
+            throw new IllegalStateException(command + " failed", e);
+        }
+    }
+
+    private record PendingCommand(String command, long startNanos, CompletableFuture<Void> done) {
+    }
+}
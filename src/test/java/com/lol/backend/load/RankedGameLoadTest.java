@@ -0,0 +1,311 @@
+package com.lol.backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.common.security.JwtTokenProvider;
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.repo.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RANKED 게임 전체 라이프사이클 STOMP 부하 하네스.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ *
+ * 가상 플레이어마다: JWT 발급 → STOMP 연결 → 방 생성/참가 → READY → 시작 → BAN → PICK → SHOP
+ * → 아이템/스펠 사용 → 코드 제출 → GAME_FINISHED 수신.
+ *
+ * 규모 조절 (시스템 프로퍼티):
+ * - load.games: 동시 게임 수 (기본 10)
+ * - load.players-per-game: 게임당 플레이어 수 (기본 4, 밴/픽이 겹치지 않도록 최대 5)
+ *
+ * 출력: 커맨드별/이벤트 타입별 p50/p99/p999, 초당 이벤트 수, stage 전이 지연(game.stage.transition.lag)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "game.stage-duration.ban=2",
+                "game.stage-duration.pick=2",
+                "game.stage-duration.shop=2",
+                "game.stage-duration.play=5",
+                "logging.level.com.lol.backend=WARN",
+                "logging.level.com.lol.backend.load=INFO"
+        }
+)
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RankedGameLoadTest {
+
+    private static final Duration STAGE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration STAGE_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final int games = Integer.getInteger("load.games", 10);
+    private final int playersPerGame = Math.min(5, Math.max(2, Integer.getInteger("load.players-per-game", 4)));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void rankedGameLifecycle() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api/v1";
+        String wsUrl = "ws://localhost:" + port + "/ws";
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+
+        List<List<LoadPlayer>> tables = createPlayers(baseUrl, httpClient);
+        Catalog catalog = Catalog.load(tables.get(0).get(0));
+
+        Instant started = Instant.now();
+        int finishedGames = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (List<LoadPlayer> table : tables) {
+                results.add(executor.submit(() -> runGame(table, catalog, stompClient, wsUrl)));
+            }
+            for (Future<Boolean> result : results) {
+                if (Boolean.TRUE.equals(result.get())) {
+                    finishedGames++;
+                }
+            }
+        }
+        Duration wallTime = Duration.between(started, Instant.now());
+
+        log.info("Load report\n{}", recorder.report(wallTime));
+        log.info("Scheduler report\n{}", schedulerReport());
+        log.info("Games finished: {}/{}, players={}, failures={}",
+                finishedGames, games, games * playersPerGame, recorder.totalFailures());
+
+        assertThat(finishedGames).isEqualTo(games);
+    }
+
+    private List<List<LoadPlayer>> createPlayers(String baseUrl, HttpClient httpClient) {
+        String runId = Long.toString(System.currentTimeMillis() % 100_000, 36);
+        List<List<LoadPlayer>> tables = new ArrayList<>(games);
+        for (int g = 0; g < games; g++) {
+            List<LoadPlayer> table = new ArrayList<>(playersPerGame);
+            for (int p = 0; p < playersPerGame; p++) {
+                String suffix = runId + "-" + g + "-" + p;
+                User user = userRepository.save(User.create("load-" + suffix, "ld" + suffix, Language.JAVA));
+                String token = jwtTokenProvider.createToken(user.getId().toString());
+                table.add(new LoadPlayer(user.getId(), token, baseUrl, httpClient, objectMapper, recorder));
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    /**
+     * 게임 1판을 처음부터 끝까지 진행한다.
+     *
+     * @return GAME_FINISHED를 모든 플레이어가 수신했으면 true
+     */
+    private boolean runGame(List<LoadPlayer> players, Catalog catalog,
+                            WebSocketStompClient stompClient, String wsUrl) {
+        LoadPlayer host = players.get(0);
+        try {
+            for (LoadPlayer player : players) {
+                player.connect(stompClient, wsUrl);
+            }
+
+            JsonNode room = host.post("ROOM_CREATE", "/rooms", Map.of(
+                    "roomName", "load-" + host.userId().toString().substring(0, 8),
+                    "gameType", "RANKED",
+                    "language", "JAVA",
+                    "maxPlayers", players.size()));
+            String roomId = room.path("roomId").asText();
+
+            parallel(players.subList(1, players.size()), player -> {
+                player.post("ROOM_JOIN", "/rooms/" + roomId + "/join", null);
+                player.post("ROOM_READY", "/rooms/" + roomId + "/ready", null);
+            });
+
+            UUID gameId = UUID.fromString(host.post("GAME_START", "/rooms/" + roomId + "/start", null)
+                    .path("gameId").asText());
+            players.forEach(player -> player.subscribeGame(gameId));
+
+            awaitStage(host, gameId, "BAN");
+            parallel(players, player -> player.post("BAN", "/games/" + gameId + "/ban",
+                    Map.of("algorithmId", catalog.algorithmIds().get(players.indexOf(player)))));
+
+            awaitStage(host, gameId, "PICK");
+            parallel(players, player -> player.post("PICK", "/games/" + gameId + "/pick",
+                    Map.of("algorithmId", catalog.algorithmIds().get(players.size() + players.indexOf(player)))));
+
+            awaitStage(host, gameId, "SHOP");
+            parallel(players, player -> {
+                int index = players.indexOf(player);
+                player.post("SHOP_ITEM", "/games/" + gameId + "/shop/items",
+                        Map.of("itemId", catalog.itemId(index), "quantity", 1));
+                player.post("SHOP_SPELL", "/games/" + gameId + "/shop/spells",
+                        Map.of("spellId", catalog.spellId(index), "quantity", 1));
+            });
+
+            awaitStage(host, gameId, "PLAY");
+            parallel(players, player -> {
+                int index = players.indexOf(player);
+                LoadPlayer target = players.get((index + 1) % players.size());
+                player.useItem(gameId, catalog.itemId(index), target.userId());
+                player.useSpell(gameId, catalog.spellId(index));
+                player.post("SUBMIT", "/games/" + gameId + "/submissions", Map.of(
+                        "language", "JAVA",
+                        "sourceCode", "class Main { public static void main(String[] a) { System.out.println(" + index + "); } }"));
+            });
+
+            // 새로고침 후 재동기화: 기존 다중 호출 vs 부트스트랩 1회
+            parallel(players, player -> {
+                player.reconnectLegacy(gameId);
+                player.reconnectBootstrap();
+            });
+
+            for (LoadPlayer player : players) {
+                player.gameFinished().get(STAGE_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            }
+            return true;
+        } catch (Exception e) {
+            recorder.recordFailure("GAME");
+            log.warn("Load game failed: host={}", host.userId(), e);
+            return false;
+        } finally {
+            players.forEach(LoadPlayer::disconnect);
+        }
+    }
+
+    /**
+     * GET /games/{id}/state 폴링으로 stage 진입을 기다린다.
+     * 폴링도 실제 클라이언트 재동기화 트래픽으로 간주해 GAME_STATE로 기록한다.
+     */
+    private void awaitStage(LoadPlayer player, UUID gameId, String stage) throws InterruptedException {
+        Instant deadline = Instant.now().plus(STAGE_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            JsonNode state = player.get("GAME_STATE", "/games/" + gameId + "/state");
+            if (stage.equals(state.path("stage").asText())) {
+                return;
+            }
+            Thread.sleep(STAGE_POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("stage " + stage + " not reached: gameId=" + gameId);
+    }
+
+    private static void parallel(List<LoadPlayer> players, PlayerAction action) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (LoadPlayer player : players) {
+                futures.add(executor.submit(() -> {
+                    action.run(player);
+                    return null;
+                }));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private String schedulerReport() {
+        StringBuilder sb = new StringBuilder(String.format("%n=== Scheduler ===%n"));
+        Timer tick = meterRegistry.find("game.scheduler.tick").timer();
+        if (tick != null) {
+            sb.append(String.format("tick: count=%d, mean=%.2fms, max=%.2fms, overruns=%.0f%n",
+                    tick.count(), tick.mean(TimeUnit.MILLISECONDS), tick.max(TimeUnit.MILLISECONDS),
+                    meterRegistry.counter("game.scheduler.overrun").count()));
+        }
+        for (Timer lag : meterRegistry.find("game.stage.transition.lag").timers()) {
+            sb.append(String.format("transition lag [%s]: count=%d, mean=%.2fms, max=%.2fms%n",
+                    lag.getId().getTag("stage"), lag.count(),
+                    lag.mean(TimeUnit.MILLISECONDS), lag.max(TimeUnit.MILLISECONDS)));
+        }
+        return sb.toString();
+    }
+
+    @FunctionalInterface
+    private interface PlayerAction {
+        void run(LoadPlayer player) throws Exception;
+    }
+
+    /**
+     * 카탈로그 ID 목록. 밴/픽이 겹치지 않도록 플레이어 순번으로 알고리즘을 배정한다.
+     */
+    private record Catalog(List<String> algorithmIds, List<String> itemIds, List<String> spellIds) {
+
+        static Catalog load(LoadPlayer player) {
+            return new Catalog(
+                    ids(player.get("CATALOG", "/catalog/algorithms"), "algorithmId"),
+                    ids(player.get("CATALOG", "/catalog/items"), "itemId"),
+                    ids(player.get("CATALOG", "/catalog/spells"), "spellId"));
+        }
+
+        String itemId(int index) {
+            return itemIds.get(index % itemIds.size());
+        }
+
+        String spellId(int index) {
+            return spellIds.get(index % spellIds.size());
+        }
+
+        private static List<String> ids(JsonNode data, String field) {
+            List<String> ids = new ArrayList<>();
+            data.path("items").forEach(node -> ids.add(node.path(field).asText()));
+            return ids;
+        }
+    }
+}
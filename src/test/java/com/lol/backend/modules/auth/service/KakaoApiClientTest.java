@@ -0,0 +1,129 @@
+package com.lol.backend.modules.auth.service;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.auth.config.KakaoHttpProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KakaoApiClient 타임아웃/재시도 정책 테스트.
+ * JDK 내장 HttpServer를 카카오 대역으로 사용한다.
+ */
+class KakaoApiClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger meCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private KakaoApiClient client(long readTimeoutMs) {
+        KakaoHttpProperties properties = new KakaoHttpProperties(
+                baseUrl, baseUrl, 500, readTimeoutMs, 4, 100, 3, 1, 5);
+        return new KakaoApiClient("client-id", "client-secret", "http://localhost:3000", properties);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+        exchange.close();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회는 5xx 응답 후 재시도하여 성공한다")
+    void getUserKakaoId_retriesOnServerError() {
+        server.createContext("/v2/user/me", exchange -> {
+            if (meCalls.incrementAndGet() < 3) {
+                respond(exchange, 503, "{}");
+            } else {
+                respond(exchange, 200, "{\"id\":12345}");
+            }
+        });
+
+        String kakaoId = client(1000).getUserKakaoId("token");
+
+        assertThat(kakaoId).isEqualTo("12345");
+        assertThat(meCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("토큰 발급은 인가 코드가 1회용이므로 5xx 응답에 재시도하지 않는다")
+    void getAccessToken_doesNotRetryOnServerError() {
+        server.createContext("/oauth/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            respond(exchange, 500, "{}");
+        });
+
+        assertThatThrownBy(() -> client(1000).getAccessToken("code"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INTERNAL_ERROR);
+        assertThat(tokenCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void getUserKakaoId_doesNotRetryOnClientError() {
+        server.createContext("/v2/user/me", exchange -> {
+            meCalls.incrementAndGet();
+            respond(exchange, 401, "{}");
+        });
+
+        assertThatThrownBy(() -> client(1000).getUserKakaoId("token"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(meCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답이 readTimeout을 넘기면 요청 스레드를 오래 점유하지 않고 실패한다")
+    void getAccessToken_failsFastOnReadTimeout() {
+        server.createContext("/oauth/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{\"access_token\":\"late\"}");
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client(200).getAccessToken("code"))
+                .isInstanceOf(BusinessException.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(1500);
+        assertThat(tokenCalls.get()).isEqualTo(1);
+    }
+}
@@ -2,6 +2,7 @@ package com.lol.backend.modules.catalog.controller;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -16,6 +17,7 @@ import com.lol.backend.modules.catalog.dto.ListOfItemsResponse;
 import com.lol.backend.modules.catalog.dto.ListOfSpellsResponse;
 import com.lol.backend.modules.catalog.dto.SpellSummaryResponse;
 import com.lol.backend.modules.catalog.service.CatalogService;
+import com.lol.backend.modules.catalog.service.CatalogSnapshot.Versioned;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -30,6 +32,8 @@ import java.util.List;
 @Import({SecurityConfig.class, JwtAuthenticationFilter.class})
 class CatalogControllerTest {
 
+    private static final String ETAG = "\"0123456789abcdef\"";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -50,10 +54,11 @@ class CatalogControllerTest {
                 new AlgorithmSummaryResponse("algo-2", "DFS")
         ));
 
-        when(catalogService.getAlgorithms()).thenReturn(response);
+        when(catalogService.getAlgorithms()).thenReturn(new Versioned<>(response, ETAG));
 
         mockMvc.perform(get("/api/v1/catalog/algorithms"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
                 .andExpect(jsonPath("$.data").exists())
                 .andExpect(jsonPath("$.data.items").isArray())
                 .andExpect(jsonPath("$.data.items.length()").value(2))
@@ -66,11 +71,11 @@ class CatalogControllerTest {
     @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
     void getItems_success() throws Exception {
         ListOfItemsResponse response = new ListOfItemsResponse(List.of(
-                new ItemSummaryResponse("item-1", "Potion", "Heal HP", 30, 100),
-                new ItemSummaryResponse("item-2", "Shield", "Block damage", 60, 200)
+                new ItemSummaryResponse("item-1", "Potion", "potion", "Heal HP", 30, 100),
+                new ItemSummaryResponse("item-2", "Shield", "shield", "Block damage", 60, 200)
         ));
 
-        when(catalogService.getItems()).thenReturn(response);
+        when(catalogService.getItems()).thenReturn(new Versioned<>(response, ETAG));
 
         mockMvc.perform(get("/api/v1/catalog/items"))
                 .andExpect(status().isOk())
@@ -87,10 +92,10 @@ class CatalogControllerTest {
     @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
     void getSpells_success() throws Exception {
         ListOfSpellsResponse response = new ListOfSpellsResponse(List.of(
-                new SpellSummaryResponse("spell-1", "Fireball", "Deal fire damage", 10, 150)
+                new SpellSummaryResponse("spell-1", "Fireball", "fireball", "Deal fire damage", 10, 150)
         ));
 
-        when(catalogService.getSpells()).thenReturn(response);
+        when(catalogService.getSpells()).thenReturn(new Versioned<>(response, ETAG));
 
         mockMvc.perform(get("/api/v1/catalog/spells"))
                 .andExpect(status().isOk())
@@ -102,4 +107,18 @@ class CatalogControllerTest {
                 .andExpect(jsonPath("$.data.items[0].price").value(150))
                 .andExpect(jsonPath("$.meta").exists());
     }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    void getItems_notModified_whenEtagMatches() throws Exception {
+        ListOfItemsResponse response = new ListOfItemsResponse(List.of(
+                new ItemSummaryResponse("item-1", "Potion", "potion", "Heal HP", 30, 100)
+        ));
+
+        when(catalogService.getItems()).thenReturn(new Versioned<>(response, ETAG));
+
+        mockMvc.perform(get("/api/v1/catalog/items").header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG));
+    }
 }
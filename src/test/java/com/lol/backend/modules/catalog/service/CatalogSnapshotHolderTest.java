@@ -0,0 +1,129 @@
+package com.lol.backend.modules.catalog.service;
+
+import com.lol.backend.config.JacksonConfig;
+import com.lol.backend.modules.catalog.entity.Algorithm;
+import com.lol.backend.modules.catalog.entity.Item;
+import com.lol.backend.modules.catalog.entity.Spell;
+import com.lol.backend.modules.catalog.repo.AlgorithmRepository;
+import com.lol.backend.modules.catalog.repo.ItemRepository;
+import com.lol.backend.modules.catalog.repo.SpellRepository;
+import com.lol.backend.state.store.CatalogVersionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * CatalogSnapshotHolder 단위 테스트
+ * - 최초 접근 시 1회 로드
+ * - refresh: 전역 버전을 올리고 재로드
+ * - syncVersion: 전역 버전이 바뀌었을 때만 재로드
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotHolderTest {
+
+    @Mock
+    private AlgorithmRepository algorithmRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private SpellRepository spellRepository;
+
+    @Mock
+    private CatalogVersionStore catalogVersionStore;
+
+    private CatalogSnapshotHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = new CatalogSnapshotHolder(algorithmRepository, itemRepository, spellRepository,
+                catalogVersionStore, new JacksonConfig().objectMapper());
+    }
+
+    @Test
+    @DisplayName("최초 접근 시 전역 버전으로 한 번만 로드한다")
+    void current_loadsOnce() {
+        when(catalogVersionStore.getVersion()).thenReturn(3L);
+        stubCatalog(List.of(withId(new Item("느려지기", "입력 지연", 10, 100, "slow", true))));
+
+        CatalogSnapshot first = holder.current();
+        CatalogSnapshot second = holder.current();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.version()).isEqualTo(3L);
+        assertThat(first.items().body().items()).hasSize(1);
+        assertThat(first.items().etag()).matches("\"[0-9a-f]{32}\"");
+        verify(itemRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh는 전역 버전을 올리고 DB에서 다시 읽은 스냅샷으로 바꾼다")
+    void refresh_bumpsVersionAndReloads() {
+        when(catalogVersionStore.getVersion()).thenReturn(1L);
+        stubCatalog(List.of());
+        CatalogSnapshot before = holder.current();
+
+        Item added = withId(new Item("느려지기", "입력 지연", 10, 100, "slow", true));
+        when(itemRepository.findAll()).thenReturn(List.of(added));
+        when(catalogVersionStore.bumpVersion()).thenReturn(2L);
+
+        CatalogSnapshot refreshed = holder.refresh();
+
+        assertThat(refreshed.version()).isEqualTo(2L);
+        assertThat(refreshed.findItem(added.getId())).contains(added);
+        assertThat(refreshed.items().etag()).isNotEqualTo(before.items().etag());
+        assertThat(holder.current()).isSameAs(refreshed);
+    }
+
+    @Test
+    @DisplayName("전역 버전이 같으면 재로드하지 않고, 다르면 재로드한다")
+    void syncVersion_reloadsOnlyWhenVersionChanged() {
+        when(catalogVersionStore.getVersion()).thenReturn(1L);
+        stubCatalog(List.of());
+        CatalogSnapshot loaded = holder.current();
+
+        holder.syncVersion();
+        assertThat(holder.current()).isSameAs(loaded);
+
+        when(catalogVersionStore.getVersion()).thenReturn(5L);
+        holder.syncVersion();
+
+        assertThat(holder.current().version()).isEqualTo(5L);
+        verify(itemRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("아직 로드하지 않았으면 동기화하지 않는다")
+    void syncVersion_skipsBeforeFirstLoad() {
+        holder.syncVersion();
+
+        verifyNoInteractions(catalogVersionStore);
+        verify(itemRepository, never()).findAll();
+    }
+
+    private void stubCatalog(List<Item> items) {
+        when(algorithmRepository.findAll()).thenReturn(List.of(withId(new Algorithm("BFS", "너비 우선 탐색", true))));
+        when(itemRepository.findAll()).thenReturn(items);
+        when(spellRepository.findAll()).thenReturn(List.of(withId(new Spell("보호막", "아이템 1회 방어", 0, 100, "shield", true))));
+    }
+
+    private static <T> T withId(T entity) {
+        ReflectionTestUtils.setField(entity, "id", UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,77 @@
+package com.lol.backend.modules.catalog.service;
+
+import com.lol.backend.modules.catalog.dto.AlgorithmSummaryResponse;
+import com.lol.backend.modules.catalog.dto.ItemSummaryResponse;
+import com.lol.backend.modules.catalog.dto.SpellSummaryResponse;
+import com.lol.backend.modules.catalog.entity.Algorithm;
+import com.lol.backend.modules.catalog.entity.Item;
+import com.lol.backend.modules.catalog.entity.Spell;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSnapshot 단위 테스트
+ * - 비활성 항목을 포함한 ID/이름 인덱스
+ * - 활성 항목만 담은 응답과 응답별 ETag
+ */
+class CatalogSnapshotTest {
+
+    private final Algorithm bfs = withId(new Algorithm("BFS", "너비 우선 탐색", true));
+    private final Algorithm legacy = withId(new Algorithm("LEGACY", "비활성 알고리즘", false));
+    private final Item slow = withId(new Item("느려지기", "입력 지연", 10, 100, "slow", true));
+    private final Item retired = withId(new Item("은퇴", "비활성 아이템", 10, 100, "retired", false));
+    private final Spell shield = withId(new Spell("보호막", "아이템 1회 방어", 0, 100, "shield", true));
+
+    @Test
+    @DisplayName("비활성 항목도 ID/이름으로 찾을 수 있다")
+    void find_includesInactiveEntries() {
+        CatalogSnapshot snapshot = snapshot(1L);
+
+        assertThat(snapshot.version()).isEqualTo(1L);
+        assertThat(snapshot.findAlgorithm(legacy.getId())).contains(legacy);
+        assertThat(snapshot.findAlgorithmByName("BFS")).contains(bfs);
+        assertThat(snapshot.findItem(retired.getId())).contains(retired);
+        assertThat(snapshot.findItemByName("느려지기")).contains(slow);
+        assertThat(snapshot.findSpell(shield.getId())).contains(shield);
+        assertThat(snapshot.findSpellByName("보호막")).contains(shield);
+        assertThat(snapshot.findItem(UUID.randomUUID())).isEmpty();
+        assertThat(snapshot.findSpellByName("없음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET 응답에는 활성 항목만 담는다")
+    void responses_containActiveEntriesOnly() {
+        CatalogSnapshot snapshot = snapshot(1L);
+
+        assertThat(snapshot.algorithms().body().items()).containsExactly(AlgorithmSummaryResponse.from(bfs));
+        assertThat(snapshot.items().body().items()).containsExactly(ItemSummaryResponse.from(slow));
+        assertThat(snapshot.spells().body().items()).containsExactly(SpellSummaryResponse.from(shield));
+    }
+
+    @Test
+    @DisplayName("ETag는 응답 본문으로 계산하므로 버전이 달라도 본문이 같으면 같다")
+    void etag_dependsOnBodyOnly() {
+        CatalogSnapshot first = snapshot(1L);
+        CatalogSnapshot second = snapshot(2L);
+
+        assertThat(first.algorithms().etag()).isEqualTo(second.algorithms().etag());
+        assertThat(first.items().etag()).isEqualTo(second.items().etag());
+        assertThat(first.items().etag()).isNotEqualTo(first.spells().etag());
+    }
+
+    private CatalogSnapshot snapshot(long version) {
+        return new CatalogSnapshot(version, List.of(bfs, legacy), List.of(slow, retired), List.of(shield),
+                body -> "\"" + body.hashCode() + "\"");
+    }
+
+    private static <T> T withId(T entity) {
+        ReflectionTestUtils.setField(entity, "id", UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,243 @@
+package com.lol.backend.modules.game.command;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.config.GameCommandProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GameCommandExecutor 단위 테스트.
+ * - 게임 단위 직렬 실행/순서 보장
+ * - 재진입, back-pressure, 예외 전파
+ * - submit: 호출자를 막지 않고 stripe에서 결과를 완료
+ * - 다수 게임 동시 처리량 측정
+ */
+@Slf4j
+class GameCommandExecutorTest {
+
+    private GameCommandExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출 스레드에서 바로 실행")
+    void disabled_runsInline() {
+        executor = GameCommandExecutor.direct();
+        String caller = Thread.currentThread().getName();
+
+        String executedOn = executor.execute(UUID.randomUUID(), () -> Thread.currentThread().getName());
+
+        assertThat(executedOn).isEqualTo(caller);
+    }
+
+    @Test
+    @DisplayName("같은 게임의 커맨드는 동시에 실행되지 않는다")
+    void sameGame_commandsNeverOverlap() throws Exception {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 4, 10_000, 10_000));
+        UUID gameId = UUID.randomUUID();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        int[] counter = {0};
+
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            futures.add(callers.submit(() -> executor.execute(gameId, () -> {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                counter[0]++; // 동기화 없는 쓰기: 직렬 실행이면 유실되지 않는다
+                inFlight.decrementAndGet();
+            })));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        callers.shutdown();
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(counter[0]).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("커맨드 안에서 같은 게임으로 재진입해도 교착되지 않는다")
+    void reentrantCall_runsInline() {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 2, 16, 1_000));
+        UUID gameId = UUID.randomUUID();
+
+        String result = executor.execute(gameId, () -> executor.execute(gameId, () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    @DisplayName("커맨드의 BusinessException은 호출자에게 그대로 전달된다")
+    void businessException_isPropagated() {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 2, 16, 1_000));
+
+        assertThatThrownBy(() -> executor.execute(UUID.randomUUID(), () -> {
+            throw new BusinessException(ErrorCode.INVALID_STAGE_ACTION);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_STAGE_ACTION);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 RATE_LIMITED로 거절")
+    void fullQueue_rejectsWithRateLimited() throws Exception {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 1, 1, 5_000));
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        // stripe 스레드를 점유
+        callers.submit(() -> executor.execute(gameId, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        // 대기열 1칸 점유
+        callers.submit(() -> executor.execute(gameId, () -> { }));
+        Thread.sleep(100);
+
+        try {
+            assertThatThrownBy(() -> executor.execute(gameId, () -> { }))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.RATE_LIMITED);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit은 stripe가 바빠도 기다리지 않고 future를 돌려주고, 결과는 stripe에서 완료된다")
+    void submit_returnsWithoutBlocking() throws Exception {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 1, 16, 5_000));
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> blocker = executor.submit(gameId, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        });
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = executor.submit(gameId, () -> Thread.currentThread().getName());
+
+        assertThat(queued).isNotDone();
+        release.countDown();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("game-cmd-0");
+        assertThat(blocker).isDone();
+    }
+
+    @Test
+    @DisplayName("submit - 대기열이 가득 차면 RATE_LIMITED로 완료된 future를 돌려준다")
+    void submit_fullQueue_completesExceptionally() throws Exception {
+        executor = new GameCommandExecutor(new GameCommandProperties(true, 1, 1, 5_000));
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(gameId, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        });
+        started.await(1, TimeUnit.SECONDS);
+        executor.submit(gameId, () -> null);
+
+        try {
+            CompletableFuture<Object> rejected = executor.submit(gameId, () -> null);
+            assertThat(rejected).isCompletedExceptionally();
+            assertThatThrownBy(rejected::join)
+                    .hasCauseInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e.getCause()).getErrorCode())
+                    .isEqualTo(ErrorCode.RATE_LIMITED);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("처리량: 게임 1,000개 x 커맨드 50개, 게임별 순서 보장")
+    void throughput_manyConcurrentGames() throws Exception {
+        int games = 1_000;
+        int commandsPerGame = 50;
+        executor = new GameCommandExecutor(new GameCommandProperties(
+                true, Runtime.getRuntime().availableProcessors(), 100_000, 30_000));
+
+        List<UUID> gameIds = new ArrayList<>();
+        Map<UUID, List<Integer>> applied = new ConcurrentHashMap<>();
+        for (int i = 0; i < games; i++) {
+            UUID gameId = UUID.randomUUID();
+            gameIds.add(gameId);
+            applied.put(gameId, new ArrayList<>());
+        }
+
+        // 게임당 호출자 1명이 순서대로 커맨드를 보내고, 여러 게임은 동시에 진행
+        ExecutorService callers = Executors.newFixedThreadPool(64);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (UUID gameId : gameIds) {
+            futures.add(callers.submit(() -> {
+                for (int seq = 0; seq < commandsPerGame; seq++) {
+                    int s = seq;
+                    executor.execute(gameId, () -> applied.get(gameId).add(s));
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsedNs = System.nanoTime() - start;
+        callers.shutdown();
+
+        long total = (long) games * commandsPerGame;
+        log.info("GameCommandExecutor throughput: games={}, commands={}, elapsedMs={}, opsPerSec={}",
+                games, total, elapsedNs / 1_000_000, total * 1_000_000_000L / Math.max(elapsedNs, 1));
+
+        for (UUID gameId : gameIds) {
+            List<Integer> seqs = applied.get(gameId);
+            assertThat(seqs).hasSize(commandsPerGame);
+            for (int i = 0; i < commandsPerGame; i++) {
+                assertThat(seqs.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
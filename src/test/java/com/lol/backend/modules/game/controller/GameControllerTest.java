@@ -3,6 +3,7 @@ package com.lol.backend.modules.game.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -13,12 +14,15 @@ import com.lol.backend.common.filter.JwtAuthenticationFilter;
 import com.lol.backend.common.security.JwtTokenProvider;
 import com.lol.backend.config.AuthenticationEntryPointImpl;
 import com.lol.backend.config.SecurityConfig;
+import com.lol.backend.modules.game.dto.GameBootstrapResponse;
 import com.lol.backend.modules.game.dto.GamePlayerResponse;
 import com.lol.backend.modules.game.dto.GameStateResponse;
 import com.lol.backend.modules.game.dto.InventoryResponse;
+import com.lol.backend.modules.game.dto.SubmissionAcceptedResponse;
 import com.lol.backend.modules.game.dto.SubmissionRequest;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.game.service.GameBootstrapService;
 import com.lol.backend.modules.game.service.GameService;
 import com.lol.backend.modules.user.entity.Language;
 import org.junit.jupiter.api.Test;
@@ -31,6 +35,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @WebMvcTest(GameController.class)
@@ -46,6 +51,9 @@ class GameControllerTest {
     @MockitoBean
     private GameService gameService;
 
+    @MockitoBean
+    private GameBootstrapService gameBootstrapService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -95,7 +103,8 @@ class GameControllerTest {
     @Test
     @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
     void submitCode_success() throws Exception {
-        GameStateResponse response = sampleGameStateResponse();
+        SubmissionAcceptedResponse response = new SubmissionAcceptedResponse(
+                "22222222-2222-2222-2222-222222222222", GAME_ID.toString(), "PENDING", 12000);
         SubmissionRequest request = new SubmissionRequest(Language.JAVA, "public class Solution {}");
 
         when(gameService.submitCode(eq(GAME_ID), any(SubmissionRequest.class))).thenReturn(response);
@@ -103,10 +112,64 @@ class GameControllerTest {
         mockMvc.perform(post("/api/v1/games/{gameId}/submissions", GAME_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.data").exists())
                 .andExpect(jsonPath("$.data.gameId").value(GAME_ID.toString()))
-                .andExpect(jsonPath("$.data.stage").value("PLAY"))
+                .andExpect(jsonPath("$.data.submissionId").value("22222222-2222-2222-2222-222222222222"))
+                .andExpect(jsonPath("$.data.judgeStatus").value("PENDING"))
                 .andExpect(jsonPath("$.meta").exists());
     }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    void getBootstrap_returnsBodyWithEtag() throws Exception {
+        when(gameBootstrapService.bootstrap()).thenReturn(Optional.of(sampleBootstrap()));
+
+        mockMvc.perform(get("/api/v1/games/active/bootstrap"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$.data.gameId").value(GAME_ID.toString()))
+                .andExpect(jsonPath("$.data.pageRoute").value("IN_GAME"))
+                .andExpect(jsonPath("$.data.stateVersion").value(42))
+                .andExpect(jsonPath("$.data.catalog.items").value("\"i\""));
+    }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    void getBootstrap_returnsNotModified_whenEtagMatches() throws Exception {
+        when(gameBootstrapService.bootstrap()).thenReturn(Optional.of(sampleBootstrap()));
+
+        mockMvc.perform(get("/api/v1/games/active/bootstrap").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    void getBootstrap_returnsNullData_whenNoActiveGame() throws Exception {
+        when(gameBootstrapService.bootstrap()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/games/active/bootstrap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    private GameBootstrapService.Bootstrap sampleBootstrap() {
+        GameBootstrapResponse body = new GameBootstrapResponse(
+                GAME_ID.toString(),
+                "room-1",
+                GameType.RANKED,
+                GameStage.PLAY,
+                "IN_GAME",
+                "2026-01-01T00:01:00Z",
+                42L,
+                List.of(new GamePlayerResponse("user-1", "player1", 1500)),
+                500,
+                InventoryResponse.empty(),
+                List.of(),
+                List.of(),
+                List.of(),
+                new GameBootstrapResponse.CatalogVersions("\"a\"", "\"i\"", "\"s\"")
+        );
+        return new GameBootstrapService.Bootstrap(body, "\"abc\"");
+    }
 }
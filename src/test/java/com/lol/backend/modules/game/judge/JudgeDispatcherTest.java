@@ -0,0 +1,163 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.modules.game.config.JudgeProperties;
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.event.GameEventPublisher;
+import com.lol.backend.modules.game.service.GameScoreboardService;
+import com.lol.backend.modules.user.entity.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * JudgeDispatcher 단위 테스트.
+ * 선점 → 채점 → 판정 반영 → push 흐름과 워커 상한 검증.
+ */
+class JudgeDispatcherTest {
+
+    private final JudgeQueue judgeQueue = mock(JudgeQueue.class);
+    private final GameEventPublisher gameEventPublisher = mock(GameEventPublisher.class);
+    private final GameScoreboardService gameScoreboardService = mock(GameScoreboardService.class);
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    private JudgeDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(judgeQueue.claim(anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("wakeUp - 선점한 제출을 채점하고 판정을 제출자에게 push한다")
+    void wakeUp_judgesClaimedSubmission() {
+        UUID submissionId = UUID.randomUUID();
+        JudgeClaim claim = claim(submissionId);
+        JudgeVerdict verdict = new JudgeVerdict(JudgeStatus.WA, 12, 2048, null, null);
+        Submission judged = judgedSubmission(submissionId, JudgeStatus.WA);
+
+        when(judgeQueue.claim(anyInt())).thenReturn(List.of(claim)).thenReturn(List.of());
+        when(judgeQueue.loadRequest(claim)).thenReturn(Optional.of(request(submissionId)));
+        when(judgeQueue.complete(claim, verdict)).thenReturn(Optional.of(judged));
+
+        dispatcher = new JudgeDispatcher(properties(2), judgeQueue, request -> verdict, gameEventPublisher, gameScoreboardService);
+        dispatcher.wakeUp();
+
+        verify(gameEventPublisher, timeout(2000)).submissionJudged(
+                eq(gameId), eq(userId), eq(submissionId), eq("WA"), anyInt(), anyInt(), anyInt());
+        verify(gameScoreboardService, timeout(2000)).onJudged(judged);
+    }
+
+    @Test
+    @DisplayName("wakeUp - 채점기 예외 시 실패를 기록한다 (재시도 또는 FAILED 확정)")
+    void wakeUp_recordsFailure_whenJudgeThrows() {
+        UUID submissionId = UUID.randomUUID();
+        JudgeClaim claim = claim(submissionId);
+        when(judgeQueue.claim(anyInt())).thenReturn(List.of(claim)).thenReturn(List.of());
+        when(judgeQueue.loadRequest(claim)).thenReturn(Optional.of(request(submissionId)));
+        when(judgeQueue.fail(claim)).thenReturn(Optional.empty());
+
+        dispatcher = new JudgeDispatcher(properties(1), judgeQueue, request -> {
+            throw new IllegalStateException("judge down");
+        }, gameEventPublisher, gameScoreboardService);
+        dispatcher.wakeUp();
+
+        verify(judgeQueue, timeout(2000)).fail(claim);
+        verify(judgeQueue, never()).complete(any(), any());
+        verifyNoInteractions(gameEventPublisher);
+    }
+
+    @Test
+    @DisplayName("releaseStale - 시도 횟수를 소진한 제출은 FAILED로 확정해 push한다")
+    void releaseStale_publishesExhaustedAsFailed() {
+        UUID submissionId = UUID.randomUUID();
+        Submission failed = judgedSubmission(submissionId, JudgeStatus.FAILED);
+        when(judgeQueue.failExhausted()).thenReturn(List.of(failed));
+
+        dispatcher = new JudgeDispatcher(properties(1), judgeQueue, request -> {
+            throw new AssertionError("must not judge");
+        }, gameEventPublisher, gameScoreboardService);
+        dispatcher.releaseStale();
+
+        verify(gameScoreboardService).onJudged(failed);
+        verify(gameEventPublisher).submissionJudged(
+                eq(gameId), eq(userId), eq(submissionId), eq("FAILED"), anyInt(), anyInt(), anyInt());
+        verify(judgeQueue).releaseStale();
+    }
+
+    @Test
+    @DisplayName("워커가 모두 바쁘면 추가로 선점하지 않는다")
+    void dispatch_doesNotClaimBeyondWorkerCount() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger claimedTotal = new AtomicInteger();
+        when(judgeQueue.claim(anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(0);
+            claimedTotal.addAndGet(limit);
+            return IntStream.range(0, limit).mapToObj(i -> claim(UUID.randomUUID())).toList();
+        });
+        when(judgeQueue.loadRequest(any())).thenAnswer(invocation ->
+                Optional.of(request(invocation.<JudgeClaim>getArgument(0).submissionId())));
+
+        dispatcher = new JudgeDispatcher(properties(2), judgeQueue, request -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new JudgeVerdict(JudgeStatus.AC, 0, 0, null, null);
+        }, gameEventPublisher, gameScoreboardService);
+
+        dispatcher.wakeUp();
+        verify(judgeQueue, timeout(2000)).claim(2);
+        dispatcher.wakeUp();
+        dispatcher.wakeUp();
+        Thread.sleep(200);
+
+        assertThat(claimedTotal.get()).isEqualTo(2);
+        release.countDown();
+    }
+
+    private JudgeProperties properties(int workers) {
+        return new JudgeProperties(workers, workers, 1000, 60000, 3, 100, 2, 10000);
+    }
+
+    private JudgeClaim claim(UUID submissionId) {
+        return new JudgeClaim(submissionId, Instant.now());
+    }
+
+    private JudgeRequest request(UUID submissionId) {
+        return new JudgeRequest(submissionId, gameId, userId, Language.JAVA, "class Main {}");
+    }
+
+    private Submission judgedSubmission(UUID submissionId, JudgeStatus status) {
+        Submission submission = mock(Submission.class);
+        when(submission.getId()).thenReturn(submissionId);
+        when(submission.getGameId()).thenReturn(gameId);
+        when(submission.getUserId()).thenReturn(userId);
+        when(submission.getJudgeStatus()).thenReturn(status);
+        return submission;
+    }
+}
@@ -0,0 +1,283 @@
+package com.lol.backend.modules.game.judge;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.modules.game.entity.JudgeStatus;
+import com.lol.backend.modules.game.entity.Submission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JudgeQueue 통합 테스트 (submission 테이블 기반 대기열).
+ * - SKIP LOCKED 선점: 다른 트랜잭션이 잠근 행은 건너뛴다
+ * - 판정 반영: 선점을 잃은 워커의 판정은 버려지고, 동시 반영은 한 번만 적용된다
+ * - 오래된 선점: 시도 횟수가 남으면 재대기열화, 소진했으면 FAILED 확정
+ * - 사용자별 동시 미판정 상한
+ *
+ * 스케줄러/디스패처가 테스트 행을 가져가지 않도록 JudgeDispatcher는 mock으로 대체한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class JudgeQueueTest {
+
+    private static final String SOURCE = "class Main {}";
+    private static final String SOURCE_HASH = "0".repeat(64);
+
+    @Autowired
+    private JudgeQueue judgeQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private JudgeDispatcher judgeDispatcher;
+
+    private UUID userId;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        UUID roomId = UUID.randomUUID();
+        gameId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, language) VALUES (?, ?, ?, 'JAVA')",
+                userId, "judge_" + userId, "jq_" + userId.toString().substring(0, 8));
+        jdbcTemplate.update("""
+                INSERT INTO room (id, room_name, game_type, language, max_players, host_user_id)
+                VALUES (?, 'judge queue', 'NORMAL', 'JAVA', 2, ?)
+                """, roomId, userId);
+        jdbcTemplate.update("""
+                INSERT INTO game (id, room_id, game_type, stage, started_at)
+                VALUES (?, ?, 'NORMAL', 'PLAY', CURRENT_TIMESTAMP)
+                """, gameId, roomId);
+        jdbcTemplate.update("""
+                INSERT INTO submission_source (hash, encoding, original_length, content)
+                VALUES (?, 'NONE', ?, ?)
+                ON CONFLICT (hash) DO NOTHING
+                """, SOURCE_HASH, SOURCE.length(), SOURCE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트의 선점 대상이 되지 않도록 남은 미판정 제출을 확정 처리
+        jdbcTemplate.update("""
+                UPDATE submission SET judge_status = 'WA', judge_claimed_at = NULL
+                WHERE judge_status IN ('PENDING', 'JUDGING')
+                """);
+    }
+
+    @Test
+    @DisplayName("claim - 다른 트랜잭션이 잠근 PENDING 행은 건너뛰고 나머지를 JUDGING으로 선점한다")
+    void claim_skipsLockedRows() throws Exception {
+        UUID locked = insertSubmission(JudgeStatus.PENDING, 0, null, 0);
+        UUID second = insertSubmission(JudgeStatus.PENDING, 0, null, 1);
+        UUID third = insertSubmission(JudgeStatus.PENDING, 0, null, 2);
+
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM submission WHERE id = ? FOR UPDATE", locked);
+                lockHeld.countDown();
+                await(release);
+            }));
+            assertThat(lockHeld.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<JudgeClaim> claims = judgeQueue.claim(10);
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+
+            assertThat(claims).extracting(JudgeClaim::submissionId).containsExactly(second, third);
+            assertThat(statusOf(second)).isEqualTo(JudgeStatus.JUDGING);
+            assertThat(attemptsOf(second)).isEqualTo(1);
+            assertThat(statusOf(locked)).isEqualTo(JudgeStatus.PENDING);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("loadRequest - 현재 선점이면 소스 본문을 복원하고, 선점 시각이 다르면 empty")
+    void loadRequest_requiresCurrentClaim() {
+        UUID submissionId = insertSubmission(JudgeStatus.PENDING, 0, null, 0);
+        JudgeClaim claim = judgeQueue.claim(1).get(0);
+
+        Optional<JudgeRequest> request = judgeQueue.loadRequest(claim);
+        Optional<JudgeRequest> stale = judgeQueue.loadRequest(
+                new JudgeClaim(submissionId, claim.claimedAt().minusSeconds(1)));
+
+        assertThat(request).isPresent();
+        assertThat(request.get().sourceCode()).isEqualTo(SOURCE);
+        assertThat(stale).isEmpty();
+    }
+
+    @Test
+    @DisplayName("complete - 재대기열화 후 다시 선점된 제출에는 이전 워커의 판정이 반영되지 않는다")
+    void complete_discardsVerdictFromReleasedClaim() {
+        UUID submissionId = insertSubmission(JudgeStatus.PENDING, 0, null, 0);
+        JudgeClaim first = judgeQueue.claim(1).get(0);
+        // 첫 워커가 claimTimeout을 넘긴 상황
+        Instant staleClaimedAt = first.claimedAt().minus(10, ChronoUnit.MINUTES);
+        jdbcTemplate.update("UPDATE submission SET judge_claimed_at = ? WHERE id = ?",
+                Timestamp.from(staleClaimedAt), submissionId);
+        JudgeClaim slow = new JudgeClaim(submissionId, staleClaimedAt);
+
+        assertThat(judgeQueue.releaseStale()).isEqualTo(1);
+        JudgeClaim second = judgeQueue.claim(1).get(0);
+
+        assertThat(judgeQueue.complete(slow, verdict(JudgeStatus.AC))).isEmpty();
+        assertThat(judgeQueue.complete(second, verdict(JudgeStatus.WA))).isPresent();
+        assertThat(judgeQueue.complete(second, verdict(JudgeStatus.AC))).isEmpty();
+        assertThat(statusOf(submissionId)).isEqualTo(JudgeStatus.WA);
+    }
+
+    @Test
+    @DisplayName("complete - 같은 선점으로 동시에 반영해도 한 번만 적용된다")
+    void complete_concurrentCompletionsApplyOnce() throws Exception {
+        UUID submissionId = insertSubmission(JudgeStatus.PENDING, 0, null, 0);
+        JudgeClaim claim = judgeQueue.claim(1).get(0);
+
+        int racers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(racers);
+        try {
+            List<Future<Optional<Submission>>> results = new ArrayList<>();
+            for (int i = 0; i < racers; i++) {
+                results.add(executor.submit(() -> {
+                    await(start);
+                    return judgeQueue.complete(claim, verdict(JudgeStatus.AC));
+                }));
+            }
+            start.countDown();
+
+            int applied = 0;
+            for (Future<Optional<Submission>> result : results) {
+                if (result.get(10, TimeUnit.SECONDS).isPresent()) {
+                    applied++;
+                }
+            }
+            assertThat(applied).isEqualTo(1);
+            assertThat(statusOf(submissionId)).isEqualTo(JudgeStatus.AC);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("releaseStale - 시도 횟수가 남은 선점은 재대기열화하고, 소진한 선점은 FAILED로 확정한다")
+    void releaseStale_requeuesOrFailsByAttempts() {
+        Instant stale = Instant.now().minus(10, ChronoUnit.MINUTES);
+        UUID retryable = insertSubmission(JudgeStatus.JUDGING, 1, stale, 0);
+        UUID exhausted = insertSubmission(JudgeStatus.JUDGING, 3, stale, 1);
+        UUID fresh = insertSubmission(JudgeStatus.JUDGING, 3, Instant.now(), 2);
+
+        List<Submission> failed = judgeQueue.failExhausted();
+        int released = judgeQueue.releaseStale();
+
+        assertThat(failed).extracting(Submission::getId).containsExactly(exhausted);
+        assertThat(released).isEqualTo(1);
+        assertThat(statusOf(retryable)).isEqualTo(JudgeStatus.PENDING);
+        assertThat(statusOf(exhausted)).isEqualTo(JudgeStatus.FAILED);
+        assertThat(statusOf(fresh)).isEqualTo(JudgeStatus.JUDGING);
+    }
+
+    @Test
+    @DisplayName("fail - 시도 횟수가 남으면 PENDING으로 되돌리고, 소진했으면 FAILED로 확정한다")
+    void fail_requeuesUntilAttemptsExhausted() {
+        UUID submissionId = insertSubmission(JudgeStatus.PENDING, 2, null, 0);
+        JudgeClaim third = judgeQueue.claim(1).get(0);
+
+        Optional<Submission> failed = judgeQueue.fail(third);
+
+        assertThat(failed).isPresent();
+        assertThat(statusOf(submissionId)).isEqualTo(JudgeStatus.FAILED);
+
+        UUID retryable = insertSubmission(JudgeStatus.PENDING, 0, null, 1);
+        JudgeClaim first = judgeQueue.claim(1).get(0);
+        assertThat(judgeQueue.fail(first)).isEmpty();
+        assertThat(statusOf(retryable)).isEqualTo(JudgeStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("checkPendingCap - 사용자별 동시 미판정 상한에 도달하면 RATE_LIMITED")
+    void checkPendingCap_rejectsAtUserCap() {
+        insertSubmission(JudgeStatus.PENDING, 0, null, 0);
+        insertSubmission(JudgeStatus.JUDGING, 1, Instant.now(), 1);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> judgeQueue.checkPendingCap(userId)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RATE_LIMITED);
+    }
+
+    private UUID insertSubmission(JudgeStatus status, int attempts, Instant claimedAt, int order) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO submission (id, game_id, user_id, language, source_hash, submitted_at,
+                                        submitted_elapsed_ms, exec_time_ms, memory_kb, judge_status,
+                                        judge_attempts, judge_claimed_at)
+                VALUES (?, ?, ?, 'JAVA', ?, ?, 0, 0, 0, ?, ?, ?)
+                """,
+                id, gameId, userId, SOURCE_HASH,
+                Timestamp.from(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(order)),
+                status.name(), attempts, claimedAt != null ? Timestamp.from(claimedAt) : null);
+        return id;
+    }
+
+    private JudgeStatus statusOf(UUID submissionId) {
+        return JudgeStatus.valueOf(jdbcTemplate.queryForObject(
+                "SELECT judge_status FROM submission WHERE id = ?", String.class, submissionId));
+    }
+
+    private int attemptsOf(UUID submissionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT judge_attempts FROM submission WHERE id = ?", Integer.class, submissionId);
+    }
+
+    private static JudgeVerdict verdict(JudgeStatus status) {
+        return new JudgeVerdict(status, 10, 1024, null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
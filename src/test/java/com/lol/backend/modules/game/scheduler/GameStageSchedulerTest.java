@@ -1,21 +1,32 @@
 package com.lol.backend.modules.game.scheduler;
 
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.modules.game.command.GameCommandExecutor;
+import com.lol.backend.modules.game.config.GameCommandProperties;
 import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
 import com.lol.backend.modules.game.service.GameService;
 import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.dto.GameStateDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -25,7 +36,8 @@ import static org.mockito.Mockito.*;
  * GameStageScheduler 단위 테스트.
  * - LOBBY 상태 게임의 자동 전이
  * - deadline 도달 시 stage 전이
- * - PLAY deadline 도달 시 게임 종료
+ * - PLAY deadline 도달 시 게임 종료 (미판정 제출이 있으면 보류)
+ * - 느린 게임이 tick을 상한 이상 붙잡지 않고, 끝날 때까지 중복으로 넣지 않음
  */
 @ExtendWith(MockitoExtension.class)
 class GameStageSchedulerTest {
@@ -36,6 +48,12 @@ class GameStageSchedulerTest {
     @Mock
     private GameService gameService;
 
+    @Spy
+    private GameCommandExecutor gameCommandExecutor = GameCommandExecutor.direct();
+
+    @Spy
+    private ServerMetrics serverMetrics = new ServerMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private GameStageScheduler scheduler;
 
@@ -58,7 +76,7 @@ class GameStageSchedulerTest {
 
         // Then
         verify(gameStateStore, times(1)).getAllActiveGameIds();
-        verify(gameStateStore, never()).getGame(any());
+        verify(gameStateStore, never()).getGameStage(any());
         verify(gameService, never()).transitionStage(any(), any());
         verify(gameService, never()).finishGame(any());
     }
@@ -71,7 +89,7 @@ class GameStageSchedulerTest {
                 null, null, Instant.now(), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(lobbyGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(lobbyGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -89,7 +107,7 @@ class GameStageSchedulerTest {
                 null, null, Instant.now(), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(lobbyGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(lobbyGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -108,7 +126,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(70), pastDeadline, Instant.now().minusSeconds(70), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(banGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(banGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -127,7 +145,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(65), pastDeadline, Instant.now().minusSeconds(130), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(pickGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(pickGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -146,7 +164,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(121), pastDeadline, Instant.now().minusSeconds(251), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(shopGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(shopGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -165,7 +183,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(1810), pastDeadline, Instant.now().minusSeconds(2931), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(playGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(playGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -175,6 +193,26 @@ class GameStageSchedulerTest {
         verify(gameService, never()).transitionStage(any(), any());
     }
 
+    @Test
+    void checkStageTransitions_playDeadlineReachedWithUnjudgedSubmissions_shouldDeferFinish() {
+        // Given
+        Instant pastDeadline = Instant.now().minusSeconds(1);
+        GameStateDto playGame = new GameStateDto(
+                gameId, roomId, GameType.RANKED.name(), GameStage.PLAY.name(),
+                Instant.now().minusSeconds(1801), pastDeadline, Instant.now().minusSeconds(2922), null, null, Instant.now()
+        );
+        when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(playGame)));
+        when(gameService.isAwaitingJudgement(eq(gameId), eq(pastDeadline), any())).thenReturn(true);
+
+        // When
+        scheduler.checkStageTransitions();
+
+        // Then
+        verify(gameService, never()).finishGame(any());
+        verify(gameStateStore, never()).getGame(any());
+    }
+
     @Test
     void checkStageTransitions_playDeadlineNotReached_shouldDoNothing() {
         // Given
@@ -184,7 +222,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(1500), futureDeadline, Instant.now().minusSeconds(2621), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(playGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(playGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -202,7 +240,7 @@ class GameStageSchedulerTest {
                 null, null, Instant.now().minusSeconds(3600), Instant.now(), null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(finishedGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(finishedGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -221,7 +259,7 @@ class GameStageSchedulerTest {
                 Instant.now().minusSeconds(1805), pastDeadline, Instant.now().minusSeconds(1805), null, null, Instant.now()
         );
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(playGame));
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.of(stageOf(playGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -235,7 +273,7 @@ class GameStageSchedulerTest {
     void checkStageTransitions_gameStateNotFound_shouldSkip() {
         // Given
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
-        when(gameStateStore.getGame(gameId)).thenReturn(Optional.empty());
+        when(gameStateStore.getGameStage(gameId)).thenReturn(Optional.empty());
 
         // When
         scheduler.checkStageTransitions();
@@ -266,9 +304,9 @@ class GameStageSchedulerTest {
         );
 
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId1, gameId2, gameId3));
-        when(gameStateStore.getGame(gameId1)).thenReturn(Optional.of(lobbyGame));
-        when(gameStateStore.getGame(gameId2)).thenReturn(Optional.of(banGame));
-        when(gameStateStore.getGame(gameId3)).thenReturn(Optional.of(playGame));
+        when(gameStateStore.getGameStage(gameId1)).thenReturn(Optional.of(stageOf(lobbyGame)));
+        when(gameStateStore.getGameStage(gameId2)).thenReturn(Optional.of(stageOf(banGame)));
+        when(gameStateStore.getGameStage(gameId3)).thenReturn(Optional.of(stageOf(playGame)));
 
         // When
         scheduler.checkStageTransitions();
@@ -295,8 +333,8 @@ class GameStageSchedulerTest {
         );
 
         when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId1, gameId2));
-        when(gameStateStore.getGame(gameId1)).thenReturn(Optional.of(lobbyGame));
-        when(gameStateStore.getGame(gameId2)).thenReturn(Optional.of(playGame));
+        when(gameStateStore.getGameStage(gameId1)).thenReturn(Optional.of(stageOf(lobbyGame)));
+        when(gameStateStore.getGameStage(gameId2)).thenReturn(Optional.of(stageOf(playGame)));
         doThrow(new RuntimeException("Test exception")).when(gameService).transitionStage(eq(gameId1), any());
 
         // When
@@ -306,4 +344,39 @@ class GameStageSchedulerTest {
         verify(gameService, times(1)).transitionStage(gameId1, GameStage.BAN); // throws exception
         verify(gameService, times(1)).finishGame(gameId2); // should still be processed
     }
+
+    @Test
+    void checkStageTransitions_slowGame_shouldNotHoldTickAndShouldNotResubmitUntilDone() throws Exception {
+        // Given: stripe 실행기를 켜고, 게임 처리가 풀어 줄 때까지 끝나지 않는다
+        GameCommandExecutor stripedExecutor = new GameCommandExecutor(new GameCommandProperties(true, 2, 16, 200));
+        GameStageScheduler stripedScheduler = new GameStageScheduler(gameStateStore, gameService, null, null, null,
+                null, stripedExecutor, serverMetrics);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(gameId));
+        when(gameStateStore.getGameStage(gameId)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        try {
+            // When
+            long start = System.nanoTime();
+            stripedScheduler.checkStageTransitions();
+            stripedScheduler.checkStageTransitions();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // Then: 각 tick은 상한(200ms)만 기다리고, 두 번째 tick은 아직 처리 중인 게임을 다시 넣지 않는다
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+            release.countDown();
+            verify(gameStateStore, timeout(1000).times(1)).getGameStage(gameId);
+        } finally {
+            release.countDown();
+            stripedExecutor.destroy();
+        }
+    }
+
+    private static GameStageStateDto stageOf(GameStateDto game) {
+        return new GameStageStateDto(game.id(), game.gameType(), game.stage(),
+                game.stageStartedAt(), game.stageDeadlineAt());
+    }
 }
@@ -0,0 +1,313 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.modules.catalog.entity.Item;
+import com.lol.backend.modules.catalog.entity.Spell;
+import com.lol.backend.modules.catalog.service.CatalogSnapshot;
+import com.lol.backend.modules.catalog.service.CatalogSnapshotHolder;
+import com.lol.backend.modules.game.dto.InventoryResponse;
+import com.lol.backend.modules.game.entity.GamePlayer;
+import com.lol.backend.modules.game.entity.GameStage;
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.game.entity.ItemUsage;
+import com.lol.backend.modules.game.entity.SpellUsage;
+import com.lol.backend.modules.game.repo.GamePlayerRepository;
+import com.lol.backend.modules.game.repo.GameSpellPurchaseRepository;
+import com.lol.backend.modules.game.repo.ItemUsageRepository;
+import com.lol.backend.modules.game.repo.SpellUsageRepository;
+import com.lol.backend.realtime.dto.EventType;
+import com.lol.backend.realtime.support.EventPublisher;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.store.EphemeralStateStore;
+import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.ShieldStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameEffectService 단위 테스트.
+ * - 보호막 카운터 소비/시드(GamePlayer 행 락 아래에서 DB 기준) 경로
+ * - 보호막 직접 사용/구매 증감과 롤백 시 보정
+ * - INVENTORY_SYNC 전체 인벤토리 payload 유지 (집계 대신 프로젝션 + 증감)
+ */
+@ExtendWith(MockitoExtension.class)
+class GameEffectServiceTest {
+
+    @Mock
+    private GameStateStore gameStateStore;
+
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private ItemUsageRepository itemUsageRepository;
+
+    @Mock
+    private SpellUsageRepository spellUsageRepository;
+
+    @Mock
+    private GameSpellPurchaseRepository gameSpellPurchaseRepository;
+
+    @Mock
+    private GamePlayerRepository gamePlayerRepository;
+
+    @Mock
+    private GameInventoryService gameInventoryService;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private EphemeralStateStore ephemeralStateStore;
+
+    @Mock
+    private ShieldStateStore shieldStateStore;
+
+    @InjectMocks
+    private GameEffectService gameEffectService;
+
+    private UUID gameId;
+    private UUID userId;
+    private UUID targetUserId;
+    private Item item;
+    private Spell shield;
+
+    @BeforeEach
+    void setUp() {
+        gameId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        targetUserId = UUID.randomUUID();
+        item = withId(new Item("느려지기", "입력 지연", 10, 100, "slow", true));
+        shield = withId(new Spell(GameEffectService.SPELL_SHIELD, "아이템 1회 방어", 0, 100, "shield", true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("useItem - 보호막 카운터가 있으면 원자적으로 1 소비하고 이펙트를 차단한다 (DB 시드 없음)")
+    void useItem_consumesInitializedShield() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(0L);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        verify(spellUsageRepository).save(any(SpellUsage.class));
+        verify(eventPublisher).broadcast(eq("/topic/games/" + gameId), eq(EventType.ITEM_EFFECT_BLOCKED), any());
+        verify(eventPublisher, never()).broadcast(any(), eq(EventType.ITEM_EFFECT_APPLIED), any());
+        verify(gameInventoryService, never()).getSpellRemainingCount(any(), any(), any());
+        verify(shieldStateStore, never()).initializeIfAbsent(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("useItem - 카운터가 없으면 대상의 GamePlayer 행 락을 잡은 뒤 DB 잔여 수로 시드하고 소비한다")
+    void useItem_seedsCounterUnderPlayerLock() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId))
+                .thenReturn(ShieldStateStore.NOT_INITIALIZED)
+                .thenReturn(1L);
+        when(gamePlayerRepository.findByGameIdAndUserIdForUpdate(gameId, targetUserId))
+                .thenReturn(Optional.of(mock(GamePlayer.class)));
+        when(gameInventoryService.getSpellRemainingCount(gameId, targetUserId, shield.getId())).thenReturn(2);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        InOrder inOrder = inOrder(gamePlayerRepository, gameInventoryService, shieldStateStore);
+        inOrder.verify(gamePlayerRepository).findByGameIdAndUserIdForUpdate(gameId, targetUserId);
+        inOrder.verify(gameInventoryService).getSpellRemainingCount(gameId, targetUserId, shield.getId());
+        inOrder.verify(shieldStateStore).initializeIfAbsent(gameId, targetUserId, 2);
+        inOrder.verify(shieldStateStore).tryConsume(gameId, targetUserId);
+        verify(eventPublisher).broadcast(eq("/topic/games/" + gameId), eq(EventType.ITEM_EFFECT_BLOCKED), any());
+    }
+
+    @Test
+    @DisplayName("useItem - 보호막이 없으면 이펙트를 적용하고 Redis에 활성 이펙트를 저장한다")
+    void useItem_appliesEffectWithoutShield() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(ShieldStateStore.NO_CHARGE);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        verify(eventPublisher).broadcast(eq("/topic/games/" + gameId), eq(EventType.ITEM_EFFECT_APPLIED), any());
+        verify(ephemeralStateStore).saveEffect(any(), any());
+        verify(spellUsageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("useItem - 트랜잭션이 롤백되면 소비한 보호막을 카운터에 되돌린다")
+    void useItem_restoresConsumedShieldOnRollback() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(0L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+        verify(shieldStateStore, never()).addChargesIfInitialized(any(), any(), anyInt());
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(shieldStateStore).addChargesIfInitialized(gameId, targetUserId, 1);
+    }
+
+    @Test
+    @DisplayName("useItem - 사용자와 대상의 GamePlayer 행 락을 userId 순서로 보유 검증 전에 잡는다")
+    void useItem_locksBothPlayersInIdOrder() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(ShieldStateStore.NO_CHARGE);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        UUID first = userId.compareTo(targetUserId) < 0 ? userId : targetUserId;
+        UUID second = first.equals(userId) ? targetUserId : userId;
+        InOrder inOrder = inOrder(gamePlayerRepository, gameInventoryService);
+        inOrder.verify(gamePlayerRepository).findByGameIdAndUserIdForUpdate(gameId, first);
+        inOrder.verify(gamePlayerRepository).findByGameIdAndUserIdForUpdate(gameId, second);
+        inOrder.verify(gameInventoryService).getItemRemainingCount(gameId, userId, item.getId());
+    }
+
+    @Test
+    @DisplayName("useItem - 사용한 아이템과 소비된 보호막을 인벤토리 프로젝션에 증감으로 반영하고 집계는 하지 않는다")
+    void useItem_appliesInventoryDeltas() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(0L);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        verify(gameInventoryService).addItemQuantity(gameId, userId, item.getId(), -1);
+        verify(gameInventoryService).addSpellQuantity(gameId, targetUserId, shield.getId(), -1);
+        verify(gameInventoryService).getInventory(gameId, userId);
+        verify(gameInventoryService).getInventory(gameId, targetUserId);
+        verify(gameInventoryService, never()).calculateInventory(any(), any());
+    }
+
+    @Test
+    @DisplayName("useItem - INVENTORY_SYNC는 부분 갱신이 아닌 전체 인벤토리로 전송한다")
+    void useItem_sendsFullInventorySync() {
+        givenItemUse();
+        when(shieldStateStore.tryConsume(gameId, targetUserId)).thenReturn(0L);
+
+        gameEffectService.useItem(gameId, userId, item.getId(), targetUserId);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> payload = ArgumentCaptor.forClass(Map.class);
+        verify(eventPublisher).sendToUser(eq(userId.toString()), eq("/queue/inventory"),
+                eq(EventType.INVENTORY_SYNC), payload.capture());
+        verify(eventPublisher).sendToUser(eq(targetUserId.toString()), eq("/queue/inventory"),
+                eq(EventType.INVENTORY_SYNC), any());
+        assertThat(payload.getValue()).containsOnlyKeys("gameId", "inventory");
+        assertThat(payload.getValue().get("inventory")).isEqualTo(Map.of(
+                "items", List.of(),
+                "spells", List.of()));
+    }
+
+    @Test
+    @DisplayName("useSpell(보호막) - 행 락 후 보유를 검증하고, 사용 기록 뒤 카운터를 차감한다")
+    void useSpell_shieldLocksThenDecrementsCounter() {
+        givenGame();
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.of(mock(GamePlayerStateDto.class)));
+        when(catalogSnapshotHolder.current()).thenReturn(catalogSnapshot);
+        when(catalogSnapshot.findSpell(shield.getId())).thenReturn(Optional.of(shield));
+        when(gamePlayerRepository.findByGameIdAndUserIdForUpdate(gameId, userId))
+                .thenReturn(Optional.of(mock(GamePlayer.class)));
+        when(gameInventoryService.getSpellRemainingCount(gameId, userId, shield.getId())).thenReturn(1);
+        when(spellUsageRepository.save(any(SpellUsage.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(shieldStateStore.addChargesIfInitialized(gameId, userId, -1)).thenReturn(true);
+        when(gameInventoryService.getInventory(gameId, userId)).thenReturn(InventoryResponse.empty());
+
+        gameEffectService.useSpell(gameId, userId, shield.getId());
+
+        InOrder inOrder = inOrder(gamePlayerRepository, gameInventoryService, spellUsageRepository, shieldStateStore);
+        inOrder.verify(gamePlayerRepository).findByGameIdAndUserIdForUpdate(gameId, userId);
+        inOrder.verify(gameInventoryService).getSpellRemainingCount(gameId, userId, shield.getId());
+        inOrder.verify(spellUsageRepository).save(any(SpellUsage.class));
+        inOrder.verify(gameInventoryService).addSpellQuantity(gameId, userId, shield.getId(), -1);
+        inOrder.verify(shieldStateStore).addChargesIfInitialized(gameId, userId, -1);
+        inOrder.verify(gameInventoryService).getInventory(gameId, userId);
+    }
+
+    @Test
+    @DisplayName("addShieldCharges - 카운터에 반영했을 때만 롤백 시 되돌린다")
+    void addShieldCharges_compensatesOnlyAppliedChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(shieldStateStore.addChargesIfInitialized(gameId, userId, 2)).thenReturn(true);
+        when(shieldStateStore.addChargesIfInitialized(gameId, targetUserId, 3)).thenReturn(false);
+
+        gameEffectService.addShieldCharges(gameId, userId, 2);
+        gameEffectService.addShieldCharges(gameId, targetUserId, 3);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(shieldStateStore).addChargesIfInitialized(gameId, userId, -2);
+        verify(shieldStateStore, never()).addChargesIfInitialized(gameId, targetUserId, -3);
+    }
+
+    @Test
+    @DisplayName("addShieldCharges - 커밋되면 보정하지 않는다")
+    void addShieldCharges_keepsChangeOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(shieldStateStore.addChargesIfInitialized(gameId, userId, 2)).thenReturn(true);
+
+        gameEffectService.addShieldCharges(gameId, userId, 2);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(shieldStateStore, times(1)).addChargesIfInitialized(any(), any(), anyInt());
+    }
+
+    private void givenGame() {
+        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(new GameStateDto(
+                gameId, UUID.randomUUID(), GameType.RANKED.name(), GameStage.PLAY.name(),
+                Instant.now(), Instant.now().plusSeconds(600), Instant.now(), null, null, Instant.now())));
+    }
+
+    private void givenItemUse() {
+        givenGame();
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.of(mock(GamePlayerStateDto.class)));
+        when(gameStateStore.getGamePlayer(gameId, targetUserId)).thenReturn(Optional.of(mock(GamePlayerStateDto.class)));
+        when(catalogSnapshotHolder.current()).thenReturn(catalogSnapshot);
+        when(catalogSnapshot.findItem(item.getId())).thenReturn(Optional.of(item));
+        when(catalogSnapshot.findSpellByName(GameEffectService.SPELL_SHIELD)).thenReturn(Optional.of(shield));
+        when(gameInventoryService.getItemRemainingCount(gameId, userId, item.getId())).thenReturn(1);
+        when(itemUsageRepository.save(any(ItemUsage.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        lenient().when(spellUsageRepository.save(any(SpellUsage.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(gameInventoryService.getInventory(eq(gameId), any())).thenReturn(InventoryResponse.empty());
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static <T> T withId(T entity) {
+        ReflectionTestUtils.setField(entity, "id", UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,157 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.config.GameProperties;
+import com.lol.backend.modules.game.dto.InventoryItemResponse;
+import com.lol.backend.modules.game.dto.InventoryResponse;
+import com.lol.backend.modules.game.dto.InventorySpellResponse;
+import com.lol.backend.modules.game.repo.GameItemPurchaseRepository;
+import com.lol.backend.modules.game.repo.GameSpellPurchaseRepository;
+import com.lol.backend.modules.game.repo.ItemUsageRepository;
+import com.lol.backend.modules.game.repo.SpellUsageRepository;
+import com.lol.backend.state.dto.InventoryStateDto;
+import com.lol.backend.state.store.InventoryStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameInventoryService 인벤토리 프로젝션 단위 테스트.
+ * - 프로젝션이 있으면 집계 쿼리 없이 응답, 없을 때만 DB 기준 1회 시드
+ * - 트랜잭션 롤백 시 프로젝션 무효화
+ */
+@ExtendWith(MockitoExtension.class)
+class GameInventoryServiceTest {
+
+    @Mock
+    private GameProperties gameProperties;
+
+    @Mock
+    private GameItemPurchaseRepository gameItemPurchaseRepository;
+
+    @Mock
+    private GameSpellPurchaseRepository gameSpellPurchaseRepository;
+
+    @Mock
+    private ItemUsageRepository itemUsageRepository;
+
+    @Mock
+    private SpellUsageRepository spellUsageRepository;
+
+    @Mock
+    private InventoryStateStore inventoryStateStore;
+
+    @InjectMocks
+    private GameInventoryService gameInventoryService;
+
+    private UUID gameId;
+    private UUID userId;
+    private UUID itemId;
+    private UUID spellId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        itemId = UUID.randomUUID();
+        spellId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("getInventory - 프로젝션이 있으면 집계 쿼리 없이 전체 인벤토리를 돌려준다")
+    void getInventory_readsProjectionWithoutAggregation() {
+        when(inventoryStateStore.getInventory(gameId, userId))
+                .thenReturn(Optional.of(new InventoryStateDto(Map.of(itemId, 2), Map.of(spellId, 1))));
+
+        InventoryResponse inventory = gameInventoryService.getInventory(gameId, userId);
+
+        assertThat(inventory.items()).containsExactly(new InventoryItemResponse(itemId.toString(), 2));
+        assertThat(inventory.spells()).containsExactly(new InventorySpellResponse(spellId.toString(), 1));
+        verifyNoInteractions(gameItemPurchaseRepository, gameSpellPurchaseRepository, itemUsageRepository, spellUsageRepository);
+    }
+
+    @Test
+    @DisplayName("getInventory - 프로젝션이 없으면 DB 집계로 시드하고, 롤백 시 시드를 지운다")
+    void getInventory_seedsFromAggregateWhenMissing() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(inventoryStateStore.getInventory(gameId, userId)).thenReturn(Optional.empty());
+        when(gameItemPurchaseRepository.findItemQuantitiesByGameIdAndUserId(gameId, userId))
+                .thenReturn(List.<Object[]>of(new Object[]{itemId, 3L}));
+        when(itemUsageRepository.findItemUsageCountsByGameIdAndFromUserId(gameId, userId))
+                .thenReturn(List.<Object[]>of(new Object[]{itemId, 1L}));
+        when(gameSpellPurchaseRepository.findSpellQuantitiesByGameIdAndUserId(gameId, userId)).thenReturn(List.of());
+        when(spellUsageRepository.findSpellUsageCountsByGameIdAndUserId(gameId, userId)).thenReturn(List.of());
+
+        InventoryResponse inventory = gameInventoryService.getInventory(gameId, userId);
+
+        assertThat(inventory.items()).containsExactly(new InventoryItemResponse(itemId.toString(), 2));
+        verify(inventoryStateStore).initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(itemId, 2), Map.of()));
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(inventoryStateStore).invalidate(gameId, userId);
+    }
+
+    @Test
+    @DisplayName("addItemQuantity - 프로젝션이 없어 건너뛰었으면 롤백 시 무효화하지 않는다")
+    void addItemQuantity_skipsInvalidationWhenNotApplied() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(inventoryStateStore.addItemIfInitialized(gameId, userId, itemId, -1)).thenReturn(false);
+
+        gameInventoryService.addItemQuantity(gameId, userId, itemId, -1);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(inventoryStateStore, never()).invalidate(any(), any());
+    }
+
+    @Test
+    @DisplayName("addSpellQuantity - 프로젝션에 반영했으면 롤백 시 무효화한다")
+    void addSpellQuantity_invalidatesOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(inventoryStateStore.addSpellIfInitialized(gameId, userId, spellId, 2)).thenReturn(true);
+
+        gameInventoryService.addSpellQuantity(gameId, userId, spellId, 2);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(inventoryStateStore).invalidate(gameId, userId);
+    }
+
+    @Test
+    @DisplayName("addSpellQuantity - 커밋되면 프로젝션을 유지한다")
+    void addSpellQuantity_keepsProjectionOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(inventoryStateStore.addSpellIfInitialized(gameId, userId, spellId, 2)).thenReturn(true);
+
+        gameInventoryService.addSpellQuantity(gameId, userId, spellId, 2);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(inventoryStateStore, never()).invalidate(any(), any());
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
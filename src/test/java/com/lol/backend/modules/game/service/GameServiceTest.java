@@ -2,17 +2,21 @@ package com.lol.backend.modules.game.service;
 
 import com.lol.backend.common.exception.BusinessException;
 import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.entity.GameStage;
 import com.lol.backend.modules.game.entity.GameType;
 import com.lol.backend.modules.game.entity.JudgeStatus;
-import com.lol.backend.modules.game.entity.Submission;
+import com.lol.backend.modules.game.dto.SubmissionStatRow;
 import com.lol.backend.modules.game.repo.SubmissionRepository;
-import com.lol.backend.modules.game.service.GameInventoryService;
-import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.room.service.RoomNameIndex;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
 import com.lol.backend.modules.user.repo.UserRepository;
 import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.ScoreboardStore;
 import com.lol.backend.state.snapshot.SnapshotWriter;
 import com.lol.backend.state.dto.GamePlayerStateDto;
 import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.ScoreboardEntryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,13 +27,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -64,6 +71,18 @@ class GameServiceTest {
     @Mock
     private com.lol.backend.modules.room.event.RoomEventPublisher roomEventPublisher;
 
+    @Mock
+    private GameScoreboardService gameScoreboardService;
+
+    @Mock
+    private ScoreboardStore scoreboardStore;
+
+    @Mock
+    private LobbyStatsService lobbyStatsService;
+
+    @Mock
+    private RoomNameIndex roomNameIndex;
+
     @InjectMocks
     private GameService gameService;
 
@@ -113,13 +132,12 @@ class GameServiceTest {
         // user1: AC 2개, 최종 제출 5000ms
         // user2: AC 1개, 최종 제출 3000ms
         // user3: 제출 없음
-        List<Submission> acSubmissions = List.of(
-                createSubmission(gameId, user1Id, 3000),
-                createSubmission(gameId, user1Id, 5000),
-                createSubmission(gameId, user2Id, 3000)
-        );
-        when(submissionRepository.findByGameIdAndJudgeStatus(gameId, JudgeStatus.AC))
-                .thenReturn(acSubmissions);
+        when(submissionRepository.aggregateByUser(gameId, JudgeStatus.AC))
+                .thenReturn(List.of(
+                        new SubmissionStatRow(user1Id, 2, 5000),
+                        new SubmissionStatRow(user2Id, 1, 3000)
+                ));
+        stubUsers(user1Id, user2Id, user3Id);
 
         doNothing().when(snapshotWriter).flushGame(gameId);
 
@@ -127,10 +145,9 @@ class GameServiceTest {
         gameService.finishGame(gameId);
 
         // then
-        ArgumentCaptor<GamePlayerStateDto> captor = ArgumentCaptor.forClass(GamePlayerStateDto.class);
-        verify(gameStateStore, times(3)).updateGamePlayer(eq(gameId), any(UUID.class), captor.capture());
-
-        List<GamePlayerStateDto> updatedPlayers = captor.getAllValues();
+        List<GamePlayerStateDto> updatedPlayers = captureSavedPlayers();
+        assertThat(updatedPlayers).hasSize(3);
+        verify(userRepository).findAllById(anyIterable());
 
         // user1: 1등 (AC 2개, 5000ms)
         GamePlayerStateDto user1Result = updatedPlayers.stream()
@@ -139,8 +156,8 @@ class GameServiceTest {
                 .orElseThrow();
         assertThat(user1Result.rankInGame()).isEqualTo(1);
         assertThat(user1Result.scoreDelta()).isEqualTo(30);
-        assertThat(user1Result.coinDelta()).isEqualTo(100);
-        assertThat(user1Result.expDelta()).isEqualTo(50.0);
+        assertThat(user1Result.coinDelta()).isEqualTo(1300);
+        assertThat(user1Result.expDelta()).isEqualTo(42.5);
         assertThat(user1Result.result()).isEqualTo("WIN");
         assertThat(user1Result.solved()).isTrue();
 
@@ -151,8 +168,8 @@ class GameServiceTest {
                 .orElseThrow();
         assertThat(user2Result.rankInGame()).isEqualTo(2);
         assertThat(user2Result.scoreDelta()).isEqualTo(10);
-        assertThat(user2Result.coinDelta()).isEqualTo(50);
-        assertThat(user2Result.expDelta()).isEqualTo(30.0);
+        assertThat(user2Result.coinDelta()).isEqualTo(1200);
+        assertThat(user2Result.expDelta()).isEqualTo(37.5);
         assertThat(user2Result.result()).isEqualTo("WIN");
         assertThat(user2Result.solved()).isTrue();
 
@@ -163,14 +180,104 @@ class GameServiceTest {
                 .orElseThrow();
         assertThat(user3Result.rankInGame()).isEqualTo(3);
         assertThat(user3Result.scoreDelta()).isEqualTo(-10);
-        assertThat(user3Result.coinDelta()).isEqualTo(20);
-        assertThat(user3Result.expDelta()).isEqualTo(20.0);
+        assertThat(user3Result.coinDelta()).isEqualTo(600);
+        assertThat(user3Result.expDelta()).isEqualTo(15.0);
         assertThat(user3Result.result()).isEqualTo("LOSE");
         assertThat(user3Result.solved()).isFalse();
 
         verify(snapshotWriter).flushGame(gameId);
     }
 
+    @Test
+    @DisplayName("finishGame - 실시간 순위표가 완전하면 DB 집계 없이 순위표 순서로 순위를 산정한다")
+    void finishGame_withScoreboard_shouldUseStandingsWithoutAggregation() {
+        // given
+        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(gameStateDto));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.empty());
+        when(gameStateStore.getGamePlayers(gameId)).thenReturn(List.of(
+                createGamePlayer(user1Id, 1000),
+                createGamePlayer(user2Id, 1000),
+                createGamePlayer(user3Id, 1000)
+        ));
+
+        // user2: AC 2개 / user1: AC 1개 / user3: AC 없음 (PLAY 시작 시 0점 등록)
+        when(scoreboardStore.getStandings(gameId)).thenReturn(Optional.of(List.of(
+                new ScoreboardEntryDto(user2Id, 2, 4000),
+                new ScoreboardEntryDto(user1Id, 1, 2000),
+                new ScoreboardEntryDto(user3Id, 0, Integer.MAX_VALUE)
+        )));
+        stubUsers(user1Id, user2Id, user3Id);
+
+        // when
+        gameService.finishGame(gameId);
+
+        // then
+        verifyNoInteractions(submissionRepository);
+        List<GamePlayerStateDto> updatedPlayers = captureSavedPlayers();
+        assertThat(updatedPlayers).extracting(GamePlayerStateDto::userId, GamePlayerStateDto::rankInGame)
+                .containsExactlyInAnyOrder(
+                        tuple(user2Id, 1),
+                        tuple(user1Id, 2),
+                        tuple(user3Id, 3)
+                );
+    }
+
+    @Test
+    @DisplayName("finishGame - 순위표에 참가자가 빠져 있으면 DB 제출 집계로 폴백한다 (집계 순서와 무관)")
+    void finishGame_incompleteScoreboard_shouldFallBackToSubmissionAggregate() {
+        // given
+        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(gameStateDto));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.empty());
+        when(gameStateStore.getGamePlayers(gameId)).thenReturn(List.of(
+                createGamePlayer(user1Id, 1000),
+                createGamePlayer(user2Id, 1000),
+                createGamePlayer(user3Id, 1000)
+        ));
+
+        // 순위표에는 user1만 있음 (등록 누락) → 순위표 값은 쓰지 않는다
+        when(scoreboardStore.getStandings(gameId)).thenReturn(Optional.of(List.of(
+                new ScoreboardEntryDto(user1Id, 5, 1000)
+        )));
+        // user2: AC 2개 / user1: AC 1개 / user3: AC 없음 (집계 결과는 순위 순서가 아님)
+        when(submissionRepository.aggregateByUser(gameId, JudgeStatus.AC)).thenReturn(List.of(
+                new SubmissionStatRow(user1Id, 1, 2000),
+                new SubmissionStatRow(user2Id, 2, 4000)
+        ));
+        stubUsers(user1Id, user2Id, user3Id);
+
+        // when
+        gameService.finishGame(gameId);
+
+        // then
+        List<GamePlayerStateDto> updatedPlayers = captureSavedPlayers();
+        assertThat(updatedPlayers).extracting(GamePlayerStateDto::userId, GamePlayerStateDto::rankInGame)
+                .containsExactlyInAnyOrder(
+                        tuple(user2Id, 1),
+                        tuple(user1Id, 2),
+                        tuple(user3Id, 3)
+                );
+    }
+
+    @Test
+    @DisplayName("transitionStage - PLAY 전이 시 순위표 등록이 실패해도 stage 전이는 완료된다")
+    void transitionStage_toPlay_shouldIgnoreScoreboardFailure() {
+        // given
+        GameStateDto shopGame = new GameStateDto(
+                gameId, roomId, GameType.RANKED.name(), GameStage.SHOP.name(),
+                Instant.now(), Instant.now(), Instant.now(), null, null, Instant.now()
+        );
+        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(shopGame));
+        when(gameStateStore.getGamePlayers(gameId)).thenReturn(List.of(createGamePlayer(user1Id, 1000)));
+        doThrow(new IllegalStateException("redis down"))
+                .when(gameScoreboardService).initialize(eq(gameId), anyList());
+
+        // when
+        gameService.transitionStage(gameId, GameStage.PLAY);
+
+        // then
+        verify(gameStateStore).updateGameStage(eq(gameId), eq(GameStage.PLAY.name()), any(), any());
+    }
+
     @Test
     @DisplayName("finishGame - NORMAL 게임 종료 시 scoreDelta=0, 모든 플레이어 DRAW")
     void finishGame_normalGame_shouldNotChangeScore() {
@@ -196,11 +303,9 @@ class GameServiceTest {
         );
         when(gameStateStore.getGamePlayers(gameId)).thenReturn(players);
 
-        List<Submission> acSubmissions = List.of(
-                createSubmission(gameId, user1Id, 3000)
-        );
-        when(submissionRepository.findByGameIdAndJudgeStatus(gameId, JudgeStatus.AC))
-                .thenReturn(acSubmissions);
+        when(submissionRepository.aggregateByUser(gameId, JudgeStatus.AC))
+                .thenReturn(List.of(new SubmissionStatRow(user1Id, 1, 3000)));
+        stubUsers(user1Id, user2Id);
 
         doNothing().when(snapshotWriter).flushGame(gameId);
 
@@ -208,17 +313,16 @@ class GameServiceTest {
         gameService.finishGame(gameId);
 
         // then
-        ArgumentCaptor<GamePlayerStateDto> captor = ArgumentCaptor.forClass(GamePlayerStateDto.class);
-        verify(gameStateStore, times(2)).updateGamePlayer(eq(gameId), any(UUID.class), captor.capture());
-
-        List<GamePlayerStateDto> updatedPlayers = captor.getAllValues();
+        List<GamePlayerStateDto> updatedPlayers = captureSavedPlayers();
+        assertThat(updatedPlayers).hasSize(2);
+        verify(userRepository).findAllById(anyIterable());
 
         // 모든 플레이어 scoreDelta=0, result=DRAW
         updatedPlayers.forEach(player -> {
             assertThat(player.scoreDelta()).isEqualTo(0);
             assertThat(player.result()).isEqualTo("DRAW");
-            assertThat(player.coinDelta()).isEqualTo(50);
-            assertThat(player.expDelta()).isEqualTo(30.0);
+            assertThat(player.coinDelta()).isEqualTo(0);
+            assertThat(player.expDelta()).isEqualTo(0.0);
         });
     }
 
@@ -236,12 +340,12 @@ class GameServiceTest {
         when(gameStateStore.getGamePlayers(gameId)).thenReturn(players);
 
         // user1, user2: 모두 AC 1개, 최종 제출 5000ms (동점)
-        List<Submission> acSubmissions = List.of(
-                createSubmission(gameId, user1Id, 5000),
-                createSubmission(gameId, user2Id, 5000)
-        );
-        when(submissionRepository.findByGameIdAndJudgeStatus(gameId, JudgeStatus.AC))
-                .thenReturn(acSubmissions);
+        when(submissionRepository.aggregateByUser(gameId, JudgeStatus.AC))
+                .thenReturn(List.of(
+                        new SubmissionStatRow(user1Id, 1, 5000),
+                        new SubmissionStatRow(user2Id, 1, 5000)
+                ));
+        stubUsers(user1Id, user2Id);
 
         doNothing().when(snapshotWriter).flushGame(gameId);
 
@@ -249,10 +353,9 @@ class GameServiceTest {
         gameService.finishGame(gameId);
 
         // then
-        ArgumentCaptor<GamePlayerStateDto> captor = ArgumentCaptor.forClass(GamePlayerStateDto.class);
-        verify(gameStateStore, times(2)).updateGamePlayer(eq(gameId), any(UUID.class), captor.capture());
-
-        List<GamePlayerStateDto> updatedPlayers = captor.getAllValues();
+        List<GamePlayerStateDto> updatedPlayers = captureSavedPlayers();
+        assertThat(updatedPlayers).hasSize(2);
+        verify(userRepository).findAllById(anyIterable());
 
         // 모두 1등, DRAW
         updatedPlayers.forEach(player -> {
@@ -262,6 +365,23 @@ class GameServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("finishGame - 플레이어가 없으면 결과 계산을 건너뛰고 종료한다")
+    void finishGame_noPlayers_shouldSkipResultCalculation() {
+        // given
+        when(gameStateStore.getGame(gameId)).thenReturn(Optional.of(gameStateDto));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.empty());
+        when(gameStateStore.getGamePlayers(gameId)).thenReturn(List.of());
+
+        // when
+        gameService.finishGame(gameId);
+
+        // then
+        verifyNoInteractions(submissionRepository, userRepository);
+        verify(gameStateStore, never()).saveGamePlayers(any(), any());
+        verify(snapshotWriter).flushGame(gameId);
+    }
+
     @Test
     @DisplayName("finishGame - 게임이 존재하지 않으면 예외 발생")
     void finishGame_gameNotFound_shouldThrowException() {
@@ -300,6 +420,26 @@ class GameServiceTest {
 
     // Helper methods
 
+    @SuppressWarnings("unchecked")
+    private List<GamePlayerStateDto> captureSavedPlayers() {
+        ArgumentCaptor<List<GamePlayerStateDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameStateStore).saveGamePlayers(eq(gameId), captor.capture());
+        verify(gameStateStore, never()).updateGamePlayer(any(), any(), any());
+        return captor.getValue();
+    }
+
+    private void stubUsers(UUID... userIds) {
+        List<User> users = new ArrayList<>();
+        for (UUID userId : userIds) {
+            User user = mock(User.class);
+            when(user.getId()).thenReturn(userId);
+            when(user.getCoin()).thenReturn(1000);
+            when(user.getExp()).thenReturn(0.0);
+            users.add(user);
+        }
+        when(userRepository.findAllById(anyIterable())).thenReturn(users);
+    }
+
     private GamePlayerStateDto createGamePlayer(UUID userId, int scoreBefore) {
         return new GamePlayerStateDto(
                 UUID.randomUUID(),
@@ -315,24 +455,11 @@ class GameServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 Instant.now(),
                 null,
                 null
         );
     }
-
-    private Submission createSubmission(UUID gameId, UUID userId, int elapsedMs) {
-        return new Submission(
-                gameId,
-                userId,
-                Language.JAVA,
-                "public class Solution {}",
-                elapsedMs,
-                100,
-                1024,
-                JudgeStatus.AC,
-                null,
-                1000
-        );
-    }
 }
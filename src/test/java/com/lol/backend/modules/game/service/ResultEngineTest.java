@@ -0,0 +1,80 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.modules.game.entity.MatchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResultEngine 순위/보상 계산 단위 테스트.
+ */
+class ResultEngineTest {
+
+    private static final int NONE = ResultEngine.NO_SUBMISSION_MS;
+
+    @Test
+    @DisplayName("AC 수 내림차순, 제출 시간 오름차순으로 순위를 매기고 입력 순서대로 반환한다")
+    void compute_ranksByAcThenTime() {
+        ResultEngine.PlayerOutcome[] outcomes = ResultEngine.compute(true,
+                new int[]{0, 2, 1, 2},
+                new int[]{NONE, 5000, 1000, 4000});
+
+        assertThat(outcomes[3].rank()).isEqualTo(1);
+        assertThat(outcomes[1].rank()).isEqualTo(2);
+        assertThat(outcomes[2].rank()).isEqualTo(3);
+        assertThat(outcomes[0].rank()).isEqualTo(4);
+        assertThat(outcomes[0].solved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("RANKED 보상: 1, 2위 WIN, 나머지 LOSE (ECONOMY.md 1.0절)")
+    void compute_rankedRewards() {
+        ResultEngine.PlayerOutcome[] outcomes = ResultEngine.compute(true,
+                new int[]{2, 1, 0},
+                new int[]{5000, 3000, NONE});
+
+        assertThat(outcomes[0]).isEqualTo(new ResultEngine.PlayerOutcome(1, true, MatchResult.WIN, 30, 1300, 42.5));
+        assertThat(outcomes[1]).isEqualTo(new ResultEngine.PlayerOutcome(2, true, MatchResult.WIN, 10, 1200, 37.5));
+        assertThat(outcomes[2]).isEqualTo(new ResultEngine.PlayerOutcome(3, false, MatchResult.LOSE, -10, 600, 15.0));
+    }
+
+    @Test
+    @DisplayName("동점은 같은 순위와 DRAW, 다음 순위는 건너뛴다")
+    void compute_tiesShareRankAndDraw() {
+        ResultEngine.PlayerOutcome[] outcomes = ResultEngine.compute(true,
+                new int[]{1, 1, 0},
+                new int[]{5000, 5000, NONE});
+
+        assertThat(outcomes[0].rank()).isEqualTo(1);
+        assertThat(outcomes[1].rank()).isEqualTo(1);
+        assertThat(outcomes[0].result()).isEqualTo(MatchResult.DRAW);
+        assertThat(outcomes[1].result()).isEqualTo(MatchResult.DRAW);
+        assertThat(outcomes[0].coinDelta()).isEqualTo(1100);
+        assertThat(outcomes[2].rank()).isEqualTo(3);
+        assertThat(outcomes[2].result()).isEqualTo(MatchResult.LOSE);
+    }
+
+    @Test
+    @DisplayName("NORMAL 게임은 보상 없이 전원 DRAW")
+    void compute_normalGameHasNoRewards() {
+        ResultEngine.PlayerOutcome[] outcomes = ResultEngine.compute(false,
+                new int[]{1, 0},
+                new int[]{3000, NONE});
+
+        assertThat(outcomes).allSatisfy(outcome -> {
+            assertThat(outcome.result()).isEqualTo(MatchResult.DRAW);
+            assertThat(outcome.scoreDelta()).isZero();
+            assertThat(outcome.coinDelta()).isZero();
+            assertThat(outcome.expDelta()).isZero();
+        });
+        assertThat(outcomes[0].rank()).isEqualTo(1);
+        assertThat(outcomes[0].solved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("플레이어가 없으면 빈 결과")
+    void compute_noPlayers() {
+        assertThat(ResultEngine.compute(true, new int[0], new int[0])).isEmpty();
+    }
+}
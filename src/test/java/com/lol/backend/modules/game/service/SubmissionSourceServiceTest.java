@@ -0,0 +1,134 @@
+package com.lol.backend.modules.game.service;
+
+import com.lol.backend.modules.game.entity.SubmissionSource;
+import com.lol.backend.modules.game.repo.SubmissionSourceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SubmissionSourceService 단위 테스트.
+ * 해시 키 생성, 기존 해시 중복 저장 생략, 압축 선택, 인코딩별 복원 검증.
+ */
+@ExtendWith(MockitoExtension.class)
+class SubmissionSourceServiceTest {
+
+    @Mock
+    private SubmissionSourceRepository submissionSourceRepository;
+
+    @InjectMocks
+    private SubmissionSourceService submissionSourceService;
+
+    @Test
+    @DisplayName("store - 동일 본문은 같은 SHA-256 해시를 반환한다")
+    void store_sameSource_returnsSameHash() {
+        String source = "class Main { public static void main(String[] a) {} }";
+
+        String first = submissionSourceService.store(source);
+        String second = submissionSourceService.store(source);
+
+        assertThat(first).hasSize(64).isEqualTo(second);
+        assertThat(submissionSourceService.store(source + " ")).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("store - 압축 이득이 있으면 DEFLATE로 저장하고 원문 길이를 기록한다")
+    void store_largeSource_usesDeflate() {
+        String source = "System.out.println(\"반복되는 코드\");\n".repeat(200);
+        int rawLength = source.getBytes(StandardCharsets.UTF_8).length;
+
+        submissionSourceService.store(source);
+
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(submissionSourceRepository).insertIfAbsent(
+                anyString(), eq(SubmissionSource.ENCODING_DEFLATE), eq(rawLength), content.capture());
+        assertThat(content.getValue().length).isLessThan(rawLength);
+        assertThat(SubmissionSourceService.inflate(content.getValue(), rawLength))
+                .isEqualTo(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("store - 짧은 본문은 압축하지 않고 원문 그대로 저장한다")
+    void store_tinySource_storesRaw() {
+        submissionSourceService.store("a");
+
+        verify(submissionSourceRepository).insertIfAbsent(
+                anyString(), eq(SubmissionSource.ENCODING_NONE), eq(1), eq("a".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("store - 이미 저장된 해시면 압축/쓰기 없이 해시만 반환한다")
+    void store_existingHash_skipsInsert() {
+        String source = "System.out.println(\"반복되는 코드\");\n".repeat(200);
+        String hash = SubmissionSourceService.hash(source.getBytes(StandardCharsets.UTF_8));
+        when(submissionSourceRepository.existsById(hash)).thenReturn(true);
+
+        assertThat(submissionSourceService.store(source)).isEqualTo(hash);
+
+        verify(submissionSourceRepository, never()).insertIfAbsent(anyString(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("load - DEFLATE로 저장된 본문을 원문으로 복원한다")
+    void load_deflateSource_roundTrips() {
+        String source = "for (int i = 0; i < n; i++) { 합계 += i; }\n".repeat(100);
+        String hash = submissionSourceService.store(source);
+        SubmissionSource stored = captureStored();
+        assertThat(stored.getEncoding()).isEqualTo(SubmissionSource.ENCODING_DEFLATE);
+        when(submissionSourceRepository.findById(hash)).thenReturn(Optional.of(stored));
+
+        assertThat(submissionSourceService.load(hash)).contains(source);
+    }
+
+    @Test
+    @DisplayName("load - 압축 없이(NONE) 저장된 본문을 그대로 복원한다")
+    void load_rawSource_roundTrips() {
+        String source = "한";
+        String hash = submissionSourceService.store(source);
+        SubmissionSource stored = captureStored();
+        assertThat(stored.getEncoding()).isEqualTo(SubmissionSource.ENCODING_NONE);
+        when(submissionSourceRepository.findById(hash)).thenReturn(Optional.of(stored));
+
+        assertThat(submissionSourceService.load(hash)).contains(source);
+    }
+
+    @Test
+    @DisplayName("load - 저장된 본문이 없으면 empty")
+    void load_missing_returnsEmpty() {
+        when(submissionSourceRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(submissionSourceService.load("missing")).isEmpty();
+    }
+
+    /**
+     * store가 insertIfAbsent로 넘긴 값으로 저장된 행을 만든다.
+     */
+    private SubmissionSource captureStored() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> encoding = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Integer> originalLength = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(submissionSourceRepository).insertIfAbsent(
+                hash.capture(), encoding.capture(), originalLength.capture(), content.capture());
+
+        SubmissionSource source = BeanUtils.instantiateClass(SubmissionSource.class);
+        ReflectionTestUtils.setField(source, "hash", hash.getValue());
+        ReflectionTestUtils.setField(source, "encoding", encoding.getValue());
+        ReflectionTestUtils.setField(source, "originalLength", originalLength.getValue());
+        ReflectionTestUtils.setField(source, "content", content.getValue());
+        return source;
+    }
+}
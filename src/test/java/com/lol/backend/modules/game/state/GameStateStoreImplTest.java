@@ -1,8 +1,10 @@
 package com.lol.backend.modules.game.state;
 
 import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
 import com.lol.backend.state.store.GameStateStore;
 import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStageStateDto;
 import com.lol.backend.state.dto.GameStateDto;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -318,6 +320,65 @@ class GameStateStoreImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getGameStage_shouldReadStageFieldsOnly() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        Instant now = Instant.now();
+        gameStateStore.saveGame(new GameStateDto(
+                gameId, UUID.randomUUID(), "RANKED", "BAN", now, now.plusSeconds(60), now, null, null, now));
+
+        // when
+        Optional<GameStageStateDto> stage = gameStateStore.getGameStage(gameId);
+
+        // then
+        assertThat(stage).contains(new GameStageStateDto(gameId, "RANKED", "BAN", now, now.plusSeconds(60)));
+        assertThat(gameStateStore.getGameStage(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void updateGameStage_nullDeadline_shouldRemoveField() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        Instant now = Instant.now();
+        gameStateStore.saveGame(new GameStateDto(
+                gameId, UUID.randomUUID(), "NORMAL", "PLAY", now, now.plusSeconds(60), now, null, null, now));
+
+        // when
+        gameStateStore.updateGameStage(gameId, "FINISHED", now.plusSeconds(60), null);
+
+        // then - null 속성은 Hash 필드로 남지 않는다
+        assertThat(redisTemplate.opsForHash().hasKey(RedisKeyBuilder.game(gameId), "stageDeadlineAt")).isFalse();
+        assertThat(gameStateStore.getGame(gameId)).get()
+                .extracting(GameStateDto::stage, GameStateDto::stageDeadlineAt)
+                .containsExactly("FINISHED", null);
+    }
+
+    @Test
+    void saveGamePlayers_shouldStoreOneHashPerPlayer() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        // when
+        gameStateStore.saveGamePlayers(gameId, List.of(
+                new GamePlayerStateDto(UUID.randomUUID(), gameId, user1, "CONNECTED", 1200,
+                        null, null, null, null, null, null, 3000, null, 12.5, null, now, null, null),
+                new GamePlayerStateDto(UUID.randomUUID(), gameId, user2, "CONNECTED", 900,
+                        null, null, null, null, true, "WIN", 100, 20, 1.0, 2.5, now, null, null)));
+
+        // then
+        assertThat(gameStateStore.getGamePlayerIds(gameId)).containsExactlyInAnyOrder(user1, user2);
+        assertThat(redisTemplate.opsForHash().get(RedisKeyBuilder.gamePlayer(gameId, user1), "expBefore"))
+                .isEqualTo("12.5");
+        assertThat(redisTemplate.opsForHash().hasKey(RedisKeyBuilder.gamePlayer(gameId, user1), "result")).isFalse();
+        assertThat(gameStateStore.getGamePlayer(gameId, user2)).get()
+                .extracting(GamePlayerStateDto::solved, GamePlayerStateDto::result, GamePlayerStateDto::expDelta)
+                .containsExactly(true, "WIN", 2.5);
+    }
+
     @Test
     void deleteGame_shouldRemoveGameAndPlayers() {
         // given
@@ -439,4 +500,30 @@ class GameStateStoreImplTest {
         assertThat(activeGameIds).hasSize(1);
         assertThat(activeGameIds).containsExactly(gameId);
     }
+
+    @Test
+    void getAllActiveGameIds_prunesExpiredGamesFromIndex() {
+        // given
+        UUID aliveId = UUID.randomUUID();
+        UUID expiredId = UUID.randomUUID();
+        Instant now = Instant.now();
+        gameStateStore.saveGame(new GameStateDto(
+                aliveId, UUID.randomUUID(), "RANKED", "PLAY", now, now.plusSeconds(1800),
+                now, null, null, now
+        ));
+        gameStateStore.saveGame(new GameStateDto(
+                expiredId, UUID.randomUUID(), "RANKED", "PLAY", now, now.plusSeconds(1800),
+                now, null, null, now
+        ));
+        // TTL 만료를 흉내 내어 deleteGame을 거치지 않고 본 키만 제거
+        redisTemplate.delete(RedisKeyBuilder.game(expiredId));
+
+        // when
+        List<UUID> activeGameIds = gameStateStore.getAllActiveGameIds();
+
+        // then
+        assertThat(activeGameIds).containsExactly(aliveId);
+        assertThat(redisTemplate.opsForSet().members(RedisKeyBuilder.gameIndex()))
+                .containsExactly(aliveId.toString());
+    }
 }
@@ -0,0 +1,235 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.common.exception.BusinessException;
+import com.lol.backend.common.exception.ErrorCode;
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.room.config.MatchmakingProperties;
+import com.lol.backend.modules.room.dto.CreateRoomRequest;
+import com.lol.backend.modules.room.dto.QuickMatchRequest;
+import com.lol.backend.modules.room.dto.RoomDetailResponse;
+import com.lol.backend.modules.room.event.RoomEventPublisher;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.realtime.presence.PresenceService;
+import com.lol.backend.state.dto.MatchTicketDto;
+import com.lol.backend.state.store.MatchQueueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MatchmakingService 단위 테스트.
+ * - 가장 오래 기다린 티켓 기준으로 점수가 가까운 인원을 골라 방을 만든다
+ * - 오프라인 사용자가 섞이면 방을 만들지 않고 나머지를 되돌린다
+ * - 방 생성/참가에 실패한 사용자는 원래 대기 시작 시각으로 되돌린다
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchmakingServiceTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final String GT = "NORMAL";
+    private static final String LANG = "JAVA";
+
+    @Mock
+    private MatchQueueStore matchQueueStore;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PresenceService presenceService;
+    @Mock
+    private RoomEventPublisher eventPublisher;
+
+    private MatchmakingProperties properties;
+    private MatchmakingService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MatchmakingProperties(3, 100, 10, 1000, 1000, 200, 32, 600_000);
+        service = new MatchmakingService(matchQueueStore, roomService, userRepository, presenceService,
+                eventPublisher, properties, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("허용 점수 차는 대기 시간에 비례해 넓어지고 상한에서 멈춘다")
+    void toleranceFor_widensAndCaps() {
+        assertThat(properties.toleranceFor(0)).isEqualTo(100);
+        assertThat(properties.toleranceFor(30_000)).isEqualTo(400);
+        assertThat(properties.toleranceFor(600_000)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("이미 대기 중이면 INVALID_PLAYER_STATE")
+    void enqueue_throws_whenAlreadyQueued() {
+        UUID userId = UUID.randomUUID();
+        User user = mock(User.class);
+        when(user.getScore()).thenReturn(1200);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(matchQueueStore.enqueue(eq(GT), eq(LANG), any(), eq(600_000L))).thenReturn(false);
+
+        assertThatThrownBy(() -> service.enqueue(userId, new QuickMatchRequest(GameType.NORMAL, Language.JAVA)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PLAYER_STATE);
+    }
+
+    @Test
+    @DisplayName("기준 티켓과 점수가 가장 가까운 인원으로 방을 만들고, 가장 오래 기다린 사용자가 방장이 된다")
+    void match_formsRoomWithClosestScores() {
+        MatchTicketDto anchor = ticket(1000, NOW - 20_000);
+        MatchTicketDto near = ticket(1040, NOW - 5_000);
+        MatchTicketDto nearer = ticket(990, NOW - 1_000);
+        MatchTicketDto far = ticket(1200, NOW - 2_000);
+        UUID roomId = UUID.randomUUID();
+
+        when(matchQueueStore.size(GT, LANG)).thenReturn(4L);
+        when(matchQueueStore.oldest(GT, LANG, 200)).thenReturn(List.of(anchor));
+        // 20초 대기 → 허용 점수 차 300
+        when(matchQueueStore.findNearest(GT, LANG, 1000, 300, 32))
+                .thenReturn(List.of(nearer, anchor, near, far));
+        when(matchQueueStore.claim(eq(GT), eq(LANG), anyList())).thenReturn(true);
+        when(presenceService.getOnline(anyList())).thenReturn(Map.of(
+                anchor.userId(), true, near.userId(), true, nearer.userId(), true));
+        when(roomService.createRoom(eq(anchor.userId()), any()))
+                .thenReturn(new RoomDetailResponse(roomId.toString(), "빠른 매칭 · JAVA",
+                        GameType.NORMAL, Language.JAVA, 3, List.of()));
+
+        int formed = service.match(GameType.NORMAL, Language.JAVA);
+
+        assertThat(formed).isEqualTo(1);
+        verify(matchQueueStore).claim(GT, LANG, List.of(anchor.userId(), nearer.userId(), near.userId()));
+        ArgumentCaptor<CreateRoomRequest> request = ArgumentCaptor.forClass(CreateRoomRequest.class);
+        verify(roomService).createRoom(eq(anchor.userId()), request.capture());
+        assertThat(request.getValue().maxPlayers()).isEqualTo(3);
+        verify(roomService).joinRoom(roomId, near.userId());
+        verify(roomService).joinRoom(roomId, nearer.userId());
+        verify(eventPublisher).matchFound(eq(anchor.userId()), eq(roomId), eq(GT), eq(LANG), anyString());
+        verify(eventPublisher).matchFound(eq(near.userId()), eq(roomId), eq(GT), eq(LANG), anyString());
+        verify(eventPublisher).matchFound(eq(nearer.userId()), eq(roomId), eq(GT), eq(LANG), anyString());
+    }
+
+    @Test
+    @DisplayName("허용 점수 차 안의 인원이 모자라면 꺼내지 않는다")
+    void match_skips_whenNotEnoughCandidates() {
+        MatchTicketDto anchor = ticket(1000, NOW);
+        MatchTicketDto other = ticket(1050, NOW);
+
+        when(matchQueueStore.size(GT, LANG)).thenReturn(5L);
+        when(matchQueueStore.oldest(GT, LANG, 200)).thenReturn(List.of(anchor, other));
+        when(matchQueueStore.findNearest(eq(GT), eq(LANG), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(anchor, other));
+
+        assertThat(service.match(GameType.NORMAL, Language.JAVA)).isZero();
+        verify(matchQueueStore, never()).claim(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("오프라인 사용자는 버리고 나머지는 원래 대기 시작 시각으로 되돌린다")
+    void match_requeuesOnlineMembers_whenSomeoneOffline() {
+        MatchTicketDto anchor = ticket(1000, NOW - 1_000);
+        MatchTicketDto online = ticket(1010, NOW - 500);
+        MatchTicketDto offline = ticket(1020, NOW - 100);
+
+        when(matchQueueStore.size(GT, LANG)).thenReturn(3L);
+        when(matchQueueStore.oldest(GT, LANG, 200)).thenReturn(List.of(anchor));
+        when(matchQueueStore.findNearest(eq(GT), eq(LANG), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(anchor, online, offline));
+        when(matchQueueStore.claim(eq(GT), eq(LANG), anyList())).thenReturn(true);
+        when(presenceService.getOnline(anyList())).thenReturn(Map.of(
+                anchor.userId(), true, online.userId(), true, offline.userId(), false));
+
+        assertThat(service.match(GameType.NORMAL, Language.JAVA)).isZero();
+        verify(roomService, never()).createRoom(any(), any());
+        verify(matchQueueStore).enqueue(GT, LANG, anchor, 599_000L);
+        verify(matchQueueStore).enqueue(GT, LANG, online, 599_500L);
+        verify(matchQueueStore, never()).enqueue(eq(GT), eq(LANG), eq(offline), anyLong());
+    }
+
+    @Test
+    @DisplayName("방 참가에 실패한 멤버는 원래 대기 시작 시각으로 되돌린다")
+    void match_requeuesMember_whenJoinFails() {
+        MatchTicketDto anchor = ticket(1000, NOW - 3_000);
+        MatchTicketDto joined = ticket(1010, NOW - 2_000);
+        MatchTicketDto rejected = ticket(1020, NOW - 1_000);
+        UUID roomId = UUID.randomUUID();
+
+        when(matchQueueStore.size(GT, LANG)).thenReturn(3L);
+        when(matchQueueStore.oldest(GT, LANG, 200)).thenReturn(List.of(anchor));
+        when(matchQueueStore.findNearest(eq(GT), eq(LANG), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(anchor, joined, rejected));
+        when(matchQueueStore.claim(eq(GT), eq(LANG), anyList())).thenReturn(true);
+        when(presenceService.getOnline(anyList())).thenReturn(Map.of(
+                anchor.userId(), true, joined.userId(), true, rejected.userId(), true));
+        when(roomService.createRoom(eq(anchor.userId()), any()))
+                .thenReturn(new RoomDetailResponse(roomId.toString(), "빠른 매칭 · JAVA",
+                        GameType.NORMAL, Language.JAVA, 3, List.of()));
+        doThrow(new IllegalStateException("redis down")).when(roomService).joinRoom(roomId, rejected.userId());
+
+        assertThat(service.match(GameType.NORMAL, Language.JAVA)).isEqualTo(1);
+        verify(eventPublisher).matchFound(eq(joined.userId()), eq(roomId), eq(GT), eq(LANG), anyString());
+        verify(eventPublisher, never()).matchFound(eq(rejected.userId()), any(), any(), any(), any());
+        verify(matchQueueStore).enqueue(GT, LANG, rejected, 599_000L);
+        verify(matchQueueStore, never()).enqueue(eq(GT), eq(LANG), eq(joined), anyLong());
+    }
+
+    @Test
+    @DisplayName("방장 상태 때문에 방을 못 만들면 방장만 빼고, 그 외 실패면 그룹 전체를 되돌린다")
+    void match_requeuesGroup_whenCreateRoomFails() {
+        MatchTicketDto host = ticket(1000, NOW - 3_000);
+        MatchTicketDto a = ticket(1010, NOW - 2_000);
+        MatchTicketDto b = ticket(1020, NOW - 1_000);
+
+        when(matchQueueStore.size(GT, LANG)).thenReturn(3L);
+        when(matchQueueStore.oldest(GT, LANG, 200)).thenReturn(List.of(host));
+        when(matchQueueStore.findNearest(eq(GT), eq(LANG), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(host, a, b));
+        when(matchQueueStore.claim(eq(GT), eq(LANG), anyList())).thenReturn(true);
+        when(presenceService.getOnline(anyList())).thenReturn(Map.of(
+                host.userId(), true, a.userId(), true, b.userId(), true));
+        when(roomService.createRoom(eq(host.userId()), any()))
+                .thenThrow(new BusinessException(ErrorCode.ACTIVE_GAME_EXISTS))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(service.match(GameType.NORMAL, Language.JAVA)).isZero();
+        verify(matchQueueStore, never()).enqueue(eq(GT), eq(LANG), eq(host), anyLong());
+        verify(matchQueueStore).enqueue(GT, LANG, a, 598_000L);
+        verify(matchQueueStore).enqueue(GT, LANG, b, 599_000L);
+
+        assertThat(service.match(GameType.NORMAL, Language.JAVA)).isZero();
+        verify(matchQueueStore).enqueue(GT, LANG, host, 597_000L);
+        verify(matchQueueStore, times(2)).enqueue(GT, LANG, a, 598_000L);
+    }
+
+    private static MatchTicketDto ticket(int score, long enqueuedAtMs) {
+        return new MatchTicketDto(UUID.randomUUID(), score, enqueuedAtMs);
+    }
+}
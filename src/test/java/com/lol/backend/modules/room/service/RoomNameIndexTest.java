@@ -0,0 +1,141 @@
+package com.lol.backend.modules.room.service;
+
+import com.lol.backend.modules.game.entity.GameType;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.state.dto.RoomListChangeDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.store.RoomStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RoomNameIndex 단위 테스트.
+ * - 검색 결과가 기존 contains 스캔과 같은 의미인지
+ * - 로컬 변경은 즉시 반영되고, 다른 노드의 변경은 변경 스트림으로 반영하며 이어 읽을 수 없을 때만 재색인하는지
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomNameIndexTest {
+
+    @Mock
+    private RoomStateStore roomStateStore;
+
+    private RoomNameIndex index;
+
+    private final RoomStateDto javaBeginner = room("초보 자바 한판", "JAVA", "NORMAL");
+    private final RoomStateDto pythonBeginner = room("파이썬 초보만", "PYTHON", "NORMAL");
+    private final RoomStateDto rankedAlgo = room("알고리즘 랭크 고수", "JAVA", "RANKED");
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomNameIndex(roomStateStore);
+        when(roomStateStore.getListVersion()).thenReturn(10L);
+        when(roomStateStore.getAllActiveRooms()).thenReturn(List.of(javaBeginner, pythonBeginner, rankedAlgo));
+        index.syncVersion();
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열로 검색되고 언어/게임 타입 필터가 적용된다")
+    void search_matchesSubstringWithFilters() {
+        assertThat(index.search("초보", null, null))
+                .containsExactlyInAnyOrder(javaBeginner.id(), pythonBeginner.id());
+        assertThat(index.search("초보", Language.PYTHON, null)).containsExactly(pythonBeginner.id());
+        assertThat(index.search("고리즘 랭", null, GameType.RANKED)).containsExactly(rankedAlgo.id());
+        assertThat(index.search("고리즘 랭", null, GameType.NORMAL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 3-gram이 있어도 연속 부분 문자열이 아니면 제외된다")
+    void search_verifiesContiguousMatch() {
+        RoomStateDto scattered = room("자바 한판 자바", "JAVA", "NORMAL");
+        index.put(scattered);
+
+        // "바 한"과 "한판 "은 모두 존재하지만 "바 한판 자"는 scattered에만 있다
+        assertThat(index.search("바 한판 자", null, null)).containsExactly(scattered.id());
+        assertThat(index.search("판 자바 한", null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1글자 검색도 동작한다")
+    void search_singleCharacter() {
+        assertThat(index.search("수", null, null)).containsExactly(rankedAlgo.id());
+    }
+
+    @Test
+    @DisplayName("생성/삭제는 즉시 반영되고, 로컬 변경으로 올라간 버전에는 재색인하지 않는다")
+    void localChanges_skipRebuild() {
+        RoomStateDto created = room("빡겜 연습방", "CPP", "NORMAL");
+        index.put(created);
+        index.observeListVersion(11L);
+        index.remove(javaBeginner.id());
+        index.observeListVersion(12L);
+
+        assertThat(index.search("빡겜", null, null)).containsExactly(created.id());
+        assertThat(index.search("초보", null, null)).containsExactly(pythonBeginner.id());
+
+        when(roomStateStore.getListVersion()).thenReturn(12L);
+        index.syncVersion();
+        verify(roomStateStore, times(1)).getAllActiveRooms();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 변경 스트림에서 그 사이 생성/삭제만 읽어 반영한다")
+    void remoteChange_appliesIncrementally() {
+        RoomStateDto remote = room("원격 노드 방", "JAVA", "NORMAL");
+        when(roomStateStore.getListVersion()).thenReturn(13L);
+        when(roomStateStore.getListChangesSince(10L, 13L)).thenReturn(Optional.of(List.of(
+                change(11L, RoomListChangeDto.upsert(remote)),
+                change(12L, RoomListChangeDto.update(remote.id())),
+                change(13L, RoomListChangeDto.remove(javaBeginner.id())))));
+
+        index.syncVersion();
+
+        assertThat(index.search("원격", null, null)).containsExactly(remote.id());
+        assertThat(index.search("초보", null, null)).containsExactly(pythonBeginner.id());
+        assertThat(index.size()).isEqualTo(3);
+        verify(roomStateStore, times(1)).getAllActiveRooms();
+
+        // 반영한 버전까지는 다시 읽지 않는다
+        index.syncVersion();
+        verify(roomStateStore, times(1)).getListChangesSince(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("변경 스트림이 절삭되어 이어 읽을 수 없으면 전체 재색인한다")
+    void remoteChangeGap_triggersRebuild() {
+        RoomStateDto remote = room("원격 노드 방", "JAVA", "NORMAL");
+        index.observeListVersion(12L);
+        when(roomStateStore.getListVersion()).thenReturn(2_000L);
+        when(roomStateStore.getListChangesSince(10L, 2_000L)).thenReturn(Optional.empty());
+        when(roomStateStore.getAllActiveRooms()).thenReturn(List.of(remote));
+
+        index.syncVersion();
+
+        assertThat(index.search("원격", null, null)).containsExactly(remote.id());
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static RoomListChangeDto change(long version, RoomListChangeDto change) {
+        return new RoomListChangeDto(version, change.roomId(), change.type(),
+                change.roomName(), change.language(), change.gameType());
+    }
+
+    private static RoomStateDto room(String name, String language, String gameType) {
+        Instant now = Instant.now();
+        return new RoomStateDto(UUID.randomUUID(), name, gameType, language, 6, UUID.randomUUID(), null, now, now);
+    }
+}
@@ -1,6 +1,10 @@
 package com.lol.backend.modules.room.state;
 
 import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.dto.RoomKickStateDto;
+import com.lol.backend.state.dto.RoomListChangeDto;
 import com.lol.backend.state.store.RoomStateStore;
 import com.lol.backend.state.dto.RoomPlayerStateDto;
 import com.lol.backend.state.dto.RoomStateDto;
@@ -11,10 +15,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -163,6 +169,31 @@ class RoomStateStoreImplTest {
         assertThat(updated.get().state()).isEqualTo("READY");
     }
 
+    @Test
+    void updatePlayerState_compareAndSet_skipsLeftOrChangedPlayer() {
+        // Given
+        UUID roomId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        roomStateStore.addPlayer(new RoomPlayerStateDto(UUID.randomUUID(), roomId, userId, "UNREADY", now, null, null));
+
+        // When & Then: 기대 state가 다르면 바꾸지 않는다
+        assertThat(roomStateStore.updatePlayerState(roomId, userId, "READY", "DISCONNECTED", now)).isFalse();
+        assertThat(roomStateStore.getPlayer(roomId, userId).get().state()).isEqualTo("UNREADY");
+
+        // When & Then: 기대 state가 같으면 state와 disconnectedAt만 바꾼다
+        assertThat(roomStateStore.updatePlayerState(roomId, userId, "UNREADY", "DISCONNECTED", now)).isTrue();
+        RoomPlayerStateDto disconnected = roomStateStore.getPlayer(roomId, userId).get();
+        assertThat(disconnected.state()).isEqualTo("DISCONNECTED");
+        assertThat(disconnected.disconnectedAt()).isEqualTo(now);
+        assertThat(disconnected.leftAt()).isNull();
+
+        // When & Then: 이미 나간 플레이어는 복구하지 않는다 (leftAt 유지)
+        roomStateStore.markPlayerLeft(roomId, userId, now.plusSeconds(1));
+        assertThat(roomStateStore.updatePlayerState(roomId, userId, "DISCONNECTED", "UNREADY", null)).isFalse();
+        assertThat(roomStateStore.getPlayer(roomId, userId).get().leftAt()).isEqualTo(now.plusSeconds(1));
+    }
+
     @Test
     void deleteRoom_success() {
         // Given
@@ -237,20 +268,116 @@ class RoomStateStoreImplTest {
     }
 
     @Test
-    void incrementListVersion_and_getListVersion_success() {
+    void getAllActiveRooms_prunesExpiredRoomsFromIndex() {
         // Given
-        long initialVersion = roomStateStore.getListVersion();
+        UUID aliveId = UUID.randomUUID();
+        UUID expiredId = UUID.randomUUID();
+        Instant now = Instant.now();
+        roomStateStore.saveRoom(new RoomStateDto(aliveId, "Alive", "RANKED", "JAVA", 4,
+                UUID.randomUUID(), null, now, now));
+        roomStateStore.saveRoom(new RoomStateDto(expiredId, "Expired", "RANKED", "JAVA", 4,
+                UUID.randomUUID(), null, now, now));
+        // TTL 만료를 흉내 내어 deleteRoom을 거치지 않고 본 키만 제거
+        redisTemplate.delete(RedisKeyBuilder.room(expiredId));
+
+        // When
+        List<RoomStateDto> activeRooms = roomStateStore.getAllActiveRooms();
+
+        // Then
+        assertThat(activeRooms).extracting(RoomStateDto::id).containsExactly(aliveId);
+        assertThat(redisTemplate.opsForSet().members(RedisKeyBuilder.roomIndex()))
+                .containsExactly(aliveId.toString());
+    }
+
+    @Test
+    void deleteRoom_removesFromIndex() {
+        // Given
+        UUID roomId = UUID.randomUUID();
+        Instant now = Instant.now();
+        roomStateStore.saveRoom(new RoomStateDto(roomId, "Room", "RANKED", "JAVA", 4,
+                UUID.randomUUID(), null, now, now));
+
+        // When
+        roomStateStore.deleteRoom(roomId);
+
+        // Then
+        assertThat(roomStateStore.getAllActiveRooms()).isEmpty();
+        assertThat(redisTemplate.opsForSet().size(RedisKeyBuilder.roomIndex())).isZero();
+    }
+
+    @Test
+    void getRooms_returnsExistingRoomsInOrder() {
+        // Given
+        UUID hostUserId = UUID.randomUUID();
+        Instant now = Instant.now();
+        RoomStateDto room1 = new RoomStateDto(UUID.randomUUID(), "Room 1", "NORMAL", "JAVA", 4, hostUserId, null, now, now);
+        RoomStateDto room2 = new RoomStateDto(UUID.randomUUID(), "Room 2", "RANKED", "CPP", 6, hostUserId, null, now, now);
+        roomStateStore.saveRoom(room1);
+        roomStateStore.saveRoom(room2);
 
         // When
-        roomStateStore.incrementListVersion();
-        long version1 = roomStateStore.getListVersion();
+        List<RoomStateDto> rooms = roomStateStore.getRooms(List.of(room2.id(), UUID.randomUUID(), room1.id()));
 
-        roomStateStore.incrementListVersion();
-        long version2 = roomStateStore.getListVersion();
+        // Then
+        assertThat(rooms).extracting(RoomStateDto::id).containsExactly(room2.id(), room1.id());
+        assertThat(roomStateStore.getRooms(List.of())).isEmpty();
+    }
+
+    @Test
+    void appendListChange_and_getListChangesSince_success() {
+        // Given
+        long initialVersion = roomStateStore.getListVersion();
+        Instant now = Instant.now();
+        RoomStateDto room = new RoomStateDto(UUID.randomUUID(), "Test Room", "RANKED", "PYTHON", 4,
+                UUID.randomUUID(), null, now, now);
+
+        // When
+        long version1 = roomStateStore.appendListChange(RoomListChangeDto.upsert(room));
+        long version2 = roomStateStore.appendListChange(RoomListChangeDto.update(room.id()));
+        long version3 = roomStateStore.appendListChange(RoomListChangeDto.remove(room.id()));
 
         // Then
         assertThat(version1).isEqualTo(initialVersion + 1);
-        assertThat(version2).isEqualTo(initialVersion + 2);
+        assertThat(version3).isEqualTo(initialVersion + 3);
+        assertThat(roomStateStore.getListVersion()).isEqualTo(version3);
+
+        List<RoomListChangeDto> changes = roomStateStore.getListChangesSince(initialVersion, version3).orElseThrow();
+        assertThat(changes).extracting(RoomListChangeDto::version).containsExactly(version1, version2, version3);
+        assertThat(changes).extracting(RoomListChangeDto::type).containsExactly(
+                RoomListChangeDto.Type.UPSERT, RoomListChangeDto.Type.UPDATE, RoomListChangeDto.Type.REMOVE);
+        assertThat(changes.get(0)).isEqualTo(new RoomListChangeDto(version1, room.id(), RoomListChangeDto.Type.UPSERT,
+                room.roomName(), room.language(), room.gameType()));
+        assertThat(changes.get(2).roomName()).isNull();
+        assertThat(roomStateStore.getListChangesSince(version2, version3).orElseThrow())
+                .extracting(RoomListChangeDto::version).containsExactly(version3);
+        assertThat(roomStateStore.getListChangesSince(version3, version3)).contains(List.of());
+    }
+
+    @Test
+    void getListChangesSince_returnsEmpty_whenChangesMissing() {
+        // Given: 스트림이 사라진 뒤(절삭/초기화) 버전만 올라간 상태
+        long version1 = roomStateStore.appendListChange(RoomListChangeDto.update(UUID.randomUUID()));
+        redisTemplate.delete(RedisKeyBuilder.roomListChanges());
+        long version2 = roomStateStore.appendListChange(RoomListChangeDto.update(UUID.randomUUID()));
+
+        // Then
+        assertThat(roomStateStore.getListChangesSince(version1 - 1, version2)).isEmpty();
+        assertThat(roomStateStore.getListChangesSince(version1, version2)).isPresent();
+    }
+
+    @Test
+    void appendListChange_recoversStream_whenVersionReset() {
+        // Given: 버전 키만 초기화되어 stream 마지막 ID보다 작은 버전이 나오는 경우
+        roomStateStore.appendListChange(RoomListChangeDto.update(UUID.randomUUID()));
+        roomStateStore.appendListChange(RoomListChangeDto.update(UUID.randomUUID()));
+        redisTemplate.delete(RedisKeyBuilder.roomListVersion());
+
+        // When
+        long version = roomStateStore.appendListChange(RoomListChangeDto.update(UUID.randomUUID()));
+
+        // Then
+        assertThat(version).isEqualTo(1L);
+        assertThat(roomStateStore.getListChangesSince(0, version).orElseThrow()).hasSize(1);
     }
 
     @Test
@@ -279,4 +406,25 @@ class RoomStateStoreImplTest {
         Optional<RoomPlayerStateDto> player = roomStateStore.getPlayer(roomId, userId);
         assertThat(player).isEmpty();
     }
+
+    @Test
+    void childKeys_followRoomTtl() {
+        // Given
+        UUID roomId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        roomStateStore.addPlayer(new RoomPlayerStateDto(UUID.randomUUID(), roomId, userId, "READY", now, null, null));
+        roomStateStore.addKick(new RoomKickStateDto(roomId, UUID.randomUUID(), userId, now));
+        redisTemplate.expire(RedisKeyBuilder.roomPlayers(roomId), Duration.ofMinutes(1));
+
+        // When
+        roomStateStore.saveRoom(new RoomStateDto(roomId, "Test Room", "NORMAL", "JAVA", 4, userId, null, now, now));
+
+        // Then
+        long roomTtl = StateTtl.ROOM.toSeconds();
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.roomPlayers(roomId), TimeUnit.SECONDS))
+                .isGreaterThan(roomTtl - 60).isLessThanOrEqualTo(roomTtl);
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.roomKicks(roomId), TimeUnit.SECONDS))
+                .isGreaterThan(roomTtl - 60).isLessThanOrEqualTo(roomTtl);
+    }
 }
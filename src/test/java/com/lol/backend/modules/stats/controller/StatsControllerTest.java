@@ -12,7 +12,9 @@ import com.lol.backend.config.SecurityConfig;
 import com.lol.backend.modules.stats.dto.AlgorithmPickBanRateResponse;
 import com.lol.backend.modules.stats.dto.ListOfAlgorithmPickBanRatesResponse;
 import com.lol.backend.modules.stats.dto.ListOfPlayerRankingsResponse;
+import com.lol.backend.modules.stats.dto.LobbyStatsResponse;
 import com.lol.backend.modules.stats.dto.PlayerRankingResponse;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
 import com.lol.backend.modules.stats.service.StatsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +25,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 @WebMvcTest(StatsController.class)
 @Import({SecurityConfig.class, JwtAuthenticationFilter.class})
@@ -34,6 +37,9 @@ class StatsControllerTest {
     @MockitoBean
     private StatsService statsService;
 
+    @MockitoBean
+    private LobbyStatsService lobbyStatsService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -82,4 +88,20 @@ class StatsControllerTest {
                 .andExpect(jsonPath("$.data.items[0].banRate").value(0.1))
                 .andExpect(jsonPath("$.meta").exists());
     }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    void getLobbyStats_success() throws Exception {
+        when(lobbyStatsService.getLobbyStats()).thenReturn(
+                new LobbyStatsResponse(120, 48, 530, 2100, Map.of("JAVA", 310L, "PYTHON", 220L)));
+
+        mockMvc.perform(get("/api/v1/stats/realtime/lobby"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.onlineUsers").value(120))
+                .andExpect(jsonPath("$.data.inGameUsers").value(48))
+                .andExpect(jsonPath("$.data.dailyActiveUsers").value(530))
+                .andExpect(jsonPath("$.data.monthlyActiveUsers").value(2100))
+                .andExpect(jsonPath("$.data.dailyActiveByLanguage.JAVA").value(310))
+                .andExpect(jsonPath("$.meta").exists());
+    }
 }
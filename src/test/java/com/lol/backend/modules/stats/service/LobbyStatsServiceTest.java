@@ -0,0 +1,207 @@
+package com.lol.backend.modules.stats.service;
+
+import com.lol.backend.modules.stats.config.LobbyStatsProperties;
+import com.lol.backend.modules.user.entity.Language;
+import com.lol.backend.modules.user.entity.User;
+import com.lol.backend.modules.user.repo.UserRepository;
+import com.lol.backend.realtime.presence.PresenceService;
+import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.LobbyStatsStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LobbyStatsService 단위 테스트.
+ * - DAU는 노드에서 사용자당 하루 한 번만 기록하고, KST 일자가 바뀌면 다시 기록한다
+ * - 통계 갱신 실패는 호출자에게 전파하지 않는다
+ * - 접속/게임 중 비트맵은 presence와 활성 게임 참가자로 재구성한다
+ */
+@ExtendWith(MockitoExtension.class)
+class LobbyStatsServiceTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // 2026-03-07 23:30 KST
+    private static final Instant START = Instant.parse("2026-03-07T14:30:00Z");
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 7);
+
+    @Mock
+    private LobbyStatsStore lobbyStatsStore;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PresenceService presenceService;
+    @Mock
+    private GameStateStore gameStateStore;
+
+    private MutableClock clock;
+    private LobbyStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        service = new LobbyStatsService(lobbyStatsStore, userRepository, presenceService, gameStateStore,
+                new LobbyStatsProperties(60_000, 90_000), clock);
+    }
+
+    @Test
+    @DisplayName("같은 날 재접속은 DAU를 다시 기록하지 않고 사용자 조회도 하지 않는다")
+    void userConnected_recordsDailyActiveOncePerDay() {
+        UUID userId = UUID.randomUUID();
+        stubLanguage(userId, Language.JAVA);
+
+        service.userConnected(userId);
+        service.userConnected(userId);
+
+        verify(lobbyStatsStore, times(2)).setOnline(userId, true);
+        verify(lobbyStatsStore, times(1)).recordActive(userId, DAY, "JAVA");
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("KST 자정이 지나면 같은 사용자도 새 일자로 다시 기록한다")
+    void userConnected_recordsAgainAfterDayRollover() {
+        UUID userId = UUID.randomUUID();
+        stubLanguage(userId, Language.PYTHON);
+
+        service.userConnected(userId);
+        clock.set(START.plusSeconds(3600));
+        service.userConnected(userId);
+
+        verify(lobbyStatsStore).recordActive(userId, DAY, "PYTHON");
+        verify(lobbyStatsStore).recordActive(userId, DAY.plusDays(1), "PYTHON");
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 언어별 집계 없이 기록한다")
+    void userConnected_recordsWithoutLanguage_whenUserMissing() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        service.userConnected(userId);
+
+        verify(lobbyStatsStore).recordActive(userId, DAY, null);
+    }
+
+    @Test
+    @DisplayName("DAU 기록에 실패하면 예외를 삼키고, 다음 접속 때 다시 기록한다")
+    void userConnected_swallowsFailure_andRetriesDailyActive() {
+        UUID userId = UUID.randomUUID();
+        stubLanguage(userId, Language.CPP);
+        doThrow(new IllegalStateException("redis down"))
+                .doNothing()
+                .when(lobbyStatsStore).recordActive(userId, DAY, "CPP");
+
+        assertThatCode(() -> service.userConnected(userId)).doesNotThrowAnyException();
+        service.userConnected(userId);
+
+        verify(lobbyStatsStore, times(2)).recordActive(userId, DAY, "CPP");
+    }
+
+    @Test
+    @DisplayName("접속 비트 설정에 실패하면 DAU 기록 없이 예외를 삼킨다")
+    void userConnected_swallowsOnlineFailure() {
+        UUID userId = UUID.randomUUID();
+        doThrow(new IllegalStateException("redis down")).when(lobbyStatsStore).setOnline(userId, true);
+
+        assertThatCode(() -> service.userConnected(userId)).doesNotThrowAnyException();
+        verify(lobbyStatsStore, never()).recordActive(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("해제/게임 중 갱신 실패는 호출자에게 전파하지 않는다")
+    void offlineAndInGame_swallowFailures() {
+        UUID userId = UUID.randomUUID();
+        doThrow(new IllegalStateException("redis down")).when(lobbyStatsStore).setOnline(userId, false);
+        doThrow(new IllegalStateException("redis down")).when(lobbyStatsStore).setInGame(anyCollection(), anyBoolean());
+
+        assertThatCode(() -> service.userOffline(userId)).doesNotThrowAnyException();
+        assertThatCode(() -> service.playersEnteredGame(List.of(userId))).doesNotThrowAnyException();
+        assertThatCode(() -> service.playersLeftGame(List.of(userId))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("재구성은 presence 접속자와 활성 게임 참가자로 비트맵을 교체한다")
+    void rebuildBitmaps_replacesFromPresenceAndActiveGames() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID game1 = UUID.randomUUID();
+        UUID game2 = UUID.randomUUID();
+        when(presenceService.getSeenWithin(90_000)).thenReturn(Set.of(a, b));
+        when(gameStateStore.getAllActiveGameIds()).thenReturn(List.of(game1, game2));
+        when(gameStateStore.getGamePlayerIds(game1)).thenReturn(List.of(a, b));
+        when(gameStateStore.getGamePlayerIds(game2)).thenReturn(List.of(c));
+
+        service.rebuildBitmaps();
+
+        verify(lobbyStatsStore).replaceOnline(Set.of(a, b));
+        verify(lobbyStatsStore).replaceInGame(Set.of(a, b, c));
+    }
+
+    @Test
+    @DisplayName("재구성 실패는 스케줄러 밖으로 전파하지 않는다")
+    void rebuild_swallowsFailure() {
+        when(presenceService.getSeenWithin(90_000)).thenThrow(new IllegalStateException("redis down"));
+
+        assertThatCode(() -> service.rebuild()).doesNotThrowAnyException();
+        verify(lobbyStatsStore, never()).replaceOnline(anyCollection());
+    }
+
+    private void stubLanguage(UUID userId, Language language) {
+        User user = mock(User.class);
+        when(user.getLanguage()).thenReturn(language);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
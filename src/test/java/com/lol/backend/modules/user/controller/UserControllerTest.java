@@ -108,7 +108,7 @@ class UserControllerTest {
 
     @Test
     void getMyStats_success() throws Exception {
-        UserStatsResponse response = new UserStatsResponse(100, 60, 35, 5, 60.0);
+        UserStatsResponse response = new UserStatsResponse(100, 60, 35, 5, 60.0, 3, 7);
 
         when(userService.getMyStats(USER_ID)).thenReturn(response);
 
@@ -120,6 +120,8 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.losses").value(35))
                 .andExpect(jsonPath("$.data.draws").value(5))
                 .andExpect(jsonPath("$.data.winRate").value(60.0))
+                .andExpect(jsonPath("$.data.currentWinStreak").value(3))
+                .andExpect(jsonPath("$.data.bestWinStreak").value(7))
                 .andExpect(jsonPath("$.meta").exists());
     }
 
@@ -127,8 +129,8 @@ class UserControllerTest {
     void getMyMatches_success() throws Exception {
         PagedMatchListResponse response = new PagedMatchListResponse(
                 List.of(
-                        new MatchSummaryResponse("match-1", "RANKED", "WIN", 25, "2025-01-01T00:00:00Z"),
-                        new MatchSummaryResponse("match-2", "NORMAL", "LOSS", -15, "2025-01-02T00:00:00Z")
+                        new MatchSummaryResponse("match-1", "Ranked Room", "RANKED", "WIN", 4, "2025-01-01T00:00:00Z"),
+                        new MatchSummaryResponse("match-2", "Normal Room", "NORMAL", "LOSE", 2, "2025-01-02T00:00:00Z")
                 ),
                 PageInfo.of(20, "next-cursor-abc")
         );
@@ -0,0 +1,129 @@
+package com.lol.backend.modules.user.repo;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.modules.user.entity.UserStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserStats 증분 집계(upsert) 통합 테스트.
+ * - 결과별 카운트 누적, 연승/최고 연승
+ * - 행이 없는 사용자의 첫 정산이 동시에 일어나도 카운터가 유실되지 않는다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class UserStatsRepositoryTest {
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, language) VALUES (?, ?, ?, 'JAVA')",
+                userId, "stats_" + userId, "us_" + userId.toString().substring(0, 8));
+    }
+
+    @Test
+    @DisplayName("결과별 카운트가 누적되고 승률이 계산된다")
+    void upsertResult_accumulatesCounts() {
+        apply(1, 0, 0);
+        apply(0, 1, 0);
+        apply(0, 0, 1);
+        apply(1, 0, 0);
+
+        UserStats stats = userStatsRepository.findById(userId).orElseThrow();
+        assertThat(stats.getGames()).isEqualTo(4);
+        assertThat(stats.getWins()).isEqualTo(2);
+        assertThat(stats.getLosses()).isEqualTo(1);
+        assertThat(stats.getDraws()).isEqualTo(1);
+        assertThat(stats.getWinRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("LOSE/DRAW는 현재 연승을 끊지만 최고 연승은 유지된다")
+    void upsertResult_tracksWinStreaks() {
+        apply(1, 0, 0);
+        apply(1, 0, 0);
+        apply(1, 0, 0);
+        apply(0, 0, 1);
+        apply(1, 0, 0);
+
+        UserStats stats = userStatsRepository.findById(userId).orElseThrow();
+        assertThat(stats.getCurrentWinStreak()).isEqualTo(1);
+        assertThat(stats.getBestWinStreak()).isEqualTo(3);
+
+        apply(0, 1, 0);
+
+        stats = userStatsRepository.findById(userId).orElseThrow();
+        assertThat(stats.getCurrentWinStreak()).isZero();
+        assertThat(stats.getBestWinStreak()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("행이 없는 사용자의 첫 정산이 동시에 일어나도 PK 충돌 없이 모두 누적된다")
+    void upsertResult_concurrentFirstSettlement() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    apply(1, 0, 0);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        UserStats stats = userStatsRepository.findById(userId).orElseThrow();
+        assertThat(stats.getGames()).isEqualTo(threads);
+        assertThat(stats.getWins()).isEqualTo(threads);
+        assertThat(stats.getBestWinStreak()).isEqualTo(threads);
+    }
+
+    @Test
+    @DisplayName("게임이 없으면 승률은 0")
+    void winRate_isZero_whenNoGames() {
+        jdbcTemplate.update("INSERT INTO user_stats (user_id) VALUES (?)", userId);
+
+        assertThat(userStatsRepository.findById(userId).orElseThrow().getWinRate()).isZero();
+    }
+
+    private void apply(int win, int loss, int draw) {
+        transactionTemplate.executeWithoutResult(status -> userStatsRepository.upsertResult(userId, win, loss, draw));
+    }
+}
@@ -0,0 +1,137 @@
+package com.lol.backend.modules.user.service;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.modules.user.dto.MatchSummaryResponse;
+import com.lol.backend.modules.user.dto.PagedMatchListResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전적 목록 keyset 페이징 통합 테스트.
+ * - joined_at 동점 행이 페이지 경계에 걸려도 누락/중복이 없는지 검증
+ * - 사용자당 10,000판 기준으로 전체 페이지 순회 시간을 측정
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class UserMatchHistoryPagingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void getMyMatches_walksAllPages_withoutDropsOnTiedJoinedAt() {
+        UUID userId = seedMatches(53, 5);
+
+        List<MatchSummaryResponse> all = walkAllPages(userId, 7);
+
+        assertThat(all).hasSize(53);
+        assertThat(all.stream().map(MatchSummaryResponse::matchId).distinct().count()).isEqualTo(53);
+        assertThat(all).allSatisfy(m -> assertThat(m.finalPlayers()).isEqualTo(2));
+    }
+
+    @Test
+    void getMyMatches_acceptsLegacyInstantCursor() {
+        UUID userId = seedMatches(10, 1);
+
+        PagedMatchListResponse first = userService.getMyMatches(userId.toString(), null, 3);
+        String legacyCursor = first.items().get(2).playedAt();
+
+        PagedMatchListResponse next = userService.getMyMatches(userId.toString(), legacyCursor, 3);
+
+        assertThat(next.items()).hasSize(3);
+        assertThat(next.items().get(0).matchId()).isNotIn(
+                first.items().stream().map(MatchSummaryResponse::matchId).toList());
+    }
+
+    @Test
+    void getMyMatches_benchmark_10kMatches() {
+        int matches = 10_000;
+        int pageSize = 20;
+        UUID userId = seedMatches(matches, 3);
+        jdbcTemplate.execute("ANALYZE game_player");
+
+        // 워밍업
+        userService.getMyMatches(userId.toString(), null, pageSize);
+
+        long start = System.nanoTime();
+        List<MatchSummaryResponse> all = walkAllPages(userId, pageSize);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Match history benchmark: matches={}, pageSize={}, pages={}, totalMs={}, avgMsPerPage={}",
+                matches, pageSize, matches / pageSize, elapsedMs, (double) elapsedMs / (matches / pageSize));
+
+        assertThat(all).hasSize(matches);
+        Set<String> ids = new HashSet<>();
+        all.forEach(m -> ids.add(m.matchId()));
+        assertThat(ids).hasSize(matches);
+    }
+
+    private List<MatchSummaryResponse> walkAllPages(UUID userId, int pageSize) {
+        List<MatchSummaryResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            PagedMatchListResponse page = userService.getMyMatches(userId.toString(), cursor, pageSize);
+            all.addAll(page.items());
+            cursor = page.page().nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    /**
+     * 사용자 1명 + 상대 1명으로 n판의 종료된 게임을 만든다.
+     * tieGroupSize판마다 같은 joined_at을 공유하여 동점 경계를 만든다.
+     */
+    private UUID seedMatches(int n, int tieGroupSize) {
+        UUID userId = UUID.randomUUID();
+        UUID opponentId = UUID.randomUUID();
+        String suffix = userId.toString().substring(0, 8);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (id, kakao_id, nickname, language) VALUES
+                (?, ?, ?, 'JAVA'), (?, ?, ?, 'JAVA')
+                """,
+                userId, "bench_" + userId, "b_" + suffix,
+                opponentId, "bench_" + opponentId, "o_" + suffix);
+
+        jdbcTemplate.update("""
+                WITH seq AS (
+                    SELECT i, gen_random_uuid() AS room_id, gen_random_uuid() AS game_id,
+                           TIMESTAMPTZ '2025-01-01 00:00:00+00' + ((i / ?) * INTERVAL '1 minute') AS played_at
+                    FROM generate_series(0, ? - 1) AS i
+                ),
+                rooms AS (
+                    INSERT INTO room (id, room_name, game_type, language, max_players, host_user_id)
+                    SELECT room_id, 'bench room ' || i, 'RANKED', 'JAVA', 2, ? FROM seq
+                ),
+                games AS (
+                    INSERT INTO game (id, room_id, game_type, stage, started_at, finished_at)
+                    SELECT game_id, room_id, 'RANKED', 'FINISHED', played_at, played_at FROM seq
+                )
+                INSERT INTO game_player (game_id, user_id, state, result, joined_at)
+                SELECT game_id, ?, 'LEFT', CASE WHEN i % 2 = 0 THEN 'WIN' ELSE 'LOSE' END, played_at FROM seq
+                UNION ALL
+                SELECT game_id, ?, 'LEFT', CASE WHEN i % 2 = 0 THEN 'LOSE' ELSE 'WIN' END, played_at FROM seq
+                """,
+                tieGroupSize, n, userId, userId, opponentId);
+
+        return userId;
+    }
+}
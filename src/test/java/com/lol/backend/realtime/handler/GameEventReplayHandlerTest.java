@@ -0,0 +1,103 @@
+package com.lol.backend.realtime.handler;
+
+import com.lol.backend.realtime.support.EventPublisher;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.store.GameStateStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * GameEventReplayHandler 단위 테스트.
+ * - since 헤더가 있는 게임 토픽 재구독만 참가자에게 replay한다
+ */
+@ExtendWith(MockitoExtension.class)
+class GameEventReplayHandlerTest {
+
+    @Mock
+    private EventPublisher eventPublisher;
+    @Mock
+    private GameStateStore gameStateStore;
+
+    @InjectMocks
+    private GameEventReplayHandler handler;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("참가자가 since 헤더로 게임 토픽을 구독하면 그 이후 이벤트를 replay한다")
+    void handleSubscribe_participantWithSince_replays() {
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.of(gamePlayer()));
+
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, "12", userId));
+
+        verify(eventPublisher).replayGameEvents(userId.toString(), gameId, 12L);
+    }
+
+    @Test
+    @DisplayName("since 헤더가 없으면 replay하지 않는다")
+    void handleSubscribe_withoutSince_ignored() {
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, null, userId));
+
+        verifyNoInteractions(gameStateStore, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("참가자가 아니면 replay하지 않는다")
+    void handleSubscribe_nonParticipant_denied() {
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.empty());
+
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, "3", userId));
+
+        verify(eventPublisher, never()).replayGameEvents(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("게임 토픽이 아니거나 since가 숫자가 아니거나 음수면 무시한다")
+    void handleSubscribe_invalidRequests_ignored() {
+        handler.handleSubscribe(subscribe("/topic/rooms/" + gameId + "/lobby", "3", userId));
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, "abc", userId));
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, "-1", userId));
+        handler.handleSubscribe(subscribe("/topic/games/" + gameId, "3", null));
+
+        verifyNoInteractions(gameStateStore, eventPublisher);
+    }
+
+    private SessionSubscribeEvent subscribe(String destination, String since, UUID principalId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        if (since != null) {
+            accessor.addNativeHeader(GameEventReplayHandler.SINCE_HEADER, since);
+        }
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Principal user = principalId != null ? principalId::toString : null;
+        return new SessionSubscribeEvent(this, message, user);
+    }
+
+    private GamePlayerStateDto gamePlayer() {
+        return new GamePlayerStateDto(UUID.randomUUID(), gameId, userId, "CONNECTED", 1000, null, null, null, null,
+                null, null, null, null, null, null, Instant.now(), null, null);
+    }
+}
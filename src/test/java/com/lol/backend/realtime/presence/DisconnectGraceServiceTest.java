@@ -0,0 +1,386 @@
+package com.lol.backend.realtime.presence;
+
+import com.lol.backend.modules.room.event.RoomEventPublisher;
+import com.lol.backend.modules.room.service.RoomService;
+import com.lol.backend.modules.stats.service.LobbyStatsService;
+import com.lol.backend.realtime.config.DisconnectProperties;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.RoomPlayerStateDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.dto.UserMembershipDto;
+import com.lol.backend.state.store.GameStateStore;
+import com.lol.backend.state.store.RoomStateStore;
+import com.lol.backend.state.store.UserMembershipStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DisconnectGraceService 단위 테스트.
+ * - 마지막 세션 종료 후 grace 경과 시 DISCONNECTED 표시, leave-timeout 경과 시 대기실 자동 퇴장
+ * - 재접속 또는 다른 노드의 활동이 있으면 진행하지 않는다
+ * - 끊김 이벤트가 없던 사용자(죽은 노드)도 presence sweep으로 같은 단계를 진행한다
+ *   (모든 활성 룸/게임을 돌지 않고 lastSeen 구간 조회 + 사용자 참가 인덱스로 대상만 확인)
+ */
+@ExtendWith(MockitoExtension.class)
+class DisconnectGraceServiceTest {
+
+    private static final long START = 1_000_000L;
+    private static final long GRACE = 20_000L;
+    private static final long LEAVE = 60_000L;
+
+    @Mock
+    private RoomStateStore roomStateStore;
+    @Mock
+    private GameStateStore gameStateStore;
+    @Mock
+    private UserMembershipStore userMembershipStore;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private RoomEventPublisher roomEventPublisher;
+    @Mock
+    private PresenceService presenceService;
+    @Mock
+    private LobbyStatsService lobbyStatsService;
+
+    private MutableClock clock;
+    private DisconnectGraceService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID roomId = UUID.randomUUID();
+    private final UUID gameId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        service = new DisconnectGraceService(roomStateStore, gameStateStore, userMembershipStore, roomService,
+                roomEventPublisher,
+                presenceService, lobbyStatsService, new DisconnectProperties(GRACE, LEAVE, 1_000, 16, 15_000), clock);
+    }
+
+    @Test
+    @DisplayName("grace 경과 시 룸 플레이어를 DISCONNECTED로 표시하고, leave-timeout 경과 시 자동 퇴장시킨다")
+    void roomPlayer_markedThenLeft() {
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(roomPlayer("UNREADY")));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.of(room(UUID.randomUUID(), null)));
+        when(roomStateStore.updatePlayerState(roomId, userId, "UNREADY", "DISCONNECTED", Instant.ofEpochMilli(START)))
+                .thenReturn(true);
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START));
+
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/rooms/" + roomId + "/lobby");
+        service.onDisconnected(userId, "s1");
+
+        clock.set(START + GRACE - 1_000);
+        service.tick();
+        verify(roomStateStore, never()).updatePlayerState(any(), any(), any(), any(), any());
+
+        clock.set(START + GRACE);
+        service.tick();
+        verify(roomStateStore).updatePlayerState(roomId, userId, "UNREADY", "DISCONNECTED", Instant.ofEpochMilli(START));
+        verify(roomEventPublisher).playerStateChanged(eq(roomId), eq(userId), eq("DISCONNECTED"), anyString());
+
+        clock.set(START + LEAVE);
+        service.tick();
+        verify(roomService).leaveRoom(roomId, userId);
+        assertThat(service.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("grace 안에 재접속하면 타이머가 취소된다")
+    void reconnectWithinGrace_cancelsTimer() {
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/games/" + gameId);
+        service.onDisconnected(userId, "s1");
+        assertThat(service.pendingTimers()).isEqualTo(1);
+
+        service.onConnected(userId, "s2");
+        clock.set(START + GRACE);
+        service.tick();
+
+        assertThat(service.pendingTimers()).isZero();
+        verify(gameStateStore, never()).updateGamePlayerState(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("세션이 남아 있으면 타이머를 등록하지 않는다")
+    void otherSessionOpen_doesNotSchedule() {
+        service.onConnected(userId, "s1");
+        service.onConnected(userId, "s2");
+        service.onSubscribed(userId, "/topic/games/" + gameId);
+        service.onDisconnected(userId, "s1");
+
+        assertThat(service.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("룸/게임이 없는 사용자도 grace 경과 시 오프라인으로 확정된다")
+    void noRoomOrGame_onlyMarksOffline() {
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START));
+        service.onConnected(userId, "s1");
+        service.onDisconnected(userId, "s1");
+
+        clock.set(START + GRACE);
+        service.tick();
+
+        verify(lobbyStatsService).userOffline(userId);
+        verify(roomStateStore, never()).getPlayer(any(), any());
+        assertThat(service.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("끊긴 뒤 다른 노드에서 활동이 있으면 DISCONNECTED로 표시하지 않는다")
+    void activeElsewhere_skipsMark() {
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/games/" + gameId);
+        service.onDisconnected(userId, "s1");
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START + 5_000));
+
+        clock.set(START + GRACE);
+        service.tick();
+
+        verify(gameStateStore, never()).updateGamePlayerState(any(), any(), any(), any(), any());
+        verify(lobbyStatsService, never()).userOffline(any());
+        assertThat(service.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("게임 플레이어는 DISCONNECTED로 표시되고, 게임 중인 방에서는 자동 퇴장하지 않는다")
+    void gamePlayer_markedButRoomInGameNotLeft() {
+        RoomPlayerStateDto roomPlayer = roomPlayer("READY");
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(roomPlayer));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.of(room(UUID.randomUUID(), gameId)));
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START));
+
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/rooms/" + roomId + "/lobby");
+        service.onSubscribed(userId, "/topic/games/" + gameId);
+        service.onDisconnected(userId, "s1");
+
+        clock.set(START + GRACE);
+        service.tick();
+        verify(gameStateStore).updateGamePlayerState(gameId, userId, "CONNECTED", "DISCONNECTED",
+                Instant.ofEpochMilli(START));
+
+        clock.set(START + LEAVE);
+        service.tick();
+        verify(roomService, never()).leaveRoom(any(), any());
+    }
+
+    @Test
+    @DisplayName("재구독 시 DISCONNECTED 룸 플레이어는 방장이면 READY, 아니면 UNREADY로 복구된다")
+    void resubscribe_restoresRoomPlayer() {
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(roomPlayer("DISCONNECTED")));
+        when(roomStateStore.getRoom(roomId)).thenReturn(Optional.of(room(userId, null)));
+        when(roomStateStore.updatePlayerState(roomId, userId, "DISCONNECTED", "READY", null)).thenReturn(true);
+
+        service.onConnected(userId, "s2");
+        service.onSubscribed(userId, "/topic/rooms/" + roomId + "/lobby");
+
+        verify(roomStateStore).updatePlayerState(roomId, userId, "DISCONNECTED", "READY", null);
+        verify(roomEventPublisher).playerStateChanged(eq(roomId), eq(userId), eq("READY"), anyString());
+        verify(roomStateStore, never()).addPlayer(any());
+    }
+
+    @Test
+    @DisplayName("DISCONNECTED 표시 직전에 퇴장한 플레이어는 CAS가 실패하므로 이벤트를 발행하지 않는다")
+    void markDisconnected_playerLeftConcurrently_noEvent() {
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(roomPlayer("UNREADY")));
+        when(roomStateStore.updatePlayerState(roomId, userId, "UNREADY", "DISCONNECTED", Instant.ofEpochMilli(START)))
+                .thenReturn(false);
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START));
+
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/rooms/" + roomId + "/lobby");
+        service.onDisconnected(userId, "s1");
+        clock.set(START + GRACE);
+        service.tick();
+
+        verify(roomEventPublisher, never()).playerStateChanged(any(), any(), any(), any());
+        verify(roomStateStore, never()).addPlayer(any());
+    }
+
+    @Test
+    @DisplayName("재구독 시 DISCONNECTED 게임 플레이어는 state 필드만 CONNECTED로 복구된다")
+    void resubscribe_restoresGamePlayerFieldOnly() {
+        service.onConnected(userId, "s2");
+        service.onSubscribed(userId, "/topic/games/" + gameId);
+
+        verify(gameStateStore).updateGamePlayerState(gameId, userId, "DISCONNECTED", "CONNECTED", null);
+        verify(gameStateStore, never()).updateGamePlayer(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("sweep - 다른 노드가 죽어 끊김 이벤트가 없던 룸 플레이어도 lastSeen 기준으로 DISCONNECTED 후 자동 퇴장된다")
+    void sweep_stalePresence_marksThenLeavesRoomPlayer() {
+        givenLastSeen(START);
+        when(userMembershipStore.getMemberships(Set.of(userId)))
+                .thenReturn(Map.of(userId, new UserMembershipDto(Set.of(roomId), Set.of())));
+        when(roomStateStore.getRooms(Set.of(roomId))).thenReturn(List.of(room(UUID.randomUUID(), null)));
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(roomPlayer("UNREADY")));
+        when(roomStateStore.updatePlayerState(roomId, userId, "UNREADY", "DISCONNECTED", Instant.ofEpochMilli(START)))
+                .thenReturn(true);
+
+        clock.set(START + GRACE - 1_000);
+        service.sweepStale();
+        verify(userMembershipStore, never()).getMemberships(any());
+        verify(roomStateStore, never()).updatePlayerState(any(), any(), any(), any(), any());
+
+        clock.set(START + GRACE);
+        service.sweepStale();
+        verify(roomEventPublisher).playerStateChanged(eq(roomId), eq(userId), eq("DISCONNECTED"), anyString());
+        verify(roomService, never()).leaveRoom(any(), any());
+
+        when(roomStateStore.getPlayer(roomId, userId)).thenReturn(Optional.of(new RoomPlayerStateDto(UUID.randomUUID(),
+                roomId, userId, "DISCONNECTED", Instant.ofEpochMilli(START), null, Instant.ofEpochMilli(START))));
+        clock.set(START + LEAVE);
+        service.sweepStale();
+        verify(roomService).leaveRoom(roomId, userId);
+
+        // 활성 룸/게임 전체를 훑지 않는다
+        verify(roomStateStore, never()).getAllActiveRooms();
+        verify(gameStateStore, never()).getAllActiveGameIds();
+    }
+
+    @Test
+    @DisplayName("sweep - lastSeen이 오래된 게임 플레이어는 state 필드만 DISCONNECTED로 바뀐다")
+    void sweep_stalePresence_marksGamePlayer() {
+        givenLastSeen(START + 5_000);
+        when(userMembershipStore.getMemberships(Set.of(userId)))
+                .thenReturn(Map.of(userId, new UserMembershipDto(Set.of(), Set.of(gameId))));
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.of(gamePlayer("CONNECTED")));
+
+        clock.set(START + 5_000 + GRACE);
+        service.sweepStale();
+
+        verify(gameStateStore).updateGamePlayerState(gameId, userId, "CONNECTED", "DISCONNECTED",
+                Instant.ofEpochMilli(START + 5_000));
+    }
+
+    @Test
+    @DisplayName("sweep - 첫 sweep은 보존 기간 전체를, 이후에는 직전 sweep 기준 leave-timeout 이내 구간만 조회한다")
+    void sweep_narrowsPresenceWindowAfterFirstRun() {
+        when(presenceService.getLastSeenBetween(anyLong(), anyLong())).thenReturn(Map.of());
+
+        clock.set(START);
+        service.sweepStale();
+        clock.set(START + 15_000);
+        service.sweepStale();
+
+        verify(presenceService).getLastSeenBetween(0L, START - GRACE);
+        verify(presenceService).getLastSeenBetween(START - LEAVE, START + 15_000 - GRACE);
+    }
+
+    @Test
+    @DisplayName("sweep - 참가 인덱스에만 남은 룸/게임 항목은 실제 상태를 확인한 뒤 지운다")
+    void sweep_removesIndexEntriesWithoutPlayer() {
+        givenLastSeen(START);
+        when(userMembershipStore.getMemberships(Set.of(userId)))
+                .thenReturn(Map.of(userId, new UserMembershipDto(Set.of(roomId), Set.of(gameId))));
+        when(roomStateStore.getRooms(Set.of(roomId))).thenReturn(List.of());
+        when(gameStateStore.getGamePlayer(gameId, userId)).thenReturn(Optional.empty());
+
+        clock.set(START + GRACE);
+        service.sweepStale();
+
+        verify(userMembershipStore).removeRoom(List.of(userId), roomId);
+        verify(userMembershipStore).removeGame(List.of(userId), gameId);
+        verify(roomStateStore, never()).updatePlayerState(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("sweep - 이 노드에 세션이 열린 사용자는 건너뛰고, 더 이상 참가하지 않는 룸 구독 기록은 정리한다")
+    void sweep_skipsLocalSessionsAndPrunesSubscriptions() {
+        when(presenceService.getLastSeenBetween(anyLong(), anyLong())).thenReturn(Map.of(userId, START));
+        when(userMembershipStore.getMemberships(List.of(userId))).thenReturn(Map.of());
+        when(presenceService.getLastSeen(anyCollection())).thenReturn(Map.of(userId, START));
+
+        service.onConnected(userId, "s1");
+        service.onSubscribed(userId, "/topic/rooms/" + roomId + "/lobby");
+        clock.set(START + 1_000);
+        service.sweepStale();
+
+        service.onDisconnected(userId, "s1");
+        clock.set(START + 1_000 + GRACE);
+        service.tick();
+
+        // 구독 기록이 정리되어 오프라인 확정만 하고 룸은 건드리지 않는다
+        verify(lobbyStatsService).userOffline(userId);
+        verify(roomStateStore, never()).updatePlayerState(any(), any(), any(), any(), any());
+        verify(roomStateStore, never()).getPlayer(any(), any());
+    }
+
+    /**
+     * presence 구간 조회가 구간 끝이 lastSeen 이후일 때만 사용자를 돌려주도록 한다.
+     */
+    private void givenLastSeen(long lastSeenMs) {
+        when(presenceService.getLastSeenBetween(anyLong(), anyLong())).thenAnswer(invocation ->
+                invocation.<Long>getArgument(1) >= lastSeenMs ? Map.of(userId, lastSeenMs) : Map.of());
+    }
+
+    private RoomPlayerStateDto roomPlayer(String state) {
+        return new RoomPlayerStateDto(UUID.randomUUID(), roomId, userId, state, Instant.ofEpochMilli(START), null, null);
+    }
+
+    private RoomStateDto room(UUID hostUserId, UUID activeGameId) {
+        Instant now = Instant.ofEpochMilli(START);
+        return new RoomStateDto(roomId, "room", "NORMAL", "JAVA", 6, hostUserId, activeGameId, now, now);
+    }
+
+    private GamePlayerStateDto gamePlayer(String state) {
+        return new GamePlayerStateDto(UUID.randomUUID(), gameId, userId, state, 1000, null, null, null, null,
+                null, null, null, null, null, null, Instant.ofEpochMilli(START), null, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void set(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.lol.backend.realtime.presence;
+
+import com.lol.backend.realtime.config.PresenceProperties;
+import com.lol.backend.state.store.PresenceStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PresenceService 단위 테스트.
+ * - touch는 로컬에만 쌓이고 flush에서 한 번에 기록된다
+ * - 온라인 판정은 Redis 값과 미반영 로컬 값 중 최신을 사용한다
+ */
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Mock
+    private PresenceStore presenceStore;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        presenceService = new PresenceService(presenceStore, new PresenceProperties(10_000, 5_000, 30_000, 60_000, 60_000), clock);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("여러 번 touch해도 flush마다 한 번의 배치로 기록되고, 이후 flush는 비어 있다")
+    void flush_recordsBatchOnce() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        presenceService.touch(a);
+        presenceService.touch(a);
+        presenceService.touch(b);
+
+        presenceService.flush();
+        presenceService.flush();
+
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(presenceStore, times(1)).recordAll(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(a, b);
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 다음 flush에서 다시 시도한다")
+    void flush_retainsPendingOnFailure() {
+        presenceService.touch(UUID.randomUUID());
+        doThrow(new RuntimeException("redis down")).when(presenceStore).recordAll(anyMap());
+
+        presenceService.flush();
+        presenceService.flush();
+
+        verify(presenceStore, times(2)).recordAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("online window 이내 활동만 온라인이며, 미반영 로컬 활동도 반영된다")
+    void getOnline_usesWindowAndPending() {
+        UUID recent = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID local = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        List<UUID> ids = List.of(recent, stale, local, unknown);
+        when(presenceStore.getLastSeen(ids)).thenReturn(Map.of(
+                recent, NOW - 10_000,
+                stale, NOW - 31_000));
+        presenceService.touch(local);
+
+        Map<UUID, Boolean> online = presenceService.getOnline(ids);
+
+        assertThat(online).containsExactlyInAnyOrderEntriesOf(Map.of(
+                recent, true,
+                stale, false,
+                local, true,
+                unknown, false));
+    }
+
+    @Test
+    @DisplayName("구간 조회는 미반영 로컬 활동이 구간 이후면 제외하고, 구간 안이면 포함한다")
+    void getLastSeenBetween_appliesPending() {
+        UUID stale = UUID.randomUUID();
+        UUID activeHere = UUID.randomUUID();
+        when(presenceStore.getSeenBetween(NOW - 60_000, NOW - 20_000)).thenReturn(Map.of(
+                stale, NOW - 30_000,
+                activeHere, NOW - 40_000));
+        presenceService.touch(activeHere);
+
+        assertThat(presenceService.getLastSeenBetween(NOW - 60_000, NOW - 20_000))
+                .containsExactlyEntriesOf(Map.of(stale, NOW - 30_000));
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 flush는 Redis를 호출하지 않는다")
+    void flush_skipsWhenEmpty() {
+        presenceService.flush();
+
+        verify(presenceStore, never()).recordAll(anyMap());
+    }
+}
@@ -0,0 +1,70 @@
+package com.lol.backend.realtime.presence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimerWheel 단위 테스트.
+ */
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("deadline이 지난 tick에서만 만료된다")
+    void advance_expiresAtDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴를 넘는 deadline은 해당 바퀴가 올 때까지 유지된다")
+    void advance_keepsTimersBeyondOneRevolution() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 4, 0);
+        wheel.schedule("far", 1_000);
+
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(900)).isEmpty();
+        assertThat(wheel.advance(1_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 한 번에 건너뛰어도 지난 타이머가 모두 만료된다")
+    void advance_catchesUpAfterLongPause() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 4, 0);
+        wheel.schedule("a", 100);
+        wheel.schedule("b", 350);
+        wheel.schedule("c", 5_000);
+
+        assertThat(wheel.advance(2_000)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재등록은 기존 타이머를 교체하고, 취소된 타이머는 만료되지 않는다")
+    void scheduleAndCancel() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 200);
+        wheel.schedule("a", 500);
+        wheel.schedule("b", 200);
+
+        assertThat(wheel.cancel("b")).isTrue();
+        assertThat(wheel.cancel("b")).isFalse();
+        assertThat(wheel.advance(300)).isEmpty();
+        assertThat(wheel.advance(500)).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("이미 지난 deadline은 다음 tick에 만료된다")
+    void schedule_pastDeadline_firesOnNextTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 1_000);
+        wheel.schedule("late", 500);
+
+        assertThat(wheel.advance(1_050)).isEmpty();
+        assertThat(wheel.advance(1_100)).containsExactly("late");
+    }
+}
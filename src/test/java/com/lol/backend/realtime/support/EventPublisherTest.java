@@ -0,0 +1,177 @@
+package com.lol.backend.realtime.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.realtime.config.EventLogProperties;
+import com.lol.backend.realtime.dto.EventEnvelope;
+import com.lol.backend.realtime.dto.EventType;
+import com.lol.backend.state.dto.GameEventLogEntryDto;
+import com.lol.backend.state.store.GameEventLogStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EventPublisher 단위 테스트.
+ * - 게임 토픽 이벤트의 seq 부여(withGameLogSeq)와 로그 실패 시 seq 없는 발행
+ * - 같은 게임의 동시 발행이 seq 순서대로 전송되는지
+ * - replayGameEvents의 재전송/RESYNC_REQUIRED
+ */
+@ExtendWith(MockitoExtension.class)
+class EventPublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private GameEventLogStore gameEventLogStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final UUID gameId = UUID.randomUUID();
+    private EventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = new EventPublisher(messagingTemplate, new ServerMetrics(new SimpleMeterRegistry()),
+                gameEventLogStore, objectMapper, new EventLogProperties(1000, 2));
+    }
+
+    @Test
+    @DisplayName("withGameLogSeq - 로그에 추가한 seq를 meta.seq로 부여한다")
+    void withGameLogSeq_assignsAppendedSeq() {
+        when(gameEventLogStore.append(eq(gameId), anyString())).thenReturn(7L);
+
+        EventEnvelope<Map<String, String>> envelope =
+                eventPublisher.withGameLogSeq(gameId, EventEnvelope.of(EventType.GAME_STAGE_CHANGED, Map.of("k", "v")));
+
+        assertThat(envelope.meta().seq()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("withGameLogSeq - 로그 추가가 실패하면 seq 없이 그대로 반환한다")
+    void withGameLogSeq_appendFailure_returnsWithoutSeq() {
+        when(gameEventLogStore.append(eq(gameId), anyString())).thenThrow(new IllegalStateException("redis down"));
+
+        EventEnvelope<String> envelope =
+                eventPublisher.withGameLogSeq(gameId, EventEnvelope.of(EventType.GAME_STAGE_CHANGED, "data"));
+
+        assertThat(envelope.meta().seq()).isNull();
+    }
+
+    @Test
+    @DisplayName("broadcast - 게임 토픽은 seq를 붙여 전송하고, 그 외 토픽은 로그에 남기지 않는다")
+    void broadcast_gameTopicGetsSeq_otherTopicsSkipLog() {
+        when(gameEventLogStore.append(eq(gameId), anyString())).thenReturn(3L);
+
+        eventPublisher.broadcast("/topic/games/" + gameId, EventType.GAME_STAGE_CHANGED, "data");
+        eventPublisher.broadcast("/topic/rooms/list", EventType.GAME_STAGE_CHANGED, "data");
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/games/" + gameId), captor.capture());
+        assertThat(((EventEnvelope<?>) captor.getValue()).meta().seq()).isEqualTo(3L);
+        verify(messagingTemplate).convertAndSend(eq("/topic/rooms/list"), any(Object.class));
+        verify(gameEventLogStore, times(1)).append(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("broadcast - 같은 게임의 동시 발행은 부여된 seq 순서대로 전송된다")
+    void broadcast_concurrentPublishers_sendInSeqOrder() throws Exception {
+        AtomicLong seq = new AtomicLong();
+        when(gameEventLogStore.append(eq(gameId), anyString())).thenAnswer(inv -> {
+            long assigned = seq.incrementAndGet();
+            Thread.yield();
+            return assigned;
+        });
+        List<Long> sent = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            sent.add(((EventEnvelope<?>) inv.getArgument(1)).meta().seq());
+            return null;
+        }).when(messagingTemplate).convertAndSend(eq("/topic/games/" + gameId), any(Object.class));
+
+        int threads = 8;
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        eventPublisher.broadcast("/topic/games/" + gameId, EventType.GAME_ITEM_PURCHASED, j);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(sent).hasSize(threads * perThread).isSorted();
+    }
+
+    @Test
+    @DisplayName("replayGameEvents - 누락분을 meta.seq와 함께 순서대로 /queue/replay로 보낸다")
+    void replayGameEvents_sendsEntriesInOrder() throws Exception {
+        String json1 = objectMapper.writeValueAsString(EventEnvelope.of(EventType.GAME_BAN_SUBMITTED, "a"));
+        String json2 = objectMapper.writeValueAsString(EventEnvelope.of(EventType.GAME_PICK_SUBMITTED, "b"));
+        when(gameEventLogStore.readSince(gameId, 4L, 2)).thenReturn(Optional.of(List.of(
+                new GameEventLogEntryDto(5L, json1),
+                new GameEventLogEntryDto(6L, json2))));
+
+        eventPublisher.replayGameEvents("user-1", gameId, 4L);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("user-1"), eq("/queue/replay"), captor.capture());
+        List<Object> replayed = captor.getAllValues();
+        assertThat(((JsonNode) replayed.get(0)).get("meta").get("seq").asLong()).isEqualTo(5L);
+        assertThat(((JsonNode) replayed.get(0)).get("type").asText()).isEqualTo("GAME_BAN_SUBMITTED");
+        assertThat(((JsonNode) replayed.get(1)).get("meta").get("seq").asLong()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("replayGameEvents - 누락분이 로그에 없으면 RESYNC_REQUIRED를 보낸다")
+    void replayGameEvents_unavailable_sendsResyncRequired() {
+        when(gameEventLogStore.readSince(gameId, 1L, 2)).thenReturn(Optional.empty());
+
+        eventPublisher.replayGameEvents("user-1", gameId, 1L);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("user-1"), eq("/queue/replay"), captor.capture());
+        assertThat(((EventEnvelope<?>) captor.getValue()).type()).isEqualTo(EventType.RESYNC_REQUIRED);
+        verify(gameEventLogStore, never()).append(any(), anyString());
+    }
+}
@@ -2,6 +2,8 @@ package com.lol.backend.state;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,80 +22,157 @@ class RedisKeyBuilderTest {
     @Test
     void room_returnsCorrectKey() {
         String key = RedisKeyBuilder.room(ROOM_ID);
-        assertThat(key).isEqualTo("room:11111111-1111-1111-1111-111111111111");
+        assertThat(key).isEqualTo("room:{11111111-1111-1111-1111-111111111111}");
     }
 
     @Test
     void roomPlayers_returnsCorrectKey() {
         String key = RedisKeyBuilder.roomPlayers(ROOM_ID);
-        assertThat(key).isEqualTo("room:11111111-1111-1111-1111-111111111111:players");
+        assertThat(key).isEqualTo("room:{11111111-1111-1111-1111-111111111111}:players");
     }
 
     @Test
     void roomListVersion_returnsCorrectKey() {
         String key = RedisKeyBuilder.roomListVersion();
-        assertThat(key).isEqualTo("room:list:version");
+        assertThat(key).isEqualTo("room:{list}:version");
+        // 버전과 변경 스트림은 한 스크립트에서 함께 갱신하므로 같은 hash tag
+        assertThat(RedisKeyBuilder.roomListChanges()).isEqualTo("room:{list}:changes");
+    }
+
+    @Test
+    void matchKeys_returnCorrectKeys() {
+        assertThat(RedisKeyBuilder.matchQueue("RANKED", "JAVA")).isEqualTo("match:{RANKED:JAVA}:queue");
+        assertThat(RedisKeyBuilder.matchWaiting("RANKED", "JAVA")).isEqualTo("match:{RANKED:JAVA}:waiting");
+        assertThat(RedisKeyBuilder.matchTicket(USER_ID)).isEqualTo("match:ticket:33333333-3333-3333-3333-333333333333");
     }
 
     @Test
     void game_returnsCorrectKey() {
         String key = RedisKeyBuilder.game(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}");
     }
 
     @Test
     void gamePlayers_returnsCorrectKey() {
         String key = RedisKeyBuilder.gamePlayers(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:players");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:players");
     }
 
     @Test
     void gamePlayer_returnsCorrectKey() {
         String key = RedisKeyBuilder.gamePlayer(GAME_ID, USER_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:players:33333333-3333-3333-3333-333333333333");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:players:33333333-3333-3333-3333-333333333333");
     }
 
     @Test
     void gameBans_returnsCorrectKey() {
         String key = RedisKeyBuilder.gameBans(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:bans");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:bans");
     }
 
     @Test
     void gamePicks_returnsCorrectKey() {
         String key = RedisKeyBuilder.gamePicks(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:picks");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:picks");
     }
 
     @Test
     void gamePurchasesItems_returnsCorrectKey() {
         String key = RedisKeyBuilder.gamePurchasesItems(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:purchases:items");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:purchases:items");
     }
 
     @Test
     void gamePurchasesSpells_returnsCorrectKey() {
         String key = RedisKeyBuilder.gamePurchasesSpells(GAME_ID);
-        assertThat(key).isEqualTo("game:22222222-2222-2222-2222-222222222222:purchases:spells");
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:purchases:spells");
+    }
+
+    @Test
+    void gameScoreboard_returnsCorrectKey() {
+        String key = RedisKeyBuilder.gameScoreboard(GAME_ID);
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:scoreboard");
+    }
+
+    @Test
+    void gameInventory_returnsCorrectKey() {
+        String key = RedisKeyBuilder.gameInventory(GAME_ID, USER_ID);
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:inventory:33333333-3333-3333-3333-333333333333");
+    }
+
+    @Test
+    void gameScoreboardJudged_returnsCorrectKey() {
+        String key = RedisKeyBuilder.gameScoreboardJudged(GAME_ID);
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:scoreboard:judged");
+    }
+
+    @Test
+    void gameEvents_returnsCorrectKey() {
+        String key = RedisKeyBuilder.gameEvents(GAME_ID);
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:events");
+    }
+
+    @Test
+    void gameEventSeq_returnsCorrectKey() {
+        String key = RedisKeyBuilder.gameEventSeq(GAME_ID);
+        assertThat(key).isEqualTo("game:{22222222-2222-2222-2222-222222222222}:events:seq");
+    }
+
+    @Test
+    void presenceLastSeen_returnsCorrectKey() {
+        assertThat(RedisKeyBuilder.presenceLastSeen()).isEqualTo("presence:lastSeen");
+    }
+
+    @Test
+    void userMemberships_returnsCorrectKey() {
+        String key = RedisKeyBuilder.userMemberships(USER_ID);
+        assertThat(key).isEqualTo("user:33333333-3333-3333-3333-333333333333:memberships");
+    }
+
+    @Test
+    void indexKeys_returnCorrectKeys() {
+        assertThat(RedisKeyBuilder.roomIndex()).isEqualTo("room:index");
+        assertThat(RedisKeyBuilder.gameIndex()).isEqualTo("game:index");
+    }
+
+    @Test
+    void gameAndEffectKeys_shareHashTag() {
+        // Redis Cluster에서 한 게임의 키가 같은 slot에 놓이도록 hash tag가 동일해야 한다
+        String tag = "{" + GAME_ID + "}";
+        assertThat(RedisKeyBuilder.game(GAME_ID)).contains(tag);
+        assertThat(RedisKeyBuilder.gameScoreboard(GAME_ID)).contains(tag);
+        assertThat(RedisKeyBuilder.gameEvents(GAME_ID)).contains(tag);
+        assertThat(RedisKeyBuilder.effectsActive(GAME_ID)).contains(tag);
+        assertThat(RedisKeyBuilder.effect(GAME_ID, "x")).contains(tag);
+    }
+
+    @Test
+    void lobbyStatsBitmapKeys_shareHashTag() {
+        assertThat(RedisKeyBuilder.statsUserOrdinals()).isEqualTo("stats:{lobby}:user:ordinal");
+        assertThat(RedisKeyBuilder.statsUserOrdinalSeq()).isEqualTo("stats:{lobby}:user:ordinal:seq");
+        assertThat(RedisKeyBuilder.statsOnline()).isEqualTo("stats:{lobby}:online");
+        assertThat(RedisKeyBuilder.statsInGame()).isEqualTo("stats:{lobby}:ingame");
     }
 
     @Test
-    void heartbeat_returnsCorrectKey() {
-        String key = RedisKeyBuilder.heartbeat(USER_ID);
-        assertThat(key).isEqualTo("heartbeat:33333333-3333-3333-3333-333333333333");
+    void statsActiveUsers_returnCorrectKeys() {
+        LocalDate day = LocalDate.of(2026, 3, 7);
+        assertThat(RedisKeyBuilder.statsDailyActive(day)).isEqualTo("stats:dau:20260307");
+        assertThat(RedisKeyBuilder.statsDailyActive(day, "JAVA")).isEqualTo("stats:dau:20260307:JAVA");
+        assertThat(RedisKeyBuilder.statsMonthlyActive(YearMonth.of(2026, 3))).isEqualTo("stats:mau:202603");
     }
 
     @Test
     void effect_returnsCorrectKey() {
         String uniqueId = "item-123-spell-456";
         String key = RedisKeyBuilder.effect(GAME_ID, uniqueId);
-        assertThat(key).isEqualTo("effect:22222222-2222-2222-2222-222222222222:item-123-spell-456");
+        assertThat(key).isEqualTo("effect:{22222222-2222-2222-2222-222222222222}:item-123-spell-456");
     }
 
     @Test
     void effectsActive_returnsCorrectKey() {
         String key = RedisKeyBuilder.effectsActive(GAME_ID);
-        assertThat(key).isEqualTo("effect:22222222-2222-2222-2222-222222222222:active");
+        assertThat(key).isEqualTo("effect:{22222222-2222-2222-2222-222222222222}:active");
     }
 
     @Test
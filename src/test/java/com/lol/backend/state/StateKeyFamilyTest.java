@@ -0,0 +1,51 @@
+package com.lol.backend.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StateKeyFamily 단위 테스트
+ * - 키 접두사별 계열 분류
+ * - 방/게임 하위 키의 본 키 판별
+ */
+class StateKeyFamilyTest {
+
+    private static final UUID ROOM_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID GAME_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Test
+    void of_classifiesByPrefix() {
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.roomPlayers(ROOM_ID))).isEqualTo(StateKeyFamily.ROOM);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.gamePlayer(GAME_ID, USER_ID))).isEqualTo(StateKeyFamily.GAME);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.effectsActive(GAME_ID))).isEqualTo(StateKeyFamily.EFFECT);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.matchQueue("RANKED", "JAVA"))).isEqualTo(StateKeyFamily.MATCH);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.presenceLastSeen())).isEqualTo(StateKeyFamily.PRESENCE);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.userStats(USER_ID))).isEqualTo(StateKeyFamily.USER);
+        assertThat(StateKeyFamily.of(RedisKeyBuilder.statsDailyActive(LocalDate.of(2026, 1, 1)))).isEqualTo(StateKeyFamily.STATS);
+        assertThat(StateKeyFamily.of("unknown:key")).isEqualTo(StateKeyFamily.OTHER);
+    }
+
+    @Test
+    void parentKey_resolvesRoomAndGameChildren() {
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.roomPlayers(ROOM_ID))).isEqualTo(RedisKeyBuilder.room(ROOM_ID));
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.roomHostHistory(ROOM_ID))).isEqualTo(RedisKeyBuilder.room(ROOM_ID));
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.gamePlayer(GAME_ID, USER_ID))).isEqualTo(RedisKeyBuilder.game(GAME_ID));
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.gamePurchasesItems(GAME_ID))).isEqualTo(RedisKeyBuilder.game(GAME_ID));
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.effect(GAME_ID, "e-1"))).isEqualTo(RedisKeyBuilder.game(GAME_ID));
+    }
+
+    @Test
+    void parentKey_returnsNullForRootAndGlobalKeys() {
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.room(ROOM_ID))).isNull();
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.game(GAME_ID))).isNull();
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.roomIndex())).isNull();
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.roomListVersion())).isNull();
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.gameIndex())).isNull();
+        assertThat(StateKeyFamily.parentKey(RedisKeyBuilder.matchTicket(USER_ID))).isNull();
+    }
+}
@@ -3,7 +3,6 @@ package com.lol.backend.state.impl;
 import com.lol.backend.config.TestcontainersConfig;
 import com.lol.backend.state.store.EphemeralStateStore;
 import com.lol.backend.state.RedisKeyBuilder;
-import com.lol.backend.state.dto.ConnectionHeartbeatDto;
 import com.lol.backend.state.dto.ItemEffectActiveDto;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +15,6 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -24,7 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * RedisEphemeralStateStore 통합 테스트
- * - CONNECTION_HEARTBEAT, ITEM_EFFECT_ACTIVE 저장/조회
+ * - ITEM_EFFECT_ACTIVE 저장/조회
  * - TTL 설정 검증
  * - 효과 제거 검증
  */
@@ -45,64 +43,6 @@ class RedisEphemeralStateStoreTest {
         redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
     }
 
-    // ====== CONNECTION_HEARTBEAT 테스트 ======
-
-    @Test
-    void heartbeat_saveAndGet_worksCorrectly() {
-        // Given
-        UUID userId = UUID.randomUUID();
-        ConnectionHeartbeatDto heartbeat = new ConnectionHeartbeatDto(
-                userId,
-                Instant.now(),
-                "CONNECTED"
-        );
-        Duration ttl = Duration.ofSeconds(30);
-
-        // When
-        ephemeralStateStore.saveHeartbeat(heartbeat, ttl);
-        Optional<ConnectionHeartbeatDto> retrieved = ephemeralStateStore.getHeartbeat(userId);
-
-        // Then
-        assertThat(retrieved).isPresent();
-        assertThat(retrieved.get().userId()).isEqualTo(userId);
-        assertThat(retrieved.get().connectionState()).isEqualTo("CONNECTED");
-        assertThat(retrieved.get().lastSeenAt()).isNotNull();
-    }
-
-    @Test
-    void heartbeat_hasTTL() {
-        // Given
-        UUID userId = UUID.randomUUID();
-        ConnectionHeartbeatDto heartbeat = new ConnectionHeartbeatDto(
-                userId,
-                Instant.now(),
-                "CONNECTED"
-        );
-        Duration ttl = Duration.ofSeconds(30);
-        String key = RedisKeyBuilder.heartbeat(userId);
-
-        // When
-        ephemeralStateStore.saveHeartbeat(heartbeat, ttl);
-        Long ttlSeconds = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-
-        // Then
-        assertThat(ttlSeconds).isNotNull();
-        assertThat(ttlSeconds).isGreaterThan(0L);
-        assertThat(ttlSeconds).isLessThanOrEqualTo(30L);
-    }
-
-    @Test
-    void heartbeat_notFound_returnsEmpty() {
-        // Given
-        UUID userId = UUID.randomUUID();
-
-        // When
-        Optional<ConnectionHeartbeatDto> retrieved = ephemeralStateStore.getHeartbeat(userId);
-
-        // Then
-        assertThat(retrieved).isEmpty();
-    }
-
     // ====== ITEM_EFFECT_ACTIVE 테스트 ======
 
     @Test
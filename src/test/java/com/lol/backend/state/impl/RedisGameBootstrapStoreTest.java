@@ -0,0 +1,94 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.GameBanDto;
+import com.lol.backend.state.dto.GameBootstrapStateDto;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.dto.ItemEffectActiveDto;
+import com.lol.backend.state.store.BanPickStateStore;
+import com.lol.backend.state.store.EphemeralStateStore;
+import com.lol.backend.state.store.GameBootstrapStore;
+import com.lol.backend.state.store.GameEventLogStore;
+import com.lol.backend.state.store.GameStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 부트스트랩 파이프라인 조회 통합 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisGameBootstrapStoreTest {
+
+    @Autowired
+    private GameBootstrapStore gameBootstrapStore;
+
+    @Autowired
+    private GameStateStore gameStateStore;
+
+    @Autowired
+    private BanPickStateStore banPickStateStore;
+
+    @Autowired
+    private EphemeralStateStore ephemeralStateStore;
+
+    @Autowired
+    private GameEventLogStore gameEventLogStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("게임/플레이어/밴/활성 효과/이벤트 시퀀스를 한 번에 조회하고, 만료 시각이 지난 효과는 제외한다")
+    void read_returnsAllParts() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        gameStateStore.saveGame(new GameStateDto(gameId, UUID.randomUUID(), "RANKED", "PLAY",
+                now, now.plusSeconds(60), now, null, null, now));
+        gameStateStore.saveGamePlayer(new GamePlayerStateDto(UUID.randomUUID(), gameId, userId, "CONNECTED",
+                1200, null, null, null, null, null, null, null, null, null, null, now, null, null));
+        banPickStateStore.saveBan(new GameBanDto(UUID.randomUUID(), gameId, userId, UUID.randomUUID(), now));
+        ephemeralStateStore.saveEffect(new ItemEffectActiveDto(gameId, userId, UUID.randomUUID(), "effect-1",
+                now, now.plusSeconds(10), "ITEM"), Duration.ofSeconds(10));
+        // expiresAt은 지났지만 아직 만료 처리 전인 효과
+        ephemeralStateStore.saveEffect(new ItemEffectActiveDto(gameId, userId, UUID.randomUUID(), "effect-expired",
+                now.minusSeconds(20), now.minusSeconds(1), "SPELL"), Duration.ofSeconds(10));
+        gameEventLogStore.append(gameId, "{}");
+        gameEventLogStore.append(gameId, "{}");
+
+        GameBootstrapStateDto state = gameBootstrapStore.read(gameId).orElseThrow();
+
+        assertThat(state.game().stage()).isEqualTo("PLAY");
+        assertThat(state.players()).extracting(GamePlayerStateDto::userId).containsExactly(userId);
+        assertThat(state.bans()).hasSize(1);
+        assertThat(state.picks()).isEmpty();
+        assertThat(state.effects()).extracting(ItemEffectActiveDto::uniqueId).containsExactly("effect-1");
+        assertThat(state.eventSeq()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게임이 없으면 empty를 반환한다")
+    void read_returnsEmpty_whenGameMissing() {
+        assertThat(gameBootstrapStore.read(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.GameEventLogEntryDto;
+import com.lol.backend.state.store.GameEventLogStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 게임 이벤트 로그 통합 테스트.
+ * - 게임별 시퀀스 발급 / since 이후 구간 조회 / 절삭·상한 초과 시 empty 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisGameEventLogStoreTest {
+
+    @Autowired
+    private GameEventLogStore gameEventLogStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("게임별로 1부터 연속된 시퀀스가 발급된다")
+    void append_issuesSequencePerGame() {
+        UUID gameA = UUID.randomUUID();
+        UUID gameB = UUID.randomUUID();
+
+        assertThat(gameEventLogStore.append(gameA, "{\"a\":1}")).isEqualTo(1);
+        assertThat(gameEventLogStore.append(gameA, "{\"a\":2}")).isEqualTo(2);
+        assertThat(gameEventLogStore.append(gameB, "{\"b\":1}")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("since 이후 이벤트만 순서대로 반환한다")
+    void readSince_returnsGapInOrder() {
+        UUID gameId = UUID.randomUUID();
+        for (int i = 1; i <= 5; i++) {
+            gameEventLogStore.append(gameId, "{\"n\":" + i + "}");
+        }
+
+        List<GameEventLogEntryDto> entries = gameEventLogStore.readSince(gameId, 3, 100).orElseThrow();
+
+        assertThat(entries).containsExactly(
+                new GameEventLogEntryDto(4, "{\"n\":4}"),
+                new GameEventLogEntryDto(5, "{\"n\":5}")
+        );
+    }
+
+    @Test
+    @DisplayName("누락분이 없으면 빈 목록을 반환한다")
+    void readSince_returnsEmptyList_whenUpToDate() {
+        UUID gameId = UUID.randomUUID();
+        gameEventLogStore.append(gameId, "{}");
+
+        assertThat(gameEventLogStore.readSince(gameId, 1, 100)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("누락분 앞부분이 절삭되었으면 empty를 반환한다")
+    void readSince_returnsEmpty_whenTruncated() {
+        UUID gameId = UUID.randomUUID();
+        for (int i = 1; i <= 5; i++) {
+            gameEventLogStore.append(gameId, "{}");
+        }
+        redisTemplate.opsForStream().trim(RedisKeyBuilder.gameEvents(gameId), 2);
+
+        assertThat(gameEventLogStore.readSince(gameId, 1, 100)).isEmpty();
+        assertThat(gameEventLogStore.readSince(gameId, 3, 100)).isPresent();
+    }
+
+    @Test
+    @DisplayName("누락분이 재전송 상한을 넘으면 empty를 반환한다")
+    void readSince_returnsEmpty_whenGapExceedsLimit() {
+        UUID gameId = UUID.randomUUID();
+        for (int i = 1; i <= 5; i++) {
+            gameEventLogStore.append(gameId, "{}");
+        }
+
+        assertThat(gameEventLogStore.readSince(gameId, 0, 3)).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.InventoryStateDto;
+import com.lol.backend.state.store.InventoryStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 인벤토리 프로젝션 통합 테스트.
+ * - 지연 초기화 / 초기화된 프로젝션에만 증감 반영 / 무효화 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisInventoryStateStoreTest {
+
+    @Autowired
+    private InventoryStateStore inventoryStateStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void getInventory_returnsEmpty_whenNotInitialized() {
+        assertThat(inventoryStateStore.getInventory(UUID.randomUUID(), UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void initializeIfAbsent_marksEmptyInventoryAsInitialized() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(), Map.of()));
+
+        assertThat(inventoryStateStore.getInventory(gameId, userId))
+                .contains(new InventoryStateDto(Map.of(), Map.of()));
+    }
+
+    @Test
+    void initializeIfAbsent_doesNotOverwriteExistingProjection() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(itemId, 1), Map.of()));
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(itemId, 5), Map.of()));
+
+        assertThat(inventoryStateStore.getInventory(gameId, userId).orElseThrow().items()).isEqualTo(Map.of(itemId, 1));
+    }
+
+    @Test
+    void add_ignoresMissingProjection_andAppliesDeltaToExisting() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        UUID spellId = UUID.randomUUID();
+
+        assertThat(inventoryStateStore.addItemIfInitialized(gameId, userId, itemId, 2)).isFalse();
+        assertThat(inventoryStateStore.getInventory(gameId, userId)).isEmpty();
+
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(itemId, 1), Map.of()));
+        assertThat(inventoryStateStore.addItemIfInitialized(gameId, userId, itemId, 2)).isTrue();
+        assertThat(inventoryStateStore.addSpellIfInitialized(gameId, userId, spellId, 1)).isTrue();
+
+        assertThat(inventoryStateStore.getInventory(gameId, userId))
+                .contains(new InventoryStateDto(Map.of(itemId, 3), Map.of(spellId, 1)));
+    }
+
+    @Test
+    void add_removesEntryWhenQuantityReachesZero() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID spellId = UUID.randomUUID();
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(), Map.of(spellId, 1)));
+
+        assertThat(inventoryStateStore.addSpellIfInitialized(gameId, userId, spellId, -1)).isTrue();
+
+        // 잔여 0인 항목은 DB 집계(calculateInventory)와 같이 응답에서 빠진다
+        assertThat(inventoryStateStore.getInventory(gameId, userId))
+                .contains(new InventoryStateDto(Map.of(), Map.of()));
+    }
+
+    @Test
+    void invalidate_removesProjection() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        inventoryStateStore.initializeIfAbsent(gameId, userId, new InventoryStateDto(Map.of(), Map.of()));
+
+        inventoryStateStore.invalidate(gameId, userId);
+
+        assertThat(inventoryStateStore.getInventory(gameId, userId)).isEmpty();
+        assertThat(inventoryStateStore.addItemIfInitialized(gameId, userId, UUID.randomUUID(), 1)).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.LobbyStatsStateDto;
+import com.lol.backend.state.store.LobbyStatsStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 로비 통계 통합 테스트.
+ * - 순번 기반 비트맵 설정/해제, 비트맵 재구성, HyperLogLog DAU/MAU 집계 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisLobbyStatsStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 7);
+
+    @Autowired
+    private LobbyStatsStore lobbyStatsStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("접속/게임 중 비트맵이 설정과 해제를 반영한다")
+    void setBits_reflectedInCounts() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+
+        lobbyStatsStore.setOnline(a, true);
+        lobbyStatsStore.setOnline(b, true);
+        lobbyStatsStore.setOnline(c, true);
+        lobbyStatsStore.setOnline(a, true);
+        lobbyStatsStore.setOnline(b, false);
+        lobbyStatsStore.setInGame(List.of(a, c), true);
+        lobbyStatsStore.setInGame(List.of(c), false);
+
+        LobbyStatsStateDto stats = lobbyStatsStore.read(DAY, List.of());
+        assertThat(stats.onlineUsers()).isEqualTo(2);
+        assertThat(stats.inGameUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성은 주어진 사용자만 켜진 비트맵으로 교체하고, 비어 있으면 비트맵을 지운다")
+    void replace_dropsStaleBits() {
+        UUID stale = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        lobbyStatsStore.setOnline(stale, true);
+        lobbyStatsStore.setOnline(a, true);
+        lobbyStatsStore.setInGame(List.of(stale), true);
+
+        lobbyStatsStore.replaceOnline(List.of(a, b));
+        lobbyStatsStore.replaceInGame(List.of());
+
+        LobbyStatsStateDto stats = lobbyStatsStore.read(DAY, List.of());
+        assertThat(stats.onlineUsers()).isEqualTo(2);
+        assertThat(stats.inGameUsers()).isZero();
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.statsInGame())).isFalse();
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.statsRebuild(RedisKeyBuilder.statsOnline()))).isFalse();
+        // 기존 사용자의 순번은 유지된다
+        assertThat(redisTemplate.opsForHash().size(RedisKeyBuilder.statsUserOrdinals())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("순번은 사용자당 한 번만 발급되고, 해제만 한 사용자에게는 발급하지 않는다")
+    void ordinals_areDenseAndStable() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        lobbyStatsStore.setOnline(a, true);
+        lobbyStatsStore.setInGame(List.of(a, b), true);
+        lobbyStatsStore.setOnline(UUID.randomUUID(), false);
+
+        assertThat(redisTemplate.opsForHash().size(RedisKeyBuilder.statsUserOrdinals())).isEqualTo(2);
+        assertThat(redisTemplate.opsForValue().get(RedisKeyBuilder.statsUserOrdinalSeq())).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("DAU/MAU와 언어별 DAU는 중복 없이 집계된다")
+    void recordActive_countsDistinctUsers() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        lobbyStatsStore.recordActive(a, DAY, "JAVA");
+        lobbyStatsStore.recordActive(a, DAY, "JAVA");
+        lobbyStatsStore.recordActive(b, DAY, "PYTHON");
+        lobbyStatsStore.recordActive(b, DAY.minusDays(1), "PYTHON");
+
+        LobbyStatsStateDto stats = lobbyStatsStore.read(DAY, List.of("JAVA", "PYTHON", "CPP"));
+        assertThat(stats.dailyActiveUsers()).isEqualTo(2);
+        assertThat(stats.monthlyActiveUsers()).isEqualTo(2);
+        assertThat(stats.dailyActiveByLanguage())
+                .containsEntry("JAVA", 1L)
+                .containsEntry("PYTHON", 1L)
+                .containsEntry("CPP", 0L);
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.statsDailyActive(DAY))).isPositive();
+    }
+}
@@ -0,0 +1,107 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.MatchTicketDto;
+import com.lol.backend.state.store.MatchQueueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 빠른 매칭 대기열 통합 테스트.
+ * - 중복 등록 방지, 점수 구간/대기 순 조회, 원자적 claim 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisMatchQueueStoreTest {
+
+    private static final String GT = "NORMAL";
+    private static final String LANG = "JAVA";
+    private static final long TTL = 60_000L;
+
+    @Autowired
+    private MatchQueueStore matchQueueStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("한 사용자는 한 대기열에만 등록되고, 취소하면 모든 키에서 빠진다")
+    void enqueue_rejectsDuplicate_andDequeueRemoves() {
+        MatchTicketDto ticket = new MatchTicketDto(UUID.randomUUID(), 1000, 1L);
+
+        assertThat(matchQueueStore.enqueue(GT, LANG, ticket, TTL)).isTrue();
+        assertThat(matchQueueStore.enqueue(GT, "PYTHON", ticket, TTL)).isFalse();
+        assertThat(matchQueueStore.size(GT, LANG)).isEqualTo(1);
+
+        assertThat(matchQueueStore.dequeue(ticket.userId())).contains(GT + ":" + LANG);
+        assertThat(matchQueueStore.size(GT, LANG)).isZero();
+        assertThat(matchQueueStore.oldest(GT, LANG, 10)).isEmpty();
+        assertThat(matchQueueStore.dequeue(ticket.userId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수 구간 조회는 기준 점수와 가까운 순, oldest는 대기 시작 순으로 티켓 전체를 반환한다")
+    void rangeAndOldest_returnFullTickets() {
+        MatchTicketDto a = new MatchTicketDto(UUID.randomUUID(), 1000, 300L);
+        MatchTicketDto b = new MatchTicketDto(UUID.randomUUID(), 1100, 100L);
+        MatchTicketDto c = new MatchTicketDto(UUID.randomUUID(), 1500, 200L);
+        matchQueueStore.enqueue(GT, LANG, a, TTL);
+        matchQueueStore.enqueue(GT, LANG, b, TTL);
+        matchQueueStore.enqueue(GT, LANG, c, TTL);
+
+        assertThat(matchQueueStore.findNearest(GT, LANG, 1040, 150, 10)).containsExactly(a, b);
+        assertThat(matchQueueStore.oldest(GT, LANG, 2)).containsExactly(b, c);
+    }
+
+    @Test
+    @DisplayName("구간 안 티켓이 limit보다 많아도 구간 하단이 아니라 기준 점수와 가장 가까운 티켓을 반환한다")
+    void findNearest_readsOutwardFromCenter() {
+        for (int i = 0; i < 10; i++) {
+            matchQueueStore.enqueue(GT, LANG, new MatchTicketDto(UUID.randomUUID(), 700 + i, i), TTL);
+        }
+        MatchTicketDto below = new MatchTicketDto(UUID.randomUUID(), 990, 100L);
+        MatchTicketDto center = new MatchTicketDto(UUID.randomUUID(), 1000, 101L);
+        MatchTicketDto above = new MatchTicketDto(UUID.randomUUID(), 1005, 102L);
+        MatchTicketDto far = new MatchTicketDto(UUID.randomUUID(), 1200, 103L);
+        matchQueueStore.enqueue(GT, LANG, below, TTL);
+        matchQueueStore.enqueue(GT, LANG, center, TTL);
+        matchQueueStore.enqueue(GT, LANG, above, TTL);
+        matchQueueStore.enqueue(GT, LANG, far, TTL);
+
+        assertThat(matchQueueStore.findNearest(GT, LANG, 1000, 300, 3)).containsExactly(center, above, below);
+    }
+
+    @Test
+    @DisplayName("claim은 하나라도 이미 빠졌으면 아무것도 꺼내지 않는다")
+    void claim_isAllOrNothing() {
+        MatchTicketDto a = new MatchTicketDto(UUID.randomUUID(), 1000, 1L);
+        MatchTicketDto b = new MatchTicketDto(UUID.randomUUID(), 1010, 2L);
+        matchQueueStore.enqueue(GT, LANG, a, TTL);
+        matchQueueStore.enqueue(GT, LANG, b, TTL);
+
+        assertThat(matchQueueStore.claim(GT, LANG, List.of(a.userId(), UUID.randomUUID()))).isFalse();
+        assertThat(matchQueueStore.size(GT, LANG)).isEqualTo(2);
+
+        assertThat(matchQueueStore.claim(GT, LANG, List.of(a.userId(), b.userId()))).isTrue();
+        assertThat(matchQueueStore.size(GT, LANG)).isZero();
+        // 티켓도 함께 지워져 다시 등록할 수 있다
+        assertThat(matchQueueStore.enqueue(GT, LANG, a, TTL)).isTrue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.store.PresenceStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis presence 통합 테스트.
+ * - 배치 기록(GT) / 일괄 조회 / 오래된 항목 제거 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisPresenceStoreTest {
+
+    @Autowired
+    private PresenceStore presenceStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("기록된 사용자만 마지막 활동 시각이 조회된다")
+    void recordAll_thenGetLastSeen() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+
+        presenceStore.recordAll(Map.of(a, 1_000L, b, 2_000L));
+
+        assertThat(presenceStore.getLastSeen(List.of(a, b, unknown)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(a, 1_000L, b, 2_000L));
+    }
+
+    @Test
+    @DisplayName("더 오래된 시각으로는 덮어쓰지 않는다")
+    void recordAll_keepsLatest() {
+        UUID userId = UUID.randomUUID();
+
+        presenceStore.recordAll(Map.of(userId, 5_000L));
+        presenceStore.recordAll(Map.of(userId, 3_000L));
+
+        assertThat(presenceStore.getLastSeen(List.of(userId))).containsEntry(userId, 5_000L);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 활동한 사용자만 조회된다")
+    void getSeenSince_returnsRecentOnly() {
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        presenceStore.recordAll(Map.of(stale, 1_000L, fresh, 9_000L));
+
+        assertThat(presenceStore.getSeenSince(5_000L)).containsExactly(fresh);
+    }
+
+    @Test
+    @DisplayName("마지막 활동이 구간 안인 사용자만 활동 시각과 함께 조회된다")
+    void getSeenBetween_returnsRangeWithScores() {
+        UUID old = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        presenceStore.recordAll(Map.of(old, 1_000L, stale, 5_000L, fresh, 9_000L));
+
+        assertThat(presenceStore.getSeenBetween(2_000L, 5_000L)).containsExactlyEntriesOf(Map.of(stale, 5_000L));
+    }
+
+    @Test
+    @DisplayName("cutoff 이전 항목만 제거된다")
+    void removeSeenBefore_removesStaleOnly() {
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        presenceStore.recordAll(Map.of(stale, 1_000L, fresh, 9_000L));
+
+        long removed = presenceStore.removeSeenBefore(5_000L);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(presenceStore.getLastSeen(List.of(stale, fresh))).containsOnlyKeys(fresh);
+    }
+}
@@ -0,0 +1,95 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.ScoreboardEntryDto;
+import com.lol.backend.state.store.ScoreboardStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 실시간 순위표 통합 테스트.
+ * - 복합 점수(AC 수, 최종 제출 시간) 정렬 / 제출별 1회 반영 / 미초기화 순위표 무시 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisScoreboardStoreTest {
+
+    @Autowired
+    private ScoreboardStore scoreboardStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("AC 수 내림차순, 같은 AC면 최종 제출 시간 오름차순으로 정렬된다")
+    void recordAccepted_ordersByAcThenTime() {
+        UUID gameId = UUID.randomUUID();
+        UUID fast = UUID.randomUUID();
+        UUID slow = UUID.randomUUID();
+        UUID idle = UUID.randomUUID();
+        scoreboardStore.initialize(gameId, List.of(fast, slow, idle));
+
+        scoreboardStore.recordAccepted(gameId, slow, UUID.randomUUID(), 9000);
+        scoreboardStore.recordAccepted(gameId, fast, UUID.randomUUID(), 3000);
+        scoreboardStore.recordAccepted(gameId, fast, UUID.randomUUID(), 5000);
+        scoreboardStore.recordAccepted(gameId, slow, UUID.randomUUID(), 7000);
+
+        List<ScoreboardEntryDto> standings = scoreboardStore.getStandings(gameId).orElseThrow();
+
+        assertThat(standings).containsExactly(
+                new ScoreboardEntryDto(fast, 2, 5000),
+                new ScoreboardEntryDto(slow, 2, 9000),
+                new ScoreboardEntryDto(idle, 0, Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 제출의 AC가 다시 전달되어도 한 번만 반영한다")
+    void recordAccepted_ignoresDuplicateSubmission() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID submissionId = UUID.randomUUID();
+        scoreboardStore.initialize(gameId, List.of(userId));
+
+        assertThat(scoreboardStore.recordAccepted(gameId, userId, submissionId, 4000))
+                .contains(new ScoreboardEntryDto(userId, 1, 4000));
+        assertThat(scoreboardStore.recordAccepted(gameId, userId, submissionId, 4000))
+                .contains(new ScoreboardEntryDto(userId, 1, 4000));
+
+        assertThat(scoreboardStore.getStandings(gameId).orElseThrow())
+                .containsExactly(new ScoreboardEntryDto(userId, 1, 4000));
+    }
+
+    @Test
+    @DisplayName("초기화되지 않았거나 무효화된 순위표에는 AC를 반영하지 않는다")
+    void recordAccepted_ignoredWithoutScoreboard() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        assertThat(scoreboardStore.recordAccepted(gameId, userId, UUID.randomUUID(), 1000)).isEmpty();
+        assertThat(scoreboardStore.getStandings(gameId)).isEmpty();
+
+        scoreboardStore.initialize(gameId, List.of(userId));
+        scoreboardStore.invalidate(gameId);
+
+        assertThat(scoreboardStore.recordAccepted(gameId, userId, UUID.randomUUID(), 1000)).isEmpty();
+        assertThat(scoreboardStore.getStandings(gameId)).isEmpty();
+    }
+}
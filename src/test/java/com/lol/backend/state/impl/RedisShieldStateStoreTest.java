@@ -0,0 +1,105 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.store.ShieldStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 보호막 카운터 통합 테스트.
+ * - 지연 초기화 / check-and-consume 원자성 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisShieldStateStoreTest {
+
+    @Autowired
+    private ShieldStateStore shieldStateStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void tryConsume_returnsNotInitialized_whenCounterMissing() {
+        long result = shieldStateStore.tryConsume(UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(result).isEqualTo(ShieldStateStore.NOT_INITIALIZED);
+    }
+
+    @Test
+    void tryConsume_decrementsUntilEmpty() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        shieldStateStore.initializeIfAbsent(gameId, userId, 2);
+
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(1L);
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(0L);
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(ShieldStateStore.NO_CHARGE);
+    }
+
+    @Test
+    void initializeIfAbsent_doesNotOverwriteExistingCounter() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        shieldStateStore.initializeIfAbsent(gameId, userId, 1);
+        shieldStateStore.initializeIfAbsent(gameId, userId, 5);
+
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(0L);
+    }
+
+    @Test
+    void addChargesIfInitialized_ignoresMissingCounter_andAddsToExisting() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        assertThat(shieldStateStore.addChargesIfInitialized(gameId, userId, 3)).isFalse();
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(ShieldStateStore.NOT_INITIALIZED);
+
+        shieldStateStore.initializeIfAbsent(gameId, userId, 0);
+        assertThat(shieldStateStore.addChargesIfInitialized(gameId, userId, 3)).isTrue();
+        assertThat(shieldStateStore.tryConsume(gameId, userId)).isEqualTo(2L);
+    }
+
+    @Test
+    void tryConsume_isAtomic_underConcurrentItemUse() throws Exception {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        shieldStateStore.initializeIfAbsent(gameId, userId, 3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(executor.submit(() -> shieldStateStore.tryConsume(gameId, userId)));
+        }
+        int consumed = 0;
+        for (Future<Long> f : results) {
+            if (f.get() >= 0) {
+                consumed++;
+            }
+        }
+        executor.shutdown();
+
+        // 보호막 3개는 정확히 3번만 소비된다
+        assertThat(consumed).isEqualTo(3);
+    }
+}
@@ -0,0 +1,88 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.UserMembershipDto;
+import com.lol.backend.state.store.UserMembershipStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 사용자 참가 인덱스 통합 테스트.
+ * - 룸/게임 항목 추가·삭제 / 여러 사용자 파이프라인 조회 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisUserMembershipStoreTest {
+
+    @Autowired
+    private UserMembershipStore userMembershipStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void getMemberships_returnsRoomsAndGamesPerUser_andSkipsUsersWithoutEntries() {
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+        UUID user3 = UUID.randomUUID();
+        UUID roomId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+
+        userMembershipStore.addRoom(user1, roomId);
+        userMembershipStore.addGame(List.of(user1, user2), gameId);
+
+        Map<UUID, UserMembershipDto> memberships = userMembershipStore.getMemberships(List.of(user1, user2, user3));
+
+        assertThat(memberships).containsOnlyKeys(user1, user2);
+        assertThat(memberships.get(user1)).isEqualTo(new UserMembershipDto(Set.of(roomId), Set.of(gameId)));
+        assertThat(memberships.get(user2)).isEqualTo(new UserMembershipDto(Set.of(), Set.of(gameId)));
+    }
+
+    @Test
+    void remove_deletesOnlyGivenEntry() {
+        UUID userId = UUID.randomUUID();
+        UUID roomId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        userMembershipStore.addRoom(userId, roomId);
+        userMembershipStore.addGame(List.of(userId), gameId);
+
+        userMembershipStore.removeGame(List.of(userId), gameId);
+        assertThat(userMembershipStore.getMemberships(List.of(userId)))
+                .containsEntry(userId, new UserMembershipDto(Set.of(roomId), Set.of()));
+
+        userMembershipStore.removeRoom(List.of(userId), roomId);
+        assertThat(userMembershipStore.getMemberships(List.of(userId))).isEmpty();
+    }
+
+    @Test
+    void addRoom_setsTtl() {
+        UUID userId = UUID.randomUUID();
+        userMembershipStore.addRoom(userId, UUID.randomUUID());
+
+        Long ttl = redisTemplate.getExpire("user:" + userId + ":memberships");
+        assertThat(ttl).isPositive();
+    }
+
+    @Test
+    void getMemberships_returnsEmpty_forEmptyInput() {
+        assertThat(userMembershipStore.getMemberships(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.lol.backend.state.impl;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.dto.UserStatsStateDto;
+import com.lol.backend.state.store.UserStatsCacheStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 사용자 전적 캐시 통합 테스트.
+ * - games 기준 버전 비교: 늦게 도착한 이전 값이 최신 값을 덮지 않는다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisUserStatsCacheStoreTest {
+
+    @Autowired
+    private UserStatsCacheStore userStatsCacheStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("캐시된 값보다 games가 작거나 같은 전적은 저장하지 않는다")
+    void putIfNewer_keepsNewerStats() {
+        UUID userId = UUID.randomUUID();
+        UserStatsStateDto settled = new UserStatsStateDto(userId, 5, 3, 2, 0, 1, 2);
+        UserStatsStateDto staleRead = new UserStatsStateDto(userId, 4, 2, 2, 0, 0, 2);
+
+        assertThat(userStatsCacheStore.putIfNewer(settled)).isTrue();
+        assertThat(userStatsCacheStore.putIfNewer(staleRead)).isFalse();
+        assertThat(userStatsCacheStore.putIfNewer(settled)).isFalse();
+
+        assertThat(userStatsCacheStore.get(userId)).contains(settled);
+    }
+
+    @Test
+    @DisplayName("더 최신 전적은 덮어쓰고, 제거 후에는 다시 채울 수 있다")
+    void putIfNewer_replacesOlderAndRefillsAfterEvict() {
+        UUID userId = UUID.randomUUID();
+        userStatsCacheStore.putIfNewer(new UserStatsStateDto(userId, 1, 1, 0, 0, 1, 1));
+
+        UserStatsStateDto next = new UserStatsStateDto(userId, 2, 1, 1, 0, 0, 1);
+        assertThat(userStatsCacheStore.putIfNewer(next)).isTrue();
+        assertThat(userStatsCacheStore.get(userId)).contains(next);
+
+        userStatsCacheStore.evict(userId);
+        assertThat(userStatsCacheStore.get(userId)).isEmpty();
+        assertThat(userStatsCacheStore.putIfNewer(next)).isTrue();
+    }
+}
@@ -0,0 +1,152 @@
+package com.lol.backend.state.janitor;
+
+import com.lol.backend.common.metrics.ServerMetrics;
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.StateKeyFamily;
+import com.lol.backend.state.StateTtl;
+import com.lol.backend.state.config.StateJanitorProperties;
+import com.lol.backend.state.script.StateScripts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StateKeyJanitor 통합 테스트
+ * - 본 키 없는 하위 키는 유예 시간이 지난 뒤 삭제
+ * - 본 키가 있는 하위 키는 보존하고 TTL이 없으면 정책 TTL 보정
+ * - 키 계열별 키 수/메모리 지표 갱신
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class StateKeyJanitorTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final long GRACE_MS = 60_000;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private StateScripts stateScripts;
+
+    private SimpleMeterRegistry registry;
+    private MutableClock clock;
+    private StateKeyJanitor janitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock(START);
+        janitor = new StateKeyJanitor(redisTemplate, stateScripts, new ServerMetrics(registry),
+                new StateJanitorProperties(true, 1000, 500, GRACE_MS, 20, 100), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        janitor.destroy();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("본 키가 없는 하위 키는 유예 시간이 지난 뒤 다음 tick에 삭제한다")
+    void sweep_reclaimsOrphansAfterGrace() {
+        UUID roomId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        redisTemplate.opsForHash().put(RedisKeyBuilder.roomKicks(roomId), UUID.randomUUID().toString(), "{}");
+        redisTemplate.opsForHash().put(RedisKeyBuilder.effectsActive(gameId), "effect-1", "{}");
+        redisTemplate.opsForSet().add(RedisKeyBuilder.roomIndex(), roomId.toString());
+
+        assertThat(janitor.sweep()).isTrue();
+        assertThat(janitor.pendingOrphanCount()).isEqualTo(2);
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.roomKicks(roomId))).isTrue();
+
+        clock.set(START + GRACE_MS);
+        janitor.sweep();
+
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.roomKicks(roomId))).isFalse();
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.effectsActive(gameId))).isFalse();
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.roomIndex())).isTrue();
+        assertThat(registry.get("state.janitor.reclaimed").tag("family", "ROOM").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("state.janitor.reclaimed").tag("family", "EFFECT").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 본 키가 생기면 하위 키를 지우지 않는다")
+    void sweep_keepsChildWhenParentAppearsDuringGrace() {
+        UUID roomId = UUID.randomUUID();
+        redisTemplate.opsForHash().put(RedisKeyBuilder.roomPlayers(roomId), UUID.randomUUID().toString(), "{}");
+        janitor.sweep();
+
+        redisTemplate.opsForValue().set(RedisKeyBuilder.room(roomId), "{}", StateTtl.ROOM);
+        clock.set(START + GRACE_MS);
+        janitor.sweep();
+
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.roomPlayers(roomId))).isTrue();
+        assertThat(janitor.pendingOrphanCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("본 키가 있는데 TTL이 없는 하위 키는 정책 TTL을 걸고, 계열별 키 수와 메모리를 집계한다")
+    void sweep_alignsTtlAndPublishesKeyspaceMetrics() {
+        UUID gameId = UUID.randomUUID();
+        redisTemplate.opsForHash().put(RedisKeyBuilder.game(gameId), "stage", "PLAY");
+        redisTemplate.expire(RedisKeyBuilder.game(gameId), Duration.ofMinutes(30));
+        redisTemplate.opsForHash().put(RedisKeyBuilder.gameBans(gameId), UUID.randomUUID().toString(), "{}");
+
+        assertThat(janitor.sweep()).isTrue();
+
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.gameBans(gameId), TimeUnit.SECONDS))
+                .isPositive().isLessThanOrEqualTo(StateTtl.GAME.toSeconds());
+        assertThat(janitor.pendingOrphanCount()).isZero();
+        assertThat(registry.get("state.janitor.ttl.aligned").tag("family", "GAME").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("state.keys").tag("family", StateKeyFamily.GAME.name()).gauge().value()).isEqualTo(2.0);
+        assertThat(registry.get("state.memory.bytes").tag("family", StateKeyFamily.GAME.name()).gauge().value()).isPositive();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void set(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.lol.backend.state.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.GamePlayerStateDto;
+import com.lol.backend.state.dto.GameStateDto;
+import com.lol.backend.state.store.GameStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON 게임 상태 → 속성별 Hash 레이아웃 변환 통합 테스트.
+ * - 변환 후 TTL 유지, 재실행 시 건너뜀
+ * - tick당 읽기 바이트를 Redis INFO stats로 재서 이전 레이아웃과 비교
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class GameStateLayoutMigrationTest {
+
+    @Autowired
+    private GameStateLayoutMigration migration;
+
+    @Autowired
+    private GameStateStore gameStateStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("JSON 게임/플레이어 키를 Hash 레이아웃으로 바꾸고 게임 TTL을 유지한다")
+    void migrate_convertsLegacyJsonLayout() throws Exception {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        GameStateDto game = new GameStateDto(
+                gameId, UUID.randomUUID(), "RANKED", "PICK", now, now.plusSeconds(60), now, null, null, now);
+        GamePlayerStateDto player = new GamePlayerStateDto(UUID.randomUUID(), gameId, userId, "CONNECTED",
+                1200, null, null, null, null, null, null, 3000, null, 12.5, null, now, null, null);
+        redisTemplate.opsForValue().set(RedisKeyBuilder.game(gameId), objectMapper.writeValueAsString(game),
+                Duration.ofHours(1));
+        redisTemplate.opsForHash().put(RedisKeyBuilder.gamePlayers(gameId), userId.toString(),
+                objectMapper.writeValueAsString(player));
+        redisTemplate.opsForSet().add(RedisKeyBuilder.gameIndex(), gameId.toString());
+
+        assertThat(migration.migrate()).isEqualTo(2);
+
+        assertThat(redisTemplate.type(RedisKeyBuilder.game(gameId))).isEqualTo(DataType.HASH);
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.game(gameId), TimeUnit.SECONDS))
+                .isPositive().isLessThanOrEqualTo(3600);
+        assertThat(gameStateStore.getGame(gameId)).contains(game);
+        assertThat(gameStateStore.getGamePlayers(gameId)).containsExactly(player);
+
+        // 이미 바뀐 게임은 다시 건드리지 않는다
+        assertThat(migration.migrate()).isZero();
+    }
+
+    @Test
+    @DisplayName("플레이어 JSON 항목이 하나도 읽히지 않아도 플레이어 키를 SET 레이아웃으로 비운다")
+    void migrate_dropsUnreadablePlayers() {
+        UUID gameId = UUID.randomUUID();
+        redisTemplate.opsForHash().put(RedisKeyBuilder.gamePlayers(gameId), UUID.randomUUID().toString(), "not-json");
+        redisTemplate.opsForSet().add(RedisKeyBuilder.gameIndex(), gameId.toString());
+
+        assertThat(migration.migrate()).isEqualTo(1);
+
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.gamePlayers(gameId))).isFalse();
+        assertThat(gameStateStore.getGamePlayers(gameId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tick당 읽기(스테이지 + 플레이어 목록)의 네트워크 바이트가 JSON 레이아웃보다 적다")
+    void tickReads_moveFewerBytesThanLegacyLayout() throws Exception {
+        Instant now = Instant.now();
+        UUID legacyGameId = UUID.randomUUID();
+        UUID hashGameId = UUID.randomUUID();
+        List<GamePlayerStateDto> legacyPlayers = new ArrayList<>();
+        List<GamePlayerStateDto> hashPlayers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            legacyPlayers.add(player(legacyGameId, now));
+            hashPlayers.add(player(hashGameId, now));
+        }
+        redisTemplate.opsForValue().set(RedisKeyBuilder.game(legacyGameId),
+                objectMapper.writeValueAsString(game(legacyGameId, now)), Duration.ofHours(1));
+        for (GamePlayerStateDto player : legacyPlayers) {
+            redisTemplate.opsForHash().put(RedisKeyBuilder.gamePlayers(legacyGameId), player.userId().toString(),
+                    objectMapper.writeValueAsString(player));
+        }
+        gameStateStore.saveGame(game(hashGameId, now));
+        gameStateStore.saveGamePlayers(hashGameId, hashPlayers);
+
+        long overhead = measureNetBytes(() -> { });
+        long legacy = measureNetBytes(() -> {
+            redisTemplate.opsForValue().get(RedisKeyBuilder.game(legacyGameId));
+            redisTemplate.opsForHash().entries(RedisKeyBuilder.gamePlayers(legacyGameId));
+        }) - overhead;
+        long hash = measureNetBytes(() -> {
+            gameStateStore.getGameStage(hashGameId);
+            gameStateStore.getGamePlayerIds(hashGameId);
+        }) - overhead;
+
+        log.info("Bytes per tick read (4 players): legacy={}, hash={}", legacy, hash);
+        assertThat(hash).isPositive().isLessThan(legacy);
+    }
+
+    /**
+     * 서버 INFO stats의 누적 입출력 바이트 차이로 reads가 주고받은 바이트를 잰다.
+     * 다른 연결의 트래픽이 섞일 수 있으므로 여러 번 재서 가장 작은 값을 쓴다.
+     */
+    private long measureNetBytes(Runnable reads) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = netBytes();
+            reads.run();
+            min = Math.min(min, netBytes() - before);
+        }
+        return min;
+    }
+
+    private long netBytes() {
+        Properties stats = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("stats"));
+        return Long.parseLong(stats.getProperty("total_net_input_bytes"))
+                + Long.parseLong(stats.getProperty("total_net_output_bytes"));
+    }
+
+    private static GameStateDto game(UUID gameId, Instant now) {
+        return new GameStateDto(gameId, UUID.randomUUID(), "RANKED", "PLAY", now, now.plusSeconds(600), now, null,
+                UUID.randomUUID(), now);
+    }
+
+    private static GamePlayerStateDto player(UUID gameId, Instant now) {
+        return new GamePlayerStateDto(UUID.randomUUID(), gameId, UUID.randomUUID(), "CONNECTED",
+                1200, null, null, null, null, null, null, 3000, null, 12.5, null, now, null, null);
+    }
+}
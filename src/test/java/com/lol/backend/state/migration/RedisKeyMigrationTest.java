@@ -0,0 +1,78 @@
+package com.lol.backend.state.migration;
+
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * hash tag 이전 키 이동 통합 테스트.
+ * - 키 이름 변환, TTL 유지, 인덱스 SET 등록, 기존 새 키 보존 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class RedisKeyMigrationTest {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("이전 방/게임/효과/로비/방 목록 버전 키를 새 키로 옮기고 TTL과 인덱스를 맞춘다")
+    void migrate_movesLegacyKeys() {
+        UUID roomId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        redisTemplate.opsForValue().set("room:" + roomId, "{}", Duration.ofHours(1));
+        redisTemplate.opsForHash().put("room:" + roomId + ":players", "u1", "{}");
+        redisTemplate.opsForValue().set("game:" + gameId, "{}");
+        redisTemplate.opsForHash().put("effect:" + gameId + ":active", "e1", "{}");
+        redisTemplate.opsForValue().setBit("stats:online", 3, true);
+        redisTemplate.opsForValue().set("room:list:version", "7");
+
+        int migrated = new RedisKeyMigration(redisTemplate, true).migrate();
+
+        assertThat(migrated).isEqualTo(6);
+        assertThat(redisTemplate.hasKey("room:" + roomId)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(RedisKeyBuilder.room(roomId))).isEqualTo("{}");
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.room(roomId), TimeUnit.SECONDS)).isPositive();
+        assertThat(redisTemplate.opsForHash().get(RedisKeyBuilder.roomPlayers(roomId), "u1")).isEqualTo("{}");
+        assertThat(redisTemplate.hasKey(RedisKeyBuilder.game(gameId))).isTrue();
+        assertThat(redisTemplate.opsForHash().get(RedisKeyBuilder.effectsActive(gameId), "e1")).isEqualTo("{}");
+        assertThat(redisTemplate.opsForValue().getBit(RedisKeyBuilder.statsOnline(), 3)).isTrue();
+        assertThat(redisTemplate.opsForSet().members(RedisKeyBuilder.roomIndex())).containsExactly(roomId.toString());
+        assertThat(redisTemplate.opsForSet().members(RedisKeyBuilder.gameIndex())).containsExactly(gameId.toString());
+        assertThat(redisTemplate.hasKey("room:list:version")).isFalse();
+        assertThat(redisTemplate.opsForValue().get(RedisKeyBuilder.roomListVersion())).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("새 키가 이미 있으면 덮어쓰지 않고 이전 키를 남긴다")
+    void migrate_keepsExistingTarget() {
+        UUID roomId = UUID.randomUUID();
+        redisTemplate.opsForValue().set("room:" + roomId, "legacy");
+        redisTemplate.opsForValue().set(RedisKeyBuilder.room(roomId), "current");
+
+        int migrated = new RedisKeyMigration(redisTemplate, true).migrate();
+
+        assertThat(migrated).isZero();
+        assertThat(redisTemplate.opsForValue().get(RedisKeyBuilder.room(roomId))).isEqualTo("current");
+        assertThat(redisTemplate.opsForValue().get("room:" + roomId)).isEqualTo("legacy");
+    }
+}
@@ -0,0 +1,116 @@
+package com.lol.backend.state.script;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.backend.config.TestcontainersConfig;
+import com.lol.backend.state.RedisKeyBuilder;
+import com.lol.backend.state.dto.RoomPlayerStateDto;
+import com.lol.backend.state.dto.RoomStateDto;
+import com.lol.backend.state.store.RoomStateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lua 스크립트 라이브러리 통합 테스트.
+ * - SCRIPT LOAD 선적재, SCRIPT FLUSH 이후 NOSCRIPT 폴백, null leftAt 처리, KEEPTTL 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfig.class)
+class StateScriptsTest {
+
+    @Autowired
+    private StateScripts stateScripts;
+
+    @Autowired
+    private RoomStateStore roomStateStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("preload 후 모든 스크립트가 SHA로 캐시되어 있다")
+    void preload_loadsAllScripts() {
+        scriptFlush();
+
+        assertThat(stateScripts.preload()).isEqualTo(StateScripts.ALL.size());
+
+        String[] shas = StateScripts.ALL.stream().map(StateScript::sha1).toArray(String[]::new);
+        List<Boolean> exists = redisTemplate.execute((RedisCallback<List<Boolean>>) connection ->
+                connection.scriptingCommands().scriptExists(shas));
+        assertThat(exists).hasSize(shas.length).containsOnly(true);
+    }
+
+    @Test
+    @DisplayName("스크립트 캐시가 비워져도 호출 시 EVAL로 폴백해 실행된다")
+    void execute_fallsBackAfterScriptFlush() {
+        UUID gameId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        scriptFlush();
+
+        stateScripts.initShieldIfAbsent(gameId, userId, 2, 60);
+
+        assertThat(stateScripts.consumeShield(gameId, userId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("leftAt이 JSON null인 참가자는 중복 추가되지 않고, 퇴장 처리 후에는 다시 추가된다")
+    void addRoomPlayerIfAbsent_treatsJsonNullLeftAtAsPresent() throws Exception {
+        UUID roomId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String json = objectMapper.writeValueAsString(new RoomPlayerStateDto(
+                UUID.randomUUID(), roomId, userId, "UNREADY", Instant.now(), null, null));
+        assertThat(json).contains("\"leftAt\":null");
+
+        assertThat(stateScripts.addRoomPlayerIfAbsent(roomId, userId, json, 60)).isTrue();
+        assertThat(stateScripts.addRoomPlayerIfAbsent(roomId, userId, json, 60)).isFalse();
+
+        assertThat(stateScripts.markRoomPlayerLeft(roomId, userId, Instant.now())).isNotNull();
+        assertThat(stateScripts.markRoomPlayerLeft(roomId, userId, Instant.now())).isNull();
+        assertThat(stateScripts.addRoomPlayerIfAbsent(roomId, userId, json, 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("방장 교체는 방 TTL을 유지한다")
+    void setRoomHost_keepsTtl() {
+        UUID roomId = UUID.randomUUID();
+        UUID newHost = UUID.randomUUID();
+        Instant now = Instant.now();
+        roomStateStore.saveRoom(new RoomStateDto(
+                roomId, "Test Room", "NORMAL", "JAVA", 4, UUID.randomUUID(), null, now, now));
+
+        assertThat(stateScripts.setRoomHost(roomId, newHost, Instant.now())).isNotNull();
+
+        assertThat(roomStateStore.getRoom(roomId)).get()
+                .extracting(RoomStateDto::hostUserId).isEqualTo(newHost);
+        assertThat(redisTemplate.getExpire(RedisKeyBuilder.room(roomId))).isPositive();
+        assertThat(stateScripts.setRoomHost(UUID.randomUUID(), newHost, Instant.now())).isNull();
+    }
+
+    private void scriptFlush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+    }
+}